@@ -0,0 +1,307 @@
+package j8plus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A heap keeping the best <code>k</code> elements offered, used by the top-K selections in {@link Sorting}. The root is
+ * the worst element kept so a new element is compared only with it and rejected in <code>O(1)</code> unless it is
+ * better, which makes a selection <code>O(n log k)</code> instead of <code>O(n log n)</code> of a full sort.
+ * <p>
+ * Every element has the sequence number of its encounter order and the earlier one is better between equal elements,
+ * so the selection is stable. The sequence numbers of the other heap are shifted by the number of elements offered to
+ * this heap when they are combined, so a parallel selection keeps exactly the same elements as a sequential one.
+ * <p>
+ * The slot at <code>size</code> is a scratch slot for the new element to be compared with the root before it replaces
+ * the root, so the arrays have <code>k + 1</code> slots at most. They grow as needed so a large <code>k</code> does not
+ * allocate <code>k</code> slots for each thread up front.
+ *
+ * @param <T> the type of elements
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+abstract class BoundedHeap<T> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int k;
+  /* 1 to keep the greatest elements and -1 to keep the least ones */
+  private final int direction;
+
+  Object[] items;
+  private long[] sequences;
+  private int size;
+  private long count;
+
+  BoundedHeap(final int k, final boolean greatest) {
+    this.k = requireValidK(k);
+    this.direction = greatest ? 1 : -1;
+    final int capacity = (int) Math.min((long) k + 1L, INITIAL_CAPACITY);
+    this.items = new Object[capacity];
+    this.sequences = new long[capacity];
+  }
+
+  static int requireValidK(final int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("The k must be 0 or greater. [k: " + k + "]");
+    }
+    return k;
+  }
+
+  static <T> ComparatorHeap<T> ofComparator(final int k, final boolean greatest, final Comparator<? super T> comparator) {
+    return new ComparatorHeap<>(k, greatest, comparator);
+  }
+
+  static <T> LongKeyHeap<T> ofLongKeys(final int k, final boolean greatest) {
+    return new LongKeyHeap<>(k, greatest);
+  }
+
+  static <T> DoubleKeyHeap<T> ofDoubleKeys(final int k, final boolean greatest) {
+    return new DoubleKeyHeap<>(k, greatest);
+  }
+
+  /* compares the keys in the given slots where a positive value means the first one is greater */
+  abstract int compareKeys(int first, int second);
+
+  abstract void moveKey(int from, int to);
+
+  abstract void swapKeys(int first, int second);
+
+  abstract void resizeKeys(int capacity);
+
+  abstract void copyKey(BoundedHeap<T> from, int fromSlot, int toSlot);
+
+  /* the scratch slot to put the key of the element to offer */
+  final int scratch() {
+    if (size == items.length) {
+      final int capacity = (int) Math.min((long) k + 1L, (long) items.length * 2L);
+      items = Arrays.copyOf(items, capacity);
+      sequences = Arrays.copyOf(sequences, capacity);
+      resizeKeys(capacity);
+    }
+    return size;
+  }
+
+  /* offers the element whose key is already in the scratch slot */
+  final void offerScratch(final T item) {
+    place(item, count++);
+  }
+
+  private void place(final Object item, final long sequence) {
+    items[size] = item;
+    sequences[size] = sequence;
+    if (size < k) {
+      siftUp(size++);
+      return;
+    }
+    if (k > 0 && compare(size, 0) > 0) {
+      items[0] = items[size];
+      sequences[0] = sequences[size];
+      moveKey(size, 0);
+      siftDown(0);
+    }
+    /* releases the rejected or the moved element in the scratch slot which exists only once the heap is full */
+    items[size] = null;
+  }
+
+  /* a positive value means the element in the first slot is better */
+  private int compare(final int first, final int second) {
+    final int comparison = direction * compareKeys(first, second);
+    return comparison != 0 ? comparison : Long.compare(sequences[second], sequences[first]);
+  }
+
+  private void siftUp(final int slot) {
+    int child = slot;
+    while (child > 0) {
+      final int parent = (child - 1) >>> 1;
+      if (compare(parent, child) <= 0) {
+        return;
+      }
+      swap(parent, child);
+      child = parent;
+    }
+  }
+
+  private void siftDown(final int slot) {
+    int parent = slot;
+    while (true) {
+      final int left = parent * 2 + 1;
+      if (left >= size) {
+        return;
+      }
+      final int right = left + 1;
+      final int worse = right < size && compare(right, left) < 0 ? right : left;
+      if (compare(parent, worse) <= 0) {
+        return;
+      }
+      swap(parent, worse);
+      parent = worse;
+    }
+  }
+
+  private void swap(final int first, final int second) {
+    final Object item = items[first];
+    items[first] = items[second];
+    items[second] = item;
+    final long sequence = sequences[first];
+    sequences[first] = sequences[second];
+    sequences[second] = sequence;
+    swapKeys(first, second);
+  }
+
+  /**
+   * Combines the elements of the other heap which were offered after the ones of this heap.
+   */
+  final BoundedHeap<T> combine(final BoundedHeap<T> other) {
+    final long offset = count;
+    for (int i = 0; i < other.size; i++) {
+      copyKey(other, i, scratch());
+      place(other.items[i], other.sequences[i] + offset);
+    }
+    count += other.count;
+    return this;
+  }
+
+  /**
+   * @return the elements kept from the best to the worst. It empties this heap.
+   */
+  final List<T> toSortedList() {
+    final Object[] sorted = new Object[size];
+    while (size > 0) {
+      sorted[size - 1] = items[0];
+      size--;
+      items[0] = items[size];
+      sequences[0] = sequences[size];
+      moveKey(size, 0);
+      items[size] = null;
+      siftDown(0);
+    }
+    @SuppressWarnings("unchecked")
+    final List<T> list = (List<T>) Collections.unmodifiableList(Arrays.asList(sorted));
+    return list;
+  }
+
+  static final class ComparatorHeap<T> extends BoundedHeap<T> {
+    private final Comparator<? super T> comparator;
+
+    ComparatorHeap(final int k, final boolean greatest, final Comparator<? super T> comparator) {
+      super(k, greatest);
+      this.comparator = comparator;
+    }
+
+    void offer(final T item) {
+      scratch();
+      offerScratch(item);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    int compareKeys(final int first, final int second) {
+      return comparator.compare((T) items[first], (T) items[second]);
+    }
+
+    @Override
+    void moveKey(final int from, final int to) {
+    }
+
+    @Override
+    void swapKeys(final int first, final int second) {
+    }
+
+    @Override
+    void resizeKeys(final int capacity) {
+    }
+
+    @Override
+    void copyKey(final BoundedHeap<T> from, final int fromSlot, final int toSlot) {
+    }
+  }
+
+  static final class LongKeyHeap<T> extends BoundedHeap<T> {
+    private long[] keys;
+
+    LongKeyHeap(final int k, final boolean greatest) {
+      super(k, greatest);
+      this.keys = new long[items.length];
+    }
+
+    void offer(final T item, final long key) {
+      /* scratch() may replace the keys array so it is called before the array is read */
+      final int slot = scratch();
+      keys[slot] = key;
+      offerScratch(item);
+    }
+
+    @Override
+    int compareKeys(final int first, final int second) {
+      return Long.compare(keys[first], keys[second]);
+    }
+
+    @Override
+    void moveKey(final int from, final int to) {
+      keys[to] = keys[from];
+    }
+
+    @Override
+    void swapKeys(final int first, final int second) {
+      final long key = keys[first];
+      keys[first] = keys[second];
+      keys[second] = key;
+    }
+
+    @Override
+    void resizeKeys(final int capacity) {
+      keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    void copyKey(final BoundedHeap<T> from, final int fromSlot, final int toSlot) {
+      keys[toSlot] = ((LongKeyHeap<T>) from).keys[fromSlot];
+    }
+  }
+
+  static final class DoubleKeyHeap<T> extends BoundedHeap<T> {
+    private double[] keys;
+
+    DoubleKeyHeap(final int k, final boolean greatest) {
+      super(k, greatest);
+      this.keys = new double[items.length];
+    }
+
+    void offer(final T item, final double key) {
+      /* scratch() may replace the keys array so it is called before the array is read */
+      final int slot = scratch();
+      keys[slot] = key;
+      offerScratch(item);
+    }
+
+    @Override
+    int compareKeys(final int first, final int second) {
+      return Double.compare(keys[first], keys[second]);
+    }
+
+    @Override
+    void moveKey(final int from, final int to) {
+      keys[to] = keys[from];
+    }
+
+    @Override
+    void swapKeys(final int first, final int second) {
+      final double key = keys[first];
+      keys[first] = keys[second];
+      keys[second] = key;
+    }
+
+    @Override
+    void resizeKeys(final int capacity) {
+      keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    void copyKey(final BoundedHeap<T> from, final int fromSlot, final int toSlot) {
+      keys[toSlot] = ((DoubleKeyHeap<T>) from).keys[fromSlot];
+    }
+  }
+}
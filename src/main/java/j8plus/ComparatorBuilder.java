@@ -0,0 +1,233 @@
+package j8plus;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A builder of a {@link Comparator} comparing by several keys in order. Unlike chaining
+ * {@link Comparator#thenComparing(Comparator)} which wraps a lambda around another for each key, it builds one flat
+ * comparator which compares the keys in a loop, and the int, long and double keys are compared without boxing.
+ * <p>
+ * Each step can be reversed by {@link #reversed()} and the null keys of an object key step can be ordered by
+ * {@link #nullsFirst()} or {@link #nullsLast()}. These apply to the last step added. The null ordering is kept even if
+ * the step is reversed so <code>byKey(...).nullsLast().reversed()</code> still puts null keys last.
+ *
+ * <pre>
+ * final Comparator&lt;Trade&gt; comparator = Funs.&lt;Trade&gt;comparatorBuilder()
+ *                                             .byInt(Trade::getPriority).reversed()
+ *                                             .byKey(Trade::getSettledAt).nullsLast()
+ *                                             .byLong(Trade::getId)
+ *                                             .build();
+ * </pre>
+ * <p>
+ * The builder is not thread safe but the comparators built are immutable and thread safe.
+ *
+ * @param <T> the type of objects to compare
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class ComparatorBuilder<T> {
+
+  private static final byte INT = 0;
+  private static final byte LONG = 1;
+  private static final byte DOUBLE = 2;
+  private static final byte KEY = 3;
+  private static final byte COMPARATOR = 4;
+
+  private static final byte NULLS_UNORDERED = 0;
+  private static final byte NULLS_FIRST = 1;
+  private static final byte NULLS_LAST = 2;
+
+  private byte[] kinds = new byte[4];
+  private Object[] extractors = new Object[4];
+  private Comparator<?>[] keyComparators = new Comparator<?>[4];
+  private boolean[] descending = new boolean[4];
+  private byte[] nullOrders = new byte[4];
+  private int size;
+
+  ComparatorBuilder() {
+  }
+
+  public ComparatorBuilder<T> byInt(final ToIntFunction<? super T> keyExtractor) {
+    return add(INT, Objects.requireNonNull(keyExtractor, "The keyExtractor: ToIntFunction<T> cannot be null."), null);
+  }
+
+  public ComparatorBuilder<T> byLong(final ToLongFunction<? super T> keyExtractor) {
+    return add(LONG, Objects.requireNonNull(keyExtractor, "The keyExtractor: ToLongFunction<T> cannot be null."), null);
+  }
+
+  /**
+   * Adds a step comparing the double keys by {@link Double#compare(double, double)}.
+   */
+  public ComparatorBuilder<T> byDouble(final ToDoubleFunction<? super T> keyExtractor) {
+    return add(DOUBLE, Objects.requireNonNull(keyExtractor, "The keyExtractor: ToDoubleFunction<T> cannot be null."), null);
+  }
+
+  public <C extends Comparable<? super C>> ComparatorBuilder<T> byKey(final Function<? super T, ? extends C> keyExtractor) {
+    return byKey(keyExtractor, Comparator.<C>naturalOrder());
+  }
+
+  public <K> ComparatorBuilder<T> byKey(final Function<? super T, ? extends K> keyExtractor, final Comparator<? super K> keyComparator) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: Function<T, K> cannot be null.");
+    Objects.requireNonNull(keyComparator, "The keyComparator: Comparator<K> cannot be null.");
+    return add(KEY, keyExtractor, keyComparator);
+  }
+
+  /**
+   * Adds a step comparing by the given comparator such as one from {@link Funs#comparing(Function)}.
+   */
+  public ComparatorBuilder<T> then(final Comparator<? super T> comparator) {
+    return add(COMPARATOR, null, Objects.requireNonNull(comparator, "The comparator: Comparator<T> cannot be null."));
+  }
+
+  /**
+   * Reverses the order of the last step added.
+   *
+   * @return this builder
+   * @throws IllegalStateException if no step has been added
+   */
+  public ComparatorBuilder<T> reversed() {
+    final int last = lastStep("reversed()");
+    descending[last] = !descending[last];
+    return this;
+  }
+
+  /**
+   * Puts the null keys of the last step added before the non-null keys.
+   *
+   * @return this builder
+   * @throws IllegalStateException if the last step added is not a {@link #byKey(Function)} step
+   */
+  public ComparatorBuilder<T> nullsFirst() {
+    nullOrders[lastKeyStep("nullsFirst()")] = NULLS_FIRST;
+    return this;
+  }
+
+  /**
+   * Puts the null keys of the last step added after the non-null keys.
+   *
+   * @return this builder
+   * @throws IllegalStateException if the last step added is not a {@link #byKey(Function)} step
+   */
+  public ComparatorBuilder<T> nullsLast() {
+    nullOrders[lastKeyStep("nullsLast()")] = NULLS_LAST;
+    return this;
+  }
+
+  /**
+   * @return the comparator comparing by the steps added. The elements are equal if there is no step.
+   */
+  public Comparator<T> build() {
+    return new FlatComparator<>(Arrays.copyOf(kinds, size),
+                                Arrays.copyOf(extractors, size),
+                                Arrays.copyOf(keyComparators, size),
+                                Arrays.copyOf(descending, size),
+                                Arrays.copyOf(nullOrders, size));
+  }
+
+  private ComparatorBuilder<T> add(final byte kind, final Object extractor, final Comparator<?> keyComparator) {
+    if (size == kinds.length) {
+      final int capacity = size * 2;
+      kinds = Arrays.copyOf(kinds, capacity);
+      extractors = Arrays.copyOf(extractors, capacity);
+      keyComparators = Arrays.copyOf(keyComparators, capacity);
+      descending = Arrays.copyOf(descending, capacity);
+      nullOrders = Arrays.copyOf(nullOrders, capacity);
+    }
+    kinds[size] = kind;
+    extractors[size] = extractor;
+    keyComparators[size] = keyComparator;
+    size++;
+    return this;
+  }
+
+  private int lastStep(final String method) {
+    if (size == 0) {
+      throw new IllegalStateException(method + " needs a step to apply to.");
+    }
+    return size - 1;
+  }
+
+  private int lastKeyStep(final String method) {
+    final int last = lastStep(method);
+    if (kinds[last] != KEY) {
+      throw new IllegalStateException(method + " can apply only to a byKey step.");
+    }
+    return last;
+  }
+
+  private static final class FlatComparator<T> implements Comparator<T> {
+    private final byte[] kinds;
+    private final Object[] extractors;
+    private final Comparator<?>[] keyComparators;
+    private final boolean[] descending;
+    private final byte[] nullOrders;
+
+    FlatComparator(final byte[] kinds,
+                   final Object[] extractors,
+                   final Comparator<?>[] keyComparators,
+                   final boolean[] descending,
+                   final byte[] nullOrders) {
+      this.kinds = kinds;
+      this.extractors = extractors;
+      this.keyComparators = keyComparators;
+      this.descending = descending;
+      this.nullOrders = nullOrders;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int compare(final T first, final T second) {
+      for (int i = 0; i < kinds.length; i++) {
+        /* a reversed step compares the elements in the opposite order instead of negating the result */
+        final T left = descending[i] ? second : first;
+        final T right = descending[i] ? first : second;
+        final int comparison;
+        switch (kinds[i]) {
+          case INT: {
+            final ToIntFunction<? super T> extractor = (ToIntFunction<? super T>) extractors[i];
+            comparison = Integer.compare(extractor.applyAsInt(left), extractor.applyAsInt(right));
+            break;
+          }
+          case LONG: {
+            final ToLongFunction<? super T> extractor = (ToLongFunction<? super T>) extractors[i];
+            comparison = Long.compare(extractor.applyAsLong(left), extractor.applyAsLong(right));
+            break;
+          }
+          case DOUBLE: {
+            final ToDoubleFunction<? super T> extractor = (ToDoubleFunction<? super T>) extractors[i];
+            comparison = Double.compare(extractor.applyAsDouble(left), extractor.applyAsDouble(right));
+            break;
+          }
+          case KEY: {
+            final Function<? super T, ?> extractor = (Function<? super T, ?>) extractors[i];
+            final Object leftKey = extractor.apply(left);
+            final Object rightKey = extractor.apply(right);
+            if (nullOrders[i] != NULLS_UNORDERED && (leftKey == null || rightKey == null)) {
+              if (leftKey == rightKey) {
+                comparison = 0;
+                break;
+              }
+              /* not reversed with the step */
+              final boolean firstIsNull = (descending[i] ? rightKey : leftKey) == null;
+              return firstIsNull == (nullOrders[i] == NULLS_FIRST) ? -1 : 1;
+            }
+            comparison = ((Comparator<Object>) keyComparators[i]).compare(leftKey, rightKey);
+            break;
+          }
+          default:
+            comparison = ((Comparator<? super T>) keyComparators[i]).compare(left, right);
+        }
+        if (comparison != 0) {
+          return comparison;
+        }
+      }
+      return 0;
+    }
+  }
+}
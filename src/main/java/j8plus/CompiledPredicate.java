@@ -0,0 +1,238 @@
+package j8plus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * A conjunction or a disjunction of predicates kept flat in an array, built by {@link Funs#allOf(Predicate[])} and
+ * {@link Funs#anyOf(Predicate[])}. Unlike {@link Predicate#and(Predicate)} and {@link Predicate#or(Predicate)} which
+ * wrap a lambda around another for each predicate, the predicates of nested conjunctions or disjunctions of the same
+ * kind are flattened into one array tested in a loop, so a long chain does not become a deep call tree the JIT cannot
+ * inline. {@link #and(Predicate)}, {@link #or(Predicate)} and {@link #negate()} keep the result flat as well.
+ * <p>
+ * The order of the predicates adapts to the values tested. About one in every few tests, picked by a thread-local
+ * random number so that the other tests write no shared field, is profiled to measure the time each predicate takes
+ * and how often it decides the result, i.e. it is false in a conjunction or true in a disjunction. After enough
+ * profiled tests, the predicates are reordered so the ones with the least time per decision are tested first. So the
+ * predicates must be free of side effects and must not depend on being tested in the declared order. A null check
+ * guarding another check must be in the same lambda, e.g. <code>value -&gt; value != null &amp;&amp;
+ * !value.isEmpty()</code>, as {@link #and(Predicate)} flattens it into the same array to reorder.
+ * <p>
+ * It is thread safe. The profile is updated without a lock so it is approximate under contention, which is enough to
+ * choose an order.
+ *
+ * @param <T> the type of the input
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class CompiledPredicate<T> implements Predicate<T> {
+
+  /* profiles one in every 64 tests on average */
+  static final int DEFAULT_SAMPLE_PERIOD = 64;
+  static final int DEFAULT_REORDER_SAMPLES = 256;
+
+  private static final long MIN_EVALUATIONS_TO_CLAMP = 8L;
+  private static final long MIN_CLAMP_NANOS = 100L;
+
+  private final Predicate<? super T>[] predicates;
+  private final boolean conjunction;
+  private final boolean negated;
+  private final int sampleMask;
+  private final int reorderSamples;
+
+  private volatile int[] order;
+
+  /* racy counters guarded by nothing, written only by the profiled tests */
+  private int samples;
+  private final long[] evaluations;
+  private final long[] decisions;
+  private final long[] nanos;
+
+  private CompiledPredicate(final Predicate<? super T>[] predicates,
+                            final boolean conjunction,
+                            final boolean negated,
+                            final int samplePeriod,
+                            final int reorderSamples) {
+    if (Integer.bitCount(samplePeriod) != 1) {
+      throw new IllegalArgumentException("The samplePeriod must be a power of two. [samplePeriod: " + samplePeriod + "]");
+    }
+    if (reorderSamples <= 0) {
+      throw new IllegalArgumentException("The reorderSamples must be positive. [reorderSamples: " + reorderSamples + "]");
+    }
+    this.predicates = predicates;
+    this.conjunction = conjunction;
+    this.negated = negated;
+    this.sampleMask = samplePeriod - 1;
+    this.reorderSamples = reorderSamples;
+    final int[] initialOrder = new int[predicates.length];
+    for (int i = 0; i < initialOrder.length; i++) {
+      initialOrder[i] = i;
+    }
+    this.order = initialOrder;
+    this.evaluations = new long[predicates.length];
+    this.decisions = new long[predicates.length];
+    this.nanos = new long[predicates.length];
+  }
+
+  static <T> CompiledPredicate<T> allOf(final Predicate<? super T>[] predicates, final int samplePeriod, final int reorderSamples) {
+    return new CompiledPredicate<>(flatten(predicates, true), true, false, samplePeriod, reorderSamples);
+  }
+
+  static <T> CompiledPredicate<T> anyOf(final Predicate<? super T>[] predicates, final int samplePeriod, final int reorderSamples) {
+    return new CompiledPredicate<>(flatten(predicates, false), false, false, samplePeriod, reorderSamples);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Predicate<? super T>[] flatten(final Predicate<? super T>[] predicates, final boolean conjunction) {
+    Objects.requireNonNull(predicates, "The predicates: Predicate<T>[] cannot be null.");
+    final List<Predicate<? super T>> flat = new ArrayList<>(predicates.length);
+    for (final Predicate<? super T> predicate : predicates) {
+      Objects.requireNonNull(predicate, "The predicates cannot contain null.");
+      if (predicate instanceof CompiledPredicate && ((CompiledPredicate<?>) predicate).isSameKind(conjunction)) {
+        /* in the order adapted so far */
+        final CompiledPredicate<? super T> compiled = (CompiledPredicate<? super T>) predicate;
+        for (final int index : compiled.order) {
+          flat.add(compiled.predicates[index]);
+        }
+      } else {
+        flat.add(predicate);
+      }
+    }
+    return flat.toArray(new Predicate[flat.size()]);
+  }
+
+  private boolean isSameKind(final boolean conjunction) {
+    return this.conjunction == conjunction && !negated;
+  }
+
+  @Override
+  public boolean test(final T t) {
+    final int[] currentOrder = order;
+    if ((ThreadLocalRandom.current()
+                          .nextInt() & sampleMask) == 0) {
+      return testProfiled(t, currentOrder);
+    }
+    /* a conjunction is decided by a false and a disjunction by a true */
+    final boolean decisive = !conjunction;
+    for (final int index : currentOrder) {
+      if (predicates[index].test(t) == decisive) {
+        return decisive != negated;
+      }
+    }
+    return conjunction != negated;
+  }
+
+  private boolean testProfiled(final T t, final int[] currentOrder) {
+    final boolean decisive = !conjunction;
+    boolean result = conjunction;
+    for (final int index : currentOrder) {
+      final long start = System.nanoTime();
+      final boolean tested = predicates[index].test(t);
+      nanos[index] += clampOutlier(index, System.nanoTime() - start);
+      evaluations[index]++;
+      if (tested == decisive) {
+        decisions[index]++;
+        result = decisive;
+        break;
+      }
+    }
+    if (++samples >= reorderSamples) {
+      reorder();
+    }
+    return result != negated;
+  }
+
+  /* a pause such as a GC or a JIT compilation in a measurement would outweigh many normal ones */
+  private long clampOutlier(final int index, final long elapsed) {
+    final long evaluated = evaluations[index];
+    if (evaluated < MIN_EVALUATIONS_TO_CLAMP) {
+      return elapsed;
+    }
+    return Math.min(elapsed, nanos[index] / evaluated * 4L + MIN_CLAMP_NANOS);
+  }
+
+  private synchronized void reorder() {
+    if (samples < reorderSamples) {
+      return;
+    }
+    samples = 0;
+    final double[] scores = new double[predicates.length];
+    for (int i = 0; i < scores.length; i++) {
+      final long evaluated = evaluations[i];
+      /* the predicates never reached keep their places after the others */
+      scores[i] = evaluated == 0L ? Double.POSITIVE_INFINITY : (nanos[i] + 1.0D) / (decisions[i] + 1.0D);
+      /* halves the profile so that it follows the changes of the values */
+      evaluations[i] = evaluated >>> 1;
+      decisions[i] >>>= 1;
+      nanos[i] >>>= 1;
+    }
+    final Integer[] sorted = new Integer[scores.length];
+    final int[] currentOrder = order;
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = currentOrder[i];
+    }
+    /* stable so the predicates with the same score keep their order */
+    Arrays.sort(sorted, (left, right) -> Double.compare(scores[left], scores[right]));
+    final int[] newOrder = new int[sorted.length];
+    for (int i = 0; i < newOrder.length; i++) {
+      newOrder[i] = sorted[i];
+    }
+    order = newOrder;
+  }
+
+  /**
+   * @return a flat conjunction of this predicate and the other one
+   */
+  @Override
+  public CompiledPredicate<T> and(final Predicate<? super T> other) {
+    Objects.requireNonNull(other, "The other: Predicate<T> cannot be null.");
+    return combine(other, true);
+  }
+
+  /**
+   * @return a flat disjunction of this predicate and the other one
+   */
+  @Override
+  public CompiledPredicate<T> or(final Predicate<? super T> other) {
+    Objects.requireNonNull(other, "The other: Predicate<T> cannot be null.");
+    return combine(other, false);
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompiledPredicate<T> combine(final Predicate<? super T> other, final boolean conjunction) {
+    final Predicate<? super T>[] both = new Predicate[] { this, other };
+    return new CompiledPredicate<>(flatten(both, conjunction), conjunction, false, sampleMask + 1, reorderSamples);
+  }
+
+  /**
+   * @return the negation of this predicate testing the same array of predicates
+   */
+  @Override
+  public CompiledPredicate<T> negate() {
+    final CompiledPredicate<T> negation = new CompiledPredicate<>(predicates, conjunction, !negated, sampleMask + 1, reorderSamples);
+    negation.order = order.clone();
+    return negation;
+  }
+
+  /**
+   * @return the predicates in the order they are tested now
+   */
+  public List<Predicate<? super T>> getPredicates() {
+    final int[] currentOrder = order;
+    final List<Predicate<? super T>> ordered = new ArrayList<>(currentOrder.length);
+    for (final int index : currentOrder) {
+      ordered.add(predicates[index]);
+    }
+    return Collections.unmodifiableList(ordered);
+  }
+
+  @Override
+  public String toString() {
+    return (negated ? "not(" : "") + (conjunction ? "allOf" : "anyOf") + getPredicates() + (negated ? ")" : "");
+  }
+}
@@ -0,0 +1,227 @@
+package j8plus;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The implementations of {@link Numbers.Summation}.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class DoubleSummations {
+
+  /* the number of values summed naively at the bottom of the pairwise summation */
+  static final int PAIRWISE_BLOCK_SIZE = 128;
+  static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  private DoubleSummations() {
+  }
+
+  static double sum(final double[] values, final int from, final int to, final Numbers.Summation summation) {
+    if (summation == Numbers.Summation.PAIRWISE) {
+      return pairwiseSum(values, from, to);
+    }
+    final NeumaierSum sum = new NeumaierSum();
+    for (int i = from; i < to; i++) {
+      sum.accept(values[i]);
+    }
+    return sum.value();
+  }
+
+  static double parallelSum(final double[] values, final Numbers.Summation summation) {
+    if (summation == Numbers.Summation.PAIRWISE) {
+      return ForkJoinPool.commonPool()
+                         .invoke(new PairwiseTask(values, 0, values.length));
+    }
+    return ForkJoinPool.commonPool()
+                       .invoke(new NeumaierTask(values, 0, values.length))
+                       .value();
+  }
+
+  static Accumulator newAccumulator(final Numbers.Summation summation) {
+    return summation == Numbers.Summation.PAIRWISE ? new PairwiseSum() : new NeumaierSum();
+  }
+
+  static double pairwiseSum(final double[] values, final int from, final int to) {
+    final int length = to - from;
+    if (length <= PAIRWISE_BLOCK_SIZE) {
+      double sum = 0.0D;
+      for (int i = from; i < to; i++) {
+        sum += values[i];
+      }
+      return sum;
+    }
+    /* split at a multiple of the block size so that the blocks are always full except the last one */
+    final int half = (length / 2 + PAIRWISE_BLOCK_SIZE - 1) / PAIRWISE_BLOCK_SIZE * PAIRWISE_BLOCK_SIZE;
+    return pairwiseSum(values, from, from + half) + pairwiseSum(values, from + half, to);
+  }
+
+  interface Accumulator extends DoubleConsumer {
+    void combine(Accumulator other);
+
+    double value();
+  }
+
+  /**
+   * Kahan-Babuska-Neumaier compensated summation. Unlike Kahan summation, it is still accurate when the value to add is
+   * bigger than the running sum.
+   */
+  static final class NeumaierSum implements Accumulator {
+    private double sum;
+    private double compensation;
+    /* used when the sum overflows to infinity where the compensation becomes NaN */
+    private double simpleSum;
+
+    @Override
+    public void accept(final double value) {
+      add(value);
+      simpleSum += value;
+    }
+
+    private void add(final double value) {
+      final double total = sum + value;
+      if (Math.abs(sum) >= Math.abs(value)) {
+        compensation += (sum - total) + value;
+      } else {
+        compensation += (value - total) + sum;
+      }
+      sum = total;
+    }
+
+    @Override
+    public void combine(final Accumulator other) {
+      final NeumaierSum that = (NeumaierSum) other;
+      add(that.sum);
+      add(that.compensation);
+      simpleSum += that.simpleSum;
+    }
+
+    @Override
+    public double value() {
+      final double value = sum + compensation;
+      if (Double.isNaN(value) && Double.isInfinite(simpleSum)) {
+        return simpleSum;
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Pairwise (cascade) summation for a sequence of values with unknown size. Each block of values is summed naively,
+   * and the block sums are added pairwise like a binary counter where <code>levels[k]</code> holds the sum of
+   * <code>2<sup>k</sup></code> blocks. So it uses a constant amount of memory and its error grows in
+   * <code>O(log n)</code> as the pairwise summation of an array does.
+   */
+  static final class PairwiseSum implements Accumulator {
+    private final double[] block = new double[PAIRWISE_BLOCK_SIZE];
+    private int blockSize;
+    private final double[] levels = new double[Long.SIZE];
+    private long occupiedLevels;
+
+    @Override
+    public void accept(final double value) {
+      block[blockSize++] = value;
+      if (blockSize == PAIRWISE_BLOCK_SIZE) {
+        addToLevel(0, pairwiseSum(block, 0, PAIRWISE_BLOCK_SIZE));
+        blockSize = 0;
+      }
+    }
+
+    private void addToLevel(final int level, final double sum) {
+      int k = level;
+      double carry = sum;
+      while ((occupiedLevels & (1L << k)) != 0) {
+        carry = levels[k] + carry;
+        occupiedLevels &= ~(1L << k);
+        k++;
+      }
+      levels[k] = carry;
+      occupiedLevels |= 1L << k;
+    }
+
+    @Override
+    public void combine(final Accumulator other) {
+      final PairwiseSum that = (PairwiseSum) other;
+      for (int k = 0; k < Long.SIZE; k++) {
+        if ((that.occupiedLevels & (1L << k)) != 0) {
+          addToLevel(k, that.levels[k]);
+        }
+      }
+      for (int i = 0; i < that.blockSize; i++) {
+        accept(that.block[i]);
+      }
+    }
+
+    @Override
+    public double value() {
+      double sum = pairwiseSum(block, 0, blockSize);
+      for (int k = 0; k < Long.SIZE; k++) {
+        if ((occupiedLevels & (1L << k)) != 0) {
+          sum = levels[k] + sum;
+        }
+      }
+      return sum;
+    }
+  }
+
+  private static final class PairwiseTask extends RecursiveTask<Double> {
+    private static final long serialVersionUID = 1L;
+
+    private final double[] values;
+    private final int from;
+    private final int to;
+
+    PairwiseTask(final double[] values, final int from, final int to) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Double compute() {
+      final int length = to - from;
+      if (length <= PARALLEL_THRESHOLD) {
+        return pairwiseSum(values, from, to);
+      }
+      final int middle = from + (length / 2 + PAIRWISE_BLOCK_SIZE - 1) / PAIRWISE_BLOCK_SIZE * PAIRWISE_BLOCK_SIZE;
+      final PairwiseTask left = new PairwiseTask(values, from, middle);
+      left.fork();
+      final double right = new PairwiseTask(values, middle, to).compute();
+      return left.join() + right;
+    }
+  }
+
+  private static final class NeumaierTask extends RecursiveTask<NeumaierSum> {
+    private static final long serialVersionUID = 1L;
+
+    private final double[] values;
+    private final int from;
+    private final int to;
+
+    NeumaierTask(final double[] values, final int from, final int to) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected NeumaierSum compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        final NeumaierSum sum = new NeumaierSum();
+        for (int i = from; i < to; i++) {
+          sum.accept(values[i]);
+        }
+        return sum;
+      }
+      final int middle = (from + to) >>> 1;
+      final NeumaierTask left = new NeumaierTask(values, from, middle);
+      left.fork();
+      final NeumaierSum right = new NeumaierTask(values, middle, to).compute();
+      final NeumaierSum result = left.join();
+      result.combine(right);
+      return result;
+    }
+  }
+}
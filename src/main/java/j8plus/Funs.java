@@ -15,10 +15,23 @@
  */
 package j8plus;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.*;
-
+import java.util.stream.Collector;
+
+import j8plus.memo.Lazy;
+import j8plus.memo.LazyMode;
+import j8plus.memo.MemoOptions;
+import j8plus.memo.MemoizedAsyncFunction;
+import j8plus.memo.MemoizedBiFunction;
+import j8plus.memo.MemoizedFunction;
+import j8plus.memo.MemoizedSupplier;
+import j8plus.memo.SingleFlightFunction;
+import j8plus.stats.DistinctCounter;
 import j8plus.types.Consumer10;
 import j8plus.types.Consumer3;
 import j8plus.types.Consumer4;
@@ -121,6 +134,25 @@ public final class Funs {
   }
   /* @formatter:on */
 
+  /**
+   * Returns a builder of a {@link Comparator} comparing by several keys. The int, long and double keys are compared
+   * without boxing, each key can be reversed and its null keys can be ordered, and the whole chain is built into one flat
+   * comparator instead of nested lambdas.
+   *
+   * <pre>
+   * list.sort(Funs.&lt;SomeBean&gt;comparatorBuilder()
+   *               .byInt(SomeBean::getPriority).reversed()
+   *               .byKey(SomeBean::getDateCreated).nullsLast()
+   *               .build());
+   * </pre>
+   *
+   * @param <T> the type of objects to compare
+   * @return a new builder of a {@link Comparator}
+   */
+  public static <T> ComparatorBuilder<T> comparatorBuilder() {
+    return new ComparatorBuilder<>();
+  }
+
   /**
    * <pre>
    * T -&gt; R -&gt; String
@@ -481,4 +513,309 @@ public final class Funs {
   }
   /* @formatter:on */
 
+  /**
+   * Returns a {@link Collector} which counts the distinct keys extracted from the input elements approximately with a
+   * {@link DistinctCounter} (HyperLogLog) of {@link DistinctCounter#DEFAULT_PRECISION}. It uses 16 KB no matter how
+   * many distinct keys there are, and it can be used with parallel streams.
+   *
+   * <pre>
+   * final long customers = orders.parallelStream()
+   *                              .collect(distinctCount(Order::getCustomerId))
+   *                              .getEstimate();
+   * </pre>
+   *
+   * @param keyExtractor a function to extract the key to count from each element
+   * @param <T>          the type of input elements
+   * @return a {@link Collector} counting the distinct keys
+   */
+  public static <T> Collector<T, ?, DistinctCounter> distinctCount(final Function<? super T, ?> keyExtractor) {
+    return distinctCount(DistinctCounter.DEFAULT_PRECISION, keyExtractor);
+  }
+
+  /**
+   * The same as {@link #distinctCount(Function)} but with the given precision which uses
+   * <code>2<sup>precision</sup></code> bytes for the relative standard error of
+   * <code>1.04 / sqrt(2<sup>precision</sup>)</code>.
+   *
+   * @param precision    the precision of the counter from {@link DistinctCounter#MIN_PRECISION} to
+   *                     {@link DistinctCounter#MAX_PRECISION}
+   * @param keyExtractor a function to extract the key to count from each element
+   * @param <T>          the type of input elements
+   * @return a {@link Collector} counting the distinct keys
+   */
+  public static <T> Collector<T, ?, DistinctCounter> distinctCount(final int precision, final Function<? super T, ?> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: Function<T, ?> cannot be null.");
+    return distinctCounterOf(precision, (counter, t) -> counter.accept(keyExtractor.apply(t)));
+  }
+
+  /**
+   * The same as {@link #distinctCount(Function)} but the keys are long values which are counted without boxing.
+   *
+   * @param keyExtractor a function to extract the long key to count from each element
+   * @param <T>          the type of input elements
+   * @return a {@link Collector} counting the distinct keys
+   */
+  public static <T> Collector<T, ?, DistinctCounter> distinctLongCount(final ToLongFunction<? super T> keyExtractor) {
+    return distinctLongCount(DistinctCounter.DEFAULT_PRECISION, keyExtractor);
+  }
+
+  public static <T> Collector<T, ?, DistinctCounter> distinctLongCount(final int precision, final ToLongFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: ToLongFunction<T> cannot be null.");
+    return distinctCounterOf(precision, (counter, t) -> counter.accept(keyExtractor.applyAsLong(t)));
+  }
+
+  private static <T> Collector<T, ?, DistinctCounter> distinctCounterOf(final int precision, final BiConsumer<DistinctCounter, T> accumulator) {
+    if (precision < DistinctCounter.MIN_PRECISION || precision > DistinctCounter.MAX_PRECISION) {
+      throw new IllegalArgumentException("The precision must be from " + DistinctCounter.MIN_PRECISION + " to " + DistinctCounter.MAX_PRECISION + ". [precision: " + precision + "]");
+    }
+    /* @formatter:off */
+    return Collector.of(() -> new DistinctCounter(precision),
+                        accumulator,
+                        (left, right) -> { left.combine(right); return left; },
+                        Collector.Characteristics.IDENTITY_FINISH,
+                        Collector.Characteristics.UNORDERED);
+    /* @formatter:on */
+  }
+
+  /**
+   * Returns a {@link Function} which computes the value of each argument once and returns the memoized value
+   * afterwards. Unlike a {@link java.util.concurrent.ConcurrentHashMap#computeIfAbsent(Object, Function)} cache, the
+   * function can call the memoized function recursively and a hit takes no lock. The concurrent calls for the same
+   * argument compute it once even if they come from the functions of other memoized functions. See
+   * {@link MemoizedFunction} for how the calls waiting for each other are kept from deadlocking.
+   * <p>
+   * e.g.)
+   * <pre>
+   * final Function&lt;String, Rate&gt; rate = Funs.memoize(this::fetchRate);
+   * </pre>
+   *
+   * @param function the function to memoize which should be pure
+   * @param <T>      the type of the argument
+   * @param <R>      the type of the result
+   * @return the memoized function keeping every value forever
+   */
+  public static <T, R> MemoizedFunction<T, R> memoize(final Function<? super T, ? extends R> function) {
+    return MemoizedFunction.of(function, MemoOptions.defaults());
+  }
+
+  /**
+   * The same as {@link #memoize(Function)} but with the given options such as the maximum size, the eviction policy,
+   * the expiry and the statistics.
+   * <p>
+   * e.g.)
+   * <pre>
+   * final MemoizedFunction&lt;String, Rate&gt; rate = Funs.memoize(this::fetchRate, MemoOptions.builder()
+   *                                                                            .maximumSize(1_000)
+   *                                                                            .eviction(Eviction.LFU)
+   *                                                                            .recordStats()
+   *                                                                            .build());
+   * </pre>
+   *
+   * @param function the function to memoize which should be pure
+   * @param options  the options of the memoization
+   * @param <T>      the type of the argument
+   * @param <R>      the type of the result
+   * @return the memoized function
+   */
+  public static <T, R> MemoizedFunction<T, R> memoize(final Function<? super T, ? extends R> function, final MemoOptions options) {
+    return MemoizedFunction.of(function, options);
+  }
+
+  public static <T, U, R> MemoizedBiFunction<T, U, R> memoize(final BiFunction<? super T, ? super U, ? extends R> function) {
+    return MemoizedBiFunction.of(function, MemoOptions.defaults());
+  }
+
+  public static <T, U, R> MemoizedBiFunction<T, U, R> memoize(final BiFunction<? super T, ? super U, ? extends R> function, final MemoOptions options) {
+    return MemoizedBiFunction.of(function, options);
+  }
+
+  /**
+   * Returns a {@link Supplier} which gets the value once and returns the memoized value afterwards.
+   *
+   * @param supplier the supplier to memoize
+   * @param <T>      the type of the value
+   * @return the memoized supplier keeping the value forever
+   */
+  public static <T> MemoizedSupplier<T> memoize(final Supplier<? extends T> supplier) {
+    return MemoizedSupplier.of(supplier, MemoOptions.defaults());
+  }
+
+  /**
+   * The same as {@link #memoize(Supplier)} but with the given options, e.g. the value is got again once it expires if
+   * {@link MemoOptions.Builder#expireAfterWrite(java.time.Duration)} is set.
+   */
+  public static <T> MemoizedSupplier<T> memoize(final Supplier<? extends T> supplier, final MemoOptions options) {
+    return MemoizedSupplier.of(supplier, options);
+  }
+
+  /**
+   * Returns a memoized function of the given function returning {@link CompletableFuture}s,
+   * which memoizes the future as soon as it is returned so the concurrent callers share one call, and removes the
+   * failed futures. With {@link MemoOptions.Builder#refreshAfterWrite(java.time.Duration)}, the old values are
+   * refreshed in the background while they are still returned.
+   * <p>
+   * e.g.)
+   * <pre>
+   * final Function&lt;String, CompletableFuture&lt;Rate&gt;&gt; rate = Funs.memoizeAsync(this::fetchRateAsync, MemoOptions.builder()
+   *                                                                                                .refreshAfterWrite(Duration.ofMinutes(1L))
+   *                                                                                                .expireAfterWrite(Duration.ofMinutes(10L))
+   *                                                                                                .build());
+   * </pre>
+   *
+   * @param function the function returning the futures to memoize
+   * @param options  the options of the memoization
+   * @param <T>      the type of the argument
+   * @param <R>      the type of the result of the futures
+   * @return the memoized function
+   */
+  public static <T, R> MemoizedAsyncFunction<T, R> memoizeAsync(final Function<? super T, ? extends CompletableFuture<R>> function, final MemoOptions options) {
+    return MemoizedAsyncFunction.of(function, options);
+  }
+
+  public static <T, R> MemoizedAsyncFunction<T, R> memoizeAsync(final Function<? super T, ? extends CompletableFuture<R>> function) {
+    return MemoizedAsyncFunction.of(function, MemoOptions.defaults());
+  }
+
+  /**
+   * Returns a {@link Function} which runs the given function once for the concurrent calls with equal arguments and
+   * hands its result or exception to all of them. Nothing is kept after the calls so it does not return an old value
+   * unlike {@link #memoize(Function)}.
+   *
+   * @param function the function to run once for the concurrent calls with equal arguments
+   * @param <T>      the type of the argument
+   * @param <R>      the type of the result
+   * @return the function coalescing the concurrent calls, which can tell how many calls have been coalesced
+   */
+  public static <T, R> SingleFlightFunction<T, R> singleFlight(final Function<? super T, ? extends R> function) {
+    return SingleFlightFunction.of(function);
+  }
+
+  /**
+   * Returns a value computed by the given supplier when it is first got, under a lock so that it is computed once.
+   * Getting it afterwards is a single volatile read.
+   * <p>
+   * e.g.)
+   * <pre>
+   * private final Supplier&lt;RuleSet&gt; rules = Funs.lazy(this::compileRules);
+   * </pre>
+   *
+   * @param supplier the supplier of the value
+   * @param <T>      the type of the value
+   * @return the lazy value
+   */
+  public static <T> Lazy<T> lazy(final Supplier<? extends T> supplier) {
+    return Lazy.of(supplier);
+  }
+
+  /**
+   * The same as {@link #lazy(Supplier)} but initialized by the given mode, e.g. {@link LazyMode#PUBLICATION} computes
+   * it without a lock and publishes the first value computed.
+   */
+  public static <T> Lazy<T> lazy(final Supplier<? extends T> supplier, final LazyMode mode) {
+    return Lazy.of(supplier, mode);
+  }
+
+  /**
+   * Returns a lazy value computed again once it is older than the given time to live. The other threads keep getting
+   * the old value while it is being computed again.
+   */
+  public static <T> Lazy<T> lazy(final Supplier<? extends T> supplier, final Duration timeToLive) {
+    return Lazy.expiring(supplier, timeToLive);
+  }
+
+  /**
+   * Returns a flat conjunction of the given predicates which is true if all of them are true. The nested conjunctions
+   * from this method are flattened into one array and the order of the predicates adapts to the values tested so the
+   * cheapest ones most likely to be false are tested first. See {@link CompiledPredicate}.
+   * <p>
+   * As the order changes, a predicate must not depend on being tested after another one. e.g.) A null check and
+   * <code>value.isEmpty()</code> as separate predicates can test <code>isEmpty()</code> on null, so such a guard
+   * belongs in the same predicate as the check it guards, <code>value -&gt; value != null &amp;&amp; !value.isEmpty()</code>.
+   * <p>
+   * e.g.)
+   * <pre>
+   * final Predicate&lt;Order&gt; suspicious = Funs.allOf(order -&gt; order.getAmount().compareTo(limit) &gt; 0,
+   *                                                 order -&gt; blockedCountries.contains(order.getCountry()),
+   *                                                 this::failsFraudCheck);
+   * </pre>
+   *
+   * @param predicates the predicates which must be free of side effects as they may be tested in any order
+   * @param <T>        the type of the input
+   * @return the conjunction of the predicates which is true if there is no predicate
+   */
+  @SafeVarargs
+  public static <T> CompiledPredicate<T> allOf(final Predicate<? super T>... predicates) {
+    return CompiledPredicate.allOf(predicates, CompiledPredicate.DEFAULT_SAMPLE_PERIOD, CompiledPredicate.DEFAULT_REORDER_SAMPLES);
+  }
+
+  /**
+   * Returns a flat disjunction of the given predicates which is true if any of them is true. The order of the
+   * predicates adapts to the values tested so the cheapest ones most likely to be true are tested first. See
+   * {@link #allOf(Predicate[])}. Likewise, a predicate must not depend on being tested after another one.
+   *
+   * @param predicates the predicates which must be free of side effects as they may be tested in any order
+   * @param <T>        the type of the input
+   * @return the disjunction of the predicates which is false if there is no predicate
+   */
+  @SafeVarargs
+  public static <T> CompiledPredicate<T> anyOf(final Predicate<? super T>... predicates) {
+    return CompiledPredicate.anyOf(predicates, CompiledPredicate.DEFAULT_SAMPLE_PERIOD, CompiledPredicate.DEFAULT_REORDER_SAMPLES);
+  }
+
+  /**
+   * Returns a {@link Predicate} testing if a value is one of the given values, which picks the structure to look up
+   * by the number of values: a linear scan for a few values or an open-addressing hash table otherwise. A Bloom filter
+   * is put in front of the table if there are {@value MembershipPredicates#BLOOM_FILTER_MIN_SIZE} values or more.
+   * <p>
+   * e.g.)
+   * <pre>
+   * final Predicate&lt;String&gt; isEuroCurrency = Funs.isIn(Arrays.asList("EUR", "CHF", "GBP", "SEK", "NOK", "DKK", "PLN", "CZK", "HUF"));
+   * </pre>
+   *
+   * @param values the values which are copied so the predicate does not change when they change
+   * @param <T>    the type of the values
+   * @return the predicate testing if a value is equal to any of the given values including null
+   */
+  public static <T> Predicate<T> isIn(final Collection<? extends T> values) {
+    Objects.requireNonNull(values, "The values: Collection<T> cannot be null.");
+    return MembershipPredicates.of(values, values.size() >= MembershipPredicates.BLOOM_FILTER_MIN_SIZE);
+  }
+
+  /**
+   * The same as {@link #isIn(Collection)} but with or without a Bloom filter in front of the hash table, which helps if
+   * the set is large and most of the values tested are not in it.
+   */
+  public static <T> Predicate<T> isIn(final Collection<? extends T> values, final boolean bloomFilter) {
+    return MembershipPredicates.of(values, bloomFilter);
+  }
+
+  /**
+   * Returns an {@link IntPredicate} testing if a value is one of the given values without boxing. It scans a few values
+   * linearly, searches up to {@value MembershipPredicates#SORTED_ARRAY_MAX_SIZE} values in a sorted array, and looks
+   * up more values in an open-addressing hash table.
+   *
+   * @param values the values which are copied
+   * @return the predicate testing if a value is equal to any of the given values
+   */
+  public static IntPredicate isIn(final int... values) {
+    Objects.requireNonNull(values, "The values: int[] cannot be null.");
+    return MembershipPredicates.ofInts(values, values.length >= MembershipPredicates.BLOOM_FILTER_MIN_SIZE);
+  }
+
+  public static IntPredicate isIn(final int[] values, final boolean bloomFilter) {
+    return MembershipPredicates.ofInts(values, bloomFilter);
+  }
+
+  /**
+   * The same as {@link #isIn(int...)} but for long values.
+   */
+  public static LongPredicate isIn(final long... values) {
+    Objects.requireNonNull(values, "The values: long[] cannot be null.");
+    return MembershipPredicates.ofLongs(values, values.length >= MembershipPredicates.BLOOM_FILTER_MIN_SIZE);
+  }
+
+  public static LongPredicate isIn(final long[] values, final boolean bloomFilter) {
+    return MembershipPredicates.ofLongs(values, bloomFilter);
+  }
+
 }
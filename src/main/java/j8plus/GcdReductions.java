@@ -0,0 +1,287 @@
+package j8plus;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * GCD and LCM reductions used by {@link Numbers.BigIntegers}. Every reduction stops as soon as it reaches its absorbing
+ * element (1 for GCD and 0 for LCM) since no more elements can change the result. The parallel ones share a flag so
+ * that once a subtask reaches the absorbing element, all the other subtasks stop too.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class GcdReductions {
+
+  static final int LONG_THRESHOLD = 1 << 13;
+  static final int BIG_INTEGER_THRESHOLD = 1 << 10;
+
+  /* 2^63 as an unsigned long which is the gcd of Long.MIN_VALUE and 0 */
+  private static final long UNSIGNED_TWO_TO_THE_63 = Long.MIN_VALUE;
+
+  private GcdReductions() {
+  }
+
+  /* Stein's binary GCD on the absolute values. The result is unsigned so that |Long.MIN_VALUE| can be represented. */
+  static long unsignedGcd(final long a, final long b) {
+    long x = a < 0 ? -a : a;
+    long y = b < 0 ? -b : b;
+    if (x == 0) {
+      return y;
+    }
+    if (y == 0) {
+      return x;
+    }
+    final int shift = Long.numberOfTrailingZeros(x | y);
+    x >>>= Long.numberOfTrailingZeros(x);
+    do {
+      y >>>= Long.numberOfTrailingZeros(y);
+      if (Long.compareUnsigned(x, y) > 0) {
+        final long temp = x;
+        x = y;
+        y = temp;
+      }
+      y -= x;
+    } while (y != 0);
+    return x << shift;
+  }
+
+  static long toGcd(final long unsignedGcd) {
+    if (unsignedGcd == UNSIGNED_TWO_TO_THE_63) {
+      throw new ArithmeticException("The gcd overflows long as it is 2^63.");
+    }
+    return unsignedGcd;
+  }
+
+  static long gcd(final long[] numbers, final int from, final int to, final Flag found) {
+    long result = 0L;
+    for (int i = from; i < to; i++) {
+      result = unsignedGcd(result, numbers[i]);
+      if (result == 1L) {
+        found.set();
+        return 1L;
+      }
+      if ((i & 0xFF) == 0 && found.isSet()) {
+        return 1L;
+      }
+    }
+    return result;
+  }
+
+  static BigInteger lcm(final long[] numbers, final int from, final int to, final Flag found) {
+    long result = 1L;
+    int i = from;
+    for (; i < to; i++) {
+      final long number = numbers[i];
+      if (number == 0L) {
+        found.set();
+        return BigInteger.ZERO;
+      }
+      if ((i & 0xFF) == 0 && found.isSet()) {
+        return BigInteger.ZERO;
+      }
+      if (number == Long.MIN_VALUE) {
+        break;
+      }
+      final long absolute = Math.abs(number);
+      final long multiplier = absolute / unsignedGcd(result, absolute);
+      if (result > Long.MAX_VALUE / multiplier) {
+        break;
+      }
+      result *= multiplier;
+    }
+    BigInteger bigResult = BigInteger.valueOf(result);
+    for (; i < to; i++) {
+      final long number = numbers[i];
+      if (number == 0L) {
+        found.set();
+        return BigInteger.ZERO;
+      }
+      if ((i & 0xFF) == 0 && found.isSet()) {
+        return BigInteger.ZERO;
+      }
+      bigResult = lcm(bigResult, BigInteger.valueOf(number));
+    }
+    return bigResult;
+  }
+
+  static BigInteger lcm(final BigInteger a, final BigInteger b) {
+    if (a.signum() == 0 || b.signum() == 0) {
+      return BigInteger.ZERO;
+    }
+    return a.divide(a.gcd(b))
+            .multiply(b)
+            .abs();
+  }
+
+  static <T> BigInteger gcd(final Iterable<T> source, final Function<? super T, BigInteger> toBigInteger) {
+    BigInteger result = BigInteger.ZERO;
+    for (final T each : source) {
+      result = result.gcd(toBigInteger.apply(each));
+      if (BigInteger.ONE.equals(result)) {
+        return result;
+      }
+    }
+    return result;
+  }
+
+  static <T> BigInteger lcm(final Iterable<T> source, final Function<? super T, BigInteger> toBigInteger) {
+    BigInteger result = BigInteger.ONE;
+    for (final T each : source) {
+      result = lcm(result, toBigInteger.apply(each));
+      if (result.signum() == 0) {
+        return result;
+      }
+    }
+    return result;
+  }
+
+  static long parallelGcd(final long[] numbers) {
+    return toGcd(ForkJoinPool.commonPool()
+                             .invoke(new LongGcdTask(numbers, 0, numbers.length, new Flag())));
+  }
+
+  static BigInteger parallelLcm(final long[] numbers) {
+    return ForkJoinPool.commonPool()
+                       .invoke(new LongLcmTask(numbers, 0, numbers.length, new Flag()));
+  }
+
+  static <T> BigInteger parallelGcd(final Collection<T> source, final Function<? super T, BigInteger> toBigInteger) {
+    return ForkJoinPool.commonPool()
+                       .invoke(new BigIntegerTask<>(new ArrayList<>(source), 0, source.size(), toBigInteger, true, new Flag()));
+  }
+
+  static <T> BigInteger parallelLcm(final Collection<T> source, final Function<? super T, BigInteger> toBigInteger) {
+    return ForkJoinPool.commonPool()
+                       .invoke(new BigIntegerTask<>(new ArrayList<>(source), 0, source.size(), toBigInteger, false, new Flag()));
+  }
+
+  /* Set once the absorbing element is found so that the other subtasks can stop. */
+  static final class Flag {
+    private volatile boolean set;
+
+    void set() {
+      set = true;
+    }
+
+    boolean isSet() {
+      return set;
+    }
+  }
+
+  private static final class LongGcdTask extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    private final long[] numbers;
+    private final int from;
+    private final int to;
+    private final Flag found;
+
+    LongGcdTask(final long[] numbers, final int from, final int to, final Flag found) {
+      this.numbers = numbers;
+      this.from = from;
+      this.to = to;
+      this.found = found;
+    }
+
+    @Override
+    protected Long compute() {
+      if (to - from <= LONG_THRESHOLD) {
+        return gcd(numbers, from, to, found);
+      }
+      final int middle = (from + to) >>> 1;
+      final LongGcdTask left = new LongGcdTask(numbers, from, middle, found);
+      left.fork();
+      final long right = new LongGcdTask(numbers, middle, to, found).compute();
+      final long leftResult = left.join();
+      return found.isSet() ? 1L : unsignedGcd(leftResult, right);
+    }
+  }
+
+  private static final class LongLcmTask extends RecursiveTask<BigInteger> {
+    private static final long serialVersionUID = 1L;
+
+    private final long[] numbers;
+    private final int from;
+    private final int to;
+    private final Flag found;
+
+    LongLcmTask(final long[] numbers, final int from, final int to, final Flag found) {
+      this.numbers = numbers;
+      this.from = from;
+      this.to = to;
+      this.found = found;
+    }
+
+    @Override
+    protected BigInteger compute() {
+      if (to - from <= LONG_THRESHOLD) {
+        return lcm(numbers, from, to, found);
+      }
+      final int middle = (from + to) >>> 1;
+      final LongLcmTask left = new LongLcmTask(numbers, from, middle, found);
+      left.fork();
+      final BigInteger right = new LongLcmTask(numbers, middle, to, found).compute();
+      final BigInteger leftResult = left.join();
+      return found.isSet() ? BigInteger.ZERO : lcm(leftResult, right);
+    }
+  }
+
+  private static final class BigIntegerTask<T> extends RecursiveTask<BigInteger> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<T> source;
+    private final int from;
+    private final int to;
+    private final Function<? super T, BigInteger> toBigInteger;
+    private final boolean gcd;
+    private final Flag found;
+
+    BigIntegerTask(final List<T> source,
+                   final int from,
+                   final int to,
+                   final Function<? super T, BigInteger> toBigInteger,
+                   final boolean gcd,
+                   final Flag found) {
+      this.source = source;
+      this.from = from;
+      this.to = to;
+      this.toBigInteger = toBigInteger;
+      this.gcd = gcd;
+      this.found = found;
+    }
+
+    private BigInteger absorbing() {
+      return gcd ? BigInteger.ONE : BigInteger.ZERO;
+    }
+
+    @Override
+    protected BigInteger compute() {
+      if (to - from <= BIG_INTEGER_THRESHOLD) {
+        if (found.isSet()) {
+          return absorbing();
+        }
+        final List<T> part = source.subList(from, to);
+        final BigInteger result = gcd ? gcd(part, toBigInteger) : lcm(part, toBigInteger);
+        if (result.equals(absorbing())) {
+          found.set();
+        }
+        return result;
+      }
+      final int middle = (from + to) >>> 1;
+      final BigIntegerTask<T> left = new BigIntegerTask<>(source, from, middle, toBigInteger, gcd, found);
+      left.fork();
+      final BigInteger right = new BigIntegerTask<>(source, middle, to, toBigInteger, gcd, found).compute();
+      final BigInteger leftResult = left.join();
+      if (found.isSet()) {
+        return absorbing();
+      }
+      return gcd ? leftResult.gcd(right) : lcm(leftResult, right);
+    }
+  }
+}
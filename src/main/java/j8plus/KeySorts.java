@@ -0,0 +1,243 @@
+package j8plus;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The sorts by precomputed keys (the Schwartzian transform) used by {@link Sorting}. The key of each element is
+ * computed once into an array next to the index of the element, the pairs are sorted, and then the list is reordered
+ * by the sorted indices. All the sorts are stable.
+ * <p>
+ * The int keys are packed with their indices into long values, <code>key &lt;&lt; 32 | index</code>, so that they are
+ * sorted by {@link Arrays#sort(long[])} as the indices make them distinct. The long keys are sorted with their indices
+ * by a merge sort on the two primitive arrays, and the double keys are converted into the long values of the same order
+ * as {@link Double#compare(double, double)} to be sorted in the same way.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class KeySorts {
+
+  static final int PARALLEL_THRESHOLD = 1 << 13;
+  private static final int INSERTION_SORT_THRESHOLD = 32;
+
+  private KeySorts() {
+  }
+
+  static <T, K> void sortByKey(final List<T> list,
+                               final Function<? super T, ? extends K> keyExtractor,
+                               final Comparator<? super K> keyComparator,
+                               final boolean parallel) {
+    final Object[] items = list.toArray();
+    final Keyed[] keyed = new Keyed[items.length];
+    final boolean inParallel = parallel && items.length > PARALLEL_THRESHOLD;
+    if (inParallel) {
+      Arrays.parallelSetAll(keyed, i -> new Keyed(keyExtractor.apply(itemAt(items, i)), items[i]));
+    } else {
+      for (int i = 0; i < items.length; i++) {
+        keyed[i] = new Keyed(keyExtractor.apply(itemAt(items, i)), items[i]);
+      }
+    }
+    @SuppressWarnings("unchecked")
+    final Comparator<Keyed> comparator = (left, right) -> keyComparator.compare((K) left.key, (K) right.key);
+    if (inParallel) {
+      Arrays.parallelSort(keyed, comparator);
+    } else {
+      Arrays.sort(keyed, comparator);
+    }
+    final ListIterator<T> iterator = list.listIterator();
+    for (final Keyed each : keyed) {
+      iterator.next();
+      iterator.set(itemOf(each.item));
+    }
+  }
+
+  static <T> void sortByIntKey(final List<T> list, final ToIntFunction<? super T> keyExtractor, final boolean parallel) {
+    final Object[] items = list.toArray();
+    final long[] packed = new long[items.length];
+    if (parallel && items.length > PARALLEL_THRESHOLD) {
+      Arrays.parallelSetAll(packed, i -> pack(keyExtractor.applyAsInt(itemAt(items, i)), i));
+      Arrays.parallelSort(packed);
+    } else {
+      for (int i = 0; i < items.length; i++) {
+        packed[i] = pack(keyExtractor.applyAsInt(itemAt(items, i)), i);
+      }
+      Arrays.sort(packed);
+    }
+    final ListIterator<T> iterator = list.listIterator();
+    for (final long each : packed) {
+      iterator.next();
+      iterator.set(itemOf(items[(int) each]));
+    }
+  }
+
+  private static long pack(final int key, final int index) {
+    return ((long) key << 32) | index;
+  }
+
+  static <T> void sortByLongKey(final List<T> list, final ToLongFunction<? super T> keyExtractor, final boolean parallel) {
+    final Object[] items = list.toArray();
+    final long[] keys = new long[items.length];
+    if (parallel && items.length > PARALLEL_THRESHOLD) {
+      Arrays.parallelSetAll(keys, i -> keyExtractor.applyAsLong(itemAt(items, i)));
+    } else {
+      for (int i = 0; i < items.length; i++) {
+        keys[i] = keyExtractor.applyAsLong(itemAt(items, i));
+      }
+    }
+    reorder(list, items, sortIndices(keys, parallel));
+  }
+
+  static <T> void sortByDoubleKey(final List<T> list, final ToDoubleFunction<? super T> keyExtractor, final boolean parallel) {
+    final Object[] items = list.toArray();
+    final long[] keys = new long[items.length];
+    if (parallel && items.length > PARALLEL_THRESHOLD) {
+      Arrays.parallelSetAll(keys, i -> toSortableLong(keyExtractor.applyAsDouble(itemAt(items, i))));
+    } else {
+      for (int i = 0; i < items.length; i++) {
+        keys[i] = toSortableLong(keyExtractor.applyAsDouble(itemAt(items, i)));
+      }
+    }
+    reorder(list, items, sortIndices(keys, parallel));
+  }
+
+  /* the long value whose signed order is the order of Double.compare(double, double) */
+  static long toSortableLong(final double value) {
+    final long bits = Double.doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T itemAt(final Object[] items, final int index) {
+    return (T) items[index];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T itemOf(final Object item) {
+    return (T) item;
+  }
+
+  private static <T> void reorder(final List<T> list, final Object[] items, final int[] indices) {
+    final ListIterator<T> iterator = list.listIterator();
+    for (final int index : indices) {
+      iterator.next();
+      iterator.set(itemOf(items[index]));
+    }
+  }
+
+  /**
+   * @return the indices of the given keys in the stable order of the keys. The keys are sorted too.
+   */
+  static int[] sortIndices(final long[] keys, final boolean parallel) {
+    final int length = keys.length;
+    final int[] indices = new int[length];
+    for (int i = 0; i < length; i++) {
+      indices[i] = i;
+    }
+    final long[] keyBuffer = new long[length];
+    final int[] indexBuffer = new int[length];
+    if (parallel && length > PARALLEL_THRESHOLD) {
+      ForkJoinPool.commonPool()
+                  .invoke(new MergeSortTask(keys, indices, keyBuffer, indexBuffer, 0, length));
+    } else {
+      mergeSort(keys, indices, keyBuffer, indexBuffer, 0, length);
+    }
+    return indices;
+  }
+
+  private static void mergeSort(final long[] keys, final int[] indices, final long[] keyBuffer, final int[] indexBuffer, final int from, final int to) {
+    if (to - from <= INSERTION_SORT_THRESHOLD) {
+      insertionSort(keys, indices, from, to);
+      return;
+    }
+    final int middle = (from + to) >>> 1;
+    mergeSort(keys, indices, keyBuffer, indexBuffer, from, middle);
+    mergeSort(keys, indices, keyBuffer, indexBuffer, middle, to);
+    merge(keys, indices, keyBuffer, indexBuffer, from, middle, to);
+  }
+
+  private static void insertionSort(final long[] keys, final int[] indices, final int from, final int to) {
+    for (int i = from + 1; i < to; i++) {
+      final long key = keys[i];
+      final int index = indices[i];
+      int j = i - 1;
+      while (j >= from && keys[j] > key) {
+        keys[j + 1] = keys[j];
+        indices[j + 1] = indices[j];
+        j--;
+      }
+      keys[j + 1] = key;
+      indices[j + 1] = index;
+    }
+  }
+
+  /* merges the sorted halves taking the left one first between equal keys so that the sort is stable */
+  private static void merge(final long[] keys, final int[] indices, final long[] keyBuffer, final int[] indexBuffer, final int from, final int middle, final int to) {
+    if (keys[middle - 1] <= keys[middle]) {
+      return;
+    }
+    System.arraycopy(keys, from, keyBuffer, from, to - from);
+    System.arraycopy(indices, from, indexBuffer, from, to - from);
+    int left = from;
+    int right = middle;
+    for (int i = from; i < to; i++) {
+      if (right >= to || (left < middle && keyBuffer[left] <= keyBuffer[right])) {
+        keys[i] = keyBuffer[left];
+        indices[i] = indexBuffer[left++];
+      } else {
+        keys[i] = keyBuffer[right];
+        indices[i] = indexBuffer[right++];
+      }
+    }
+  }
+
+  private static final class Keyed {
+    private final Object key;
+    private final Object item;
+
+    Keyed(final Object key, final Object item) {
+      this.key = key;
+      this.item = item;
+    }
+  }
+
+  private static final class MergeSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final long[] keys;
+    private final int[] indices;
+    private final long[] keyBuffer;
+    private final int[] indexBuffer;
+    private final int from;
+    private final int to;
+
+    MergeSortTask(final long[] keys, final int[] indices, final long[] keyBuffer, final int[] indexBuffer, final int from, final int to) {
+      this.keys = keys;
+      this.indices = indices;
+      this.keyBuffer = keyBuffer;
+      this.indexBuffer = indexBuffer;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        mergeSort(keys, indices, keyBuffer, indexBuffer, from, to);
+        return;
+      }
+      final int middle = (from + to) >>> 1;
+      invokeAll(new MergeSortTask(keys, indices, keyBuffer, indexBuffer, from, middle),
+                new MergeSortTask(keys, indices, keyBuffer, indexBuffer, middle, to));
+      merge(keys, indices, keyBuffer, indexBuffer, from, middle, to);
+    }
+  }
+}
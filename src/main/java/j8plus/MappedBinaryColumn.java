@@ -0,0 +1,121 @@
+package j8plus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.DoubleSummaryStatistics;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import j8plus.stats.ExactSummaryStatistics;
+
+/**
+ * Collects statistics of a file which is a sequence of fixed-width (8 bytes) long or double values. The file is mapped
+ * in segments, and each segment is read through a zero-copy {@link LongBuffer} or {@link DoubleBuffer} view so the
+ * segments can be read in parallel and the file can be larger than 2 GB.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class MappedBinaryColumn {
+
+  static final int VALUE_SIZE = Long.BYTES;
+  /* a multiple of VALUE_SIZE */
+  static final long MAX_SEGMENT_SIZE = 1L << 30;
+  static final long MIN_PARALLEL_SEGMENT_SIZE = 1L << 20;
+
+  private MappedBinaryColumn() {
+  }
+
+  static ExactSummaryStatistics longStatistics(final Path file, final ByteOrder byteOrder, final boolean parallel) throws IOException {
+    /* @formatter:off */
+    return statistics(file, byteOrder, parallel,
+                      ExactSummaryStatistics::new,
+                      (stats, buffer) -> {
+                        final LongBuffer longs = buffer.asLongBuffer();
+                        final int limit = longs.limit();
+                        for (int i = 0; i < limit; i++) {
+                          stats.accept(longs.get(i));
+                        }
+                      },
+                      (left, right) -> { left.combine(right); return left; });
+    /* @formatter:on */
+  }
+
+  static DoubleSummaryStatistics doubleStatistics(final Path file, final ByteOrder byteOrder, final boolean parallel) throws IOException {
+    /* @formatter:off */
+    return statistics(file, byteOrder, parallel,
+                      DoubleSummaryStatistics::new,
+                      (stats, buffer) -> {
+                        final DoubleBuffer doubles = buffer.asDoubleBuffer();
+                        final int limit = doubles.limit();
+                        for (int i = 0; i < limit; i++) {
+                          stats.accept(doubles.get(i));
+                        }
+                      },
+                      (left, right) -> { left.combine(right); return left; });
+    /* @formatter:on */
+  }
+
+  private static <S> S statistics(final Path file,
+                                  final ByteOrder byteOrder,
+                                  final boolean parallel,
+                                  final Supplier<S> newStatistics,
+                                  final BiConsumer<S, MappedByteBuffer> accumulator,
+                                  final BinaryOperator<S> combiner) throws IOException {
+    Objects.requireNonNull(file, "The file: Path cannot be null.");
+    Objects.requireNonNull(byteOrder, "The byteOrder: ByteOrder cannot be null.");
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size % VALUE_SIZE != 0) {
+        throw new IOException("The file size must be a multiple of " + VALUE_SIZE + ". [file: " + file + ", size: " + size + "]");
+      }
+      final long segmentSize = segmentSize(size, parallel);
+      final long segments = (size + segmentSize - 1) / segmentSize;
+      final LongStream indices = LongStream.range(0L, segments);
+      final LongFunction<S> statisticsOfSegment = index -> {
+        final long position = index * segmentSize;
+        final MappedByteBuffer buffer;
+        try {
+          buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentSize, size - position));
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        buffer.order(byteOrder);
+        final S stats = newStatistics.get();
+        accumulator.accept(stats, buffer);
+        return stats;
+      };
+      try {
+        /* @formatter:off */
+        return (parallel ? indices.parallel() : indices)
+            .mapToObj(statisticsOfSegment)
+            .reduce(combiner)
+            .orElseGet(newStatistics);
+        /* @formatter:on */
+      } catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  private static long segmentSize(final long size, final boolean parallel) {
+    if (!parallel) {
+      return MAX_SEGMENT_SIZE;
+    }
+    final long wanted = size / (Runtime.getRuntime()
+                                       .availableProcessors() * 4L);
+    final long segmentSize = Math.min(Math.max(wanted, MIN_PARALLEL_SEGMENT_SIZE), MAX_SEGMENT_SIZE);
+    return segmentSize - segmentSize % VALUE_SIZE;
+  }
+}
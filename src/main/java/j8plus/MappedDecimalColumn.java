@@ -0,0 +1,288 @@
+package j8plus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Totals a decimal column of a delimited text file (e.g. CSV) by parsing the ASCII bytes of the memory-mapped file
+ * directly into unscaled long accumulators (one per scale) so no {@link String} nor {@link BigDecimal} is created for
+ * each field. Only the fields that do not fit in the fast path (more than 18 digits, exponents and so on) are parsed by
+ * {@link BigDecimal#BigDecimal(String)}.
+ * <p>
+ * The file is split into chunks at line boundaries, and each chunk is mapped and parsed separately so the chunks can be
+ * parsed in parallel and the file can be larger than 2 GB.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class MappedDecimalColumn {
+
+  static final int MAX_CHUNK_SIZE = 1 << 30;
+  static final int MIN_PARALLEL_CHUNK_SIZE = 1 << 20;
+  /* unscaled values with up to 18 digits always fit in long */
+  static final int MAX_FAST_DIGITS = 18;
+  static final int MAX_FAST_SCALE = 18;
+
+  private static final int BOUNDARY_SEARCH_BUFFER_SIZE = 8 * 1024;
+
+  private final Path file;
+  private final byte delimiter;
+  private final int columnIndex;
+  private final int linesToSkip;
+
+  MappedDecimalColumn(final Path file, final char delimiter, final int columnIndex, final int linesToSkip) {
+    this.file = Objects.requireNonNull(file, "The file: Path cannot be null.");
+    if (delimiter > 0x7F || delimiter == '\n' || delimiter == '\r' || delimiter == '"' || Character.isDigit(delimiter) ||
+        delimiter == '.' || delimiter == '-' || delimiter == '+') {
+      throw new IllegalArgumentException("The delimiter must be an ASCII character which cannot be part of a decimal. [delimiter: " + delimiter + "]");
+    }
+    if (columnIndex < 0) {
+      throw new IllegalArgumentException("The columnIndex cannot be negative. [columnIndex: " + columnIndex + "]");
+    }
+    if (linesToSkip < 0) {
+      throw new IllegalArgumentException("The linesToSkip cannot be negative. [linesToSkip: " + linesToSkip + "]");
+    }
+    this.delimiter = (byte) delimiter;
+    this.columnIndex = columnIndex;
+    this.linesToSkip = linesToSkip;
+  }
+
+  BigDecimal total(final boolean parallel) throws IOException {
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final ByteBuffer searchBuffer = ByteBuffer.allocate(BOUNDARY_SEARCH_BUFFER_SIZE);
+      long dataStart = 0L;
+      for (int i = 0; i < linesToSkip; i++) {
+        dataStart = nextLineStart(channel, dataStart, searchBuffer);
+      }
+      final long[] boundaries = chunkBoundaries(channel, dataStart, parallel, searchBuffer);
+      final IntStream chunks = IntStream.range(0, boundaries.length - 1);
+      try {
+        /* @formatter:off */
+        return (parallel ? chunks.parallel() : chunks)
+            .mapToObj(i -> totalOfChunk(channel, boundaries[i], boundaries[i + 1]))
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        /* @formatter:on */
+      } catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  /* The start positions of the chunks, which are always the beginnings of lines, followed by the file size. */
+  private static long[] chunkBoundaries(final FileChannel channel,
+                                        final long dataStart,
+                                        final boolean parallel,
+                                        final ByteBuffer buffer) throws IOException {
+    final long fileSize = channel.size();
+    final long size = fileSize - Math.min(dataStart, fileSize);
+    final long chunks;
+    if (parallel) {
+      final long wanted = Runtime.getRuntime()
+                                 .availableProcessors() * 4L;
+      chunks = Math.max(Math.min(wanted, size / MIN_PARALLEL_CHUNK_SIZE), (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+    } else {
+      chunks = (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+    }
+    final List<Long> boundaries = new ArrayList<>();
+    boundaries.add(fileSize - size);
+    for (long i = 1; i < chunks; i++) {
+      final long previous = boundaries.get(boundaries.size() - 1);
+      final long lineStart = nextLineStart(channel, Math.max(fileSize - size + size / chunks * i, previous), buffer);
+      if (lineStart >= fileSize) {
+        break;
+      }
+      if (lineStart > previous) {
+        boundaries.add(lineStart);
+      }
+    }
+    boundaries.add(fileSize);
+
+    final long[] result = new long[boundaries.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = boundaries.get(i);
+      if (i > 0 && result[i] - result[i - 1] > Integer.MAX_VALUE) {
+        throw new IOException("A chunk of the file is too big to map as a line is longer than " + Integer.MAX_VALUE + " bytes.");
+      }
+    }
+    return result;
+  }
+
+  /* the position right after the first '\n' found at or after the given position */
+  private static long nextLineStart(final FileChannel channel, final long from, final ByteBuffer buffer) throws IOException {
+    long position = from;
+    while (true) {
+      buffer.clear();
+      final int read = channel.read(buffer, position);
+      if (read <= 0) {
+        return channel.size();
+      }
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+  }
+
+  private BigDecimal totalOfChunk(final FileChannel channel, final long start, final long end) {
+    final MappedByteBuffer buffer;
+    try {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    final DecimalAccumulator accumulator = new DecimalAccumulator();
+    final int limit = buffer.limit();
+    int position = 0;
+    while (position < limit) {
+      int fieldStart = position;
+      int column = 0;
+      int i = position;
+      byte b = 0;
+      while (i < limit && (b = buffer.get(i)) != '\n') {
+        if (b == delimiter) {
+          if (column == columnIndex) {
+            break;
+          }
+          column++;
+          fieldStart = i + 1;
+        }
+        i++;
+      }
+      if (column == columnIndex) {
+        accumulator.add(buffer, fieldStart, i, start);
+      }
+      position = (i < limit && b == '\n' ? i : endOfLine(buffer, i, limit)) + 1;
+    }
+    return accumulator.total();
+  }
+
+  private static int endOfLine(final ByteBuffer buffer, final int from, final int limit) {
+    int i = from;
+    while (i < limit && buffer.get(i) != '\n') {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Sums the parsed decimals in unscaled longs per scale. When a sum of a scale overflows, it is moved to the
+   * {@link BigDecimal} total.
+   */
+  static final class DecimalAccumulator {
+    private final long[] unscaledSums = new long[MAX_FAST_SCALE + 1];
+    private int usedScales;
+    private BigDecimal overflowed = BigDecimal.ZERO;
+
+    void add(final ByteBuffer buffer, final int from, final int to, final long offset) {
+      int start = from;
+      int end = to;
+      while (start < end && isBlank(buffer.get(start))) {
+        start++;
+      }
+      while (end > start && isBlank(buffer.get(end - 1))) {
+        end--;
+      }
+      if (end - start >= 2 && buffer.get(start) == '"' && buffer.get(end - 1) == '"') {
+        start++;
+        end--;
+      }
+      if (start == end) {
+        /* an empty field is not a number so it is ignored */
+        return;
+      }
+
+      int i = start;
+      boolean negative = false;
+      final byte first = buffer.get(i);
+      if (first == '-' || first == '+') {
+        negative = first == '-';
+        i++;
+      }
+      long unscaled = 0L;
+      int digits = 0;
+      int scale = -1;
+      boolean hasDigit = false;
+      for (; i < end; i++) {
+        final byte b = buffer.get(i);
+        if (b >= '0' && b <= '9') {
+          hasDigit = true;
+          if (digits > 0 || b != '0') {
+            digits++;
+          }
+          if (digits > MAX_FAST_DIGITS) {
+            break;
+          }
+          unscaled = unscaled * 10 + (b - '0');
+          if (scale >= 0 && ++scale > MAX_FAST_SCALE) {
+            break;
+          }
+        } else if (b == '.' && scale < 0) {
+          scale = 0;
+        } else {
+          break;
+        }
+      }
+      if (i < end || !hasDigit) {
+        addSlowly(buffer, start, end, offset);
+        return;
+      }
+      addUnscaled(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private static boolean isBlank(final byte b) {
+      return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private void addUnscaled(final long unscaled, final int scale) {
+      final long sum = unscaledSums[scale];
+      final long result = sum + unscaled;
+      if (((sum ^ result) & (unscaled ^ result)) < 0) {
+        overflowed = overflowed.add(BigDecimal.valueOf(sum, scale));
+        unscaledSums[scale] = unscaled;
+      } else {
+        unscaledSums[scale] = result;
+      }
+      usedScales |= 1 << scale;
+    }
+
+    private void addSlowly(final ByteBuffer buffer, final int start, final int end, final long offset) {
+      final byte[] bytes = new byte[end - start];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = buffer.get(start + i);
+      }
+      final String text = new String(bytes, StandardCharsets.US_ASCII);
+      try {
+        overflowed = overflowed.add(new BigDecimal(text));
+      } catch (final NumberFormatException e) {
+        final NumberFormatException exception = new NumberFormatException(
+          "Invalid decimal at byte offset " + (offset + start) + ": " + text
+        );
+        exception.initCause(e);
+        throw exception;
+      }
+    }
+
+    BigDecimal total() {
+      BigDecimal total = overflowed;
+      for (int scale = 0; scale <= MAX_FAST_SCALE; scale++) {
+        if ((usedScales & (1 << scale)) != 0) {
+          total = total.add(BigDecimal.valueOf(unscaledSums[scale], scale));
+        }
+      }
+      return total;
+    }
+  }
+}
@@ -0,0 +1,295 @@
+package j8plus;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Membership predicates used by {@link Funs#isIn(Collection)} which pick the structure to look up by the number of
+ * values.
+ * <ul>
+ * <li>Up to {@link #LINEAR_SCAN_MAX_SIZE} values are scanned linearly, which is faster than hashing for a few values.</li>
+ * <li>The int and long values up to {@link #SORTED_ARRAY_MAX_SIZE} are searched in a sorted array, which takes a
+ * few comparisons in a compact array.</li>
+ * <li>More values are put in an open-addressing hash table of primitives, or of objects with their hash codes so that
+ * <code>equals</code> is called only for the same hash code.</li>
+ * </ul>
+ * A Bloom filter can be put in front of the table so that most of the values not in a large set are rejected by a few
+ * bits in a small array instead of probing a table which does not fit in the cache.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class MembershipPredicates {
+
+  static final int LINEAR_SCAN_MAX_SIZE = 8;
+  static final int SORTED_ARRAY_MAX_SIZE = 256;
+  static final int BLOOM_FILTER_MIN_SIZE = 1 << 16;
+
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private MembershipPredicates() {
+  }
+
+  static <T> Predicate<T> of(final Collection<? extends T> values, final boolean bloomFilter) {
+    Objects.requireNonNull(values, "The values: Collection<T> cannot be null.");
+    final Set<T> distinct = new LinkedHashSet<>(values);
+    final boolean containsNull = distinct.remove(null);
+    final Object[] members = distinct.toArray();
+    if (members.length <= LINEAR_SCAN_MAX_SIZE) {
+      return new LinearObjects<>(members, containsNull);
+    }
+    final ObjectTable<T> table = new ObjectTable<>(members, containsNull);
+    return bloomFilter ? new BloomFiltered<>(members, table) : table;
+  }
+
+  static IntPredicate ofInts(final int[] values, final boolean bloomFilter) {
+    Objects.requireNonNull(values, "The values: int[] cannot be null.");
+    final int[] sorted = Arrays.stream(values)
+                               .sorted()
+                               .distinct()
+                               .toArray();
+    if (sorted.length <= LINEAR_SCAN_MAX_SIZE) {
+      return value -> {
+        for (final int member : sorted) {
+          if (member == value) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+    if (sorted.length <= SORTED_ARRAY_MAX_SIZE) {
+      return value -> Arrays.binarySearch(sorted, value) >= 0;
+    }
+    final long[] longs = Arrays.stream(sorted)
+                               .asLongStream()
+                               .toArray();
+    final LongTable table = new LongTable(longs);
+    if (bloomFilter) {
+      final BloomFilter filter = BloomFilter.ofLongs(longs);
+      return value -> filter.mightContain(mix(value)) && table.test(value);
+    }
+    return table::test;
+  }
+
+  static LongPredicate ofLongs(final long[] values, final boolean bloomFilter) {
+    Objects.requireNonNull(values, "The values: long[] cannot be null.");
+    final long[] sorted = Arrays.stream(values)
+                                .sorted()
+                                .distinct()
+                                .toArray();
+    if (sorted.length <= LINEAR_SCAN_MAX_SIZE) {
+      return value -> {
+        for (final long member : sorted) {
+          if (member == value) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+    if (sorted.length <= SORTED_ARRAY_MAX_SIZE) {
+      return value -> Arrays.binarySearch(sorted, value) >= 0;
+    }
+    final LongTable table = new LongTable(sorted);
+    if (bloomFilter) {
+      final BloomFilter filter = BloomFilter.ofLongs(sorted);
+      return value -> filter.mightContain(mix(value)) && table.test(value);
+    }
+    return table;
+  }
+
+  /* a 64-bit mix of the value so that the consecutive values spread over the whole table */
+  static long mix(final long value) {
+    long mixed = value * GOLDEN_GAMMA;
+    mixed ^= mixed >>> 32;
+    mixed *= GOLDEN_GAMMA;
+    return mixed ^ (mixed >>> 29);
+  }
+
+  /* the capacity of a table with a load factor of 0.5 at most */
+  private static int capacityOf(final int size) {
+    if (size > 1 << 29) {
+      throw new IllegalArgumentException("Too many values for a membership predicate. [size: " + size + "]");
+    }
+    return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+  }
+
+  private static final class LinearObjects<T> implements Predicate<T> {
+    private final Object[] members;
+    private final boolean containsNull;
+
+    LinearObjects(final Object[] members, final boolean containsNull) {
+      this.members = members;
+      this.containsNull = containsNull;
+    }
+
+    @Override
+    public boolean test(final T value) {
+      if (value == null) {
+        return containsNull;
+      }
+      for (final Object member : members) {
+        if (value.equals(member)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /* an open-addressing table of objects with linear probing where null is an empty slot */
+  private static final class ObjectTable<T> implements Predicate<T> {
+    private final Object[] members;
+    private final int[] hashes;
+    private final int mask;
+    private final boolean containsNull;
+
+    ObjectTable(final Object[] values, final boolean containsNull) {
+      final int capacity = capacityOf(values.length);
+      this.members = new Object[capacity];
+      this.hashes = new int[capacity];
+      this.mask = capacity - 1;
+      this.containsNull = containsNull;
+      for (final Object value : values) {
+        final int hash = value.hashCode();
+        int slot = (int) mix(hash) & mask;
+        while (members[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        members[slot] = value;
+        hashes[slot] = hash;
+      }
+    }
+
+    @Override
+    public boolean test(final T value) {
+      if (value == null) {
+        return containsNull;
+      }
+      return contains(value, value.hashCode());
+    }
+
+    boolean contains(final Object value, final int hash) {
+      for (int slot = (int) mix(hash) & mask; members[slot] != null; slot = (slot + 1) & mask) {
+        if (hashes[slot] == hash && value.equals(members[slot])) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class BloomFiltered<T> implements Predicate<T> {
+    private final BloomFilter filter;
+    private final ObjectTable<T> table;
+
+    BloomFiltered(final Object[] members, final ObjectTable<T> table) {
+      final long[] hashes = new long[members.length];
+      for (int i = 0; i < members.length; i++) {
+        hashes[i] = members[i].hashCode();
+      }
+      this.filter = BloomFilter.ofLongs(hashes);
+      this.table = table;
+    }
+
+    @Override
+    public boolean test(final T value) {
+      if (value == null) {
+        return table.containsNull;
+      }
+      final int hash = value.hashCode();
+      return filter.mightContain(mix(hash)) && table.contains(value, hash);
+    }
+  }
+
+  /* an open-addressing table of long values with linear probing where 0 is an empty slot kept aside */
+  private static final class LongTable implements LongPredicate {
+    private final long[] members;
+    private final int mask;
+    private final boolean containsZero;
+
+    LongTable(final long[] values) {
+      final int capacity = capacityOf(values.length);
+      this.members = new long[capacity];
+      this.mask = capacity - 1;
+      boolean zero = false;
+      for (final long value : values) {
+        if (value == 0L) {
+          zero = true;
+          continue;
+        }
+        int slot = (int) mix(value) & mask;
+        while (members[slot] != 0L) {
+          slot = (slot + 1) & mask;
+        }
+        members[slot] = value;
+      }
+      this.containsZero = zero;
+    }
+
+    @Override
+    public boolean test(final long value) {
+      if (value == 0L) {
+        return containsZero;
+      }
+      for (int slot = (int) mix(value) & mask; members[slot] != 0L; slot = (slot + 1) & mask) {
+        if (members[slot] == value) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * A Bloom filter of 16 bits per value with 4 bit positions derived from one 64-bit mixed hash by double hashing,
+   * which has a false positive rate of about 0.2%.
+   */
+  static final class BloomFilter {
+    private static final int BITS_PER_VALUE = 16;
+    private static final int HASHES = 4;
+
+    private final long[] bits;
+    private final long mask;
+
+    private BloomFilter(final int size) {
+      final long bitCount = Long.highestOneBit(Math.max((long) size * BITS_PER_VALUE, Long.SIZE) * 2L - 1L);
+      this.bits = new long[(int) Math.min(bitCount >>> 6, 1 << 30)];
+      this.mask = (long) bits.length * Long.SIZE - 1L;
+    }
+
+    static BloomFilter ofLongs(final long[] values) {
+      final BloomFilter filter = new BloomFilter(values.length);
+      for (final long value : values) {
+        filter.add(mix(value));
+      }
+      return filter;
+    }
+
+    private void add(final long hash) {
+      final long second = (hash >>> 32) | 1L;
+      for (int i = 0; i < HASHES; i++) {
+        final long bit = (hash + i * second) & mask;
+        bits[(int) (bit >>> 6)] |= 1L << bit;
+      }
+    }
+
+    boolean mightContain(final long hash) {
+      final long second = (hash >>> 32) | 1L;
+      for (int i = 0; i < HASHES; i++) {
+        final long bit = (hash + i * second) & mask;
+        if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0L) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -15,12 +15,42 @@
  */
 package j8plus;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import j8plus.stats.DecimalSlidingWindow;
+import j8plus.stats.DecimalSummaryStatistics;
+import j8plus.stats.DecimalTumblingWindow;
+import j8plus.stats.ExactSummaryStatistics;
+import j8plus.stats.LongSlidingWindow;
+import j8plus.stats.LongTumblingWindow;
+import j8plus.stats.QuantileSketch;
+import j8plus.types.Range;
 
 /**
  * @author Lee, SeongHyun (Kevin)
@@ -53,6 +83,30 @@ public final class Numbers {
   public static final Predicate<BigDecimal> NEGATIVE_BIG_DECIMAL = Numbers::isNegative;
   public static final Predicate<BigDecimal> ZERO_BIG_DECIMAL     = Numbers::isZero;
   public static final Predicate<BigDecimal> POSITIVE_BIG_DECIMAL = Numbers::isPositive;
+
+  public static final Predicate<Integer> PRIME_INTEGER = Numbers::isPrime;
+  public static final Predicate<Long>    PRIME_LONG    = Numbers::isPrime;
+
+  public static final Predicate<BigInteger> PROBABLE_PRIME_BIG_INTEGER = Numbers::isProbablePrime;
+  /* @formatter:on */
+
+  /**
+   * The certainty used by {@link #isProbablePrime(BigInteger)}. The probability of a composite number being reported as
+   * a prime is less than <code>2<sup>-100</sup></code>.
+   */
+  public static final int DEFAULT_PRIME_CERTAINTY = 100;
+
+  /* @formatter:off */
+  private static final int[] SMALL_PRIMES = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61 };
+  /* Any number less than 67^2 which is not divisible by any of SMALL_PRIMES is a prime. */
+  private static final int SMALL_PRIMES_BOUND = 67 * 67;
+
+  /* Deterministic Miller-Rabin bases for every n < 4,759,123,141 (so for every int). */
+  private static final int[] MILLER_RABIN_INT_BASES = { 2, 7, 61 };
+  /* Deterministic Miller-Rabin bases for every n < 2^64 (found by Jim Sinclair). */
+  private static final long[] MILLER_RABIN_LONG_BASES = { 2L, 325L, 9375L, 28178L, 450775L, 9780504L, 1795265022L };
+
+  private static final long FLOOR_SQRT_MAX_LONG = 3037000499L;
   /* @formatter:on */
 
   private Numbers() {}
@@ -130,6 +184,181 @@ public final class Numbers {
     return number.compareTo(BigDecimal.ZERO) > 0;
   }
 
+  /**
+   * Checks if the given number is a prime number. It is deterministic (no probabilistic answer) as it uses trial
+   * division by small primes then the Miller-Rabin test with the bases which are proven to be enough for any int.
+   *
+   * @param number the given number
+   * @return true if the given number is a prime number. Otherwise, false.
+   */
+  public static boolean isPrime(final int number) {
+    if (number < 2) {
+      return false;
+    }
+    final Boolean smallPrime = checkSmallPrime(number);
+    if (smallPrime != null) {
+      return smallPrime;
+    }
+    final int d = Integer.numberOfTrailingZeros(number - 1);
+    final long oddPart = (number - 1) >>> d;
+    for (final int base : MILLER_RABIN_INT_BASES) {
+      if (!passesMillerRabin(base, oddPart, d, number)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the given number is a prime number. It is deterministic (no probabilistic answer) as it uses trial
+   * division by small primes then the Miller-Rabin test with the bases which are proven to be enough for any long.
+   *
+   * @param number the given number
+   * @return true if the given number is a prime number. Otherwise, false.
+   */
+  public static boolean isPrime(final long number) {
+    if (number <= Integer.MAX_VALUE) {
+      return number >= 2 && isPrime((int) number);
+    }
+    final Boolean smallPrime = checkSmallPrime(number);
+    if (smallPrime != null) {
+      return smallPrime;
+    }
+    final int d = Long.numberOfTrailingZeros(number - 1);
+    final long oddPart = (number - 1) >>> d;
+    for (final long base : MILLER_RABIN_LONG_BASES) {
+      if (!passesMillerRabin(base % number, oddPart, d, number)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the given number is probably a prime number with {@link #DEFAULT_PRIME_CERTAINTY}. If the number fits in
+   * a long, the answer is exact as {@link #isPrime(long)} is used instead.
+   *
+   * @param number the given number
+   * @return true if the given number is probably a prime number. false if it is definitely not a prime number.
+   */
+  public static boolean isProbablePrime(final BigInteger number) {
+    return isProbablePrime(number, DEFAULT_PRIME_CERTAINTY);
+  }
+
+  /**
+   * Checks if the given number is probably a prime number with the given certainty (See
+   * {@link BigInteger#isProbablePrime(int)}). If the number fits in a long, the answer is exact as
+   * {@link #isPrime(long)} is used instead.
+   *
+   * @param number    the given number
+   * @param certainty the probability of a composite number being reported as a prime is less than
+   *                  <code>2<sup>-certainty</sup></code>.
+   * @return true if the given number is probably a prime number. false if it is definitely not a prime number.
+   */
+  public static boolean isProbablePrime(final BigInteger number, final int certainty) {
+    Objects.requireNonNull(number, "The number: BigInteger cannot be null.");
+    if (number.bitLength() < Long.SIZE) {
+      return isPrime(number.longValue());
+    }
+    return number.isProbablePrime(certainty);
+  }
+
+  /**
+   * Returns all the prime numbers in the given range in ascending order using a segmented sieve of Eratosthenes.
+   *
+   * @param fromInclusive the lower bound (inclusive)
+   * @param toExclusive   the upper bound (exclusive). It cannot be greater than
+   *                      <code>(2<sup>31</sup> - 1)<sup>2</sup></code>.
+   * @return the prime numbers p where fromInclusive &lt;= p &lt; toExclusive.
+   */
+  public static long[] primes(final long fromInclusive, final long toExclusive) {
+    return PrimeSieve.primes(fromInclusive, toExclusive, false);
+  }
+
+  /**
+   * Returns all the prime numbers in the given range in ascending order using a segmented sieve of Eratosthenes. The
+   * segments are sieved in parallel.
+   *
+   * @param fromInclusive the lower bound (inclusive)
+   * @param toExclusive   the upper bound (exclusive). It cannot be greater than
+   *                      <code>(2<sup>31</sup> - 1)<sup>2</sup></code>.
+   * @return the prime numbers p where fromInclusive &lt;= p &lt; toExclusive.
+   */
+  public static long[] parallelPrimes(final long fromInclusive, final long toExclusive) {
+    return PrimeSieve.primes(fromInclusive, toExclusive, true);
+  }
+
+  private static Boolean checkSmallPrime(final long number) {
+    for (final int prime : SMALL_PRIMES) {
+      if (number == prime) {
+        return Boolean.TRUE;
+      }
+      if (number % prime == 0) {
+        return Boolean.FALSE;
+      }
+    }
+    return number < SMALL_PRIMES_BOUND ? Boolean.TRUE : null;
+  }
+
+  private static boolean passesMillerRabin(final long base, final long oddPart, final int twos, final long number) {
+    long x = powMod(base, oddPart, number);
+    if (x == 1 || x == number - 1) {
+      return true;
+    }
+    for (int i = 1; i < twos; i++) {
+      x = mulMod(x, x, number);
+      if (x == number - 1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long powMod(final long base, final long exponent, final long modulus) {
+    long result = 1;
+    long b = base;
+    for (long e = exponent; e != 0; e >>>= 1) {
+      if ((e & 1) != 0) {
+        result = mulMod(result, b, modulus);
+      }
+      b = mulMod(b, b, modulus);
+    }
+    return result;
+  }
+
+  /* a * b mod m without overflow where 0 <= a, b < m */
+  static long mulMod(final long a, final long b, final long m) {
+    if (m <= FLOOR_SQRT_MAX_LONG) {
+      return (a * b) % m;
+    }
+    final long aHi = a >>> 32;
+    final long bHi = b >>> 32;
+    final long aLo = a & 0xFFFFFFFFL;
+    final long bLo = b & 0xFFFFFFFFL;
+
+    long result = shiftLeft32Mod(aHi * bHi, m);
+    result += aHi * bLo;
+    if (result < 0) {
+      result = Long.remainderUnsigned(result, m);
+    }
+    result += aLo * bHi;
+    result = shiftLeft32Mod(result, m);
+    final long low = Long.remainderUnsigned(aLo * bLo, m);
+    return result >= m - low ? result - (m - low) : result + low;
+  }
+
+  /* (a * 2^32) mod m where a is treated as unsigned */
+  private static long shiftLeft32Mod(final long a, final long m) {
+    long result = a;
+    int remainingShift = 32;
+    do {
+      final int shift = Math.min(remainingShift, Long.numberOfLeadingZeros(result));
+      result = Long.remainderUnsigned(result << shift, m);
+      remainingShift -= shift;
+    } while (remainingShift > 0);
+    return result;
+  }
+
   public static class BigIntegerNumber {
 
     private final BigInteger number;
@@ -303,40 +532,59 @@ public final class Numbers {
 
     INSTANCE;
 
+    /**
+     * Returns the {@link Range} of the numbers less than the given one so that it can be indexed by
+     * {@link RangeIndex}. The same goes for {@link #le(BigInteger)}, {@link #eq(BigInteger)}, {@link #gt(BigInteger)}
+     * and {@link #ge(BigInteger)}.
+     *
+     * @throws NullPointerException if the number is null. It is thrown here, not when the predicate is tested.
+     */
     public static Predicate<BigInteger> lt(final BigInteger number) {
-      return anotherNumber -> anotherNumber.compareTo(number) < 0;
+      return Range.lessThan(number);
     }
 
     public static Predicate<BigInteger> lt(final String number) {
       return lt(new BigInteger(number));
     }
 
+    /**
+     * @throws NullPointerException if the number is null, as {@link #lt(BigInteger)} does
+     */
     public static Predicate<BigInteger> le(final BigInteger number) {
-      return anotherNumber -> anotherNumber.compareTo(number) <= 0;
+      return Range.atMost(number);
     }
 
     public static Predicate<BigInteger> le(final String number) {
       return le(new BigInteger(number));
     }
 
+    /**
+     * @throws NullPointerException if the number is null, as {@link #lt(BigInteger)} does
+     */
     public static Predicate<BigInteger> eq(final BigInteger number) {
-      return anotherNumber -> anotherNumber.compareTo(number) == 0;
+      return Range.singleton(number);
     }
 
     public static Predicate<BigInteger> eq(final String number) {
       return eq(new BigInteger(number));
     }
 
+    /**
+     * @throws NullPointerException if the number is null, as {@link #lt(BigInteger)} does
+     */
     public static Predicate<BigInteger> gt(final BigInteger number) {
-      return anotherNumber -> anotherNumber.compareTo(number) > 0;
+      return Range.greaterThan(number);
     }
 
     public static Predicate<BigInteger> gt(final String number) {
       return gt(new BigInteger(number));
     }
 
+    /**
+     * @throws NullPointerException if the number is null, as {@link #lt(BigInteger)} does
+     */
     public static Predicate<BigInteger> ge(final BigInteger number) {
-      return anotherNumber -> anotherNumber.compareTo(number) >= 0;
+      return Range.atLeast(number);
     }
 
     public static Predicate<BigInteger> ge(final String number) {
@@ -372,44 +620,229 @@ public final class Numbers {
                  .reduce(BigInteger.ZERO, BigInteger::add);
       /* @formatter:on */
     }
+
+    /**
+     * Returns the total of all the BigIntegers from the given {@link Iterator}. It consumes the elements one by one so it
+     * does not need to have all the elements in memory.
+     *
+     * @param bigIntegers the given {@link Iterator} of BigInteger
+     * @return the total of all the BigIntegers from the given {@link Iterator}
+     */
+    public static BigInteger total(final Iterator<BigInteger> bigIntegers) {
+      BigInteger total = BigInteger.ZERO;
+      while (bigIntegers.hasNext()) {
+        total = total.add(bigIntegers.next());
+      }
+      return total;
+    }
+
+    public static <T> BigInteger total(final Iterator<T> iterator, final Function<T, BigInteger> toBigIntegerMapper) {
+      Objects.requireNonNull(toBigIntegerMapper, "The toBigIntegerMapper: Function<T, BigInteger> cannot be null.");
+      BigInteger total = BigInteger.ZERO;
+      while (iterator.hasNext()) {
+        total = total.add(toBigIntegerMapper.apply(iterator.next()));
+      }
+      return total;
+    }
+
+    public static BigInteger total(final Iterable<BigInteger> bigIntegers) {
+      return total(bigIntegers.iterator());
+    }
+
+    public static <T> BigInteger total(final Iterable<T> iterable, final Function<T, BigInteger> toBigIntegerMapper) {
+      return total(iterable.iterator(), toBigIntegerMapper);
+    }
+
+    public static BigInteger total(final Spliterator<BigInteger> bigIntegers) {
+      return total(StreamSupport.stream(bigIntegers, false));
+    }
+
+    public static <T> BigInteger total(final Spliterator<T> spliterator, final Function<T, BigInteger> toBigIntegerMapper) {
+      return total(StreamSupport.stream(spliterator, false), toBigIntegerMapper);
+    }
+
+    public static BigInteger total(final Stream<BigInteger> bigIntegers) {
+      /* @formatter:off */
+      return bigIntegers.reduce(BigInteger.ZERO, BigInteger::add);
+      /* @formatter:on */
+    }
+
+    public static <T> BigInteger total(final Stream<T> stream, final Function<T, BigInteger> toBigIntegerMapper) {
+      /* @formatter:off */
+      return stream.map(toBigIntegerMapper)
+                   .reduce(BigInteger.ZERO, BigInteger::add);
+      /* @formatter:on */
+    }
+
+    /**
+     * Returns the total of all the BigIntegers from the given {@link Iterable} in parallel. How well it runs in parallel
+     * depends on the {@link Spliterator} of the given {@link Iterable}.
+     *
+     * @param bigIntegers the given {@link Iterable} of BigInteger
+     * @return the total of all the BigIntegers from the given {@link Iterable}
+     */
+    public static BigInteger parallelTotal(final Iterable<BigInteger> bigIntegers) {
+      return parallelTotal(bigIntegers.spliterator());
+    }
+
+    public static <T> BigInteger parallelTotal(final Iterable<T> iterable, final Function<T, BigInteger> toBigIntegerMapper) {
+      return parallelTotal(iterable.spliterator(), toBigIntegerMapper);
+    }
+
+    public static BigInteger parallelTotal(final Spliterator<BigInteger> bigIntegers) {
+      return total(StreamSupport.stream(bigIntegers, true));
+    }
+
+    public static <T> BigInteger parallelTotal(final Spliterator<T> spliterator, final Function<T, BigInteger> toBigIntegerMapper) {
+      return total(StreamSupport.stream(spliterator, true), toBigIntegerMapper);
+    }
+
+    public static BigInteger parallelTotal(final Stream<BigInteger> bigIntegers) {
+      return total(bigIntegers.parallel());
+    }
+
+    public static <T> BigInteger parallelTotal(final Stream<T> stream, final Function<T, BigInteger> toBigIntegerMapper) {
+      return total(stream.parallel(), toBigIntegerMapper);
+    }
+
+    /**
+     * Returns the greatest common divisor of all the given numbers. It stops as soon as the GCD becomes 1.
+     *
+     * @param bigIntegers the given numbers
+     * @return the GCD of all the given numbers which is always non-negative. It is 0 if the collection is empty or has
+     *         only zeros.
+     */
+    public static BigInteger gcd(final Collection<BigInteger> bigIntegers) {
+      return GcdReductions.gcd(bigIntegers, Function.identity());
+    }
+
+    public static <T> BigInteger gcd(final Collection<T> list, final Function<T, BigInteger> toBigIntegerMapper) {
+      Objects.requireNonNull(toBigIntegerMapper, "The toBigIntegerMapper: Function<T, BigInteger> cannot be null.");
+      return GcdReductions.gcd(list, toBigIntegerMapper);
+    }
+
+    public static BigInteger parallelGcd(final Collection<BigInteger> bigIntegers) {
+      return GcdReductions.parallelGcd(bigIntegers, Function.identity());
+    }
+
+    public static <T> BigInteger parallelGcd(final Collection<T> list, final Function<T, BigInteger> toBigIntegerMapper) {
+      Objects.requireNonNull(toBigIntegerMapper, "The toBigIntegerMapper: Function<T, BigInteger> cannot be null.");
+      return GcdReductions.parallelGcd(list, toBigIntegerMapper);
+    }
+
+    /**
+     * Returns the greatest common divisor of all the given numbers using the binary GCD algorithm. It stops as soon as
+     * the GCD becomes 1.
+     *
+     * @param numbers the given numbers
+     * @return the GCD of all the given numbers which is always non-negative. It is 0 if there is no number or there
+     *         are only zeros.
+     * @throws ArithmeticException if the GCD is 2<sup>63</sup> which happens only when the numbers are all 0 or
+     *                             {@link Long#MIN_VALUE} and at least one of them is {@link Long#MIN_VALUE}.
+     */
+    public static long gcd(final long... numbers) {
+      return GcdReductions.toGcd(GcdReductions.gcd(numbers, 0, numbers.length, new GcdReductions.Flag()));
+    }
+
+    public static long parallelGcd(final long... numbers) {
+      return GcdReductions.parallelGcd(numbers);
+    }
+
+    /**
+     * Returns the least common multiple of all the given numbers. It stops as soon as the LCM becomes 0.
+     *
+     * @param bigIntegers the given numbers
+     * @return the LCM of all the given numbers which is always non-negative. It is 1 if the collection is empty.
+     */
+    public static BigInteger lcm(final Collection<BigInteger> bigIntegers) {
+      return GcdReductions.lcm(bigIntegers, Function.identity());
+    }
+
+    public static <T> BigInteger lcm(final Collection<T> list, final Function<T, BigInteger> toBigIntegerMapper) {
+      Objects.requireNonNull(toBigIntegerMapper, "The toBigIntegerMapper: Function<T, BigInteger> cannot be null.");
+      return GcdReductions.lcm(list, toBigIntegerMapper);
+    }
+
+    public static BigInteger parallelLcm(final Collection<BigInteger> bigIntegers) {
+      return GcdReductions.parallelLcm(bigIntegers, Function.identity());
+    }
+
+    public static <T> BigInteger parallelLcm(final Collection<T> list, final Function<T, BigInteger> toBigIntegerMapper) {
+      Objects.requireNonNull(toBigIntegerMapper, "The toBigIntegerMapper: Function<T, BigInteger> cannot be null.");
+      return GcdReductions.parallelLcm(list, toBigIntegerMapper);
+    }
+
+    /**
+     * Returns the least common multiple of all the given numbers. It is calculated with long as long as it fits in
+     * long then with {@link BigInteger}. It stops as soon as the LCM becomes 0.
+     *
+     * @param numbers the given numbers
+     * @return the LCM of all the given numbers which is always non-negative. It is 1 if there is no number.
+     */
+    public static BigInteger lcm(final long... numbers) {
+      return GcdReductions.lcm(numbers, 0, numbers.length, new GcdReductions.Flag());
+    }
+
+    public static BigInteger parallelLcm(final long... numbers) {
+      return GcdReductions.parallelLcm(numbers);
+    }
   }
 
   public static final BigIntegers bigInt = BigIntegers.INSTANCE;
 
+  /**
+   * Returns the {@link Range} of the numbers less than the given one so that it can be indexed by
+   * {@link RangeIndex}. The same goes for {@link #le(BigDecimal)}, {@link #eq(BigDecimal)}, {@link #gt(BigDecimal)}
+   * and {@link #ge(BigDecimal)}.
+   *
+   * @throws NullPointerException if the number is null. It is thrown here, not when the predicate is tested.
+   */
   public static Predicate<BigDecimal> lt(final BigDecimal number) {
-    return anotherNumber -> anotherNumber.compareTo(number) < 0;
+    return Range.lessThan(number);
   }
 
   public static Predicate<BigDecimal> lt(final String number) {
     return lt(new BigDecimal(number));
   }
 
+  /**
+   * @throws NullPointerException if the number is null, as {@link #lt(BigDecimal)} does
+   */
   public static Predicate<BigDecimal> le(final BigDecimal number) {
-    return anotherNumber -> anotherNumber.compareTo(number) <= 0;
+    return Range.atMost(number);
   }
 
   public static Predicate<BigDecimal> le(final String number) {
     return le(new BigDecimal(number));
   }
 
+  /**
+   * @throws NullPointerException if the number is null, as {@link #lt(BigDecimal)} does
+   */
   public static Predicate<BigDecimal> eq(final BigDecimal number) {
-    return anotherNumber -> anotherNumber.compareTo(number) == 0;
+    return Range.singleton(number);
   }
 
   public static Predicate<BigDecimal> eq(final String number) {
     return eq(new BigDecimal(number));
   }
 
+  /**
+   * @throws NullPointerException if the number is null, as {@link #lt(BigDecimal)} does
+   */
   public static Predicate<BigDecimal> gt(final BigDecimal number) {
-    return anotherNumber -> anotherNumber.compareTo(number) > 0;
+    return Range.greaterThan(number);
   }
 
   public static Predicate<BigDecimal> gt(final String number) {
     return gt(new BigDecimal(number));
   }
 
+  /**
+   * @throws NullPointerException if the number is null, as {@link #lt(BigDecimal)} does
+   */
   public static Predicate<BigDecimal> ge(final BigDecimal number) {
-    return anotherNumber -> anotherNumber.compareTo(number) >= 0;
+    return Range.atLeast(number);
   }
 
   public static Predicate<BigDecimal> ge(final String number) {
@@ -445,4 +878,575 @@ public final class Numbers {
                .reduce(BigDecimal.ZERO, BigDecimal::add);
     /* @formatter:on */
   }
+
+  /**
+   * Returns the total of all the BigDecimals from the given {@link Iterator}. It consumes the elements one by one so it
+   * does not need to have all the elements in memory.
+   *
+   * @param bigDecimals the given {@link Iterator} of BigDecimal
+   * @return the total of all the BigDecimals from the given {@link Iterator}
+   */
+  public static BigDecimal total(final Iterator<BigDecimal> bigDecimals) {
+    BigDecimal total = BigDecimal.ZERO;
+    while (bigDecimals.hasNext()) {
+      total = total.add(bigDecimals.next());
+    }
+    return total;
+  }
+
+  public static <T> BigDecimal total(final Iterator<T> iterator, final Function<T, BigDecimal> toBigDecimalMapper) {
+    Objects.requireNonNull(toBigDecimalMapper, "The toBigDecimalMapper: Function<T, BigDecimal> cannot be null.");
+    BigDecimal total = BigDecimal.ZERO;
+    while (iterator.hasNext()) {
+      total = total.add(toBigDecimalMapper.apply(iterator.next()));
+    }
+    return total;
+  }
+
+  public static BigDecimal total(final Iterable<BigDecimal> bigDecimals) {
+    return total(bigDecimals.iterator());
+  }
+
+  public static <T> BigDecimal total(final Iterable<T> iterable, final Function<T, BigDecimal> toBigDecimalMapper) {
+    return total(iterable.iterator(), toBigDecimalMapper);
+  }
+
+  public static BigDecimal total(final Spliterator<BigDecimal> bigDecimals) {
+    return total(StreamSupport.stream(bigDecimals, false));
+  }
+
+  public static <T> BigDecimal total(final Spliterator<T> spliterator, final Function<T, BigDecimal> toBigDecimalMapper) {
+    return total(StreamSupport.stream(spliterator, false), toBigDecimalMapper);
+  }
+
+  public static BigDecimal total(final Stream<BigDecimal> bigDecimals) {
+    /* @formatter:off */
+    return bigDecimals.reduce(BigDecimal.ZERO, BigDecimal::add);
+    /* @formatter:on */
+  }
+
+  public static <T> BigDecimal total(final Stream<T> stream, final Function<T, BigDecimal> toBigDecimalMapper) {
+    /* @formatter:off */
+    return stream.map(toBigDecimalMapper)
+                 .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /* @formatter:on */
+  }
+
+  /**
+   * Returns the total of all the BigDecimals from the given {@link Iterable} in parallel. How well it runs in parallel
+   * depends on the {@link Spliterator} of the given {@link Iterable}.
+   *
+   * @param bigDecimals the given {@link Iterable} of BigDecimal
+   * @return the total of all the BigDecimals from the given {@link Iterable}
+   */
+  public static BigDecimal parallelTotal(final Iterable<BigDecimal> bigDecimals) {
+    return parallelTotal(bigDecimals.spliterator());
+  }
+
+  public static <T> BigDecimal parallelTotal(final Iterable<T> iterable, final Function<T, BigDecimal> toBigDecimalMapper) {
+    return parallelTotal(iterable.spliterator(), toBigDecimalMapper);
+  }
+
+  public static BigDecimal parallelTotal(final Spliterator<BigDecimal> bigDecimals) {
+    return total(StreamSupport.stream(bigDecimals, true));
+  }
+
+  public static <T> BigDecimal parallelTotal(final Spliterator<T> spliterator, final Function<T, BigDecimal> toBigDecimalMapper) {
+    return total(StreamSupport.stream(spliterator, true), toBigDecimalMapper);
+  }
+
+  public static BigDecimal parallelTotal(final Stream<BigDecimal> bigDecimals) {
+    return total(bigDecimals.parallel());
+  }
+
+  public static <T> BigDecimal parallelTotal(final Stream<T> stream, final Function<T, BigDecimal> toBigDecimalMapper) {
+    return total(stream.parallel(), toBigDecimalMapper);
+  }
+
+  /**
+   * Returns the total of the decimals in the given column of the given delimited text file (e.g. CSV). The file is
+   * memory-mapped and the ASCII decimals are parsed straight from the mapped bytes into unscaled long accumulators so
+   * no {@link String} is created for each field.
+   * <p>
+   * Lines are separated by <code>\n</code> (a trailing <code>\r</code> is ignored). Blanks around a field and double
+   * quotes surrounding it are ignored, and an empty or missing field is skipped. Quoted fields containing the delimiter
+   * are not supported.
+   *
+   * @param file        the delimited text file
+   * @param delimiter   the ASCII delimiter between fields (e.g. <code>','</code>, <code>'\t'</code> or <code>'|'</code>)
+   * @param columnIndex the zero-based index of the column to total
+   * @return the total of the decimals in the column. The scale of the result is the same as {@link #total(Collection)}
+   *         would give.
+   * @throws IOException           if the file cannot be read
+   * @throws NumberFormatException if a field in the column is not a decimal
+   */
+  public static BigDecimal totalOfColumn(final Path file, final char delimiter, final int columnIndex) throws IOException {
+    return totalOfColumn(file, delimiter, columnIndex, 0);
+  }
+
+  /**
+   * The same as {@link #totalOfColumn(Path, char, int)} but the given number of lines at the beginning of the file
+   * (e.g. header) are skipped.
+   *
+   * @param file        the delimited text file
+   * @param delimiter   the ASCII delimiter between fields
+   * @param columnIndex the zero-based index of the column to total
+   * @param linesToSkip the number of lines to skip at the beginning of the file
+   * @return the total of the decimals in the column
+   * @throws IOException           if the file cannot be read
+   * @throws NumberFormatException if a field in the column is not a decimal
+   */
+  public static BigDecimal totalOfColumn(final Path file, final char delimiter, final int columnIndex, final int linesToSkip) throws IOException {
+    return new MappedDecimalColumn(file, delimiter, columnIndex, linesToSkip).total(false);
+  }
+
+  /**
+   * The same as {@link #totalOfColumn(Path, char, int)} but the file is split into chunks at line boundaries which are
+   * parsed in parallel.
+   *
+   * @param file        the delimited text file
+   * @param delimiter   the ASCII delimiter between fields
+   * @param columnIndex the zero-based index of the column to total
+   * @return the total of the decimals in the column
+   * @throws IOException           if the file cannot be read
+   * @throws NumberFormatException if a field in the column is not a decimal
+   */
+  public static BigDecimal parallelTotalOfColumn(final Path file, final char delimiter, final int columnIndex) throws IOException {
+    return parallelTotalOfColumn(file, delimiter, columnIndex, 0);
+  }
+
+  public static BigDecimal parallelTotalOfColumn(final Path file, final char delimiter, final int columnIndex, final int linesToSkip) throws IOException {
+    return new MappedDecimalColumn(file, delimiter, columnIndex, linesToSkip).total(true);
+  }
+
+  /**
+   * The summation algorithms for double values which are more accurate than adding them one by one.
+   */
+  public enum Summation {
+    /**
+     * Kahan-Babuska-Neumaier compensated summation. The error does not grow with the number of values (as long as the
+     * sum does not cancel out) at the cost of a few more floating-point operations per value.
+     */
+    NEUMAIER,
+    /**
+     * Pairwise summation. The error grows in <code>O(log n)</code> instead of <code>O(n)</code>, and it is almost as
+     * fast as adding the values one by one.
+     */
+    PAIRWISE
+  }
+
+  /**
+   * Returns the total of the given double values using the given {@link Summation} algorithm.
+   *
+   * @param values    the given double values
+   * @param summation the summation algorithm to use
+   * @return the total of the given double values
+   */
+  public static double total(final double[] values, final Summation summation) {
+    Objects.requireNonNull(summation, "The summation: Summation cannot be null.");
+    return DoubleSummations.sum(values, 0, values.length, summation);
+  }
+
+  public static <T> double total(final Collection<T> list, final ToDoubleFunction<? super T> toDoubleMapper, final Summation summation) {
+    Objects.requireNonNull(toDoubleMapper, "The toDoubleMapper: ToDoubleFunction<T> cannot be null.");
+    Objects.requireNonNull(summation, "The summation: Summation cannot be null.");
+    final DoubleSummations.Accumulator accumulator = DoubleSummations.newAccumulator(summation);
+    for (final T each : list) {
+      accumulator.accept(toDoubleMapper.applyAsDouble(each));
+    }
+    return accumulator.value();
+  }
+
+  public static double total(final DoubleStream doubleStream, final Summation summation) {
+    Objects.requireNonNull(summation, "The summation: Summation cannot be null.");
+    /* @formatter:off */
+    return doubleStream.collect(() -> DoubleSummations.newAccumulator(summation),
+                                DoubleSummations.Accumulator::accept,
+                                DoubleSummations.Accumulator::combine)
+                       .value();
+    /* @formatter:on */
+  }
+
+  /**
+   * Returns the total of the given double values using the given {@link Summation} algorithm. The array is split and
+   * summed in parallel.
+   *
+   * @param values    the given double values
+   * @param summation the summation algorithm to use
+   * @return the total of the given double values
+   */
+  public static double parallelTotal(final double[] values, final Summation summation) {
+    Objects.requireNonNull(summation, "The summation: Summation cannot be null.");
+    return DoubleSummations.parallelSum(values, summation);
+  }
+
+  public static <T> double parallelTotal(final Collection<T> list, final ToDoubleFunction<? super T> toDoubleMapper, final Summation summation) {
+    Objects.requireNonNull(toDoubleMapper, "The toDoubleMapper: ToDoubleFunction<T> cannot be null.");
+    /* @formatter:off */
+    return parallelTotal(list.parallelStream()
+                             .mapToDouble(toDoubleMapper), summation);
+    /* @formatter:on */
+  }
+
+  public static double parallelTotal(final DoubleStream doubleStream, final Summation summation) {
+    return total(doubleStream.parallel(), summation);
+  }
+
+  /**
+   * Returns the statistics of the long values in the given binary file which is a sequence of 8-byte long values in
+   * big-endian (the byte order of {@link java.io.DataOutputStream}). The file is memory-mapped in segments and read
+   * through {@link java.nio.LongBuffer} views without copying. The sum is exact as it never overflows.
+   *
+   * @param file the binary file of long values
+   * @return the statistics of all the long values in the file
+   * @throws IOException if the file cannot be read or its size is not a multiple of 8
+   */
+  public static ExactSummaryStatistics longColumnStatistics(final Path file) throws IOException {
+    return longColumnStatistics(file, ByteOrder.BIG_ENDIAN);
+  }
+
+  public static ExactSummaryStatistics longColumnStatistics(final Path file, final ByteOrder byteOrder) throws IOException {
+    return MappedBinaryColumn.longStatistics(file, byteOrder, false);
+  }
+
+  /**
+   * The same as {@link #longColumnStatistics(Path)} but the segments of the file are read in parallel.
+   *
+   * @param file the binary file of long values
+   * @return the statistics of all the long values in the file
+   * @throws IOException if the file cannot be read or its size is not a multiple of 8
+   */
+  public static ExactSummaryStatistics parallelLongColumnStatistics(final Path file) throws IOException {
+    return parallelLongColumnStatistics(file, ByteOrder.BIG_ENDIAN);
+  }
+
+  public static ExactSummaryStatistics parallelLongColumnStatistics(final Path file, final ByteOrder byteOrder) throws IOException {
+    return MappedBinaryColumn.longStatistics(file, byteOrder, true);
+  }
+
+  /**
+   * Returns the statistics of the double values in the given binary file which is a sequence of 8-byte double values in
+   * big-endian (the byte order of {@link java.io.DataOutputStream}). The file is memory-mapped in segments and read
+   * through {@link java.nio.DoubleBuffer} views without copying.
+   *
+   * @param file the binary file of double values
+   * @return the statistics of all the double values in the file
+   * @throws IOException if the file cannot be read or its size is not a multiple of 8
+   */
+  public static DoubleSummaryStatistics doubleColumnStatistics(final Path file) throws IOException {
+    return doubleColumnStatistics(file, ByteOrder.BIG_ENDIAN);
+  }
+
+  public static DoubleSummaryStatistics doubleColumnStatistics(final Path file, final ByteOrder byteOrder) throws IOException {
+    return MappedBinaryColumn.doubleStatistics(file, byteOrder, false);
+  }
+
+  /**
+   * The same as {@link #doubleColumnStatistics(Path)} but the segments of the file are read in parallel.
+   *
+   * @param file the binary file of double values
+   * @return the statistics of all the double values in the file
+   * @throws IOException if the file cannot be read or its size is not a multiple of 8
+   */
+  public static DoubleSummaryStatistics parallelDoubleColumnStatistics(final Path file) throws IOException {
+    return parallelDoubleColumnStatistics(file, ByteOrder.BIG_ENDIAN);
+  }
+
+  public static DoubleSummaryStatistics parallelDoubleColumnStatistics(final Path file, final ByteOrder byteOrder) throws IOException {
+    return MappedBinaryColumn.doubleStatistics(file, byteOrder, true);
+  }
+
+  /**
+   * Returns a {@link Collector} which collects the int values mapped from the input elements into
+   * {@link ExactSummaryStatistics}. Unlike {@link java.util.stream.Collectors#summarizingInt(ToIntFunction)}, the sum
+   * never overflows. It can be used with parallel streams.
+   *
+   * @param toIntMapper a mapper to get an int value from each element
+   * @param <T>         the type of input elements
+   * @return a {@link Collector} implementing the summary-statistics reduction
+   */
+  public static <T> Collector<T, ?, ExactSummaryStatistics> exactIntStatistics(final ToIntFunction<? super T> toIntMapper) {
+    Objects.requireNonNull(toIntMapper, "The toIntMapper: ToIntFunction<T> cannot be null.");
+    /* @formatter:off */
+    return Collector.of(ExactSummaryStatistics::new,
+                        (stats, t) -> stats.accept(toIntMapper.applyAsInt(t)),
+                        (left, right) -> { left.combine(right); return left; },
+                        Collector.Characteristics.IDENTITY_FINISH);
+    /* @formatter:on */
+  }
+
+  /**
+   * Returns a {@link Collector} which collects the long values mapped from the input elements into
+   * {@link ExactSummaryStatistics}. Unlike {@link java.util.stream.Collectors#summarizingLong(ToLongFunction)}, the sum
+   * never overflows. It can be used with parallel streams.
+   *
+   * @param toLongMapper a mapper to get a long value from each element
+   * @param <T>          the type of input elements
+   * @return a {@link Collector} implementing the summary-statistics reduction
+   */
+  public static <T> Collector<T, ?, ExactSummaryStatistics> exactLongStatistics(final ToLongFunction<? super T> toLongMapper) {
+    Objects.requireNonNull(toLongMapper, "The toLongMapper: ToLongFunction<T> cannot be null.");
+    /* @formatter:off */
+    return Collector.of(ExactSummaryStatistics::new,
+                        (stats, t) -> stats.accept(toLongMapper.applyAsLong(t)),
+                        (left, right) -> { left.combine(right); return left; },
+                        Collector.Characteristics.IDENTITY_FINISH);
+    /* @formatter:on */
+  }
+
+  /**
+   * Returns a {@link Collector} which collects the {@link BigDecimal} values mapped from the input elements into
+   * {@link DecimalSummaryStatistics}, a partial aggregate which can be merged and sent to other nodes in its compact
+   * binary form. It can be used with parallel streams.
+   *
+   * @param toBigDecimalMapper a mapper to get a {@link BigDecimal} value from each element
+   * @param <T>                the type of input elements
+   * @return a {@link Collector} implementing the summary-statistics reduction
+   */
+  public static <T> Collector<T, ?, DecimalSummaryStatistics> decimalStatistics(final Function<? super T, BigDecimal> toBigDecimalMapper) {
+    Objects.requireNonNull(toBigDecimalMapper, "The toBigDecimalMapper: Function<T, BigDecimal> cannot be null.");
+    /* @formatter:off */
+    return Collector.of(DecimalSummaryStatistics::new,
+                        (stats, t) -> stats.accept(toBigDecimalMapper.apply(t)),
+                        (left, right) -> { left.combine(right); return left; },
+                        Collector.Characteristics.IDENTITY_FINISH);
+    /* @formatter:on */
+  }
+
+  public static Collector<BigDecimal, ?, DecimalSummaryStatistics> decimalStatistics() {
+    return decimalStatistics(Function.identity());
+  }
+
+  /**
+   * Returns a {@link Collector} which collects the double values mapped from the input elements into a
+   * {@link QuantileSketch} to get approximate quantiles such as p50, p99 and p999 within the given relative accuracy.
+   * It takes a constant amount of memory no matter how many elements there are, and it can be used with parallel
+   * streams.
+   *
+   * @param relativeAccuracy the relative accuracy of the quantiles (e.g. 0.01 for 1%)
+   * @param toDoubleMapper   a mapper to get a double value from each element
+   * @param <T>              the type of input elements
+   * @return a {@link Collector} implementing the quantile-sketch reduction
+   */
+  public static <T> Collector<T, ?, QuantileSketch> quantileSketch(final double relativeAccuracy, final ToDoubleFunction<? super T> toDoubleMapper) {
+    Objects.requireNonNull(toDoubleMapper, "The toDoubleMapper: ToDoubleFunction<T> cannot be null.");
+    return quantileSketchOf(relativeAccuracy, (sketch, t) -> sketch.accept(toDoubleMapper.applyAsDouble(t)));
+  }
+
+  public static <T> Collector<T, ?, QuantileSketch> longQuantileSketch(final double relativeAccuracy, final ToLongFunction<? super T> toLongMapper) {
+    Objects.requireNonNull(toLongMapper, "The toLongMapper: ToLongFunction<T> cannot be null.");
+    return quantileSketchOf(relativeAccuracy, (sketch, t) -> sketch.accept(toLongMapper.applyAsLong(t)));
+  }
+
+  public static <T> Collector<T, ?, QuantileSketch> decimalQuantileSketch(final double relativeAccuracy, final Function<? super T, BigDecimal> toBigDecimalMapper) {
+    Objects.requireNonNull(toBigDecimalMapper, "The toBigDecimalMapper: Function<T, BigDecimal> cannot be null.");
+    return quantileSketchOf(relativeAccuracy, (sketch, t) -> sketch.accept(toBigDecimalMapper.apply(t)));
+  }
+
+  private static <T> Collector<T, ?, QuantileSketch> quantileSketchOf(final double relativeAccuracy, final BiConsumer<QuantileSketch, T> accumulator) {
+    /* fails fast for an invalid relative accuracy */
+    new QuantileSketch(relativeAccuracy);
+    /* @formatter:off */
+    return Collector.of(() -> new QuantileSketch(relativeAccuracy),
+                        accumulator,
+                        (left, right) -> { left.combine(right); return left; },
+                        Collector.Characteristics.IDENTITY_FINISH,
+                        Collector.Characteristics.UNORDERED);
+    /* @formatter:on */
+  }
+
+  /**
+   * Returns a sliding window of the last given number of {@link BigDecimal} values which keeps their running sum so
+   * adding a value and getting the sum or the average are O(1). It is not thread safe.
+   *
+   * @param size the number of the last values to keep
+   * @return a sliding window of the last values
+   * @see DecimalSlidingWindow#ofCount(int)
+   */
+  public static DecimalSlidingWindow decimalSlidingWindow(final int size) {
+    return DecimalSlidingWindow.ofCount(size);
+  }
+
+  /**
+   * Returns a sliding window of the {@link BigDecimal} values added in the last given period of time which is divided
+   * into the given number of buckets. It is not thread safe. For concurrent writers, use
+   * {@link DecimalSlidingWindow#stripedOfDuration(Duration, int, int)}.
+   *
+   * @param length  the length of the window
+   * @param buckets the number of buckets in the window
+   * @return a sliding window of the last period of time
+   * @see DecimalSlidingWindow#ofDuration(Duration, int)
+   */
+  public static DecimalSlidingWindow decimalSlidingWindow(final Duration length, final int buckets) {
+    return DecimalSlidingWindow.ofDuration(length, buckets);
+  }
+
+  /**
+   * Returns a sliding window of the last given number of long values which keeps their exact running sum so adding a
+   * value and getting the sum or the average are O(1). It is not thread safe.
+   *
+   * @param size the number of the last values to keep
+   * @return a sliding window of the last values
+   * @see LongSlidingWindow#ofCount(int)
+   */
+  public static LongSlidingWindow longSlidingWindow(final int size) {
+    return LongSlidingWindow.ofCount(size);
+  }
+
+  /**
+   * Returns a sliding window of the long values added in the last given period of time which is divided into the given
+   * number of buckets. It is not thread safe. For concurrent writers, use
+   * {@link LongSlidingWindow#stripedOfDuration(Duration, int, int)}.
+   *
+   * @param length  the length of the window
+   * @param buckets the number of buckets in the window
+   * @return a sliding window of the last period of time
+   * @see LongSlidingWindow#ofDuration(Duration, int)
+   */
+  public static LongSlidingWindow longSlidingWindow(final Duration length, final int buckets) {
+    return LongSlidingWindow.ofDuration(length, buckets);
+  }
+
+  /**
+   * Returns a tumbling window which passes the sum and the count of every given number of {@link BigDecimal} values to
+   * the given listener.
+   *
+   * @param size     the number of values in each window
+   * @param listener the listener to receive the sum and the count of each window
+   * @return a tumbling window of every given number of values
+   */
+  public static DecimalTumblingWindow decimalTumblingWindow(final int size, final ObjLongConsumer<? super BigDecimal> listener) {
+    return DecimalTumblingWindow.ofCount(size, listener);
+  }
+
+  public static DecimalTumblingWindow decimalTumblingWindow(final Duration length, final ObjLongConsumer<? super BigDecimal> listener) {
+    return DecimalTumblingWindow.ofDuration(length, listener);
+  }
+
+  /**
+   * Returns a tumbling window which passes the statistics of every given number of long values to the given listener.
+   *
+   * @param size     the number of values in each window
+   * @param listener the listener to receive the statistics of each window
+   * @return a tumbling window of every given number of values
+   */
+  public static LongTumblingWindow longTumblingWindow(final int size, final Consumer<? super ExactSummaryStatistics> listener) {
+    return LongTumblingWindow.ofCount(size, listener);
+  }
+
+  public static LongTumblingWindow longTumblingWindow(final Duration length, final Consumer<? super ExactSummaryStatistics> listener) {
+    return LongTumblingWindow.ofDuration(length, listener);
+  }
+
+  /**
+   * Returns the values in the given range from the given sorted list by binary search instead of testing every value.
+   * The range is a predicate built by this class such as <code>Numbers.ge("100").and(Numbers.lt("200"))</code> or any
+   * other {@link Range}. The result is a view of the list ({@link List#subList(int, int)}) so nothing is copied, and it
+   * takes <code>O(log n)</code> comparisons if the list is {@link java.util.RandomAccess}.
+   *
+   * <pre>
+   * final List&lt;BigDecimal&gt; prices = ...; // sorted in ascending order
+   * final List&lt;BigDecimal&gt; affordable = Numbers.select(prices, Numbers.ge("10").and(Numbers.le("20")));
+   * </pre>
+   *
+   * @param sorted the list sorted in ascending order by {@link Comparable#compareTo(Object)}
+   * @param range  the {@link Range} to select
+   * @param <C>    the type of the values
+   * @return the view of the values in the range
+   * @throws IllegalArgumentException if the range is not a {@link Range}
+   */
+  public static <C extends Comparable<? super C>> List<C> select(final List<C> sorted, final Predicate<? super C> range) {
+    Objects.requireNonNull(sorted, "The sorted: List<C> cannot be null.");
+    Objects.requireNonNull(range, "The range: Predicate<C> cannot be null.");
+    return RangeSelections.select(sorted, RangeSelections.<C>toRange(range));
+  }
+
+  /**
+   * Returns the values from the given inclusive value to the given exclusive value from the given sorted list by binary
+   * search. The result is a view of the list.
+   *
+   * @param sorted        the list sorted in ascending order by {@link Comparable#compareTo(Object)}
+   * @param fromInclusive the lowest value to select
+   * @param toExclusive   the value above the values to select
+   * @param <C>           the type of the values
+   * @return the view of the values in <code>[fromInclusive, toExclusive)</code>
+   */
+  public static <C extends Comparable<? super C>> List<C> select(final List<C> sorted, final C fromInclusive, final C toExclusive) {
+    Objects.requireNonNull(sorted, "The sorted: List<C> cannot be null.");
+    return RangeSelections.select(sorted, Range.closedOpen(Objects.requireNonNull(fromInclusive, "The fromInclusive: C cannot be null."),
+                                                           Objects.requireNonNull(toExclusive, "The toExclusive: C cannot be null.")));
+  }
+
+  /**
+   * The same as {@link #select(List, Predicate)} for a sorted array. The result is a view of the array so it is not
+   * copied.
+   */
+  public static <C extends Comparable<? super C>> List<C> select(final C[] sorted, final Predicate<? super C> range) {
+    Objects.requireNonNull(sorted, "The sorted: C[] cannot be null.");
+    return select(Arrays.asList(sorted), range);
+  }
+
+  /**
+   * Returns the long values in the given range of numbers from the given sorted array by binary search. The range is a
+   * {@link Range} of {@link BigDecimal}, {@link BigInteger} or the other integral numbers such as
+   * <code>Numbers.gt("9.5")</code> and it is converted into the long values in it, <code>[10, +&infin;)</code>. The
+   * result is a {@link LongBuffer} wrapping the selected part of the array so nothing is copied.
+   *
+   * @param sorted the array sorted in ascending order
+   * @param range  the {@link Range} to select
+   * @return the buffer of the values in the range which is backed by the array
+   * @throws IllegalArgumentException if the range is not a {@link Range} of numbers
+   */
+  public static LongBuffer select(final long[] sorted, final Predicate<? extends Number> range) {
+    Objects.requireNonNull(sorted, "The sorted: long[] cannot be null.");
+    Objects.requireNonNull(range, "The range: Predicate<Number> cannot be null.");
+    if (!(range instanceof Range)) {
+      throw new IllegalArgumentException("The range must be a Range such as the one returned by Numbers.ge(...). [range: " + range + "]");
+    }
+    return RangeSelections.select(sorted, (Range<?>) range);
+  }
+
+  public static LongBuffer select(final long[] sorted, final long fromInclusive, final long toExclusive) {
+    Objects.requireNonNull(sorted, "The sorted: long[] cannot be null.");
+    if (toExclusive == Long.MIN_VALUE) {
+      return LongBuffer.wrap(sorted, 0, 0)
+                       .slice();
+    }
+    return RangeSelections.selectClosed(sorted, fromInclusive, toExclusive - 1L);
+  }
+
+  /**
+   * Returns the double values in the given range of numbers from the given sorted array by binary search. Each value is
+   * compared with the bounds as {@link BigDecimal#valueOf(double)} so <code>0.1</code> is in
+   * <code>Numbers.ge("0.1")</code>, and NaNs are never selected. The result is a {@link DoubleBuffer} wrapping the
+   * selected part of the array so nothing is copied.
+   *
+   * @param sorted the array sorted in ascending order such as by {@link Arrays#sort(double[])}
+   * @param range  the {@link Range} to select
+   * @return the buffer of the values in the range which is backed by the array
+   * @throws IllegalArgumentException if the range is not a {@link Range} of numbers
+   */
+  public static DoubleBuffer select(final double[] sorted, final Predicate<? extends Number> range) {
+    Objects.requireNonNull(sorted, "The sorted: double[] cannot be null.");
+    Objects.requireNonNull(range, "The range: Predicate<Number> cannot be null.");
+    if (!(range instanceof Range)) {
+      throw new IllegalArgumentException("The range must be a Range such as the one returned by Numbers.ge(...). [range: " + range + "]");
+    }
+    return RangeSelections.select(sorted, (Range<?>) range);
+  }
+
+  /**
+   * Returns the double values in <code>[fromInclusive, toExclusive)</code> from the given sorted array by binary search.
+   * The values are compared by {@link Double#compare(double, double)} which is the order of
+   * {@link Arrays#sort(double[])}.
+   *
+   * @throws IllegalArgumentException if either bound is NaN
+   */
+  public static DoubleBuffer select(final double[] sorted, final double fromInclusive, final double toExclusive) {
+    Objects.requireNonNull(sorted, "The sorted: double[] cannot be null.");
+    if (Double.isNaN(fromInclusive) || Double.isNaN(toExclusive)) {
+      throw new IllegalArgumentException("The bounds cannot be NaN. [fromInclusive: " + fromInclusive + ", toExclusive: " + toExclusive + "]");
+    }
+    return RangeSelections.selectHalfOpen(sorted, fromInclusive, toExclusive);
+  }
 }
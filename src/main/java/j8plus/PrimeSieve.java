@@ -0,0 +1,136 @@
+package j8plus;
+
+import java.util.BitSet;
+import java.util.stream.LongStream;
+
+/**
+ * Segmented sieve of Eratosthenes. Each segment only keeps the odd numbers in a {@link BitSet} so segments are
+ * independent of each other and can be sieved in parallel.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class PrimeSieve {
+
+  /* the number of odd numbers in a segment */
+  static final int SEGMENT_SIZE = 1 << 18;
+  static final long SEGMENT_SPAN = SEGMENT_SIZE * 2L;
+
+  static final long MAX_UPPER_BOUND = (long) Integer.MAX_VALUE * Integer.MAX_VALUE;
+
+  private static final long[] NO_PRIMES = new long[0];
+
+  private PrimeSieve() {
+  }
+
+  static long[] primes(final long fromInclusive, final long toExclusive, final boolean parallel) {
+    if (fromInclusive > toExclusive) {
+      throw new IllegalArgumentException(
+        "fromInclusive cannot be greater than toExclusive. [fromInclusive: " + fromInclusive + ", toExclusive: " + toExclusive + "]"
+      );
+    }
+    if (toExclusive > MAX_UPPER_BOUND) {
+      throw new IllegalArgumentException(
+        "toExclusive cannot be greater than " + MAX_UPPER_BOUND + ". [toExclusive: " + toExclusive + "]"
+      );
+    }
+    final long from = Math.max(fromInclusive, 2L);
+    if (from >= toExclusive) {
+      return NO_PRIMES;
+    }
+
+    final int[] basePrimes = oddPrimesUpTo((int) sqrt(toExclusive - 1));
+    final boolean hasTwo = from == 2L;
+    /* the first odd number in the range */
+    final long firstOdd = from | 1L;
+    final long segments = (toExclusive - firstOdd + SEGMENT_SPAN - 1) / SEGMENT_SPAN;
+
+    final LongStream segmentIndices = LongStream.range(0L, segments);
+    /* @formatter:off */
+    final long[][] sieved = (parallel ? segmentIndices.parallel() : segmentIndices)
+        .mapToObj(index -> {
+          final long low = firstOdd + index * SEGMENT_SPAN;
+          return sieveSegment(low, Math.min(low + SEGMENT_SPAN, toExclusive), basePrimes);
+        })
+        .toArray(long[][]::new);
+    /* @formatter:on */
+
+    int length = hasTwo ? 1 : 0;
+    for (final long[] primes : sieved) {
+      length += primes.length;
+    }
+    final long[] result = new long[length];
+    int position = 0;
+    if (hasTwo) {
+      result[position++] = 2L;
+    }
+    for (final long[] primes : sieved) {
+      System.arraycopy(primes, 0, result, position, primes.length);
+      position += primes.length;
+    }
+    return result;
+  }
+
+  /* low must be odd. Only the odd numbers in [low, high) are checked. */
+  private static long[] sieveSegment(final long low, final long high, final int[] basePrimes) {
+    final int size = (int) ((high - low + 1) / 2);
+    final BitSet composites = new BitSet(size);
+    for (final int prime : basePrimes) {
+      final long square = (long) prime * prime;
+      if (square >= high) {
+        break;
+      }
+      long multiple = square >= low ? square : ((low + prime - 1) / prime) * prime;
+      if ((multiple & 1L) == 0) {
+        multiple += prime;
+      }
+      for (long i = (multiple - low) / 2; i < size; i += prime) {
+        composites.set((int) i);
+      }
+    }
+
+    final long[] primes = new long[size - composites.cardinality()];
+    int position = 0;
+    for (int i = composites.nextClearBit(0); i < size; i = composites.nextClearBit(i + 1)) {
+      primes[position++] = low + 2L * i;
+    }
+    return primes;
+  }
+
+  /* all the odd primes p where 3 <= p <= limit */
+  private static int[] oddPrimesUpTo(final int limit) {
+    if (limit < 3) {
+      return new int[0];
+    }
+    /* index i represents 2i + 1 */
+    final int size = (limit + 1) / 2;
+    final BitSet composites = new BitSet(size);
+    composites.set(0);
+    for (int i = 1; (2L * i + 1) * (2L * i + 1) <= limit; i++) {
+      if (!composites.get(i)) {
+        final int prime = 2 * i + 1;
+        for (long j = ((long) prime * prime) / 2; j < size; j += prime) {
+          composites.set((int) j);
+        }
+      }
+    }
+    final int[] primes = new int[size - composites.cardinality()];
+    int position = 0;
+    for (int i = composites.nextClearBit(0); i < size; i = composites.nextClearBit(i + 1)) {
+      primes[position++] = 2 * i + 1;
+    }
+    return primes;
+  }
+
+  /* floor(sqrt(n)) for n >= 0 */
+  static long sqrt(final long n) {
+    long root = (long) Math.sqrt((double) n);
+    while (root * root > n) {
+      root--;
+    }
+    while ((root + 1) * (root + 1) <= n) {
+      root++;
+    }
+    return root;
+  }
+}
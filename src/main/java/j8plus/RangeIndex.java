@@ -0,0 +1,477 @@
+package j8plus;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import j8plus.types.Range;
+
+/**
+ * An index of rules each of which is a predicate on a value such as <code>Numbers.ge("100")</code>. It finds all the
+ * rules matching a value at once instead of testing every rule. The rules which are {@link Range}s, including the
+ * threshold predicates from {@link Numbers} and {@link Numbers.BigIntegers} and their {@link Range#and(Predicate)},
+ * are compiled into a segment tree over the sorted bounds so a query takes <code>O(log n + k)</code> for
+ * <code>n</code> rules and <code>k</code> matches. The other predicates cannot be indexed as their bounds are unknown
+ * so they are tested one by one for each query.
+ *
+ * <pre>
+ * final RangeIndex&lt;BigDecimal, String&gt; index = RangeIndex.&lt;BigDecimal, String&gt;builder()
+ *                                                     .add(Numbers.lt("100"), "small")
+ *                                                     .add(Numbers.ge("100").and(Numbers.lt("10000")), "medium")
+ *                                                     .add(Numbers.ge("10000"), "large")
+ *                                                     .add(Numbers.ge("5000"), "review")
+ *                                                     .build();
+ * index.query(new BigDecimal("7500")); // [medium, review]
+ * index.query(7500L);                  // [medium, review] without creating a BigDecimal
+ * </pre>
+ * <p>
+ * If all the rules are ranges whose bounds are {@link Long}, {@link Integer}, {@link Short}, {@link Byte},
+ * {@link BigInteger}, {@link BigDecimal} or finite {@link Double} values, they are also compiled into closed long
+ * ranges (e.g. <code>[10.5, 20)</code> into <code>[11, 19]</code>) so the long values can be queried by
+ * {@link #query(long)} with primitive comparisons only.
+ * <p>
+ * It is immutable and thread safe.
+ *
+ * @param <C> the type of values to query
+ * @param <R> the type of the values associated with the rules
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class RangeIndex<C extends Comparable<? super C>, R> {
+
+  private final List<R> values;
+
+  private final SlotTree tree;
+  private final C[] endpoints;
+
+  /* null if there is no long fast path */
+  private final SlotTree longTree;
+  private final long[] longEndpoints;
+
+  private final int[] residualOrdinals;
+  private final Predicate<? super C>[] residuals;
+  private final LongFunction<? extends C> valueOfLong;
+
+  private RangeIndex(final Builder<C, R> builder) {
+    this.values = Collections.unmodifiableList(new ArrayList<>(builder.values));
+    final int size = builder.values.size();
+
+    final List<C> bounds = new ArrayList<>();
+    final List<Integer> residualOrdinals = new ArrayList<>();
+    final List<Predicate<? super C>> residuals = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      final Range<C> range = builder.ranges.get(i);
+      if (range == null) {
+        residualOrdinals.add(i);
+        residuals.add(builder.predicates.get(i));
+      } else {
+        if (range.hasLower()) {
+          bounds.add(range.getLower());
+        }
+        if (range.hasUpper()) {
+          bounds.add(range.getUpper());
+        }
+      }
+    }
+    this.residualOrdinals = residualOrdinals.stream()
+                                            .mapToInt(Integer::intValue)
+                                            .toArray();
+    @SuppressWarnings("unchecked")
+    final Predicate<? super C>[] residualArray = residuals.toArray(new Predicate[0]);
+    this.residuals = residualArray;
+
+    this.endpoints = distinctSorted(bounds);
+    /* the slots are (-inf, e0), [e0], (e0, e1), [e1], ..., [en-1], (en-1, +inf) */
+    this.tree = new SlotTree(endpoints.length * 2 + 1);
+    for (int i = 0; i < size; i++) {
+      final Range<C> range = builder.ranges.get(i);
+      if (range != null && !range.isEmpty()) {
+        tree.insert(lowerSlot(range), upperSlot(range), i);
+      }
+    }
+    tree.freeze();
+
+    final long[][] longRanges = residuals.isEmpty() ? toLongRanges(builder.ranges) : null;
+    if (longRanges == null) {
+      this.longTree = null;
+      this.longEndpoints = null;
+    } else {
+      final long[] longBounds = new long[longRanges.length * 2];
+      int count = 0;
+      for (final long[] longRange : longRanges) {
+        if (longRange != null) {
+          longBounds[count++] = longRange[0];
+          longBounds[count++] = longRange[1];
+        }
+      }
+      this.longEndpoints = Arrays.stream(longBounds, 0, count)
+                                 .sorted()
+                                 .distinct()
+                                 .toArray();
+      this.longTree = new SlotTree(longEndpoints.length * 2 + 1);
+      for (int i = 0; i < longRanges.length; i++) {
+        if (longRanges[i] != null) {
+          longTree.insert(longSlot(longRanges[i][0]), longSlot(longRanges[i][1]), i);
+        }
+      }
+      longTree.freeze();
+    }
+    this.valueOfLong = builder.valueOfLong != null ? builder.valueOfLong : inferValueOfLong(bounds);
+  }
+
+  public static <C extends Comparable<? super C>, R> Builder<C, R> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * @return the number of rules in this index
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * @return true if the rules matching a long value can be found with primitive comparisons only
+   */
+  public boolean hasLongFastPath() {
+    return longTree != null;
+  }
+
+  /**
+   * Returns the values of all the rules matching the given value in the order the rules were added.
+   *
+   * @param value the value to test
+   * @return the values of the matching rules
+   */
+  public List<R> query(final C value) {
+    Objects.requireNonNull(value, "The value: C cannot be null.");
+    final IntList ordinals = new IntList();
+    tree.stab(slotOf(value), ordinals);
+    testResiduals(value, ordinals);
+    return valuesOf(ordinals);
+  }
+
+  /**
+   * Passes the value of each rule matching the given value to the given action in no particular order. It takes
+   * <code>O(log n + k)</code> for the ranges as the matches are not sorted.
+   *
+   * @param value  the value to test
+   * @param action the action to take for the value of each matching rule
+   */
+  public void forEachMatch(final C value, final Consumer<? super R> action) {
+    Objects.requireNonNull(value, "The value: C cannot be null.");
+    Objects.requireNonNull(action, "The action: Consumer<R> cannot be null.");
+    final IntList ordinals = new IntList();
+    tree.stab(slotOf(value), ordinals);
+    testResiduals(value, ordinals);
+    for (int i = 0; i < ordinals.size; i++) {
+      action.accept(values.get(ordinals.values[i]));
+    }
+  }
+
+  /**
+   * The same as {@link #query(Comparable)} for a long value. If there is a long fast path
+   * ({@link #hasLongFastPath()}), no object is created to test the value. Otherwise, the value is converted to the
+   * type of the bounds, {@link BigDecimal}, {@link BigInteger} or {@link Long}, or by the function given to
+   * {@link Builder#valueOfLong(LongFunction)}.
+   *
+   * @param value the value to test
+   * @return the values of the matching rules
+   * @throws UnsupportedOperationException if there is no long fast path and the value cannot be converted
+   */
+  public List<R> query(final long value) {
+    if (longTree == null) {
+      return query(toValue(value));
+    }
+    final IntList ordinals = new IntList();
+    longTree.stab(longSlotOf(value), ordinals);
+    return valuesOf(ordinals);
+  }
+
+  public void forEachMatch(final long value, final Consumer<? super R> action) {
+    if (longTree == null) {
+      forEachMatch(toValue(value), action);
+      return;
+    }
+    Objects.requireNonNull(action, "The action: Consumer<R> cannot be null.");
+    final IntList ordinals = new IntList();
+    longTree.stab(longSlotOf(value), ordinals);
+    for (int i = 0; i < ordinals.size; i++) {
+      action.accept(values.get(ordinals.values[i]));
+    }
+  }
+
+  private C toValue(final long value) {
+    if (valueOfLong == null) {
+      throw new UnsupportedOperationException("A long value cannot be converted to the type of the rules. Use Builder.valueOfLong(LongFunction).");
+    }
+    return valueOfLong.apply(value);
+  }
+
+  private void testResiduals(final C value, final IntList ordinals) {
+    for (int i = 0; i < residuals.length; i++) {
+      if (residuals[i].test(value)) {
+        ordinals.add(residualOrdinals[i]);
+      }
+    }
+  }
+
+  private List<R> valuesOf(final IntList ordinals) {
+    Arrays.sort(ordinals.values, 0, ordinals.size);
+    final List<R> matches = new ArrayList<>(ordinals.size);
+    for (int i = 0; i < ordinals.size; i++) {
+      matches.add(values.get(ordinals.values[i]));
+    }
+    return matches;
+  }
+
+  private int slotOf(final C value) {
+    final int index = binarySearch(endpoints, value);
+    return index >= 0 ? index * 2 + 1 : (-index - 1) * 2;
+  }
+
+  private int lowerSlot(final Range<C> range) {
+    if (!range.hasLower()) {
+      return 0;
+    }
+    final int index = binarySearch(endpoints, range.getLower());
+    return range.isLowerInclusive() ? index * 2 + 1 : index * 2 + 2;
+  }
+
+  private int upperSlot(final Range<C> range) {
+    if (!range.hasUpper()) {
+      return endpoints.length * 2;
+    }
+    final int index = binarySearch(endpoints, range.getUpper());
+    return range.isUpperInclusive() ? index * 2 + 1 : index * 2;
+  }
+
+  private int longSlotOf(final long value) {
+    final int index = Arrays.binarySearch(longEndpoints, value);
+    return index >= 0 ? index * 2 + 1 : (-index - 1) * 2;
+  }
+
+  private int longSlot(final long endpoint) {
+    return Arrays.binarySearch(longEndpoints, endpoint) * 2 + 1;
+  }
+
+  /* Arrays.binarySearch(Object[], Object) needs Comparable<Object> so it is done here. */
+  private static <C extends Comparable<? super C>> int binarySearch(final C[] sorted, final C value) {
+    int low = 0;
+    int high = sorted.length - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int comparison = sorted[middle].compareTo(value);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private static <C extends Comparable<? super C>> C[] distinctSorted(final List<C> bounds) {
+    bounds.sort(Comparable::compareTo);
+    final List<C> distinct = new ArrayList<>(bounds.size());
+    for (final C bound : bounds) {
+      if (distinct.isEmpty() || distinct.get(distinct.size() - 1)
+                                        .compareTo(bound) != 0) {
+        distinct.add(bound);
+      }
+    }
+    @SuppressWarnings("unchecked")
+    final C[] array = (C[]) distinct.toArray(new Comparable[0]);
+    return array;
+  }
+
+  /* returns the closed long ranges, null for the ones without any long values, or null if any bound is not a supported number */
+  private static <C extends Comparable<? super C>> long[][] toLongRanges(final List<Range<C>> ranges) {
+    final long[][] longRanges = new long[ranges.size()][];
+    for (int i = 0; i < longRanges.length; i++) {
+      final long[] longRange = RangeSelections.toLongRange(ranges.get(i));
+      if (longRange == null) {
+        return null;
+      }
+      longRanges[i] = longRange[0] <= longRange[1] ? longRange : null;
+    }
+    return longRanges;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <C> LongFunction<? extends C> inferValueOfLong(final List<C> bounds) {
+    if (bounds.isEmpty()) {
+      return null;
+    }
+    final Class<?> type = bounds.get(0)
+                                .getClass();
+    for (final C bound : bounds) {
+      if (bound.getClass() != type) {
+        return null;
+      }
+    }
+    if (type == BigDecimal.class) {
+      return value -> (C) BigDecimal.valueOf(value);
+    }
+    if (type == BigInteger.class) {
+      return value -> (C) BigInteger.valueOf(value);
+    }
+    if (type == Long.class) {
+      return value -> (C) Long.valueOf(value);
+    }
+    return null;
+  }
+
+  /**
+   * The builder of {@link RangeIndex}.
+   *
+   * @param <C> the type of values to query
+   * @param <R> the type of the values associated with the rules
+   */
+  public static final class Builder<C extends Comparable<? super C>, R> {
+    private final List<R> values = new ArrayList<>();
+    /* the range of each rule, or null if the rule is not a range */
+    private final List<Range<C>> ranges = new ArrayList<>();
+    private final List<Predicate<? super C>> predicates = new ArrayList<>();
+    private LongFunction<? extends C> valueOfLong;
+
+    private Builder() {
+    }
+
+    /**
+     * Adds a rule with the given value to return when it matches.
+     *
+     * @param rule  the rule which is indexed if it is a {@link Range}
+     * @param value the value to return when the rule matches
+     * @return this builder
+     */
+    public Builder<C, R> add(final Predicate<? super C> rule, final R value) {
+      Objects.requireNonNull(rule, "The rule: Predicate<C> cannot be null.");
+      values.add(value);
+      predicates.add(rule);
+      if (rule instanceof Range) {
+        @SuppressWarnings("unchecked")
+        final Range<C> range = (Range<C>) rule;
+        ranges.add(range);
+      } else {
+        ranges.add(null);
+      }
+      return this;
+    }
+
+    /**
+     * Sets the function to convert a long value to the type of values for {@link RangeIndex#query(long)} when there is
+     * no long fast path.
+     *
+     * @param valueOfLong the function to convert a long value to the type of values
+     * @return this builder
+     */
+    public Builder<C, R> valueOfLong(final LongFunction<? extends C> valueOfLong) {
+      this.valueOfLong = Objects.requireNonNull(valueOfLong, "The valueOfLong: LongFunction<C> cannot be null.");
+      return this;
+    }
+
+    public RangeIndex<C, R> build() {
+      return new RangeIndex<>(this);
+    }
+  }
+
+  /**
+   * A segment tree over the slots from 0 to size - 1. Each rule is kept in the O(log n) nodes whose slots make up its
+   * range, so the rules matching a slot are the ones in the nodes on the path from the root to the slot.
+   */
+  private static final class SlotTree {
+    private final int size;
+    /* null once the tree is frozen */
+    private IntList[] building;
+    private int[][] nodes;
+
+    SlotTree(final int size) {
+      this.size = size;
+      this.building = new IntList[4 * size];
+    }
+
+    void insert(final int from, final int to, final int ordinal) {
+      insert(1, 0, size - 1, from, to, ordinal);
+    }
+
+    private void insert(final int node, final int nodeFrom, final int nodeTo, final int from, final int to, final int ordinal) {
+      if (from <= nodeFrom && nodeTo <= to) {
+        if (building[node] == null) {
+          building[node] = new IntList();
+        }
+        building[node].add(ordinal);
+        return;
+      }
+      final int middle = (nodeFrom + nodeTo) >>> 1;
+      if (from <= middle) {
+        insert(node * 2, nodeFrom, middle, from, to, ordinal);
+      }
+      if (to > middle) {
+        insert(node * 2 + 1, middle + 1, nodeTo, from, to, ordinal);
+      }
+    }
+
+    void freeze() {
+      nodes = new int[building.length][];
+      for (int i = 0; i < building.length; i++) {
+        if (building[i] != null) {
+          nodes[i] = Arrays.copyOf(building[i].values, building[i].size);
+        }
+      }
+      building = null;
+    }
+
+    void stab(final int slot, final IntList ordinals) {
+      int node = 1;
+      int nodeFrom = 0;
+      int nodeTo = size - 1;
+      while (true) {
+        final int[] matches = nodes[node];
+        if (matches != null) {
+          ordinals.addAll(matches);
+        }
+        if (nodeFrom == nodeTo) {
+          return;
+        }
+        final int middle = (nodeFrom + nodeTo) >>> 1;
+        if (slot <= middle) {
+          node = node * 2;
+          nodeTo = middle;
+        } else {
+          node = node * 2 + 1;
+          nodeFrom = middle + 1;
+        }
+      }
+    }
+  }
+
+  private static final class IntList {
+    private int[] values = new int[8];
+    private int size;
+
+    void add(final int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    void addAll(final int[] more) {
+      if (size + more.length > values.length) {
+        values = Arrays.copyOf(values, Math.max(size * 2, size + more.length));
+      }
+      System.arraycopy(more, 0, values, size, more.length);
+      size += more.length;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package j8plus;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.List;
+import java.util.function.Predicate;
+
+import j8plus.types.Range;
+
+/**
+ * Binary-search range selections used by {@link Numbers}. A range is selected from sorted values by finding the first
+ * value satisfying its lower bound and then the first value not satisfying its upper bound, so a selection takes
+ * <code>O(log n)</code> comparisons and returns a view of the values in between without copying them.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class RangeSelections {
+
+  private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+  private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+  private RangeSelections() {
+  }
+
+  static <C extends Comparable<? super C>> Range<C> toRange(final Predicate<? super C> range) {
+    if (!(range instanceof Range)) {
+      throw new IllegalArgumentException("The range must be a Range such as the one returned by Numbers.ge(...). [range: " + range + "]");
+    }
+    @SuppressWarnings("unchecked")
+    final Range<C> castRange = (Range<C>) range;
+    return castRange;
+  }
+
+  static <C extends Comparable<? super C>> List<C> select(final List<C> sorted, final Range<C> range) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (range.isAboveLower(sorted.get(middle))) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    final int from = low;
+    high = sorted.size();
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (range.isBelowUpper(sorted.get(middle))) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return sorted.subList(from, low);
+  }
+
+  static LongBuffer select(final long[] sorted, final Range<?> range) {
+    final long[] longRange = toLongRange(range);
+    if (longRange == null) {
+      throw new IllegalArgumentException("The bounds of the range must be integral or finite numbers. [range: " + range + "]");
+    }
+    return selectClosed(sorted, longRange[0], longRange[1]);
+  }
+
+  static LongBuffer selectClosed(final long[] sorted, final long lowest, final long highest) {
+    final int from = firstIndexAtLeast(sorted, 0, lowest);
+    final int to;
+    if (lowest > highest) {
+      to = from;
+    } else {
+      to = highest == Long.MAX_VALUE ? sorted.length : firstIndexAtLeast(sorted, from, highest + 1L);
+    }
+    return LongBuffer.wrap(sorted, from, to - from)
+                     .slice();
+  }
+
+  private static int firstIndexAtLeast(final long[] sorted, final int fromIndex, final long key) {
+    int low = fromIndex;
+    int high = sorted.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (sorted[middle] >= key) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /*
+   * The values are compared with the bounds as BigDecimal.valueOf(value) which is how a double is usually tested by a
+   * BigDecimal predicate, so 0.1 is equal to the bound 0.1. NaNs are never selected.
+   */
+  static DoubleBuffer select(final double[] sorted, final Range<?> range) {
+    final BigDecimal lower = range.hasLower() ? toBigDecimal(range.getLower()) : null;
+    final BigDecimal upper = range.hasUpper() ? toBigDecimal(range.getUpper()) : null;
+    if ((range.hasLower() && lower == null) || (range.hasUpper() && upper == null)) {
+      throw new IllegalArgumentException("The bounds of the range must be integral or finite numbers. [range: " + range + "]");
+    }
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      final int comparison = lower == null ? 1 : compare(sorted[middle], lower);
+      if (comparison > 0 || (comparison == 0 && range.isLowerInclusive())) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    final int from = low;
+    high = sorted.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      final double value = sorted[middle];
+      final int comparison = upper == null ? (Double.isNaN(value) ? 1 : -1) : compare(value, upper);
+      if (comparison < 0 || (comparison == 0 && range.isUpperInclusive())) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return DoubleBuffer.wrap(sorted, from, low - from)
+                       .slice();
+  }
+
+  /* NaN is greater than every bound as it is sorted last by Arrays.sort(double[]) and it is excluded by the upper search. */
+  private static int compare(final double value, final BigDecimal bound) {
+    if (Double.isNaN(value) || value == Double.POSITIVE_INFINITY) {
+      return 1;
+    }
+    if (value == Double.NEGATIVE_INFINITY) {
+      return -1;
+    }
+    return BigDecimal.valueOf(value)
+                     .compareTo(bound);
+  }
+
+  static DoubleBuffer selectHalfOpen(final double[] sorted, final double fromInclusive, final double toExclusive) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (Double.compare(sorted[middle], fromInclusive) >= 0) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    final int from = low;
+    high = sorted.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (Double.compare(sorted[middle], toExclusive) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return DoubleBuffer.wrap(sorted, from, low - from)
+                       .slice();
+  }
+
+  /**
+   * Converts the given range of numbers into the closed range of the long values in it, e.g. <code>[10.5, 20)</code>
+   * into <code>[11, 19]</code>. The bounds beyond the long values are clamped.
+   *
+   * @return <code>{lowest, highest}</code> which is empty if lowest &gt; highest, or null if any bound is not an
+   * integral or finite number
+   */
+  static long[] toLongRange(final Range<?> range) {
+    final BigInteger low;
+    if (range.hasLower()) {
+      final BigDecimal lower = toBigDecimal(range.getLower());
+      if (lower == null) {
+        return null;
+      }
+      low = range.isLowerInclusive() ? lower.setScale(0, RoundingMode.CEILING)
+                                            .toBigInteger() : lower.setScale(0, RoundingMode.FLOOR)
+                                                                   .toBigInteger()
+                                                                   .add(BigInteger.ONE);
+    } else {
+      low = LONG_MIN;
+    }
+    final BigInteger high;
+    if (range.hasUpper()) {
+      final BigDecimal upper = toBigDecimal(range.getUpper());
+      if (upper == null) {
+        return null;
+      }
+      high = range.isUpperInclusive() ? upper.setScale(0, RoundingMode.FLOOR)
+                                             .toBigInteger() : upper.setScale(0, RoundingMode.CEILING)
+                                                                    .toBigInteger()
+                                                                    .subtract(BigInteger.ONE);
+    } else {
+      high = LONG_MAX;
+    }
+    if (low.compareTo(LONG_MAX) > 0 || high.compareTo(LONG_MIN) < 0) {
+      return new long[] { 0L, -1L };
+    }
+    return new long[] { low.max(LONG_MIN)
+                           .longValue(), high.min(LONG_MAX)
+                                             .longValue() };
+  }
+
+  /**
+   * @return the exact value of the given bound, or null if it is not a {@link BigDecimal}, {@link BigInteger},
+   * {@link Long}, {@link Integer}, {@link Short}, {@link Byte} or finite {@link Double} which is converted by
+   * {@link BigDecimal#valueOf(double)}
+   */
+  static BigDecimal toBigDecimal(final Object bound) {
+    if (bound instanceof BigDecimal) {
+      return (BigDecimal) bound;
+    }
+    if (bound instanceof BigInteger) {
+      return new BigDecimal((BigInteger) bound);
+    }
+    if (bound instanceof Long || bound instanceof Integer || bound instanceof Short || bound instanceof Byte) {
+      return BigDecimal.valueOf(((Number) bound).longValue());
+    }
+    if (bound instanceof Double && !((Double) bound).isNaN() && !((Double) bound).isInfinite()) {
+      return BigDecimal.valueOf((Double) bound);
+    }
+    return null;
+  }
+}
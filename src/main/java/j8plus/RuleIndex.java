@@ -0,0 +1,282 @@
+package j8plus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An index of rules each of which is a predicate on an object such as the one from
+ * <code>Funs.satisfying(predicate, param)</code>. Most rules are equality checks on a few fields so a rule can declare
+ * a key extractor and the key value expected. The rules are grouped by their key extractors and bucketed by the
+ * expected values in a hash table so, for each object, the key of each extractor is extracted once and only the rules
+ * in the matching bucket are candidates. A query takes <code>O(g + c)</code> for <code>g</code> key extractors and
+ * <code>c</code> candidates instead of <code>O(n)</code> for <code>n</code> rules. The rules added by
+ * {@link Builder#add(Predicate, Object)} cannot be indexed so they are tested one by one for each query.
+ *
+ * <pre>
+ * final Function&lt;Event, String&gt; type = Event::getType;
+ * final RuleIndex&lt;Event, String&gt; index = RuleIndex.&lt;Event, String&gt;builder()
+ *                                              .addEquals(type, "order", "orders")
+ *                                              .addEquals(type, "order", Funs.satisfying(Event::isAmountOver, 1000), "large-orders")
+ *                                              .addEquals(type, "refund", "refunds")
+ *                                              .add(Event::isTest, "tests")
+ *                                              .build();
+ * index.query(event); // e.g. [orders, large-orders] for a large order
+ * </pre>
+ * <p>
+ * The key extractors are grouped by identity, not by equality, so the rules on the same key should share one extractor
+ * instance as above. Each method reference expression makes its own instance so a rule with another
+ * <code>Event::getType</code> is still correct but it has its own group and the key is extracted once more. The keys
+ * are compared by {@link Object#equals(Object)} as {@link Objects#equals(Object, Object)} does, so the expected value
+ * must be of the same type as the key (e.g. <code>1L</code> does not match the key <code>1</code>) and it can be null.
+ * <p>
+ * It is immutable and thread safe if the key extractors and the rules are.
+ *
+ * @param <O> the type of objects to query
+ * @param <R> the type of the values associated with the rules
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class RuleIndex<O, R> {
+
+  private static final int[] NO_ORDINALS = new int[0];
+
+  private final List<R> values;
+
+  private final Function<? super O, ?>[] extractors;
+  /* the ordinals of the rules in each bucket by the expected value for each extractor */
+  private final Map<Object, int[]>[] buckets;
+  /* the additional condition of each rule, or null if the rule is the equality check only */
+  private final Predicate<? super O>[] conditions;
+
+  private final int[] residualOrdinals;
+  private final Predicate<? super O>[] residuals;
+
+  private RuleIndex(final Builder<O, R> builder) {
+    this.values = Collections.unmodifiableList(new ArrayList<>(builder.values));
+    final int size = builder.values.size();
+
+    final Map<Function<? super O, ?>, Map<Object, IntList>> groups = new IdentityHashMap<>();
+    final List<Function<? super O, ?>> extractors = new ArrayList<>();
+    final IntList residualOrdinals = new IntList();
+    final List<Predicate<? super O>> residuals = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      final Function<? super O, ?> extractor = builder.extractors.get(i);
+      if (extractor == null) {
+        residualOrdinals.add(i);
+        residuals.add(builder.conditions.get(i));
+      } else {
+        Map<Object, IntList> group = groups.get(extractor);
+        if (group == null) {
+          group = new HashMap<>();
+          groups.put(extractor, group);
+          extractors.add(extractor);
+        }
+        group.computeIfAbsent(builder.expectedValues.get(i), key -> new IntList())
+             .add(i);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    final Function<? super O, ?>[] extractorArray = extractors.toArray(new Function[0]);
+    this.extractors = extractorArray;
+    @SuppressWarnings("unchecked")
+    final Map<Object, int[]>[] bucketArray = new Map[extractorArray.length];
+    for (int i = 0; i < extractorArray.length; i++) {
+      final Map<Object, IntList> group = groups.get(extractorArray[i]);
+      final Map<Object, int[]> bucket = new HashMap<>(group.size() * 4 / 3 + 1);
+      for (final Map.Entry<Object, IntList> entry : group.entrySet()) {
+        bucket.put(entry.getKey(), entry.getValue()
+                                        .toArray());
+      }
+      bucketArray[i] = bucket;
+    }
+    this.buckets = bucketArray;
+
+    @SuppressWarnings("unchecked")
+    final Predicate<? super O>[] conditionArray = new Predicate[size];
+    for (int i = 0; i < size; i++) {
+      if (builder.extractors.get(i) != null) {
+        conditionArray[i] = builder.conditions.get(i);
+      }
+    }
+    this.conditions = conditionArray;
+
+    this.residualOrdinals = residualOrdinals.toArray();
+    @SuppressWarnings("unchecked")
+    final Predicate<? super O>[] residualArray = residuals.toArray(new Predicate[0]);
+    this.residuals = residualArray;
+  }
+
+  public static <O, R> Builder<O, R> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * @return the number of rules in this index
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * @return the number of distinct key extractors, each of which is applied once for each query
+   */
+  public int keyExtractorCount() {
+    return extractors.length;
+  }
+
+  /**
+   * Returns the values of all the rules matching the given object in the order the rules were added.
+   *
+   * @param object the object to test
+   * @return the values of the matching rules
+   */
+  public List<R> query(final O object) {
+    Objects.requireNonNull(object, "The object: O cannot be null.");
+    final IntList ordinals = new IntList();
+    collectMatches(object, ordinals);
+    Arrays.sort(ordinals.values, 0, ordinals.size);
+    final List<R> matches = new ArrayList<>(ordinals.size);
+    for (int i = 0; i < ordinals.size; i++) {
+      matches.add(values.get(ordinals.values[i]));
+    }
+    return matches;
+  }
+
+  /**
+   * Passes the value of each rule matching the given object to the given action in no particular order, so the
+   * matches are not sorted.
+   *
+   * @param object the object to test
+   * @param action the action to take for the value of each matching rule
+   */
+  public void forEachMatch(final O object, final Consumer<? super R> action) {
+    Objects.requireNonNull(object, "The object: O cannot be null.");
+    Objects.requireNonNull(action, "The action: Consumer<R> cannot be null.");
+    final IntList ordinals = new IntList();
+    collectMatches(object, ordinals);
+    for (int i = 0; i < ordinals.size; i++) {
+      action.accept(values.get(ordinals.values[i]));
+    }
+  }
+
+  private void collectMatches(final O object, final IntList ordinals) {
+    for (int i = 0; i < extractors.length; i++) {
+      final int[] candidates = buckets[i].getOrDefault(extractors[i].apply(object), NO_ORDINALS);
+      for (final int ordinal : candidates) {
+        final Predicate<? super O> condition = conditions[ordinal];
+        if (condition == null || condition.test(object)) {
+          ordinals.add(ordinal);
+        }
+      }
+    }
+    for (int i = 0; i < residuals.length; i++) {
+      if (residuals[i].test(object)) {
+        ordinals.add(residualOrdinals[i]);
+      }
+    }
+  }
+
+  /**
+   * The builder of {@link RuleIndex}.
+   *
+   * @param <O> the type of objects to query
+   * @param <R> the type of the values associated with the rules
+   */
+  public static final class Builder<O, R> {
+    private final List<R> values = new ArrayList<>();
+    /* the key extractor of each rule, or null if the rule is not indexed */
+    private final List<Function<? super O, ?>> extractors = new ArrayList<>();
+    private final List<Object> expectedValues = new ArrayList<>();
+    /* the condition of each rule, or null if the rule is the equality check only */
+    private final List<Predicate<? super O>> conditions = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Adds a rule matching the objects whose keys are equal to the expected value.
+     *
+     * @param keyExtractor  the function to extract the key from an object
+     * @param expectedValue the key value to match which can be null
+     * @param value         the value to return when the rule matches
+     * @return this builder
+     */
+    public Builder<O, R> addEquals(final Function<? super O, ?> keyExtractor, final Object expectedValue, final R value) {
+      Objects.requireNonNull(keyExtractor, "The keyExtractor: Function<O, ?> cannot be null.");
+      return add(keyExtractor, expectedValue, null, value);
+    }
+
+    /**
+     * Adds a rule matching the objects whose keys are equal to the expected value and which satisfy the given
+     * condition. The condition is tested only for the objects with the expected key.
+     *
+     * @param keyExtractor  the function to extract the key from an object
+     * @param expectedValue the key value to match which can be null
+     * @param condition     the condition to test after the key matches such as
+     *                      <code>Funs.satisfying(predicate, param)</code>
+     * @param value         the value to return when the rule matches
+     * @return this builder
+     */
+    public Builder<O, R> addEquals(final Function<? super O, ?> keyExtractor,
+                                   final Object expectedValue,
+                                   final Predicate<? super O> condition,
+                                   final R value) {
+      Objects.requireNonNull(keyExtractor, "The keyExtractor: Function<O, ?> cannot be null.");
+      Objects.requireNonNull(condition, "The condition: Predicate<O> cannot be null.");
+      return add(keyExtractor, expectedValue, condition, value);
+    }
+
+    /**
+     * Adds a rule which is not indexed so it is tested for every query.
+     *
+     * @param rule  the rule to test
+     * @param value the value to return when the rule matches
+     * @return this builder
+     */
+    public Builder<O, R> add(final Predicate<? super O> rule, final R value) {
+      Objects.requireNonNull(rule, "The rule: Predicate<O> cannot be null.");
+      return add(null, null, rule, value);
+    }
+
+    private Builder<O, R> add(final Function<? super O, ?> keyExtractor,
+                              final Object expectedValue,
+                              final Predicate<? super O> condition,
+                              final R value) {
+      values.add(value);
+      extractors.add(keyExtractor);
+      expectedValues.add(expectedValue);
+      conditions.add(condition);
+      return this;
+    }
+
+    public RuleIndex<O, R> build() {
+      return new RuleIndex<>(this);
+    }
+  }
+
+  private static final class IntList {
+    private int[] values = new int[8];
+    private int size;
+
+    void add(final int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
@@ -0,0 +1,311 @@
+package j8plus;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Sorting and selection utilities which do less work than sorting everything.
+ * <p>
+ * The sorts by key compute the key of each element only once (the Schwartzian transform) while sorting with
+ * {@link Funs#comparing(Function)} extracts two keys for every comparison, <code>O(n log n)</code> times in total, which
+ * is costly for the keys such as computed {@link java.math.BigDecimal}s or parsed dates. The keys are computed into an
+ * array next to the indices of the elements, the pairs are sorted, and the list is reordered. The int, long and double
+ * keys are sorted in primitive arrays without boxing. The parallel ones compute the keys and sort them in parallel for
+ * large lists. All the sorts are stable.
+ * <p>
+ * The top-K selections keep only the best <code>k</code> elements in a bounded heap so selecting the top 100 of 10
+ * million elements takes <code>O(n log k)</code> time and <code>O(k)</code> space instead of sorting a copy of all of
+ * them. The collectors can be used with parallel streams where each thread has its own heap and the heaps are merged,
+ * and the results are already sorted from the best. The selections are stable as the earlier one of equal elements is
+ * selected and comes first, even in parallel.
+ *
+ * <pre>
+ * final List&lt;Order&gt; largest = Sorting.top(orders, 100, comparing(Order::getAmount));
+ * final List&lt;Order&gt; oldest = orders.parallelStream()
+ *                                .collect(Sorting.bottomKByLong(100, Order::getCreatedAtMillis));
+ * </pre>
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class Sorting {
+
+  private Sorting() {
+  }
+
+  /**
+   * Returns the greatest <code>k</code> elements of the given collection by the given comparator sorted from the
+   * greatest.
+   *
+   * @param collection the collection to select from
+   * @param k          the maximum number of elements to select
+   * @param comparator the comparator to order the elements such as one from {@link Funs#comparing(java.util.function.Function)}
+   * @param <T>        the type of elements
+   * @return the greatest <code>k</code> elements from the greatest
+   * @throws IllegalArgumentException if k is negative
+   */
+  public static <T> List<T> top(final Collection<? extends T> collection, final int k, final Comparator<? super T> comparator) {
+    Objects.requireNonNull(collection, "The collection: Collection<T> cannot be null.");
+    final BoundedHeap.ComparatorHeap<T> heap = comparatorHeap(k, true, comparator);
+    for (final T item : collection) {
+      heap.offer(item);
+    }
+    return heap.toSortedList();
+  }
+
+  /**
+   * Returns the least <code>k</code> elements of the given collection by the given comparator sorted from the least.
+   *
+   * @param collection the collection to select from
+   * @param k          the maximum number of elements to select
+   * @param comparator the comparator to order the elements
+   * @param <T>        the type of elements
+   * @return the least <code>k</code> elements from the least
+   * @throws IllegalArgumentException if k is negative
+   */
+  public static <T> List<T> bottom(final Collection<? extends T> collection, final int k, final Comparator<? super T> comparator) {
+    Objects.requireNonNull(collection, "The collection: Collection<T> cannot be null.");
+    final BoundedHeap.ComparatorHeap<T> heap = comparatorHeap(k, false, comparator);
+    for (final T item : collection) {
+      heap.offer(item);
+    }
+    return heap.toSortedList();
+  }
+
+  /**
+   * The same as {@link #top(Collection, int, Comparator)} but selects in parallel. It returns the same elements as the
+   * sequential one.
+   */
+  public static <T> List<T> parallelTop(final Collection<? extends T> collection, final int k, final Comparator<? super T> comparator) {
+    Objects.requireNonNull(collection, "The collection: Collection<T> cannot be null.");
+    return collection.parallelStream()
+                     .collect(topK(k, comparator));
+  }
+
+  /**
+   * The same as {@link #bottom(Collection, int, Comparator)} but selects in parallel. It returns the same elements as the
+   * sequential one.
+   */
+  public static <T> List<T> parallelBottom(final Collection<? extends T> collection, final int k, final Comparator<? super T> comparator) {
+    Objects.requireNonNull(collection, "The collection: Collection<T> cannot be null.");
+    return collection.parallelStream()
+                     .collect(bottomK(k, comparator));
+  }
+
+  /**
+   * Returns a {@link Collector} which collects the greatest <code>k</code> input elements by the given comparator sorted
+   * from the greatest. It keeps a bounded heap of <code>k</code> elements for each thread.
+   *
+   * @param k          the maximum number of elements to collect
+   * @param comparator the comparator to order the elements
+   * @param <T>        the type of input elements
+   * @return a {@link Collector} collecting the greatest <code>k</code> elements
+   * @throws IllegalArgumentException if k is negative
+   */
+  public static <T> Collector<T, ?, List<T>> topK(final int k, final Comparator<? super T> comparator) {
+    return comparatorHeapCollector(k, true, comparator);
+  }
+
+  /**
+   * Returns a {@link Collector} which collects the least <code>k</code> input elements by the given comparator sorted
+   * from the least.
+   *
+   * @param k          the maximum number of elements to collect
+   * @param comparator the comparator to order the elements
+   * @param <T>        the type of input elements
+   * @return a {@link Collector} collecting the least <code>k</code> elements
+   * @throws IllegalArgumentException if k is negative
+   */
+  public static <T> Collector<T, ?, List<T>> bottomK(final int k, final Comparator<? super T> comparator) {
+    return comparatorHeapCollector(k, false, comparator);
+  }
+
+  /**
+   * Returns a {@link Collector} which collects the <code>k</code> input elements with the greatest int keys. Each key is
+   * extracted once and kept in a primitive array so the keys are compared without boxing.
+   *
+   * @param k            the maximum number of elements to collect
+   * @param keyExtractor a function to extract the key from each element
+   * @param <T>          the type of input elements
+   * @return a {@link Collector} collecting the <code>k</code> elements with the greatest keys from the greatest
+   * @throws IllegalArgumentException if k is negative
+   */
+  public static <T> Collector<T, ?, List<T>> topKByInt(final int k, final ToIntFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: ToIntFunction<T> cannot be null.");
+    return longKeyHeapCollector(k, true, keyExtractor::applyAsInt);
+  }
+
+  public static <T> Collector<T, ?, List<T>> bottomKByInt(final int k, final ToIntFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: ToIntFunction<T> cannot be null.");
+    return longKeyHeapCollector(k, false, keyExtractor::applyAsInt);
+  }
+
+  /**
+   * The same as {@link #topKByInt(int, ToIntFunction)} for long keys.
+   */
+  public static <T> Collector<T, ?, List<T>> topKByLong(final int k, final ToLongFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: ToLongFunction<T> cannot be null.");
+    return longKeyHeapCollector(k, true, keyExtractor);
+  }
+
+  public static <T> Collector<T, ?, List<T>> bottomKByLong(final int k, final ToLongFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: ToLongFunction<T> cannot be null.");
+    return longKeyHeapCollector(k, false, keyExtractor);
+  }
+
+  /**
+   * The same as {@link #topKByInt(int, ToIntFunction)} for double keys which are compared by
+   * {@link Double#compare(double, double)}.
+   */
+  public static <T> Collector<T, ?, List<T>> topKByDouble(final int k, final ToDoubleFunction<? super T> keyExtractor) {
+    return doubleKeyHeapCollector(k, true, keyExtractor);
+  }
+
+  public static <T> Collector<T, ?, List<T>> bottomKByDouble(final int k, final ToDoubleFunction<? super T> keyExtractor) {
+    return doubleKeyHeapCollector(k, false, keyExtractor);
+  }
+
+  private static <T> BoundedHeap.ComparatorHeap<T> comparatorHeap(final int k, final boolean greatest, final Comparator<? super T> comparator) {
+    Objects.requireNonNull(comparator, "The comparator: Comparator<T> cannot be null.");
+    return BoundedHeap.ofComparator(k, greatest, comparator);
+  }
+
+  private static <T> Collector<T, ?, List<T>> comparatorHeapCollector(final int k, final boolean greatest, final Comparator<? super T> comparator) {
+    BoundedHeap.requireValidK(k);
+    Objects.requireNonNull(comparator, "The comparator: Comparator<T> cannot be null.");
+    /* @formatter:off */
+    return Collector.of(() -> BoundedHeap.<T>ofComparator(k, greatest, comparator),
+                        BoundedHeap.ComparatorHeap::offer,
+                        (left, right) -> { left.combine(right); return left; },
+                        BoundedHeap::toSortedList);
+    /* @formatter:on */
+  }
+
+  private static <T> Collector<T, ?, List<T>> longKeyHeapCollector(final int k, final boolean greatest, final ToLongFunction<? super T> keyExtractor) {
+    BoundedHeap.requireValidK(k);
+    /* @formatter:off */
+    return Collector.of(() -> BoundedHeap.<T>ofLongKeys(k, greatest),
+                        (heap, item) -> heap.offer(item, keyExtractor.applyAsLong(item)),
+                        (left, right) -> { left.combine(right); return left; },
+                        BoundedHeap::toSortedList);
+    /* @formatter:on */
+  }
+
+  private static <T> Collector<T, ?, List<T>> doubleKeyHeapCollector(final int k, final boolean greatest, final ToDoubleFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "The keyExtractor: ToDoubleFunction<T> cannot be null.");
+    BoundedHeap.requireValidK(k);
+    /* @formatter:off */
+    return Collector.of(() -> BoundedHeap.<T>ofDoubleKeys(k, greatest),
+                        (heap, item) -> heap.offer(item, keyExtractor.applyAsDouble(item)),
+                        (left, right) -> { left.combine(right); return left; },
+                        BoundedHeap::toSortedList);
+    /* @formatter:on */
+  }
+
+  /**
+   * Sorts the given list in place by the key of each element which is extracted only once. It is stable.
+   *
+   * <pre>
+   * Sorting.sortByKey(trades, trade -&gt; trade.getPrice().multiply(trade.getQuantity()));
+   * </pre>
+   *
+   * @param list         the list to sort
+   * @param keyExtractor a function to extract the key to sort by from each element
+   * @param <T>          the type of elements
+   * @param <C>          the type of keys
+   */
+  public static <T, C extends Comparable<? super C>> void sortByKey(final List<T> list, final Function<? super T, ? extends C> keyExtractor) {
+    sortByKey(list, keyExtractor, Comparator.<C>naturalOrder());
+  }
+
+  /**
+   * Sorts the given list in place by the key of each element in the order of the given comparator. The key of each
+   * element is extracted only once. It is stable.
+   *
+   * @param list          the list to sort
+   * @param keyExtractor  a function to extract the key to sort by from each element
+   * @param keyComparator the comparator to order the keys
+   * @param <T>           the type of elements
+   * @param <K>           the type of keys
+   */
+  public static <T, K> void sortByKey(final List<T> list,
+                                      final Function<? super T, ? extends K> keyExtractor,
+                                      final Comparator<? super K> keyComparator) {
+    requireSortArguments(list, keyExtractor);
+    Objects.requireNonNull(keyComparator, "The keyComparator: Comparator<K> cannot be null.");
+    KeySorts.sortByKey(list, keyExtractor, keyComparator, false);
+  }
+
+  /**
+   * The same as {@link #sortByKey(List, Function)} but the keys are extracted and sorted in parallel if the list is
+   * large.
+   */
+  public static <T, C extends Comparable<? super C>> void parallelSortByKey(final List<T> list, final Function<? super T, ? extends C> keyExtractor) {
+    parallelSortByKey(list, keyExtractor, Comparator.<C>naturalOrder());
+  }
+
+  public static <T, K> void parallelSortByKey(final List<T> list,
+                                              final Function<? super T, ? extends K> keyExtractor,
+                                              final Comparator<? super K> keyComparator) {
+    requireSortArguments(list, keyExtractor);
+    Objects.requireNonNull(keyComparator, "The keyComparator: Comparator<K> cannot be null.");
+    KeySorts.sortByKey(list, keyExtractor, keyComparator, true);
+  }
+
+  /**
+   * Sorts the given list in place by the int key of each element which is extracted only once and sorted without
+   * boxing. It is stable.
+   *
+   * @param list         the list to sort
+   * @param keyExtractor a function to extract the key to sort by from each element
+   * @param <T>          the type of elements
+   */
+  public static <T> void sortByIntKey(final List<T> list, final ToIntFunction<? super T> keyExtractor) {
+    requireSortArguments(list, keyExtractor);
+    KeySorts.sortByIntKey(list, keyExtractor, false);
+  }
+
+  public static <T> void parallelSortByIntKey(final List<T> list, final ToIntFunction<? super T> keyExtractor) {
+    requireSortArguments(list, keyExtractor);
+    KeySorts.sortByIntKey(list, keyExtractor, true);
+  }
+
+  /**
+   * The same as {@link #sortByIntKey(List, ToIntFunction)} for long keys.
+   */
+  public static <T> void sortByLongKey(final List<T> list, final ToLongFunction<? super T> keyExtractor) {
+    requireSortArguments(list, keyExtractor);
+    KeySorts.sortByLongKey(list, keyExtractor, false);
+  }
+
+  public static <T> void parallelSortByLongKey(final List<T> list, final ToLongFunction<? super T> keyExtractor) {
+    requireSortArguments(list, keyExtractor);
+    KeySorts.sortByLongKey(list, keyExtractor, true);
+  }
+
+  /**
+   * The same as {@link #sortByIntKey(List, ToIntFunction)} for double keys which are ordered by
+   * {@link Double#compare(double, double)}.
+   */
+  public static <T> void sortByDoubleKey(final List<T> list, final ToDoubleFunction<? super T> keyExtractor) {
+    requireSortArguments(list, keyExtractor);
+    KeySorts.sortByDoubleKey(list, keyExtractor, false);
+  }
+
+  public static <T> void parallelSortByDoubleKey(final List<T> list, final ToDoubleFunction<? super T> keyExtractor) {
+    requireSortArguments(list, keyExtractor);
+    KeySorts.sortByDoubleKey(list, keyExtractor, true);
+  }
+
+  private static void requireSortArguments(final List<?> list, final Object keyExtractor) {
+    Objects.requireNonNull(list, "The list: List<T> cannot be null.");
+    Objects.requireNonNull(keyExtractor, "The keyExtractor cannot be null.");
+  }
+}
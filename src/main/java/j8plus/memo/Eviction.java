@@ -0,0 +1,21 @@
+package j8plus.memo;
+
+/**
+ * The policy to choose which memoized value to evict when the maximum size is exceeded. Both are approximated by
+ * sampling a few entries and evicting the worst of them so that an eviction is <code>O(1)</code> and a hit does not
+ * need any lock to keep an order of the entries.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public enum Eviction {
+  /**
+   * Evicts the least recently used value.
+   */
+  LRU,
+  /**
+   * Evicts the least frequently used value. The frequencies are halved from time to time so that the values used
+   * frequently only in the past can be evicted eventually.
+   */
+  LFU
+}
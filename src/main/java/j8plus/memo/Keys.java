@@ -0,0 +1,712 @@
+package j8plus.memo;
+
+import java.util.Objects;
+
+/**
+ * Compact keys of the arguments of the memoized functions taking more than one argument. A key keeps the arguments
+ * in fields instead of an array or a list and computes its hash code once, so a lookup allocates only the key and
+ * compares the hash codes before the arguments.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class Keys {
+
+  private Keys() {
+  }
+
+  static int hash(final Object argument) {
+    return argument == null ? 0 : argument.hashCode();
+  }
+
+  /* the arguments of a key, so that the cache can hold each of them weakly for MemoOptions.Builder#weakKeys() */
+  interface Composite {
+    int arity();
+
+    Object argument(int index);
+  }
+
+  static final class Key2 implements Composite {
+    final Object first;
+    final Object second;
+    private final int hash;
+
+    Key2(final Object first, final Object second) {
+      this.first = first;
+      this.second = second;
+      this.hash = 31 * hash(first) + hash(second);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key2)) {
+        return false;
+      }
+      final Key2 that = (Key2) other;
+      return hash == that.hash && Objects.equals(first, that.first) && Objects.equals(second, that.second);
+    }
+
+    @Override
+    public int arity() {
+      return 2;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      return index == 0 ? first : second;
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ")";
+    }
+  }
+
+  static final class Key3 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    private final int hash;
+
+    Key3(final Object first, final Object second, final Object third) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key3)) {
+        return false;
+      }
+      final Key3 that = (Key3) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third);
+    }
+
+    @Override
+    public int arity() {
+      return 3;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        default:
+          return third;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ")";
+    }
+  }
+
+  static final class Key4 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    final Object fourth;
+    private final int hash;
+
+    Key4(final Object first, final Object second, final Object third, final Object fourth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      hash = 31 * hash + hash(fourth);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key4)) {
+        return false;
+      }
+      final Key4 that = (Key4) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third) &&
+        Objects.equals(fourth, that.fourth);
+    }
+
+    @Override
+    public int arity() {
+      return 4;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        case 2:
+          return third;
+        default:
+          return fourth;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ", " + fourth + ")";
+    }
+  }
+
+  static final class Key5 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    final Object fourth;
+    final Object fifth;
+    private final int hash;
+
+    Key5(final Object first, final Object second, final Object third, final Object fourth, final Object fifth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      this.fifth = fifth;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      hash = 31 * hash + hash(fourth);
+      hash = 31 * hash + hash(fifth);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key5)) {
+        return false;
+      }
+      final Key5 that = (Key5) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third) &&
+        Objects.equals(fourth, that.fourth) &&
+        Objects.equals(fifth, that.fifth);
+    }
+
+    @Override
+    public int arity() {
+      return 5;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        case 2:
+          return third;
+        case 3:
+          return fourth;
+        default:
+          return fifth;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ", " + fourth + ", " + fifth + ")";
+    }
+  }
+
+  static final class Key6 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    final Object fourth;
+    final Object fifth;
+    final Object sixth;
+    private final int hash;
+
+    Key6(final Object first, final Object second, final Object third, final Object fourth, final Object fifth, final Object sixth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      this.fifth = fifth;
+      this.sixth = sixth;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      hash = 31 * hash + hash(fourth);
+      hash = 31 * hash + hash(fifth);
+      hash = 31 * hash + hash(sixth);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key6)) {
+        return false;
+      }
+      final Key6 that = (Key6) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third) &&
+        Objects.equals(fourth, that.fourth) &&
+        Objects.equals(fifth, that.fifth) &&
+        Objects.equals(sixth, that.sixth);
+    }
+
+    @Override
+    public int arity() {
+      return 6;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        case 2:
+          return third;
+        case 3:
+          return fourth;
+        case 4:
+          return fifth;
+        default:
+          return sixth;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ", " + fourth + ", " + fifth + ", " + sixth + ")";
+    }
+  }
+
+  static final class Key7 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    final Object fourth;
+    final Object fifth;
+    final Object sixth;
+    final Object seventh;
+    private final int hash;
+
+    Key7(final Object first, final Object second, final Object third, final Object fourth, final Object fifth, final Object sixth, final Object seventh) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      this.fifth = fifth;
+      this.sixth = sixth;
+      this.seventh = seventh;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      hash = 31 * hash + hash(fourth);
+      hash = 31 * hash + hash(fifth);
+      hash = 31 * hash + hash(sixth);
+      hash = 31 * hash + hash(seventh);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key7)) {
+        return false;
+      }
+      final Key7 that = (Key7) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third) &&
+        Objects.equals(fourth, that.fourth) &&
+        Objects.equals(fifth, that.fifth) &&
+        Objects.equals(sixth, that.sixth) &&
+        Objects.equals(seventh, that.seventh);
+    }
+
+    @Override
+    public int arity() {
+      return 7;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        case 2:
+          return third;
+        case 3:
+          return fourth;
+        case 4:
+          return fifth;
+        case 5:
+          return sixth;
+        default:
+          return seventh;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ", " + fourth + ", " + fifth + ", " + sixth + ", " + seventh + ")";
+    }
+  }
+
+  static final class Key8 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    final Object fourth;
+    final Object fifth;
+    final Object sixth;
+    final Object seventh;
+    final Object eighth;
+    private final int hash;
+
+    Key8(final Object first, final Object second, final Object third, final Object fourth, final Object fifth, final Object sixth, final Object seventh, final Object eighth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      this.fifth = fifth;
+      this.sixth = sixth;
+      this.seventh = seventh;
+      this.eighth = eighth;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      hash = 31 * hash + hash(fourth);
+      hash = 31 * hash + hash(fifth);
+      hash = 31 * hash + hash(sixth);
+      hash = 31 * hash + hash(seventh);
+      hash = 31 * hash + hash(eighth);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key8)) {
+        return false;
+      }
+      final Key8 that = (Key8) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third) &&
+        Objects.equals(fourth, that.fourth) &&
+        Objects.equals(fifth, that.fifth) &&
+        Objects.equals(sixth, that.sixth) &&
+        Objects.equals(seventh, that.seventh) &&
+        Objects.equals(eighth, that.eighth);
+    }
+
+    @Override
+    public int arity() {
+      return 8;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        case 2:
+          return third;
+        case 3:
+          return fourth;
+        case 4:
+          return fifth;
+        case 5:
+          return sixth;
+        case 6:
+          return seventh;
+        default:
+          return eighth;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ", " + fourth + ", " + fifth + ", " + sixth + ", " + seventh + ", " + eighth + ")";
+    }
+  }
+
+  static final class Key9 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    final Object fourth;
+    final Object fifth;
+    final Object sixth;
+    final Object seventh;
+    final Object eighth;
+    final Object ninth;
+    private final int hash;
+
+    Key9(final Object first, final Object second, final Object third, final Object fourth, final Object fifth, final Object sixth, final Object seventh, final Object eighth, final Object ninth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      this.fifth = fifth;
+      this.sixth = sixth;
+      this.seventh = seventh;
+      this.eighth = eighth;
+      this.ninth = ninth;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      hash = 31 * hash + hash(fourth);
+      hash = 31 * hash + hash(fifth);
+      hash = 31 * hash + hash(sixth);
+      hash = 31 * hash + hash(seventh);
+      hash = 31 * hash + hash(eighth);
+      hash = 31 * hash + hash(ninth);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key9)) {
+        return false;
+      }
+      final Key9 that = (Key9) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third) &&
+        Objects.equals(fourth, that.fourth) &&
+        Objects.equals(fifth, that.fifth) &&
+        Objects.equals(sixth, that.sixth) &&
+        Objects.equals(seventh, that.seventh) &&
+        Objects.equals(eighth, that.eighth) &&
+        Objects.equals(ninth, that.ninth);
+    }
+
+    @Override
+    public int arity() {
+      return 9;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        case 2:
+          return third;
+        case 3:
+          return fourth;
+        case 4:
+          return fifth;
+        case 5:
+          return sixth;
+        case 6:
+          return seventh;
+        case 7:
+          return eighth;
+        default:
+          return ninth;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ", " + fourth + ", " + fifth + ", " + sixth + ", " + seventh + ", " + eighth + ", " + ninth + ")";
+    }
+  }
+
+  static final class Key10 implements Composite {
+    final Object first;
+    final Object second;
+    final Object third;
+    final Object fourth;
+    final Object fifth;
+    final Object sixth;
+    final Object seventh;
+    final Object eighth;
+    final Object ninth;
+    final Object tenth;
+    private final int hash;
+
+    Key10(final Object first, final Object second, final Object third, final Object fourth, final Object fifth, final Object sixth, final Object seventh, final Object eighth, final Object ninth, final Object tenth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      this.fifth = fifth;
+      this.sixth = sixth;
+      this.seventh = seventh;
+      this.eighth = eighth;
+      this.ninth = ninth;
+      this.tenth = tenth;
+      int hash = hash(first);
+      hash = 31 * hash + hash(second);
+      hash = 31 * hash + hash(third);
+      hash = 31 * hash + hash(fourth);
+      hash = 31 * hash + hash(fifth);
+      hash = 31 * hash + hash(sixth);
+      hash = 31 * hash + hash(seventh);
+      hash = 31 * hash + hash(eighth);
+      hash = 31 * hash + hash(ninth);
+      hash = 31 * hash + hash(tenth);
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key10)) {
+        return false;
+      }
+      final Key10 that = (Key10) other;
+      return hash == that.hash &&
+        Objects.equals(first, that.first) &&
+        Objects.equals(second, that.second) &&
+        Objects.equals(third, that.third) &&
+        Objects.equals(fourth, that.fourth) &&
+        Objects.equals(fifth, that.fifth) &&
+        Objects.equals(sixth, that.sixth) &&
+        Objects.equals(seventh, that.seventh) &&
+        Objects.equals(eighth, that.eighth) &&
+        Objects.equals(ninth, that.ninth) &&
+        Objects.equals(tenth, that.tenth);
+    }
+
+    @Override
+    public int arity() {
+      return 10;
+    }
+
+    @Override
+    public Object argument(final int index) {
+      switch (index) {
+        case 0:
+          return first;
+        case 1:
+          return second;
+        case 2:
+          return third;
+        case 3:
+          return fourth;
+        case 4:
+          return fifth;
+        case 5:
+          return sixth;
+        case 6:
+          return seventh;
+        case 7:
+          return eighth;
+        case 8:
+          return ninth;
+        default:
+          return tenth;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "(" + first + ", " + second + ", " + third + ", " + fourth + ", " + fifth + ", " + sixth + ", " + seventh + ", " + eighth + ", " + ninth + ", " + tenth + ")";
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package j8plus.memo;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A value computed when it is first got. Once it is computed, getting it is a single volatile read (or a plain read
+ * with {@link LazyMode#NONE}) and the supplier is released.
+ *
+ * <pre>
+ * private final Lazy&lt;RuleSet&gt; rules = Funs.lazy(this::compileRules);
+ * </pre>
+ * <p>
+ * The expiring one from {@link #expiring(Supplier, Duration)} computes the value again once it is older than the
+ * given time. The first thread finding it expired computes the new value while the other threads keep getting the old
+ * value without waiting. If it fails, the exception is thrown to that thread and the old value is kept until the next
+ * try.
+ *
+ * @param <T> the type of the value
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public abstract class Lazy<T> implements Supplier<T> {
+
+  /* the value not computed yet */
+  private static final Object UNSET = new Object();
+
+  Lazy() {
+  }
+
+  public static <T> Lazy<T> of(final Supplier<? extends T> supplier) {
+    return of(supplier, LazyMode.SYNCHRONIZED);
+  }
+
+  public static <T> Lazy<T> of(final Supplier<? extends T> supplier, final LazyMode mode) {
+    Objects.requireNonNull(supplier, "The supplier: Supplier<T> cannot be null.");
+    Objects.requireNonNull(mode, "The mode: LazyMode cannot be null.");
+    switch (mode) {
+      case SYNCHRONIZED:
+        return new SynchronizedLazy<>(supplier);
+      case PUBLICATION:
+        return new PublicationLazy<>(supplier);
+      default:
+        return new UnsynchronizedLazy<>(supplier);
+    }
+  }
+
+  /**
+   * Returns a lazy value computed again once it is older than the given time to live.
+   *
+   * @param supplier   the supplier of the value
+   * @param timeToLive how long a value is used which must be positive
+   * @return the expiring lazy value
+   */
+  public static <T> Lazy<T> expiring(final Supplier<? extends T> supplier, final Duration timeToLive) {
+    return expiring(supplier, timeToLive, System::nanoTime);
+  }
+
+  static <T> Lazy<T> expiring(final Supplier<? extends T> supplier, final Duration timeToLive, final LongSupplier nanoClock) {
+    Objects.requireNonNull(supplier, "The supplier: Supplier<T> cannot be null.");
+    Objects.requireNonNull(timeToLive, "The timeToLive: Duration cannot be null.");
+    if (timeToLive.isZero() || timeToLive.isNegative()) {
+      throw new IllegalArgumentException("The timeToLive must be positive. [timeToLive: " + timeToLive + "]");
+    }
+    return new ExpiringLazy<>(supplier, timeToLive.toNanos(), nanoClock);
+  }
+
+  /**
+   * @return true if the value has been computed
+   */
+  public abstract boolean isInitialized();
+
+  @SuppressWarnings("unchecked")
+  private static <T> T unset() {
+    return (T) UNSET;
+  }
+
+  private static final class SynchronizedLazy<T> extends Lazy<T> {
+    private Supplier<? extends T> supplier;
+    private volatile T value = unset();
+
+    SynchronizedLazy(final Supplier<? extends T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+      final T current = value;
+      return current != UNSET ? current : initialize();
+    }
+
+    private synchronized T initialize() {
+      if (value == UNSET) {
+        value = supplier.get();
+        supplier = null;
+      }
+      return value;
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return value != UNSET;
+    }
+  }
+
+  private static final class PublicationLazy<T> extends Lazy<T> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<PublicationLazy, Object> VALUE = AtomicReferenceFieldUpdater.newUpdater(PublicationLazy.class, Object.class, "value");
+
+    private volatile Supplier<? extends T> supplier;
+    private volatile Object value = UNSET;
+
+    PublicationLazy(final Supplier<? extends T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get() {
+      final Object current = value;
+      if (current != UNSET) {
+        return (T) current;
+      }
+      final Supplier<? extends T> currentSupplier = supplier;
+      if (currentSupplier != null) {
+        /* the first value set wins so that every thread gets the same one */
+        if (VALUE.compareAndSet(this, UNSET, currentSupplier.get())) {
+          supplier = null;
+        }
+      }
+      return (T) value;
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return value != UNSET;
+    }
+  }
+
+  private static final class UnsynchronizedLazy<T> extends Lazy<T> {
+    private Supplier<? extends T> supplier;
+    private T value = unset();
+
+    UnsynchronizedLazy(final Supplier<? extends T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+      if (value == UNSET) {
+        value = supplier.get();
+        supplier = null;
+      }
+      return value;
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return value != UNSET;
+    }
+  }
+
+  private static final class ExpiringLazy<T> extends Lazy<T> {
+    private final Supplier<? extends T> supplier;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Entry<T> entry;
+
+    ExpiringLazy(final Supplier<? extends T> supplier, final long timeToLiveNanos, final LongSupplier nanoClock) {
+      this.supplier = supplier;
+      this.timeToLiveNanos = timeToLiveNanos;
+      this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public T get() {
+      final Entry<T> current = entry;
+      if (current == null) {
+        return initialize();
+      }
+      if (nanoClock.getAsLong() - current.writeNanos >= timeToLiveNanos && refreshing.compareAndSet(false, true)) {
+        try {
+          final T value = supplier.get();
+          entry = new Entry<>(value, nanoClock.getAsLong());
+          return value;
+        } finally {
+          refreshing.set(false);
+        }
+      }
+      return current.value;
+    }
+
+    private synchronized T initialize() {
+      if (entry == null) {
+        entry = new Entry<>(supplier.get(), nanoClock.getAsLong());
+      }
+      return entry.value;
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return entry != null;
+    }
+  }
+
+  private static final class Entry<T> {
+    private final T value;
+    private final long writeNanos;
+
+    Entry(final T value, final long writeNanos) {
+      this.value = value;
+      this.writeNanos = writeNanos;
+    }
+  }
+}
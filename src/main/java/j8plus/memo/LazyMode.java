@@ -0,0 +1,23 @@
+package j8plus.memo;
+
+/**
+ * How a {@link Lazy} value is initialized when it is got by more than one thread.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public enum LazyMode {
+  /**
+   * The value is computed once under a lock and the other threads wait for it.
+   */
+  SYNCHRONIZED,
+  /**
+   * The value may be computed by more than one thread at the same time without a lock, but only the first one set is
+   * published and returned to every thread. It suits a supplier which is cheap enough to run more than once.
+   */
+  PUBLICATION,
+  /**
+   * The value is computed without any synchronization, which is only for a value used by one thread.
+   */
+  NONE
+}
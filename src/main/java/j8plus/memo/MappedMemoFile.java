@@ -0,0 +1,309 @@
+package j8plus.memo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An append-only file of key and value bytes mapped in memory, used by {@link PersistentMemoizedFunction}.
+ * <p>
+ * The file starts with a header of a magic number, the format, the end of the records and the version stamp, which is
+ * followed by the records of <code>keyLength, valueLength, key, value</code> where the length of null is -1. The end in
+ * the header is updated only after a record is written, so a record torn by a crash is ignored and overwritten. If
+ * the header does not match, e.g. the version stamp is different, the file is emptied.
+ * <p>
+ * The records are found by an open-addressing hash index of the positions of the records, which is rebuilt by
+ * scanning the records when the file is opened. The keys are compared as bytes in the file so they are not decoded.
+ * The methods are synchronized as it is used only when the in-memory memo misses.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class MappedMemoFile implements Closeable {
+
+  /* the bytes returned for a null value */
+  static final byte[] NULL_VALUE = new byte[0];
+
+  private static final int MAGIC = 0x4A384D4D;
+  private static final int FORMAT = 1;
+  private static final int END_POSITION = 8;
+  private static final int STAMP_LENGTH_POSITION = 16;
+  private static final int STAMP_POSITION = 20;
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  private static final int NULL_LENGTH = -1;
+  private static final long INITIAL_CAPACITY = 1L << 16;
+
+  private final Path file;
+  private final FileChannel channel;
+  private final FileLock lock;
+  private final int dataStart;
+  private MappedByteBuffer buffer;
+  private int end;
+
+  /* the positions of the records where 0 is empty, and the hash codes of their keys */
+  private int[] positions = new int[16];
+  private int[] hashes = new int[16];
+  private int count;
+
+  private MappedMemoFile(final Path file, final FileChannel channel, final FileLock lock, final int dataStart) {
+    this.file = file;
+    this.channel = channel;
+    this.lock = lock;
+    this.dataStart = dataStart;
+  }
+
+  static MappedMemoFile open(final Path file, final String version) throws IOException {
+    final byte[] stamp = version.getBytes(StandardCharsets.UTF_8);
+    final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      final FileLock lock;
+      try {
+        lock = channel.tryLock();
+      } catch (final OverlappingFileLockException e) {
+        throw new IOException("The memo file is already open. [file: " + file + "]", e);
+      }
+      if (lock == null) {
+        throw new IOException("The memo file is used by another process. [file: " + file + "]");
+      }
+      final MappedMemoFile memoFile = new MappedMemoFile(file, channel, lock, STAMP_POSITION + stamp.length);
+      memoFile.load(stamp);
+      return memoFile;
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private void load(final byte[] stamp) throws IOException {
+    final long size = channel.size();
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, Math.min(Math.max(size, dataStart + INITIAL_CAPACITY), Integer.MAX_VALUE));
+    if (size >= dataStart && hasHeader(stamp)) {
+      end = dataStart;
+      final long storedEnd = buffer.getLong(END_POSITION);
+      while (end < storedEnd) {
+        final int next = nextRecord(end, storedEnd);
+        if (next < 0) {
+          break;
+        }
+        index(end, hashOf(end));
+        end = next;
+      }
+      buffer.putLong(END_POSITION, end);
+    } else {
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, FORMAT);
+      buffer.putInt(STAMP_LENGTH_POSITION, stamp.length);
+      for (int i = 0; i < stamp.length; i++) {
+        buffer.put(STAMP_POSITION + i, stamp[i]);
+      }
+      clear();
+    }
+  }
+
+  private boolean hasHeader(final byte[] stamp) {
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT || buffer.getInt(STAMP_LENGTH_POSITION) != stamp.length) {
+      return false;
+    }
+    for (int i = 0; i < stamp.length; i++) {
+      if (buffer.get(STAMP_POSITION + i) != stamp[i]) {
+        return false;
+      }
+    }
+    final long storedEnd = buffer.getLong(END_POSITION);
+    return storedEnd >= dataStart && storedEnd <= buffer.capacity();
+  }
+
+  /* the position of the record after the one at the given position, or -1 if it is not complete */
+  private int nextRecord(final int position, final long limit) {
+    if (position + (long) RECORD_HEADER_SIZE > limit) {
+      return -1;
+    }
+    final int keyLength = buffer.getInt(position);
+    final int valueLength = buffer.getInt(position + Integer.BYTES);
+    if (keyLength < NULL_LENGTH || valueLength < NULL_LENGTH) {
+      return -1;
+    }
+    final long next = (long) position + RECORD_HEADER_SIZE + lengthOf(keyLength) + lengthOf(valueLength);
+    return next > limit ? -1 : (int) next;
+  }
+
+  private static int lengthOf(final int length) {
+    return length == NULL_LENGTH ? 0 : length;
+  }
+
+  /**
+   * @param key the key bytes, or null for the null key
+   * @return the value bytes, {@link #NULL_VALUE} for the null value, or null if the key is not stored
+   */
+  synchronized byte[] get(final byte[] key) {
+    requireOpen();
+    final int position = find(key, hash(key));
+    if (position == 0) {
+      return null;
+    }
+    final int keyLength = lengthOf(buffer.getInt(position));
+    final int valueLength = buffer.getInt(position + Integer.BYTES);
+    if (valueLength == NULL_LENGTH) {
+      return NULL_VALUE;
+    }
+    final byte[] value = new byte[valueLength];
+    final int from = position + RECORD_HEADER_SIZE + keyLength;
+    for (int i = 0; i < valueLength; i++) {
+      value[i] = buffer.get(from + i);
+    }
+    return value;
+  }
+
+  /**
+   * Appends the given key and value unless the key is stored already.
+   */
+  synchronized void put(final byte[] key, final byte[] value) throws IOException {
+    requireOpen();
+    final int hash = hash(key);
+    if (find(key, hash) != 0) {
+      return;
+    }
+    final long next = (long) end + RECORD_HEADER_SIZE + (key == null ? 0 : key.length) + (value == null ? 0 : value.length);
+    ensureCapacity(next);
+    final int position = end;
+    buffer.putInt(position, key == null ? NULL_LENGTH : key.length);
+    buffer.putInt(position + Integer.BYTES, value == null ? NULL_LENGTH : value.length);
+    int offset = position + RECORD_HEADER_SIZE;
+    offset = write(offset, key);
+    write(offset, value);
+    end = (int) next;
+    /* commits the record */
+    buffer.putLong(END_POSITION, end);
+    index(position, hash);
+  }
+
+  private int write(final int offset, final byte[] bytes) {
+    if (bytes == null) {
+      return offset;
+    }
+    for (int i = 0; i < bytes.length; i++) {
+      buffer.put(offset + i, bytes[i]);
+    }
+    return offset + bytes.length;
+  }
+
+  private void ensureCapacity(final long needed) throws IOException {
+    if (needed <= buffer.capacity()) {
+      return;
+    }
+    if (needed > Integer.MAX_VALUE) {
+      throw new IOException("The memo file cannot be larger than " + Integer.MAX_VALUE + " bytes. [file: " + file + "]");
+    }
+    final long capacity = Math.min(Math.max(needed, (long) buffer.capacity() * 2L), Integer.MAX_VALUE);
+    buffer.force();
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, capacity);
+  }
+
+  /**
+   * Empties the file keeping the header.
+   */
+  synchronized void clear() {
+    end = dataStart;
+    buffer.putLong(END_POSITION, end);
+    Arrays.fill(positions, 0);
+    count = 0;
+  }
+
+  synchronized int size() {
+    return count;
+  }
+
+  private int find(final byte[] key, final int hash) {
+    final int mask = positions.length - 1;
+    for (int slot = hash & mask; positions[slot] != 0; slot = (slot + 1) & mask) {
+      if (hashes[slot] == hash && keyEquals(positions[slot], key)) {
+        return positions[slot];
+      }
+    }
+    return 0;
+  }
+
+  private boolean keyEquals(final int position, final byte[] key) {
+    final int length = buffer.getInt(position);
+    if (key == null || length == NULL_LENGTH) {
+      return key == null && length == NULL_LENGTH;
+    }
+    if (length != key.length) {
+      return false;
+    }
+    final int from = position + RECORD_HEADER_SIZE;
+    for (int i = 0; i < length; i++) {
+      if (buffer.get(from + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void index(final int position, final int hash) {
+    if ((count + 1) * 2 > positions.length) {
+      final int[] oldPositions = positions;
+      final int[] oldHashes = hashes;
+      positions = new int[oldPositions.length * 2];
+      hashes = new int[oldPositions.length * 2];
+      for (int i = 0; i < oldPositions.length; i++) {
+        if (oldPositions[i] != 0) {
+          insert(oldPositions[i], oldHashes[i]);
+        }
+      }
+    }
+    insert(position, hash);
+    count++;
+  }
+
+  private void insert(final int position, final int hash) {
+    final int mask = positions.length - 1;
+    int slot = hash & mask;
+    while (positions[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    positions[slot] = position;
+    hashes[slot] = hash;
+  }
+
+  private int hashOf(final int position) {
+    final int length = buffer.getInt(position);
+    if (length == NULL_LENGTH) {
+      return hash(null);
+    }
+    final byte[] key = new byte[length];
+    for (int i = 0; i < length; i++) {
+      key[i] = buffer.get(position + RECORD_HEADER_SIZE + i);
+    }
+    return hash(key);
+  }
+
+  private static int hash(final byte[] key) {
+    final int hash = Arrays.hashCode(key);
+    /* spreads the higher bits as the index uses the lower bits only */
+    return hash ^ (hash >>> 16);
+  }
+
+  private void requireOpen() {
+    if (!channel.isOpen()) {
+      throw new IllegalStateException("The memo file is closed. [file: " + file + "]");
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (!channel.isOpen()) {
+      return;
+    }
+    buffer.force();
+    lock.release();
+    channel.close();
+  }
+}
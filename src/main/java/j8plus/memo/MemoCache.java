@@ -0,0 +1,593 @@
+package j8plus.memo;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The concurrent cache behind the memoized functions.
+ * <p>
+ * A hit is a lookup in a {@link ConcurrentHashMap} and a few plain writes to record the access, so it takes no lock.
+ * A miss puts a {@link Loading} placeholder for the key and computes the value outside of the map so the other threads
+ * asking for the same key wait for it instead of computing it again. Unlike
+ * {@link ConcurrentHashMap#computeIfAbsent(Object, Function)}, the computation can ask the cache for other keys. Each
+ * placeholder knows the thread computing it and a thread about to wait follows the chain of the threads and the loads
+ * they wait for. Only if the chain leads back to the thread itself, which would deadlock (e.g. two threads computing
+ * each other's keys), it computes the value itself instead of waiting and the value is not memoized. So the nested
+ * loads of this or another cache still compute each value once.
+ * <p>
+ * If there is a maximum size, the entries are also kept in an array of slots under a lock taken only when an entry is
+ * added or removed. When the maximum size is exceeded, a few random slots are sampled and the least recently or the
+ * least frequently used entry of them is evicted.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class MemoCache<K, V> {
+
+  private static final Object NULL = new Object();
+  private static final int SAMPLE_SIZE = 8;
+
+  private final ConcurrentHashMap<Object, Object> map = new ConcurrentHashMap<>();
+
+  private final int maximumSize;
+  private final boolean bounded;
+  private final boolean lfu;
+  private final long expireAfterWriteNanos;
+  private final LongSupplier nanoClock;
+  private final ReferenceQueue<Object> referenceQueue;
+
+  /* guarded by this */
+  private Node[] slots;
+  private int slotCount;
+  private long writesSinceAging;
+
+  private final Stats stats;
+
+  MemoCache(final MemoOptions options) {
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    this.maximumSize = options.getMaximumSize();
+    this.bounded = maximumSize != MemoOptions.UNBOUNDED;
+    this.lfu = options.getEviction() == Eviction.LFU;
+    this.expireAfterWriteNanos = options.getExpireAfterWriteNanos();
+    this.nanoClock = options.getNanoClock();
+    this.referenceQueue = options.isWeakKeys() ? new ReferenceQueue<>() : null;
+    this.slots = bounded ? new Node[(int) Math.min((long) maximumSize + 1L, 16L)] : null;
+    this.stats = options.isRecordStats() ? new Stats() : null;
+  }
+
+  /**
+   * Returns the value of the given key computing it by the given loader only if it is not memoized.
+   */
+  V get(final K key, final Function<? super K, ? extends V> loader) {
+    final Object found = map.get(lookupKey(key));
+    if (found instanceof Node) {
+      final Node node = (Node) found;
+      if (isAlive(node, nanoClock.getAsLong())) {
+        recordAccess(node);
+        return unmask(node.value);
+      }
+    }
+    return load(key, loader);
+  }
+
+  private V load(final K key, final Function<? super K, ? extends V> loader) {
+    expungeCollectedKeys();
+    final Object storeKey = storeKey(key);
+    while (true) {
+      final Loading loading = new Loading();
+      final Object existing = map.putIfAbsent(storeKey, loading);
+      if (existing == null) {
+        return loadInto(storeKey, key, loader, loading);
+      }
+      if (existing instanceof Node) {
+        final Node node = (Node) existing;
+        if (isAlive(node, nanoClock.getAsLong())) {
+          recordAccess(node);
+          return unmask(node.value);
+        }
+        if (map.remove(storeKey, node)) {
+          unregister(node);
+          recordEviction();
+        }
+        continue;
+      }
+      final Object value = ((Loading) existing).await();
+      if (value == Loading.CYCLE) {
+        /* the load is done by a thread waiting for this one so it is computed here without memoizing it */
+        recordMiss();
+        return loader.apply(key);
+      }
+      if (stats != null) {
+        stats.hits.increment();
+      }
+      return unmask(value);
+    }
+  }
+
+  private V loadInto(final Object storeKey, final K key, final Function<? super K, ? extends V> loader, final Loading loading) {
+    recordMiss();
+    final V value;
+    try {
+      value = loader.apply(key);
+    } catch (final Throwable e) {
+      map.remove(storeKey, loading);
+      loading.fail(e);
+      recordLoadFailure();
+      throw e;
+    }
+    final Node node = new Node(storeKey, mask(value), nanoClock.getAsLong());
+    /* the placeholder is gone if the key has been invalidated while loading, then the value is not memoized */
+    if (map.replace(storeKey, loading, node)) {
+      register(node);
+    }
+    loading.complete(node.value);
+    return value;
+  }
+
+  private boolean isAlive(final Node node, final long now) {
+    return expireAfterWriteNanos == MemoOptions.NEVER || now - node.writeNanos < expireAfterWriteNanos;
+  }
+
+  private void recordAccess(final Node node) {
+    if (bounded) {
+      /* plain racy writes as an approximate order is enough to choose a value to evict */
+      if (lfu) {
+        node.frequency++;
+      } else {
+        node.accessNanos = System.nanoTime();
+      }
+    }
+    if (stats != null) {
+      stats.hits.increment();
+    }
+  }
+
+  private void recordMiss() {
+    if (stats != null) {
+      stats.misses.increment();
+    }
+  }
+
+  private void recordEviction() {
+    if (stats != null) {
+      stats.evictions.increment();
+    }
+  }
+
+  private synchronized void register(final Node node) {
+    /* skips the node invalidated before it is registered */
+    if (!bounded || map.get(node.storeKey) != node) {
+      return;
+    }
+    if (slotCount == slots.length) {
+      slots = Arrays.copyOf(slots, (int) Math.min((long) slots.length * 2L, (long) maximumSize + 1L));
+    }
+    node.accessNanos = System.nanoTime();
+    node.slot = slotCount;
+    slots[slotCount++] = node;
+    if (lfu && ++writesSinceAging >= (long) maximumSize * 8L) {
+      writesSinceAging = 0L;
+      for (int i = 0; i < slotCount; i++) {
+        slots[i].frequency >>>= 1;
+      }
+    }
+    while (slotCount > maximumSize) {
+      final Node victim = sampleVictim();
+      removeSlot(victim);
+      if (map.remove(victim.storeKey, victim)) {
+        recordEviction();
+      }
+    }
+  }
+
+  private Node sampleVictim() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    Node victim = null;
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      final Node candidate = slots[random.nextInt(slotCount)];
+      if (victim == null || isWorse(candidate, victim)) {
+        victim = candidate;
+      }
+    }
+    return victim;
+  }
+
+  private boolean isWorse(final Node candidate, final Node victim) {
+    if (lfu && candidate.frequency != victim.frequency) {
+      return candidate.frequency < victim.frequency;
+    }
+    return candidate.accessNanos - victim.accessNanos < 0L;
+  }
+
+  private synchronized void unregister(final Node node) {
+    if (bounded && node.slot >= 0) {
+      removeSlot(node);
+    }
+  }
+
+  /* guarded by this */
+  private void removeSlot(final Node node) {
+    final Node last = slots[--slotCount];
+    slots[node.slot] = last;
+    last.slot = node.slot;
+    slots[slotCount] = null;
+    node.slot = -1;
+  }
+
+  /**
+   * Replaces the value of the given key only if it is still the expected one. The entry keeps its place for the
+   * eviction but its expiry starts again.
+   *
+   * @return true if it is replaced
+   */
+  boolean replace(final K key, final V expected, final V value) {
+    final Object found = map.get(lookupKey(key));
+    if (!(found instanceof Node) || ((Node) found).value != mask(expected)) {
+      return false;
+    }
+    final Node node = (Node) found;
+    final Node replacement = new Node(node.storeKey, mask(value), nanoClock.getAsLong());
+    replacement.frequency = node.frequency;
+    if (!map.replace(node.storeKey, node, replacement)) {
+      return false;
+    }
+    transferSlot(node, replacement);
+    return true;
+  }
+
+  private synchronized void transferSlot(final Node node, final Node replacement) {
+    if (!bounded) {
+      return;
+    }
+    if (node.slot < 0) {
+      /* the node has been evicted while being replaced */
+      register(replacement);
+      return;
+    }
+    replacement.accessNanos = node.accessNanos;
+    replacement.slot = node.slot;
+    slots[node.slot] = replacement;
+    node.slot = -1;
+  }
+
+  /**
+   * Removes the value of the given key only if it is still the expected one.
+   *
+   * @return true if it is removed
+   */
+  boolean invalidate(final K key, final V expected) {
+    final Object found = map.get(lookupKey(key));
+    if (found instanceof Node && ((Node) found).value == mask(expected) && map.remove(((Node) found).storeKey, found)) {
+      unregister((Node) found);
+      return true;
+    }
+    return false;
+  }
+
+  void recordLoadFailure() {
+    if (stats != null) {
+      stats.loadFailures.increment();
+    }
+  }
+
+  void invalidate(final K key) {
+    final Object removed = map.remove(lookupKey(key));
+    if (removed instanceof Node) {
+      unregister((Node) removed);
+    }
+  }
+
+  synchronized void invalidateAll() {
+    map.clear();
+    if (bounded) {
+      for (int i = 0; i < slotCount; i++) {
+        slots[i].slot = -1;
+        slots[i] = null;
+      }
+      slotCount = 0;
+    }
+  }
+
+  /**
+   * @return the number of memoized values which may include the expired ones not removed yet
+   */
+  long size() {
+    expungeCollectedKeys();
+    return map.values()
+              .stream()
+              .filter(value -> value instanceof Node)
+              .count();
+  }
+
+  MemoStats stats() {
+    return stats == null ? new MemoStats(0L, 0L, 0L, 0L) : new MemoStats(stats.hits.sum(), stats.misses.sum(), stats.evictions.sum(), stats.loadFailures.sum());
+  }
+
+  private void expungeCollectedKeys() {
+    if (referenceQueue == null) {
+      return;
+    }
+    Object collected;
+    while ((collected = referenceQueue.poll()) != null) {
+      /* an argument of a composite key removes the whole key */
+      final Object storeKey = collected instanceof WeakArgument ? ((WeakArgument) collected).owner : collected;
+      final Object removed = map.remove(storeKey);
+      if (removed instanceof Node) {
+        unregister((Node) removed);
+        recordEviction();
+      }
+    }
+  }
+
+  private Object lookupKey(final K key) {
+    if (referenceQueue != null) {
+      return new LookupKey(key);
+    }
+    return key == null ? NULL : key;
+  }
+
+  private Object storeKey(final K key) {
+    if (referenceQueue != null) {
+      if (key instanceof Keys.Composite) {
+        return new WeakCompositeKey((Keys.Composite) key, referenceQueue);
+      }
+      return key == null ? NULL : new WeakKey(key, referenceQueue);
+    }
+    return key == null ? NULL : key;
+  }
+
+  private static Object mask(final Object value) {
+    return value == null ? NULL : value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V unmask(final Object value) {
+    return value == NULL ? null : (V) value;
+  }
+
+  private static final class Node {
+    private final Object storeKey;
+    private final Object value;
+    private final long writeNanos;
+    private long accessNanos;
+    private int frequency;
+    /* guarded by the cache */
+    private int slot = -1;
+
+    Node(final Object storeKey, final Object value, final long writeNanos) {
+      this.storeKey = storeKey;
+      this.value = value;
+      this.writeNanos = writeNanos;
+    }
+  }
+
+  /* the placeholder of a value being computed, also used by SingleFlightFunction */
+  static final class Loading {
+    /* returned by await() instead of waiting if it would deadlock */
+    static final Object CYCLE = new Object();
+
+    /* the load each thread is waiting for */
+    private static final ConcurrentHashMap<Thread, Loading> WAITING = new ConcurrentHashMap<>();
+
+    private final Thread owner = Thread.currentThread();
+    private Object value;
+    private Throwable failure;
+    private boolean done;
+
+    synchronized void complete(final Object value) {
+      this.value = value;
+      this.done = true;
+      notifyAll();
+    }
+
+    synchronized void fail(final Throwable failure) {
+      this.failure = failure;
+      this.done = true;
+      notifyAll();
+    }
+
+    /**
+     * Waits for the value unless the thread computing it is the current thread or waits for it through a chain of the
+     * other loads, which would be a deadlock. As each thread is registered as waiting before it follows the chain, at
+     * least one of the threads closing a cycle sees it.
+     *
+     * @return the value or {@link #CYCLE} without waiting if it would deadlock
+     */
+    Object await() {
+      final Thread current = Thread.currentThread();
+      WAITING.put(current, this);
+      try {
+        return closesCycle(current) ? CYCLE : awaitDone();
+      } finally {
+        WAITING.remove(current, this);
+      }
+    }
+
+    private boolean closesCycle(final Thread current) {
+      Loading loading = this;
+      /* bounded as a stale entry of a thread which has just stopped waiting may make a loop without this thread */
+      for (int steps = 0; loading != null && steps <= WAITING.size(); steps++) {
+        if (loading.owner == current) {
+          return true;
+        }
+        loading = WAITING.get(loading.owner);
+      }
+      return false;
+    }
+
+    private synchronized Object awaitDone() {
+      boolean interrupted = false;
+      try {
+        while (!done) {
+          try {
+            wait();
+          } catch (final InterruptedException e) {
+            interrupted = true;
+          }
+        }
+      } finally {
+        if (interrupted) {
+          Thread.currentThread()
+                .interrupt();
+        }
+      }
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      if (failure != null) {
+        throw new UndeclaredThrowableException(failure);
+      }
+      return value;
+    }
+  }
+
+  /* a key held weakly which is equal to another key if their referents are equal */
+  private static final class WeakKey extends WeakReference<Object> {
+    private final int hash;
+
+    WeakKey(final Object referent, final ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.hash = referent.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      final Object referent = get();
+      if (referent == null) {
+        return false;
+      }
+      if (other instanceof WeakKey) {
+        return referent.equals(((WeakKey) other).get());
+      }
+      return other instanceof LookupKey && referent.equals(((LookupKey) other).key);
+    }
+  }
+
+  /*
+   * a composite key of the arguments of a memoized function holding each argument weakly as nothing else holds the
+   * composite key itself. It is removed once any of its arguments is collected.
+   */
+  private static final class WeakCompositeKey {
+    private final int hash;
+    /* null for a null argument */
+    private final WeakArgument[] arguments;
+
+    WeakCompositeKey(final Keys.Composite key, final ReferenceQueue<Object> queue) {
+      this.hash = key.hashCode();
+      this.arguments = new WeakArgument[key.arity()];
+      for (int i = 0; i < arguments.length; i++) {
+        final Object argument = key.argument(i);
+        arguments[i] = argument == null ? null : new WeakArgument(argument, this, queue);
+      }
+    }
+
+    /* the argument at the given index which is NULL for a null argument, or null if it has been collected */
+    private Object argument(final int index) {
+      return arguments[index] == null ? NULL : arguments[index].get();
+    }
+
+    boolean matches(final Keys.Composite key) {
+      if (key.hashCode() != hash || key.arity() != arguments.length) {
+        return false;
+      }
+      for (int i = 0; i < arguments.length; i++) {
+        final Object referent = argument(i);
+        if (referent == null || !referent.equals(mask(key.argument(i)))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (other instanceof LookupKey) {
+        return ((LookupKey) other).key instanceof Keys.Composite && matches((Keys.Composite) ((LookupKey) other).key);
+      }
+      if (!(other instanceof WeakCompositeKey)) {
+        return false;
+      }
+      final WeakCompositeKey that = (WeakCompositeKey) other;
+      if (hash != that.hash || arguments.length != that.arguments.length) {
+        return false;
+      }
+      for (int i = 0; i < arguments.length; i++) {
+        final Object referent = argument(i);
+        if (referent == null || !referent.equals(that.argument(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class WeakArgument extends WeakReference<Object> {
+    private final WeakCompositeKey owner;
+
+    WeakArgument(final Object referent, final WeakCompositeKey owner, final ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.owner = owner;
+    }
+  }
+
+  /* the key to look up a weak key without creating a reference */
+  private static final class LookupKey {
+    private final Object key;
+
+    LookupKey(final Object key) {
+      this.key = key == null ? NULL : key;
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other instanceof WeakKey) {
+        return key.equals(((WeakKey) other).get());
+      }
+      if (other instanceof WeakCompositeKey) {
+        return key instanceof Keys.Composite && ((WeakCompositeKey) other).matches((Keys.Composite) key);
+      }
+      return key == other;
+    }
+  }
+
+  private static final class Stats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+  }
+}
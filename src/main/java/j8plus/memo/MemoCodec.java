@@ -0,0 +1,104 @@
+package j8plus.memo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the keys and the values of {@link PersistentMemoizedFunction} to bytes and back. A codec never gets null as
+ * null is stored without it.
+ *
+ * @param <T> the type of the objects to convert
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public interface MemoCodec<T> {
+
+  byte[] encode(T value);
+
+  T decode(byte[] bytes);
+
+  static MemoCodec<String> utf8() {
+    return new MemoCodec<String>() {
+      @Override
+      public byte[] encode(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+      }
+
+      @Override
+      public String decode(final byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+    };
+  }
+
+  static MemoCodec<Integer> ints() {
+    return new MemoCodec<Integer>() {
+      @Override
+      public byte[] encode(final Integer value) {
+        return ByteBuffer.allocate(Integer.BYTES)
+                         .putInt(value)
+                         .array();
+      }
+
+      @Override
+      public Integer decode(final byte[] bytes) {
+        return ByteBuffer.wrap(bytes)
+                         .getInt();
+      }
+    };
+  }
+
+  static MemoCodec<Long> longs() {
+    return new MemoCodec<Long>() {
+      @Override
+      public byte[] encode(final Long value) {
+        return ByteBuffer.allocate(Long.BYTES)
+                         .putLong(value)
+                         .array();
+      }
+
+      @Override
+      public Long decode(final byte[] bytes) {
+        return ByteBuffer.wrap(bytes)
+                         .getLong();
+      }
+    };
+  }
+
+  /**
+   * @return the codec by the Java serialization, which is convenient but slow and large compared to a dedicated one
+   */
+  static <T extends Serializable> MemoCodec<T> serializable() {
+    return new MemoCodec<T>() {
+      @Override
+      public byte[] encode(final T value) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+          output.writeObject(value);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public T decode(final byte[] bytes) {
+        try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (T) input.readObject();
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        } catch (final ClassNotFoundException e) {
+          throw new IllegalStateException("The class of the stored value is not found.", e);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,222 @@
+package j8plus.memo;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * The options of memoization such as the maximum number of values to keep. The default options
+ * ({@link #defaults()}) keep every value forever like a plain map.
+ *
+ * <pre>
+ * final MemoOptions options = MemoOptions.builder()
+ *                                        .maximumSize(10_000)
+ *                                        .eviction(Eviction.LFU)
+ *                                        .expireAfterWrite(Duration.ofMinutes(10L))
+ *                                        .recordStats()
+ *                                        .build();
+ * final Function&lt;String, BigDecimal&gt; price = Funs.memoize(this::lookUpPrice, options);
+ * </pre>
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class MemoOptions {
+
+  /* no maximum size */
+  static final int UNBOUNDED = -1;
+  /* no expiry */
+  static final long NEVER = -1L;
+
+  private static final MemoOptions DEFAULTS = builder().build();
+
+  private final int maximumSize;
+  private final Eviction eviction;
+  private final long expireAfterWriteNanos;
+  private final long refreshAfterWriteNanos;
+  private final boolean weakKeys;
+  private final boolean recordStats;
+  private final LongSupplier nanoClock;
+
+  private MemoOptions(final Builder builder) {
+    this.maximumSize = builder.maximumSize;
+    this.eviction = builder.eviction;
+    this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+    this.refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+    this.weakKeys = builder.weakKeys;
+    this.recordStats = builder.recordStats;
+    this.nanoClock = builder.nanoClock;
+  }
+
+  /**
+   * @return the options keeping every value forever without statistics
+   */
+  public static MemoOptions defaults() {
+    return DEFAULTS;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return the maximum number of values to keep, or -1 if unbounded
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public Eviction getEviction() {
+    return eviction;
+  }
+
+  /**
+   * @return how long a value is kept after it is computed, or null if it does not expire
+   */
+  public Duration getExpireAfterWrite() {
+    return expireAfterWriteNanos == NEVER ? null : Duration.ofNanos(expireAfterWriteNanos);
+  }
+
+  long getExpireAfterWriteNanos() {
+    return expireAfterWriteNanos;
+  }
+
+  /**
+   * @return how long a value is served before it is refreshed in the background, or null if it is not refreshed
+   */
+  public Duration getRefreshAfterWrite() {
+    return refreshAfterWriteNanos == NEVER ? null : Duration.ofNanos(refreshAfterWriteNanos);
+  }
+
+  long getRefreshAfterWriteNanos() {
+    return refreshAfterWriteNanos;
+  }
+
+  public boolean isWeakKeys() {
+    return weakKeys;
+  }
+
+  public boolean isRecordStats() {
+    return recordStats;
+  }
+
+  LongSupplier getNanoClock() {
+    return nanoClock;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() +
+      "{maximumSize=" + maximumSize +
+      ", eviction=" + eviction +
+      ", expireAfterWrite=" + getExpireAfterWrite() +
+      ", refreshAfterWrite=" + getRefreshAfterWrite() +
+      ", weakKeys=" + weakKeys +
+      ", recordStats=" + recordStats +
+      "}";
+  }
+
+  /**
+   * The builder of {@link MemoOptions}.
+   */
+  public static final class Builder {
+    private int maximumSize = UNBOUNDED;
+    private Eviction eviction = Eviction.LRU;
+    private long expireAfterWriteNanos = NEVER;
+    private long refreshAfterWriteNanos = NEVER;
+    private boolean weakKeys;
+    private boolean recordStats;
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the maximum number of values to keep. Once it is exceeded, a value is evicted by the {@link Eviction}
+     * policy.
+     *
+     * @param maximumSize the maximum number of values to keep which must be positive
+     * @return this builder
+     */
+    public Builder maximumSize(final int maximumSize) {
+      if (maximumSize <= 0) {
+        throw new IllegalArgumentException("The maximumSize must be positive. [maximumSize: " + maximumSize + "]");
+      }
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /**
+     * Sets the policy to choose the value to evict when the maximum size is exceeded. It is {@link Eviction#LRU} by
+     * default.
+     */
+    public Builder eviction(final Eviction eviction) {
+      this.eviction = Objects.requireNonNull(eviction, "The eviction: Eviction cannot be null.");
+      return this;
+    }
+
+    /**
+     * Makes each value expire the given time after it is computed so that it is computed again when it is needed.
+     *
+     * @param duration how long a value is kept which must be positive
+     * @return this builder
+     */
+    public Builder expireAfterWrite(final Duration duration) {
+      Objects.requireNonNull(duration, "The duration: Duration cannot be null.");
+      if (duration.isZero() || duration.isNegative()) {
+        throw new IllegalArgumentException("The duration must be positive. [duration: " + duration + "]");
+      }
+      this.expireAfterWriteNanos = duration.toNanos();
+      return this;
+    }
+
+    /**
+     * Makes each value be refreshed in the background once it is older than the given time while the old value is
+     * still returned until the new one is ready. It is used only by the asynchronous memoization of
+     * {@link MemoizedAsyncFunction}, and it should be shorter than the expiry if both are set.
+     *
+     * @param duration how long a value is served before it is refreshed which must be positive
+     * @return this builder
+     */
+    public Builder refreshAfterWrite(final Duration duration) {
+      Objects.requireNonNull(duration, "The duration: Duration cannot be null.");
+      if (duration.isZero() || duration.isNegative()) {
+        throw new IllegalArgumentException("The duration must be positive. [duration: " + duration + "]");
+      }
+      this.refreshAfterWriteNanos = duration.toNanos();
+      return this;
+    }
+
+    /**
+     * Holds the keys weakly so that a value is removed once its key is garbage collected. The keys are still compared by
+     * {@link Object#equals(Object)} like {@link java.util.WeakHashMap}. A value must not refer to its key or the key is
+     * never collected. For a function of several arguments, each argument is held weakly and a value is removed once
+     * any of its arguments is collected.
+     */
+    public Builder weakKeys() {
+      this.weakKeys = true;
+      return this;
+    }
+
+    /**
+     * Records the numbers of hits, misses, evictions and load failures which can be read by
+     * <code>stats()</code> of the memoized function.
+     */
+    public Builder recordStats() {
+      this.recordStats = true;
+      return this;
+    }
+
+    /**
+     * Sets the clock in nanoseconds to expire values by, which is {@link System#nanoTime()} by default.
+     */
+    public Builder nanoClock(final LongSupplier nanoClock) {
+      this.nanoClock = Objects.requireNonNull(nanoClock, "The nanoClock: LongSupplier cannot be null.");
+      return this;
+    }
+
+    public MemoOptions build() {
+      return new MemoOptions(this);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package j8plus.memo;
+
+/**
+ * A snapshot of the statistics of a memoized function. The statistics are recorded only if
+ * {@link MemoOptions.Builder#recordStats()} is set, and all the counts are zero otherwise.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class MemoStats {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long loadFailureCount;
+
+  public MemoStats(final long hitCount, final long missCount, final long evictionCount, final long loadFailureCount) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.loadFailureCount = loadFailureCount;
+  }
+
+  /**
+   * @return the number of calls returning a memoized value including the ones waiting for another thread to compute it
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of calls computing the value
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getRequestCount() {
+    return hitCount + missCount;
+  }
+
+  /**
+   * @return the ratio of hits to all the calls, or 1 if there has been no call
+   */
+  public double getHitRate() {
+    final long requestCount = getRequestCount();
+    return requestCount == 0L ? 1D : (double) hitCount / requestCount;
+  }
+
+  /**
+   * @return the number of values removed by the maximum size, expiry or the garbage collection of their keys
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * @return the number of computations which threw an exception
+   */
+  public long getLoadFailureCount() {
+    return loadFailureCount;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof MemoStats)) {
+      return false;
+    }
+    final MemoStats that = (MemoStats) other;
+    return hitCount == that.hitCount &&
+      missCount == that.missCount &&
+      evictionCount == that.evictionCount &&
+      loadFailureCount == that.loadFailureCount;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Long.hashCode(hitCount);
+    result = 31 * result + Long.hashCode(missCount);
+    result = 31 * result + Long.hashCode(evictionCount);
+    return 31 * result + Long.hashCode(loadFailureCount);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() +
+      "{hitCount=" + hitCount +
+      ", missCount=" + missCount +
+      ", evictionCount=" + evictionCount +
+      ", loadFailureCount=" + loadFailureCount +
+      "}";
+  }
+}
@@ -0,0 +1,32 @@
+package j8plus.memo;
+
+/**
+ * A memoized function which can tell its statistics and forget its values. The functions returned by
+ * <code>memoized()</code> of {@link j8plus.types.Function2} to {@link j8plus.types.Function10} implement it as well
+ * as {@link MemoizedFunction}, {@link MemoizedBiFunction} and {@link MemoizedSupplier}. The value of some arguments of
+ * those functions is forgotten by <code>Memoizers.invalidate(memoized, arguments...)</code>.
+ *
+ * <pre>
+ * final Function3&lt;String, String, LocalDate, Rate&gt; rate = this::fetchRate;
+ * final Function3&lt;String, String, LocalDate, Rate&gt; memoized = rate.memoized(options);
+ * final MemoStats stats = ((Memoized) memoized).stats();
+ * Memoizers.invalidate(memoized, "USD", "EUR", LocalDate.now());
+ * </pre>
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public interface Memoized {
+
+  void invalidateAll();
+
+  /**
+   * @return the number of values memoized which may include the expired ones not removed yet
+   */
+  long size();
+
+  /**
+   * @return the statistics so far which are all zero unless {@link MemoOptions.Builder#recordStats()} is set
+   */
+  MemoStats stats();
+}
@@ -0,0 +1,144 @@
+package j8plus.memo;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A memoized function returning {@link CompletableFuture}s. The future is memoized as soon as the function returns it,
+ * so the callers asking for the same argument while it is still running share the one in flight instead of starting
+ * another one.
+ * <p>
+ * A future completed exceptionally is removed as soon as it fails so the next call tries again. If
+ * {@link MemoOptions.Builder#refreshAfterWrite(java.time.Duration)} is set, the first call after a value gets older
+ * than that starts a new call of the function in the background and gets the old value without waiting. The new
+ * value replaces the old one once it is ready, or the old one is kept if the refresh fails. So the callers do not all
+ * stall when a popular value gets old.
+ * <p>
+ * The futures returned are shared by the callers so they must not be completed or cancelled by them.
+ *
+ * @param <T> the type of the argument
+ * @param <R> the type of the result of the futures
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class MemoizedAsyncFunction<T, R> implements Function<T, CompletableFuture<R>>, Memoized {
+
+  private final Function<? super T, ? extends CompletableFuture<R>> function;
+  private final MemoCache<T, Entry<R>> cache;
+  private final Function<T, Entry<R>> loader;
+  private final long refreshAfterWriteNanos;
+  private final LongSupplier nanoClock;
+
+  private MemoizedAsyncFunction(final Function<? super T, ? extends CompletableFuture<R>> function, final MemoOptions options) {
+    this.function = function;
+    this.cache = new MemoCache<>(options);
+    this.loader = this::load;
+    this.refreshAfterWriteNanos = options.getRefreshAfterWriteNanos();
+    this.nanoClock = options.getNanoClock();
+  }
+
+  public static <T, R> MemoizedAsyncFunction<T, R> of(final Function<? super T, ? extends CompletableFuture<R>> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function<T, CompletableFuture<R>> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedAsyncFunction<>(function, options);
+  }
+
+  @Override
+  public CompletableFuture<R> apply(final T t) {
+    final Entry<R> entry = cache.get(t, loader);
+    final CompletableFuture<R> future = entry.future;
+    if (future.isCompletedExceptionally()) {
+      /* it may have failed before it was memoized so that the callback could not remove it */
+      if (cache.invalidate(t, entry)) {
+        cache.recordLoadFailure();
+      }
+    } else if (isStale(entry) && entry.refreshing.compareAndSet(false, true)) {
+      refresh(t, entry);
+    }
+    return future;
+  }
+
+  private boolean isStale(final Entry<R> entry) {
+    return refreshAfterWriteNanos != MemoOptions.NEVER &&
+      entry.future.isDone() &&
+      nanoClock.getAsLong() - entry.writeNanos >= refreshAfterWriteNanos;
+  }
+
+  private Entry<R> load(final T t) {
+    final Entry<R> entry = new Entry<>(call(t), nanoClock.getAsLong());
+    entry.future.whenComplete((value, failure) -> {
+      if (failure != null && cache.invalidate(t, entry)) {
+        cache.recordLoadFailure();
+      }
+    });
+    return entry;
+  }
+
+  private void refresh(final T t, final Entry<R> stale) {
+    final CompletableFuture<R> future;
+    try {
+      future = call(t);
+    } catch (final RuntimeException e) {
+      stale.refreshing.set(false);
+      cache.recordLoadFailure();
+      return;
+    } catch (final Error e) {
+      /* otherwise the stale value would never be refreshed again */
+      stale.refreshing.set(false);
+      cache.recordLoadFailure();
+      throw e;
+    }
+    future.whenComplete((value, failure) -> {
+      if (failure == null) {
+        cache.replace(t, stale, new Entry<>(future, nanoClock.getAsLong()));
+      } else {
+        /* keeps serving the stale value and tries again later */
+        stale.refreshing.set(false);
+        cache.recordLoadFailure();
+      }
+    });
+  }
+
+  private CompletableFuture<R> call(final T t) {
+    return Objects.requireNonNull(function.apply(t), "The function returned null instead of a CompletableFuture.");
+  }
+
+  /**
+   * Removes the future of the given argument so that the function is called again when it is needed.
+   */
+  public void invalidate(final T t) {
+    cache.invalidate(t);
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * @return the statistics so far where the load failures include the failed futures and the failed refreshes
+   */
+  @Override
+  public MemoStats stats() {
+    return cache.stats();
+  }
+
+  private static final class Entry<R> {
+    private final CompletableFuture<R> future;
+    private final long writeNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    Entry(final CompletableFuture<R> future, final long writeNanos) {
+      this.future = future;
+      this.writeNanos = writeNanos;
+    }
+  }
+}
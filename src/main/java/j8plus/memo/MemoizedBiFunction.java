@@ -0,0 +1,60 @@
+package j8plus.memo;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import j8plus.memo.Keys.Key2;
+
+/**
+ * A {@link BiFunction} which computes the value of each pair of arguments once and returns the memoized value
+ * afterwards. It is thread safe like {@link MemoizedFunction}. The arguments are kept in a compact key with its hash code
+ * precomputed.
+ *
+ * @param <T> the type of the first argument
+ * @param <U> the type of the second argument
+ * @param <R> the type of the result
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class MemoizedBiFunction<T, U, R> implements BiFunction<T, U, R>, Memoized {
+
+  private final Function<Key2, R> loader;
+  private final MemoCache<Key2, R> cache;
+
+  @SuppressWarnings("unchecked")
+  private MemoizedBiFunction(final BiFunction<? super T, ? super U, ? extends R> function, final MemoOptions options) {
+    this.loader = key -> function.apply((T) key.first, (U) key.second);
+    this.cache = new MemoCache<>(options);
+  }
+
+  public static <T, U, R> MemoizedBiFunction<T, U, R> of(final BiFunction<? super T, ? super U, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: BiFunction<T, U, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedBiFunction<>(function, options);
+  }
+
+  @Override
+  public R apply(final T t, final U u) {
+    return cache.get(new Key2(t, u), loader);
+  }
+
+  public void invalidate(final T t, final U u) {
+    cache.invalidate(new Key2(t, u));
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public long size() {
+    return cache.size();
+  }
+
+  @Override
+  public MemoStats stats() {
+    return cache.stats();
+  }
+}
@@ -0,0 +1,67 @@
+package j8plus.memo;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link Function} which computes the value of each argument once and returns the memoized value afterwards. It is
+ * thread safe and the function is called once for the same argument even if it is applied by many threads at the same
+ * time unless the value is evicted or expired, including the calls from the functions of other memoized functions.
+ * The function may apply this memoized function recursively. A call waits for the value being computed by another
+ * thread unless that thread is waiting for the current thread, e.g. two threads computing each other's arguments,
+ * then it computes the value itself without memoizing it instead of deadlocking.
+ *
+ * <pre>
+ * final MemoizedFunction&lt;String, Rate&gt; rate = MemoizedFunction.of(this::fetchRate, MemoOptions.builder()
+ *                                                                                    .maximumSize(1_000)
+ *                                                                                    .build());
+ * </pre>
+ *
+ * @param <T> the type of the argument
+ * @param <R> the type of the result
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class MemoizedFunction<T, R> implements Function<T, R>, Memoized {
+
+  private final Function<? super T, ? extends R> function;
+  private final MemoCache<T, R> cache;
+
+  private MemoizedFunction(final Function<? super T, ? extends R> function, final MemoOptions options) {
+    this.function = function;
+    this.cache = new MemoCache<>(options);
+  }
+
+  public static <T, R> MemoizedFunction<T, R> of(final Function<? super T, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function<T, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction<>(function, options);
+  }
+
+  @Override
+  public R apply(final T t) {
+    return cache.get(t, function);
+  }
+
+  /**
+   * Removes the value of the given argument so that it is computed again when it is needed.
+   */
+  public void invalidate(final T t) {
+    cache.invalidate(t);
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public long size() {
+    return cache.size();
+  }
+
+  @Override
+  public MemoStats stats() {
+    return cache.stats();
+  }
+}
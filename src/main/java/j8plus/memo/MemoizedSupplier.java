@@ -0,0 +1,69 @@
+package j8plus.memo;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Supplier} which gets the value once and returns the memoized value afterwards until it expires or is
+ * invalidated. It is thread safe and the threads getting the value while it is being computed wait for it.
+ *
+ * @param <T> the type of the value
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class MemoizedSupplier<T> implements Supplier<T>, Memoized {
+
+  private static final Object KEY = new Object();
+
+  private final Function<Object, T> loader;
+  private final MemoCache<Object, T> cache;
+
+  private MemoizedSupplier(final Supplier<? extends T> supplier, final MemoOptions options) {
+    this.loader = key -> supplier.get();
+    this.cache = new MemoCache<>(options);
+  }
+
+  /**
+   * @param options the options of which the maximum size and weak keys do not matter as there is only one value
+   */
+  public static <T> MemoizedSupplier<T> of(final Supplier<? extends T> supplier, final MemoOptions options) {
+    Objects.requireNonNull(supplier, "The supplier: Supplier<T> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedSupplier<>(supplier, options);
+  }
+
+  @Override
+  public T get() {
+    return cache.get(KEY, loader);
+  }
+
+  /**
+   * Removes the value so that it is got again when it is needed.
+   */
+  public void invalidate() {
+    cache.invalidate(KEY);
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public boolean isMemoized() {
+    return cache.size() > 0L;
+  }
+
+  /**
+   * @return 1 if the value is memoized, or 0 otherwise
+   */
+  @Override
+  public long size() {
+    return cache.size();
+  }
+
+  @Override
+  public MemoStats stats() {
+    return cache.stats();
+  }
+}
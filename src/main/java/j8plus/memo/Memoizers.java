@@ -0,0 +1,330 @@
+package j8plus.memo;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import j8plus.memo.Keys.Key2;
+import j8plus.memo.Keys.Key3;
+import j8plus.memo.Keys.Key4;
+import j8plus.memo.Keys.Key5;
+import j8plus.memo.Keys.Key6;
+import j8plus.memo.Keys.Key7;
+import j8plus.memo.Keys.Key8;
+import j8plus.memo.Keys.Key9;
+import j8plus.memo.Keys.Key10;
+
+import j8plus.types.Function10;
+import j8plus.types.Function2;
+import j8plus.types.Function3;
+import j8plus.types.Function4;
+import j8plus.types.Function5;
+import j8plus.types.Function6;
+import j8plus.types.Function7;
+import j8plus.types.Function8;
+import j8plus.types.Function9;
+
+/**
+ * Memoizes the functions of two to ten arguments, which is usually done by <code>memoized()</code> of
+ * {@link Function2} to {@link Function10}. The arguments of each call are kept in a compact key object with a field
+ * for each argument and the hash code computed once, instead of a list of them, and the values are kept in the same
+ * cache as {@link MemoizedFunction} with the same options. The functions returned also implement {@link Memoized}.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class Memoizers {
+
+  private Memoizers() {
+  }
+
+  public static <T1, T2, R> Function2<T1, T2, R> memoize(final Function2<? super T1, ? super T2, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function2<T1, T2, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction2<>(function, options);
+  }
+
+  public static <T1, T2, T3, R> Function3<T1, T2, T3, R> memoize(final Function3<? super T1, ? super T2, ? super T3, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function3<T1, T2, T3, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction3<>(function, options);
+  }
+
+  public static <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> memoize(final Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function4<T1, T2, T3, T4, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction4<>(function, options);
+  }
+
+  public static <T1, T2, T3, T4, T5, R> Function5<T1, T2, T3, T4, T5, R> memoize(final Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function5<T1, T2, T3, T4, T5, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction5<>(function, options);
+  }
+
+  public static <T1, T2, T3, T4, T5, T6, R> Function6<T1, T2, T3, T4, T5, T6, R> memoize(final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function6<T1, T2, T3, T4, T5, T6, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction6<>(function, options);
+  }
+
+  public static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> memoize(final Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function7<T1, T2, T3, T4, T5, T6, T7, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction7<>(function, options);
+  }
+
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, R> Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> memoize(final Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction8<>(function, options);
+  }
+
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> memoize(final Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction9<>(function, options);
+  }
+
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> memoize(final Function10<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? extends R> function, final MemoOptions options) {
+    Objects.requireNonNull(function, "The function: Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new MemoizedFunction10<>(function, options);
+  }
+
+  /**
+   * Removes the memoized value of the given arguments from the given function returned by
+   * {@link #memoize(Function2, MemoOptions)} or {@link Function2#memoized()}, like
+   * {@link MemoizedBiFunction#invalidate(Object, Object)}. The same goes for the other overloads.
+   *
+   * @throws IllegalArgumentException if the function is not memoized by {@link Memoizers}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T1, T2> void invalidate(final Function2<T1, T2, ?> memoized, final T1 input1, final T2 input2) {
+    ((MemoizedFunction2<T1, T2, ?>) requireMemoized(memoized, MemoizedFunction2.class)).invalidate(input1, input2);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3> void invalidate(final Function3<T1, T2, T3, ?> memoized, final T1 input1, final T2 input2, final T3 input3) {
+    ((MemoizedFunction3<T1, T2, T3, ?>) requireMemoized(memoized, MemoizedFunction3.class)).invalidate(input1, input2, input3);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4> void invalidate(final Function4<T1, T2, T3, T4, ?> memoized, final T1 input1, final T2 input2, final T3 input3, final T4 input4) {
+    ((MemoizedFunction4<T1, T2, T3, T4, ?>) requireMemoized(memoized, MemoizedFunction4.class)).invalidate(input1, input2, input3, input4);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5> void invalidate(final Function5<T1, T2, T3, T4, T5, ?> memoized, final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5) {
+    ((MemoizedFunction5<T1, T2, T3, T4, T5, ?>) requireMemoized(memoized, MemoizedFunction5.class)).invalidate(input1, input2, input3, input4, input5);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6> void invalidate(final Function6<T1, T2, T3, T4, T5, T6, ?> memoized, final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6) {
+    ((MemoizedFunction6<T1, T2, T3, T4, T5, T6, ?>) requireMemoized(memoized, MemoizedFunction6.class)).invalidate(input1, input2, input3, input4, input5, input6);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7> void invalidate(final Function7<T1, T2, T3, T4, T5, T6, T7, ?> memoized, final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7) {
+    ((MemoizedFunction7<T1, T2, T3, T4, T5, T6, T7, ?>) requireMemoized(memoized, MemoizedFunction7.class)).invalidate(input1, input2, input3, input4, input5, input6, input7);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8> void invalidate(final Function8<T1, T2, T3, T4, T5, T6, T7, T8, ?> memoized, final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8) {
+    ((MemoizedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, ?>) requireMemoized(memoized, MemoizedFunction8.class)).invalidate(input1, input2, input3, input4, input5, input6, input7, input8);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9> void invalidate(final Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, ?> memoized, final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8, final T9 input9) {
+    ((MemoizedFunction9<T1, T2, T3, T4, T5, T6, T7, T8, T9, ?>) requireMemoized(memoized, MemoizedFunction9.class)).invalidate(input1, input2, input3, input4, input5, input6, input7, input8, input9);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> void invalidate(final Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, ?> memoized, final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8, final T9 input9, final T10 input10) {
+    ((MemoizedFunction10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, ?>) requireMemoized(memoized, MemoizedFunction10.class)).invalidate(input1, input2, input3, input4, input5, input6, input7, input8, input9, input10);
+  }
+
+  private static Object requireMemoized(final Object memoized, final Class<?> type) {
+    if (!type.isInstance(memoized)) {
+      throw new IllegalArgumentException("The function must be memoized by Memoizers. [memoized: " + memoized + "]");
+    }
+    return memoized;
+  }
+
+  /* the cache and the loader of the values by the key of the arguments */
+  private abstract static class KeyedMemoized<K, R> implements Memoized {
+    private final Function<K, R> loader;
+    private final MemoCache<K, R> cache;
+
+    KeyedMemoized(final Function<K, R> loader, final MemoOptions options) {
+      this.loader = loader;
+      this.cache = new MemoCache<>(options);
+    }
+
+    final R get(final K key) {
+      return cache.get(key, loader);
+    }
+
+    final void invalidateKey(final K key) {
+      cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+      cache.invalidateAll();
+    }
+
+    @Override
+    public long size() {
+      return cache.size();
+    }
+
+    @Override
+    public MemoStats stats() {
+      return cache.stats();
+    }
+  }
+
+  private static final class MemoizedFunction2<T1, T2, R> extends KeyedMemoized<Key2, R> implements Function2<T1, T2, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction2(final Function2<? super T1, ? super T2, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2) {
+      return get(new Key2(input1, input2));
+    }
+
+    void invalidate(final T1 input1, final T2 input2) {
+      invalidateKey(new Key2(input1, input2));
+    }
+  }
+
+  private static final class MemoizedFunction3<T1, T2, T3, R> extends KeyedMemoized<Key3, R> implements Function3<T1, T2, T3, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction3(final Function3<? super T1, ? super T2, ? super T3, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3) {
+      return get(new Key3(input1, input2, input3));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3) {
+      invalidateKey(new Key3(input1, input2, input3));
+    }
+  }
+
+  private static final class MemoizedFunction4<T1, T2, T3, T4, R> extends KeyedMemoized<Key4, R> implements Function4<T1, T2, T3, T4, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction4(final Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third, (T4) key.fourth), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3, final T4 input4) {
+      return get(new Key4(input1, input2, input3, input4));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3, final T4 input4) {
+      invalidateKey(new Key4(input1, input2, input3, input4));
+    }
+  }
+
+  private static final class MemoizedFunction5<T1, T2, T3, T4, T5, R> extends KeyedMemoized<Key5, R> implements Function5<T1, T2, T3, T4, T5, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction5(final Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third, (T4) key.fourth, (T5) key.fifth), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5) {
+      return get(new Key5(input1, input2, input3, input4, input5));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5) {
+      invalidateKey(new Key5(input1, input2, input3, input4, input5));
+    }
+  }
+
+  private static final class MemoizedFunction6<T1, T2, T3, T4, T5, T6, R> extends KeyedMemoized<Key6, R> implements Function6<T1, T2, T3, T4, T5, T6, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction6(final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third, (T4) key.fourth, (T5) key.fifth, (T6) key.sixth), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6) {
+      return get(new Key6(input1, input2, input3, input4, input5, input6));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6) {
+      invalidateKey(new Key6(input1, input2, input3, input4, input5, input6));
+    }
+  }
+
+  private static final class MemoizedFunction7<T1, T2, T3, T4, T5, T6, T7, R> extends KeyedMemoized<Key7, R> implements Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction7(final Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third, (T4) key.fourth, (T5) key.fifth, (T6) key.sixth, (T7) key.seventh), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7) {
+      return get(new Key7(input1, input2, input3, input4, input5, input6, input7));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7) {
+      invalidateKey(new Key7(input1, input2, input3, input4, input5, input6, input7));
+    }
+  }
+
+  private static final class MemoizedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> extends KeyedMemoized<Key8, R> implements Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction8(final Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third, (T4) key.fourth, (T5) key.fifth, (T6) key.sixth, (T7) key.seventh, (T8) key.eighth), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8) {
+      return get(new Key8(input1, input2, input3, input4, input5, input6, input7, input8));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8) {
+      invalidateKey(new Key8(input1, input2, input3, input4, input5, input6, input7, input8));
+    }
+  }
+
+  private static final class MemoizedFunction9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> extends KeyedMemoized<Key9, R> implements Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction9(final Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third, (T4) key.fourth, (T5) key.fifth, (T6) key.sixth, (T7) key.seventh, (T8) key.eighth, (T9) key.ninth), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8, final T9 input9) {
+      return get(new Key9(input1, input2, input3, input4, input5, input6, input7, input8, input9));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8, final T9 input9) {
+      invalidateKey(new Key9(input1, input2, input3, input4, input5, input6, input7, input8, input9));
+    }
+  }
+
+  private static final class MemoizedFunction10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> extends KeyedMemoized<Key10, R> implements Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> {
+    @SuppressWarnings("unchecked")
+    MemoizedFunction10(final Function10<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? extends R> function, final MemoOptions options) {
+      super(key -> function.apply((T1) key.first, (T2) key.second, (T3) key.third, (T4) key.fourth, (T5) key.fifth, (T6) key.sixth, (T7) key.seventh, (T8) key.eighth, (T9) key.ninth, (T10) key.tenth), options);
+    }
+
+    @Override
+    public R apply(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8, final T9 input9, final T10 input10) {
+      return get(new Key10(input1, input2, input3, input4, input5, input6, input7, input8, input9, input10));
+    }
+
+    void invalidate(final T1 input1, final T2 input2, final T3 input3, final T4 input4, final T5 input5, final T6 input6, final T7 input7, final T8 input8, final T9 input9, final T10 input10) {
+      invalidateKey(new Key10(input1, input2, input3, input4, input5, input6, input7, input8, input9, input10));
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package j8plus.memo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A memoized {@link Function} which also keeps its values in a file so that a restarted process gets them from the
+ * file instead of computing them again.
+ * <p>
+ * The values are appended to a memory-mapped file with their keys, converted to bytes by the given
+ * {@link MemoCodec}s, and found by a hash index rebuilt when the file is opened. The file is stamped with the given
+ * version, and it is emptied when it is opened with another version, so the version should be changed whenever the
+ * function or the codecs change. The values read from the file or computed are also memoized in memory by the given
+ * {@link MemoOptions}, of which the maximum size, the expiry and the weak keys apply only to the values in memory.
+ *
+ * <pre>
+ * try (final PersistentMemoizedFunction&lt;String, String&gt; taxTable =
+ *          PersistentMemoizedFunction.open(this::resolveTaxTable, Paths.get("tax-tables.memo"), "2026.10",
+ *                                          MemoCodec.utf8(), MemoCodec.utf8(),
+ *                                          MemoOptions.builder().maximumSize(1_000).build())) {
+ *   ...
+ * }
+ * </pre>
+ * <p>
+ * It is thread safe. A file can be opened by one instance at a time and it must be closed to release the file.
+ *
+ * @param <T> the type of the argument
+ * @param <R> the type of the result
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class PersistentMemoizedFunction<T, R> implements Function<T, R>, Memoized, Closeable {
+
+  private final Function<? super T, ? extends R> function;
+  private final MemoCodec<T> keyCodec;
+  private final MemoCodec<R> valueCodec;
+  private final MappedMemoFile file;
+  private final MemoCache<T, R> cache;
+  private final Function<T, R> loader;
+
+  private PersistentMemoizedFunction(final Function<? super T, ? extends R> function,
+                                     final MemoCodec<T> keyCodec,
+                                     final MemoCodec<R> valueCodec,
+                                     final MappedMemoFile file,
+                                     final MemoOptions options) {
+    this.function = function;
+    this.keyCodec = keyCodec;
+    this.valueCodec = valueCodec;
+    this.file = file;
+    this.cache = new MemoCache<>(options);
+    this.loader = this::load;
+  }
+
+  /**
+   * Opens the given file creating it if it does not exist, and empties it if it is stamped with a different version.
+   *
+   * @param function   the function to memoize which should be pure
+   * @param path       the file to keep the values
+   * @param version    the version of the function and the codecs
+   * @param keyCodec   the codec of the arguments
+   * @param valueCodec the codec of the results
+   * @param options    the options of the memoization in memory
+   * @return the memoized function which must be closed
+   * @throws IOException if the file cannot be opened or it is already open
+   */
+  public static <T, R> PersistentMemoizedFunction<T, R> open(final Function<? super T, ? extends R> function,
+                                                             final Path path,
+                                                             final String version,
+                                                             final MemoCodec<T> keyCodec,
+                                                             final MemoCodec<R> valueCodec,
+                                                             final MemoOptions options) throws IOException {
+    Objects.requireNonNull(function, "The function: Function<T, R> cannot be null.");
+    Objects.requireNonNull(path, "The path: Path cannot be null.");
+    Objects.requireNonNull(version, "The version: String cannot be null.");
+    Objects.requireNonNull(keyCodec, "The keyCodec: MemoCodec<T> cannot be null.");
+    Objects.requireNonNull(valueCodec, "The valueCodec: MemoCodec<R> cannot be null.");
+    Objects.requireNonNull(options, "The options: MemoOptions cannot be null.");
+    return new PersistentMemoizedFunction<>(function, keyCodec, valueCodec, MappedMemoFile.open(path, version), options);
+  }
+
+  /**
+   * @throws UncheckedIOException if a new value cannot be written to the file
+   */
+  @Override
+  public R apply(final T t) {
+    return cache.get(t, loader);
+  }
+
+  private R load(final T t) {
+    final byte[] key = t == null ? null : keyCodec.encode(t);
+    final byte[] stored = file.get(key);
+    if (stored == MappedMemoFile.NULL_VALUE) {
+      return null;
+    }
+    if (stored != null) {
+      return valueCodec.decode(stored);
+    }
+    final R value = function.apply(t);
+    try {
+      file.put(key, value == null ? null : valueCodec.encode(value));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return value;
+  }
+
+  /**
+   * Removes all the values in memory and in the file.
+   */
+  @Override
+  public void invalidateAll() {
+    file.clear();
+    cache.invalidateAll();
+  }
+
+  /**
+   * @return the number of values in the file
+   */
+  @Override
+  public long size() {
+    return file.size();
+  }
+
+  /**
+   * @return the statistics so far where a hit is a value found in memory, and a miss is a value read from the file or
+   * computed
+   */
+  @Override
+  public MemoStats stats() {
+    return cache.stats();
+  }
+
+  @Override
+  public void close() throws IOException {
+    file.close();
+  }
+}
@@ -0,0 +1,104 @@
+package j8plus.memo;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link Function} which runs the function once for the concurrent calls with equal arguments. The first call
+ * runs the function and the calls with an equal argument made while it is running wait for it and get its result or
+ * its exception. Unlike {@link MemoizedFunction}, nothing is kept once the call is done so the next call runs the
+ * function again.
+ * <p>
+ * A call waits for the running one unless the thread running it is the current thread or waits for it, e.g. the
+ * function for X calling it for Y in one thread while the function for Y calls it for X in another, then it runs the
+ * function itself instead of deadlocking. The calls made by the functions of memoized or other single-flight functions
+ * are still coalesced. It is the same rule as {@link MemoizedFunction} and they share it, so a memoized function and a
+ * single-flight function calling each other cannot deadlock either.
+ *
+ * <pre>
+ * final SingleFlightFunction&lt;String, Rate&gt; rate = Funs.singleFlight(this::fetchRate);
+ * </pre>
+ *
+ * @param <T> the type of the argument
+ * @param <R> the type of the result
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class SingleFlightFunction<T, R> implements Function<T, R> {
+
+  private static final Object NULL = new Object();
+
+  private final Function<? super T, ? extends R> function;
+  private final ConcurrentHashMap<Object, MemoCache.Loading> flights = new ConcurrentHashMap<>();
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+
+  private SingleFlightFunction(final Function<? super T, ? extends R> function) {
+    this.function = function;
+  }
+
+  public static <T, R> SingleFlightFunction<T, R> of(final Function<? super T, ? extends R> function) {
+    return new SingleFlightFunction<>(Objects.requireNonNull(function, "The function: Function<T, R> cannot be null."));
+  }
+
+  @Override
+  public R apply(final T t) {
+    final Object key = t == null ? NULL : t;
+    final MemoCache.Loading flight = new MemoCache.Loading();
+    final MemoCache.Loading existing = flights.putIfAbsent(key, flight);
+    if (existing == null) {
+      return lead(key, t, flight);
+    }
+    /* counted before waiting so that the calls waiting can be seen */
+    coalesced.increment();
+    final Object value = existing.await();
+    if (value == MemoCache.Loading.CYCLE) {
+      /* the call is made by a thread waiting for this one so it runs here instead of deadlocking */
+      coalesced.decrement();
+      executions.increment();
+      return function.apply(t);
+    }
+    @SuppressWarnings("unchecked")
+    final R result = (R) value;
+    return result;
+  }
+
+  private R lead(final Object key, final T t, final MemoCache.Loading flight) {
+    executions.increment();
+    final R result;
+    try {
+      result = function.apply(t);
+    } catch (final Throwable e) {
+      flights.remove(key, flight);
+      flight.fail(e);
+      throw e;
+    }
+    /* removed before the waiters are released so that a call after this one runs the function again */
+    flights.remove(key, flight);
+    flight.complete(result);
+    return result;
+  }
+
+  /**
+   * @return the number of times the function has been run
+   */
+  public long getExecutionCount() {
+    return executions.sum();
+  }
+
+  /**
+   * @return the number of calls which got the result of another call instead of running the function
+   */
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  /**
+   * @return the number of arguments for which the function is running now
+   */
+  public int getInFlightCount() {
+    return flights.size();
+  }
+}
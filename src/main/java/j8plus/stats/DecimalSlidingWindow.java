@@ -0,0 +1,253 @@
+package j8plus.stats;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A sliding window which keeps the count and the sum of the {@link BigDecimal} values added in the last N values
+ * ({@link #ofCount(int)}) or in the last period of time ({@link #ofDuration(Duration, int)}). The values are kept in a
+ * ring buffer so adding a value and evicting the oldest ones are O(1) and getting the sum does not iterate the window.
+ * <p>
+ * The windows created by {@link #ofCount(int)} and {@link #ofDuration(Duration, int)} are not thread safe so they should
+ * be confined to a thread. For concurrent writers, use {@link #stripedOfDuration(Duration, int, int)}.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public abstract class DecimalSlidingWindow implements Consumer<BigDecimal> {
+
+  DecimalSlidingWindow() {
+  }
+
+  /**
+   * Returns a sliding window of the last given number of values.
+   *
+   * @param size the number of the last values to keep
+   * @return a thread-confined sliding window of the last values
+   */
+  public static DecimalSlidingWindow ofCount(final int size) {
+    return new CountWindow(size);
+  }
+
+  /**
+   * Returns a sliding window of the values added in the last given period of time. The period is divided into the
+   * given number of buckets, and the oldest bucket is evicted at once so the window moves by
+   * <code>length / buckets</code>.
+   *
+   * @param length  the length of the window
+   * @param buckets the number of buckets in the window
+   * @return a thread-confined sliding window of the last period of time
+   */
+  public static DecimalSlidingWindow ofDuration(final Duration length, final int buckets) {
+    return ofDuration(length, buckets, System::nanoTime);
+  }
+
+  /**
+   * The same as {@link #ofDuration(Duration, int)} but it uses the given clock.
+   *
+   * @param length    the length of the window
+   * @param buckets   the number of buckets in the window
+   * @param nanoClock the clock which returns the current time in nanoseconds like {@link System#nanoTime()}
+   * @return a thread-confined sliding window of the last period of time
+   */
+  public static DecimalSlidingWindow ofDuration(final Duration length, final int buckets, final LongSupplier nanoClock) {
+    Objects.requireNonNull(nanoClock, "The nanoClock: LongSupplier cannot be null.");
+    return new TimeWindow(length, buckets, nanoClock, nanoClock.getAsLong());
+  }
+
+  /**
+   * Returns a thread-safe sliding window of the values added in the last given period of time. The values are added to
+   * one of the given number of stripes, each of which is a window from {@link #ofDuration(Duration, int)} with its own
+   * lock, so concurrent writers rarely contend. Reading the sum or count visits all the stripes.
+   *
+   * @param length  the length of the window
+   * @param buckets the number of buckets in the window
+   * @param stripes the number of stripes
+   * @return a thread-safe sliding window of the last period of time
+   */
+  public static DecimalSlidingWindow stripedOfDuration(final Duration length, final int buckets, final int stripes) {
+    return stripedOfDuration(length, buckets, stripes, System::nanoTime);
+  }
+
+  public static DecimalSlidingWindow stripedOfDuration(final Duration length,
+                                                       final int buckets,
+                                                       final int stripes,
+                                                       final LongSupplier nanoClock) {
+    return new StripedWindow(length, buckets, stripes, nanoClock);
+  }
+
+  /**
+   * Adds the given value to the window, evicting the values which are no longer in the window.
+   *
+   * @param value the value to add
+   */
+  @Override
+  public abstract void accept(BigDecimal value);
+
+  /* adds the sum of the values in the window to the given total and returns the count */
+  abstract long collect(Total total);
+
+  public long getCount() {
+    return collect(new Total());
+  }
+
+  /**
+   * @return the sum of the values in the window
+   */
+  public BigDecimal getSum() {
+    final Total total = new Total();
+    collect(total);
+    return total.sum;
+  }
+
+  /**
+   * @return the average of the values in the window using {@link MathContext#DECIMAL128}, or zero if it is empty
+   */
+  public BigDecimal getAverage() {
+    return getAverage(MathContext.DECIMAL128);
+  }
+
+  public BigDecimal getAverage(final MathContext mathContext) {
+    final Total total = new Total();
+    final long count = collect(total);
+    if (count == 0L) {
+      return BigDecimal.ZERO;
+    }
+    return total.sum.divide(BigDecimal.valueOf(count), mathContext);
+  }
+
+  static final class Total {
+    BigDecimal sum = BigDecimal.ZERO;
+  }
+
+  private static final class CountWindow extends DecimalSlidingWindow {
+    private final BigDecimal[] values;
+    private int next;
+    private int size;
+    private BigDecimal sum = BigDecimal.ZERO;
+
+    CountWindow(final int size) {
+      if (size <= 0) {
+        throw new IllegalArgumentException("The size must be positive. [size: " + size + "]");
+      }
+      this.values = new BigDecimal[size];
+    }
+
+    @Override
+    public void accept(final BigDecimal value) {
+      Objects.requireNonNull(value, "The value: BigDecimal cannot be null.");
+      if (size == values.length) {
+        sum = sum.subtract(values[next]);
+      } else {
+        size++;
+      }
+      values[next] = value;
+      sum = sum.add(value);
+      next = next + 1 == values.length ? 0 : next + 1;
+    }
+
+    @Override
+    long collect(final Total total) {
+      total.sum = total.sum.add(sum);
+      return size;
+    }
+  }
+
+  private static final class TimeWindow extends DecimalSlidingWindow {
+    private final long bucketNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    /* The bucket (epoch % buckets) holds the values added in the epoch which is a bucket-long period from the origin. */
+    private final BigDecimal[] sums;
+    private final long[] counts;
+    private long currentEpoch;
+
+    private BigDecimal sum = BigDecimal.ZERO;
+    private long count;
+
+    TimeWindow(final Duration length, final int buckets, final LongSupplier nanoClock, final long origin) {
+      this.bucketNanos = LongSlidingWindow.bucketNanos(length, buckets);
+      this.nanoClock = nanoClock;
+      this.origin = origin;
+      this.sums = new BigDecimal[buckets];
+      Arrays.fill(sums, BigDecimal.ZERO);
+      this.counts = new long[buckets];
+    }
+
+    /* evicts the buckets which are no longer in the window and returns the current bucket */
+    private int advance() {
+      final long epoch = Math.max((nanoClock.getAsLong() - origin) / bucketNanos, currentEpoch);
+      final int buckets = counts.length;
+      for (long e = Math.max(currentEpoch + 1, epoch - buckets + 1); e <= epoch; e++) {
+        final int evicted = (int) (e % buckets);
+        if (counts[evicted] != 0L) {
+          sum = sum.subtract(sums[evicted]);
+          count -= counts[evicted];
+          sums[evicted] = BigDecimal.ZERO;
+          counts[evicted] = 0L;
+        }
+      }
+      currentEpoch = epoch;
+      return (int) (epoch % buckets);
+    }
+
+    @Override
+    public void accept(final BigDecimal value) {
+      Objects.requireNonNull(value, "The value: BigDecimal cannot be null.");
+      final int bucket = advance();
+      sums[bucket] = sums[bucket].add(value);
+      counts[bucket]++;
+      sum = sum.add(value);
+      count++;
+    }
+
+    @Override
+    long collect(final Total total) {
+      advance();
+      total.sum = total.sum.add(sum);
+      return count;
+    }
+  }
+
+  private static final class StripedWindow extends DecimalSlidingWindow {
+    private final TimeWindow[] stripes;
+
+    StripedWindow(final Duration length, final int buckets, final int stripes, final LongSupplier nanoClock) {
+      if (stripes <= 0) {
+        throw new IllegalArgumentException("The stripes must be positive. [stripes: " + stripes + "]");
+      }
+      Objects.requireNonNull(nanoClock, "The nanoClock: LongSupplier cannot be null.");
+      final long origin = nanoClock.getAsLong();
+      this.stripes = new TimeWindow[stripes];
+      for (int i = 0; i < stripes; i++) {
+        this.stripes[i] = new TimeWindow(length, buckets, nanoClock, origin);
+      }
+    }
+
+    @Override
+    public void accept(final BigDecimal value) {
+      final TimeWindow stripe = stripes[(int) (Thread.currentThread()
+                                                     .getId() % stripes.length)];
+      synchronized (stripe) {
+        stripe.accept(value);
+      }
+    }
+
+    @Override
+    long collect(final Total total) {
+      long count = 0L;
+      for (final TimeWindow stripe : stripes) {
+        synchronized (stripe) {
+          count += stripe.collect(total);
+        }
+      }
+      return count;
+    }
+  }
+}
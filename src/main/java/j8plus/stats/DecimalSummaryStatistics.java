@@ -0,0 +1,309 @@
+package j8plus.stats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A state object for collecting statistics such as count, sum, min, max, and average of {@link BigDecimal} values. It
+ * is a partial aggregate which can be merged with the ones collected by other threads or other nodes. Merging is
+ * associative and commutative, and it gives the same result, including the scales of the sum, min and max, in any
+ * order so the partial aggregates can be combined deterministically.
+ * <p>
+ * It has a compact binary form ({@link #toByteArray()} and {@link #writeTo(DataOutput)}) which keeps each
+ * {@link BigDecimal} as the zigzag varint of its scale followed by the zigzag varint of its unscaled value, so a small
+ * decimal such as <code>12.34</code> takes three bytes. The same form is used by Java serialization.
+ *
+ * <pre>
+ * final byte[] partial = orders.stream()
+ *                              .collect(Numbers.decimalStatistics(Order::getAmount))
+ *                              .toByteArray();
+ * // on the coordinator
+ * final DecimalSummaryStatistics total = DecimalSummaryStatistics.fromByteArray(partial1)
+ *                                                                .merge(DecimalSummaryStatistics.fromByteArray(partial2));
+ * </pre>
+ * <p>
+ * It is not thread safe but it can be used with parallel streams as each thread has its own instance which are combined
+ * by {@link #combine(DecimalSummaryStatistics)}.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class DecimalSummaryStatistics implements Consumer<BigDecimal>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /* the version of the binary form */
+  private static final int FORMAT_VERSION = 1;
+
+  private transient long count;
+  private transient BigDecimal sum = BigDecimal.ZERO;
+  private transient BigDecimal min;
+  private transient BigDecimal max;
+
+  public DecimalSummaryStatistics() {
+  }
+
+  @Override
+  public void accept(final BigDecimal value) {
+    Objects.requireNonNull(value, "The value: BigDecimal cannot be null.");
+    count++;
+    sum = sum.add(value);
+    min = min(min, value);
+    max = max(max, value);
+  }
+
+  /**
+   * Combines the state of another {@code DecimalSummaryStatistics} into this one.
+   *
+   * @param other another {@code DecimalSummaryStatistics}
+   * @throws NullPointerException if {@code other} is null
+   */
+  public void combine(final DecimalSummaryStatistics other) {
+    count += other.count;
+    sum = sum.add(other.sum);
+    min = min(min, other.min);
+    max = max(max, other.max);
+  }
+
+  /**
+   * Returns a new {@code DecimalSummaryStatistics} which has the merged state of this and the given one without
+   * changing either of them.
+   *
+   * @param other another {@code DecimalSummaryStatistics}
+   * @return the merged statistics
+   * @throws NullPointerException if {@code other} is null
+   */
+  public DecimalSummaryStatistics merge(final DecimalSummaryStatistics other) {
+    Objects.requireNonNull(other, "The other: DecimalSummaryStatistics cannot be null.");
+    final DecimalSummaryStatistics merged = new DecimalSummaryStatistics();
+    merged.combine(this);
+    merged.combine(other);
+    return merged;
+  }
+
+  /* Of the equal values like 1.0 and 1.00, the one with the smaller scale is taken so that the result does not depend on the order. */
+  private static BigDecimal min(final BigDecimal left, final BigDecimal right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    final int comparison = left.compareTo(right);
+    return comparison < 0 || (comparison == 0 && left.scale() <= right.scale()) ? left : right;
+  }
+
+  private static BigDecimal max(final BigDecimal left, final BigDecimal right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    final int comparison = left.compareTo(right);
+    return comparison > 0 || (comparison == 0 && left.scale() <= right.scale()) ? left : right;
+  }
+
+  public final long getCount() {
+    return count;
+  }
+
+  /**
+   * @return the exact sum of values recorded, or zero if none
+   */
+  public final BigDecimal getSum() {
+    return sum;
+  }
+
+  /**
+   * @return the minimum value recorded, or null if none
+   */
+  public final BigDecimal getMin() {
+    return min;
+  }
+
+  /**
+   * @return the maximum value recorded, or null if none
+   */
+  public final BigDecimal getMax() {
+    return max;
+  }
+
+  /**
+   * @return the average of values recorded using {@link MathContext#DECIMAL128}, or zero if none
+   */
+  public final BigDecimal getAverage() {
+    return getAverage(MathContext.DECIMAL128);
+  }
+
+  /**
+   * @param mathContext the {@link MathContext} used to divide the sum by the count
+   * @return the average of values recorded, or zero if none
+   */
+  public final BigDecimal getAverage(final MathContext mathContext) {
+    if (count == 0L) {
+      return BigDecimal.ZERO;
+    }
+    return sum.divide(BigDecimal.valueOf(count), mathContext);
+  }
+
+  /**
+   * Writes the compact binary form of this statistics to the given output. It can be read by
+   * {@link #readFrom(DataInput)}.
+   *
+   * @param output the output to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeTo(final DataOutput output) throws IOException {
+    output.writeByte(FORMAT_VERSION);
+    Varints.writeUnsigned(output, count);
+    if (count != 0L) {
+      writeDecimal(output, sum);
+      writeDecimal(output, min);
+      writeDecimal(output, max);
+    }
+  }
+
+  /**
+   * @return the compact binary form of this statistics which can be read by {@link #fromByteArray(byte[])}
+   */
+  public byte[] toByteArray() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+    try {
+      writeTo(new DataOutputStream(bytes));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Reads the statistics written by {@link #writeTo(DataOutput)}.
+   *
+   * @param input the input to read from
+   * @return the statistics read
+   * @throws IOException if an I/O error occurs or the input is not in the binary form of the statistics
+   */
+  public static DecimalSummaryStatistics readFrom(final DataInput input) throws IOException {
+    final DecimalSummaryStatistics stats = new DecimalSummaryStatistics();
+    stats.read(input);
+    return stats;
+  }
+
+  /**
+   * Reads the statistics from the bytes returned by {@link #toByteArray()}.
+   *
+   * @param bytes the binary form of the statistics
+   * @return the statistics read
+   * @throws IllegalArgumentException if the bytes are not in the binary form of the statistics
+   */
+  public static DecimalSummaryStatistics fromByteArray(final byte[] bytes) {
+    Objects.requireNonNull(bytes, "The bytes: byte[] cannot be null.");
+    final ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+    try {
+      final DecimalSummaryStatistics stats = readFrom(new DataInputStream(input));
+      if (input.available() != 0) {
+        throw new StreamCorruptedException("There are " + input.available() + " bytes left after the statistics.");
+      }
+      return stats;
+    } catch (final IOException e) {
+      throw new IllegalArgumentException("Invalid binary form of DecimalSummaryStatistics.", e);
+    }
+  }
+
+  private void read(final DataInput input) throws IOException {
+    final int version = input.readUnsignedByte();
+    if (version != FORMAT_VERSION) {
+      throw new StreamCorruptedException("Unsupported format version. [version: " + version + "]");
+    }
+    final long count = Varints.readNonNegativeLong(input, "count");
+    this.count = count;
+    if (count == 0L) {
+      this.sum = BigDecimal.ZERO;
+      this.min = null;
+      this.max = null;
+    } else {
+      this.sum = readDecimal(input);
+      this.min = readDecimal(input);
+      this.max = readDecimal(input);
+    }
+  }
+
+  private void writeObject(final ObjectOutputStream output) throws IOException {
+    output.defaultWriteObject();
+    writeTo(output);
+  }
+
+  private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+    input.defaultReadObject();
+    read(input);
+  }
+
+  private static void writeDecimal(final DataOutput output, final BigDecimal value) throws IOException {
+    Varints.writeUnsigned(output, Varints.zigzag(value.scale()));
+    final BigInteger unscaled = value.unscaledValue();
+    if (unscaled.bitLength() < Long.SIZE) {
+      Varints.writeUnsigned(output, Varints.zigzag(unscaled.longValue()));
+    } else {
+      /* ~x is -x - 1 so (~x << 1) | 1 is the zigzag encoding of a negative x */
+      Varints.writeUnsigned(output, unscaled.signum() < 0 ? unscaled.not()
+                                                                    .shiftLeft(1)
+                                                                    .setBit(0) : unscaled.shiftLeft(1));
+    }
+  }
+
+  private static BigDecimal readDecimal(final DataInput input) throws IOException {
+    final BigInteger zigzagScale = Varints.readUnsigned(input);
+    if (zigzagScale.bitLength() > Integer.SIZE) {
+      throw new StreamCorruptedException("The scale is out of the int range.");
+    }
+    final int scale = (int) Varints.unzigzag(zigzagScale.longValue());
+    final BigInteger zigzagUnscaled = Varints.readUnsigned(input);
+    final BigInteger unscaled = zigzagUnscaled.testBit(0) ? zigzagUnscaled.shiftRight(1)
+                                                                          .not() : zigzagUnscaled.shiftRight(1);
+    return new BigDecimal(unscaled, scale);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof DecimalSummaryStatistics)) {
+      return false;
+    }
+    final DecimalSummaryStatistics that = (DecimalSummaryStatistics) other;
+    return count == that.count && sum.equals(that.sum) && Objects.equals(min, that.min) && Objects.equals(max, that.max);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(count, sum, min, max);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() +
+      "{count=" + getCount() +
+      ", sum=" + getSum() +
+      ", min=" + getMin() +
+      ", average=" + getAverage() +
+      ", max=" + getMax() +
+      "}";
+  }
+}
@@ -0,0 +1,152 @@
+package j8plus.stats;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A tumbling window which splits the {@link BigDecimal} values into consecutive non-overlapping windows of N values
+ * ({@link #ofCount(int, ObjLongConsumer)}) or of a period of time ({@link #ofDuration(Duration, ObjLongConsumer)}),
+ * and passes the sum and the count of each window to the given listener when the window is closed. Only the sum and
+ * the count of the current window are kept so adding a value is O(1).
+ * <p>
+ * It is not thread safe so it should be confined to a thread. The listener is called in the thread which closes the
+ * window.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public abstract class DecimalTumblingWindow implements Consumer<BigDecimal> {
+
+  private final ObjLongConsumer<? super BigDecimal> listener;
+  private BigDecimal sum = BigDecimal.ZERO;
+  long count;
+
+  DecimalTumblingWindow(final ObjLongConsumer<? super BigDecimal> listener) {
+    this.listener = Objects.requireNonNull(listener, "The listener: ObjLongConsumer cannot be null.");
+  }
+
+  /**
+   * Returns a tumbling window of every given number of values.
+   *
+   * @param size     the number of values in each window
+   * @param listener the listener to receive the sum and the count of each window
+   * @return a thread-confined tumbling window of every given number of values
+   */
+  public static DecimalTumblingWindow ofCount(final int size, final ObjLongConsumer<? super BigDecimal> listener) {
+    return new CountWindow(size, listener);
+  }
+
+  /**
+   * Returns a tumbling window of every given period of time. A window is closed by the first value added or
+   * {@link #tick()} after its period ends. The windows without any values are not passed to the listener.
+   *
+   * @param length   the length of each window
+   * @param listener the listener to receive the sum and the count of each window
+   * @return a thread-confined tumbling window of every given period of time
+   */
+  public static DecimalTumblingWindow ofDuration(final Duration length, final ObjLongConsumer<? super BigDecimal> listener) {
+    return ofDuration(length, listener, System::nanoTime);
+  }
+
+  /**
+   * The same as {@link #ofDuration(Duration, ObjLongConsumer)} but it uses the given clock.
+   *
+   * @param length    the length of each window
+   * @param listener  the listener to receive the sum and the count of each window
+   * @param nanoClock the clock which returns the current time in nanoseconds like {@link System#nanoTime()}
+   * @return a thread-confined tumbling window of every given period of time
+   */
+  public static DecimalTumblingWindow ofDuration(final Duration length,
+                                                 final ObjLongConsumer<? super BigDecimal> listener,
+                                                 final LongSupplier nanoClock) {
+    return new TimeWindow(length, listener, nanoClock);
+  }
+
+  /**
+   * Adds the given value to the current window, closing the window first if it has ended.
+   *
+   * @param value the value to add
+   */
+  @Override
+  public abstract void accept(BigDecimal value);
+
+  /**
+   * Closes the current window if it has ended.
+   */
+  public abstract void tick();
+
+  /**
+   * Closes the current window even if it has not ended, as long as it has any values.
+   */
+  public void flush() {
+    if (count != 0L) {
+      final BigDecimal closedSum = sum;
+      final long closedCount = count;
+      sum = BigDecimal.ZERO;
+      count = 0L;
+      listener.accept(closedSum, closedCount);
+    }
+  }
+
+  void add(final BigDecimal value) {
+    sum = sum.add(Objects.requireNonNull(value, "The value: BigDecimal cannot be null."));
+    count++;
+  }
+
+  private static final class CountWindow extends DecimalTumblingWindow {
+    private final int size;
+
+    CountWindow(final int size, final ObjLongConsumer<? super BigDecimal> listener) {
+      super(listener);
+      if (size <= 0) {
+        throw new IllegalArgumentException("The size must be positive. [size: " + size + "]");
+      }
+      this.size = size;
+    }
+
+    @Override
+    public void accept(final BigDecimal value) {
+      add(value);
+      if (count == size) {
+        flush();
+      }
+    }
+
+    @Override
+    public void tick() {
+    }
+  }
+
+  private static final class TimeWindow extends DecimalTumblingWindow {
+    private final long lengthNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private long currentEpoch;
+
+    TimeWindow(final Duration length, final ObjLongConsumer<? super BigDecimal> listener, final LongSupplier nanoClock) {
+      super(listener);
+      this.lengthNanos = LongSlidingWindow.bucketNanos(length, 1);
+      this.nanoClock = Objects.requireNonNull(nanoClock, "The nanoClock: LongSupplier cannot be null.");
+      this.origin = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void accept(final BigDecimal value) {
+      tick();
+      add(value);
+    }
+
+    @Override
+    public void tick() {
+      final long epoch = (nanoClock.getAsLong() - origin) / lengthNanos;
+      if (epoch > currentEpoch) {
+        currentEpoch = epoch;
+        flush();
+      }
+    }
+  }
+}
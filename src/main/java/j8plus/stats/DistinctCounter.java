@@ -0,0 +1,332 @@
+package j8plus.stats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * An approximate distinct counter (HyperLogLog) which estimates the number of distinct keys with a fixed amount of
+ * memory, <code>2<sup>precision</sup></code> bytes (16 KB for the default precision, 14), no matter how many keys are
+ * added. The relative standard error of the estimate is about <code>1.04 / sqrt(2<sup>precision</sup>)</code> (0.81%
+ * for the default precision). The estimate is computed by the improved estimator of Otmar Ertl which is accurate for
+ * both small and large cardinalities without empirical bias correction.
+ * <p>
+ * The long and int keys are hashed without boxing. The other keys are hashed into 64 bits from their
+ * {@link Object#hashCode()} except {@link CharSequence}s and the boxed numbers which are hashed from their contents,
+ * so the keys whose {@link Object#hashCode()} collide are counted as one.
+ * <p>
+ * Two counters with the same precision can be merged without losing accuracy, and merging is associative, commutative
+ * and idempotent, so the counters collected by different threads or nodes can be combined in any order. It has a
+ * compact binary form ({@link #toByteArray()}) which is also used by Java serialization.
+ * <p>
+ * It is not thread safe but it can be used with parallel streams as each thread has its own instance which are combined
+ * by {@link #combine(DistinctCounter)}.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class DistinctCounter implements LongConsumer, IntConsumer, Consumer<Object>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final int MIN_PRECISION = 4;
+  public static final int MAX_PRECISION = 18;
+  public static final int DEFAULT_PRECISION = 14;
+
+  /* the version of the binary form */
+  private static final int FORMAT_VERSION = 1;
+
+  private final int precision;
+  /* registers[i] is the max rank (the number of leading zeros + 1) of the hashes whose first precision bits are i. */
+  private final byte[] registers;
+
+  /**
+   * Creates a counter with {@link #DEFAULT_PRECISION}.
+   */
+  public DistinctCounter() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * @param precision the number of bits to choose a register from {@link #MIN_PRECISION} to {@link #MAX_PRECISION}. A
+   *                  higher precision uses more memory (<code>2<sup>precision</sup></code> bytes) for less error.
+   */
+  public DistinctCounter(final int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException("The precision must be from " + MIN_PRECISION + " to " + MAX_PRECISION + ". [precision: " + precision + "]");
+    }
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  @Override
+  public void accept(final long key) {
+    addHash(mix(key));
+  }
+
+  @Override
+  public void accept(final int key) {
+    accept((long) key);
+  }
+
+  /**
+   * Adds the given key. The {@link Long}, {@link Integer}, {@link Short}, {@link Byte} and {@link Character} keys are
+   * counted as the same keys as the long keys of the same values.
+   *
+   * @param key the key to add
+   */
+  @Override
+  public void accept(final Object key) {
+    addHash(hash(key));
+  }
+
+  static long hash(final Object key) {
+    if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+      return mix(((Number) key).longValue());
+    }
+    if (key instanceof Character) {
+      return mix((Character) key);
+    }
+    if (key instanceof CharSequence) {
+      /* FNV-1a */
+      final CharSequence chars = (CharSequence) key;
+      long hash = 0xCBF29CE484222325L;
+      for (int i = 0, length = chars.length(); i < length; i++) {
+        hash = (hash ^ chars.charAt(i)) * 0x100000001B3L;
+      }
+      return mix(hash);
+    }
+    return mix(Objects.hashCode(key));
+  }
+
+  /* the finalizer of MurmurHash3 which spreads every bit of the input to the whole output */
+  static long mix(final long value) {
+    long hash = value;
+    hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return hash ^ (hash >>> 33);
+  }
+
+  private void addHash(final long hash) {
+    final int index = (int) (hash >>> (Long.SIZE - precision));
+    /* the marker bit limits the rank to (64 - precision + 1) */
+    final int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+    if (rank > registers[index]) {
+      registers[index] = (byte) rank;
+    }
+  }
+
+  /**
+   * Combines the state of another {@code DistinctCounter} into this one.
+   *
+   * @param other another {@code DistinctCounter}
+   * @throws IllegalArgumentException if the other has a different precision
+   */
+  public void combine(final DistinctCounter other) {
+    if (precision != other.precision) {
+      throw new IllegalArgumentException("The counters with different precisions cannot be combined. " +
+        "[precision: " + precision + ", other.precision: " + other.precision + "]");
+    }
+    for (int i = 0; i < registers.length; i++) {
+      if (other.registers[i] > registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  /**
+   * Returns a new {@code DistinctCounter} which has the merged state of this and the given one without changing either
+   * of them.
+   *
+   * @param other another {@code DistinctCounter}
+   * @return the merged counter
+   * @throws IllegalArgumentException if the other has a different precision
+   */
+  public DistinctCounter merge(final DistinctCounter other) {
+    Objects.requireNonNull(other, "The other: DistinctCounter cannot be null.");
+    final DistinctCounter merged = new DistinctCounter(precision);
+    merged.combine(this);
+    merged.combine(other);
+    return merged;
+  }
+
+  /**
+   * @return the estimated number of the distinct keys added
+   */
+  public long getEstimate() {
+    final int q = Long.SIZE - precision;
+    final int m = registers.length;
+    final int[] histogram = new int[q + 2];
+    for (final byte register : registers) {
+      histogram[register]++;
+    }
+    double z = m * tau(1D - (double) histogram[q + 1] / m);
+    for (int k = q; k >= 1; k--) {
+      z = 0.5D * (z + histogram[k]);
+    }
+    z += m * sigma((double) histogram[0] / m);
+    /* alpha for infinite m which is 1 / (2 ln 2) */
+    return Math.round(m / (2D * Math.log(2D)) * m / z);
+  }
+
+  private static double sigma(final double x) {
+    if (x == 1D) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double xPower = x;
+    double y = 1D;
+    double z = x;
+    double previous;
+    do {
+      xPower *= xPower;
+      previous = z;
+      z += xPower * y;
+      y += y;
+    } while (z != previous);
+    return z;
+  }
+
+  private static double tau(final double x) {
+    if (x == 0D || x == 1D) {
+      return 0D;
+    }
+    double xRoot = x;
+    double y = 1D;
+    double z = 1D - x;
+    double previous;
+    do {
+      xRoot = Math.sqrt(xRoot);
+      previous = z;
+      y *= 0.5D;
+      z -= (1D - xRoot) * (1D - xRoot) * y;
+    } while (z != previous);
+    return z / 3D;
+  }
+
+  public final int getPrecision() {
+    return precision;
+  }
+
+  /**
+   * @return the relative standard error of the estimate which is <code>1.04 / sqrt(2<sup>precision</sup>)</code>
+   */
+  public final double getRelativeStandardError() {
+    return 1.04D / Math.sqrt(registers.length);
+  }
+
+  /**
+   * Writes the compact binary form of this counter to the given output. It can be read by {@link #readFrom(DataInput)}.
+   *
+   * @param output the output to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeTo(final DataOutput output) throws IOException {
+    output.writeByte(FORMAT_VERSION);
+    output.writeByte(precision);
+    output.write(registers);
+  }
+
+  /**
+   * @return the compact binary form of this counter which can be read by {@link #fromByteArray(byte[])}
+   */
+  public byte[] toByteArray() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(registers.length + 2);
+    try {
+      writeTo(new DataOutputStream(bytes));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Reads the counter written by {@link #writeTo(DataOutput)}.
+   *
+   * @param input the input to read from
+   * @return the counter read
+   * @throws IOException if an I/O error occurs or the input is not in the binary form of the counter
+   */
+  public static DistinctCounter readFrom(final DataInput input) throws IOException {
+    final int version = input.readUnsignedByte();
+    if (version != FORMAT_VERSION) {
+      throw new StreamCorruptedException("Unsupported format version. [version: " + version + "]");
+    }
+    final int precision = input.readUnsignedByte();
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new StreamCorruptedException("Invalid precision. [precision: " + precision + "]");
+    }
+    final DistinctCounter counter = new DistinctCounter(precision);
+    input.readFully(counter.registers);
+    final int maxRank = Long.SIZE - precision + 1;
+    for (final byte register : counter.registers) {
+      if (register < 0 || register > maxRank) {
+        throw new StreamCorruptedException("Invalid register value. [register: " + register + "]");
+      }
+    }
+    return counter;
+  }
+
+  /**
+   * Reads the counter from the bytes returned by {@link #toByteArray()}.
+   *
+   * @param bytes the binary form of the counter
+   * @return the counter read
+   * @throws IllegalArgumentException if the bytes are not in the binary form of the counter
+   */
+  public static DistinctCounter fromByteArray(final byte[] bytes) {
+    Objects.requireNonNull(bytes, "The bytes: byte[] cannot be null.");
+    final ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+    try {
+      final DistinctCounter counter = readFrom(new DataInputStream(input));
+      if (input.available() != 0) {
+        throw new StreamCorruptedException("There are " + input.available() + " bytes left after the counter.");
+      }
+      return counter;
+    } catch (final IOException e) {
+      throw new IllegalArgumentException("Invalid binary form of DistinctCounter.", e);
+    }
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(toByteArray());
+  }
+
+  private void readObject(final ObjectInputStream input) throws InvalidObjectException {
+    throw new InvalidObjectException("SerializedForm is required.");
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() +
+      "{precision=" + precision +
+      ", estimate=" + getEstimate() +
+      "}";
+  }
+
+  private static final class SerializedForm implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] bytes;
+
+    SerializedForm(final byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    private Object readResolve() {
+      return fromByteArray(bytes);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package j8plus.stats;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A state object for collecting statistics such as count, min, max, sum, and average of int and long values like
+ * {@link java.util.LongSummaryStatistics} but the sum never overflows. The sum is kept in a 128-bit integer made of two
+ * longs so no {@link BigInteger} is created per value. It is not thread safe but it can be used with parallel streams
+ * as each thread has its own instance which are combined by {@link #combine(ExactSummaryStatistics)}.
+ *
+ * <pre>
+ * final ExactSummaryStatistics stats = longStream.collect(ExactSummaryStatistics::new,
+ *                                                         ExactSummaryStatistics::accept,
+ *                                                         ExactSummaryStatistics::combine);
+ * </pre>
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class ExactSummaryStatistics implements IntConsumer, LongConsumer {
+
+  private static final BigInteger TWO_TO_THE_64 = BigInteger.ONE.shiftLeft(64);
+
+  private long count;
+  /* The sum is (sumHigh * 2^64 + unsigned sumLow) in two's complement. */
+  private long sumLow;
+  private long sumHigh;
+  private long min = Long.MAX_VALUE;
+  private long max = Long.MIN_VALUE;
+
+  public ExactSummaryStatistics() {
+  }
+
+  @Override
+  public void accept(final int value) {
+    accept((long) value);
+  }
+
+  @Override
+  public void accept(final long value) {
+    final long low = sumLow + value;
+    sumHigh += (value >> 63) + (Long.compareUnsigned(low, sumLow) < 0 ? 1L : 0L);
+    sumLow = low;
+    count++;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  /**
+   * Combines the state of another {@code ExactSummaryStatistics} into this one.
+   *
+   * @param other another {@code ExactSummaryStatistics}
+   * @throws NullPointerException if {@code other} is null
+   */
+  public void combine(final ExactSummaryStatistics other) {
+    final long low = sumLow + other.sumLow;
+    sumHigh += other.sumHigh + (Long.compareUnsigned(low, sumLow) < 0 ? 1L : 0L);
+    sumLow = low;
+    count += other.count;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  public final long getCount() {
+    return count;
+  }
+
+  /**
+   * @return the exact sum of values recorded, or zero if none
+   */
+  public final BigInteger getSum() {
+    if (sumHigh == (sumLow >> 63)) {
+      return BigInteger.valueOf(sumLow);
+    }
+    final BigInteger low = BigInteger.valueOf(sumLow);
+    /* @formatter:off */
+    return BigInteger.valueOf(sumHigh)
+                     .shiftLeft(64)
+                     .add(sumLow < 0 ? low.add(TWO_TO_THE_64) : low);
+    /* @formatter:on */
+  }
+
+  /**
+   * @return true if the sum does not fit in a long so {@link #getLongSum()} cannot be used.
+   */
+  public final boolean isSumOverflowed() {
+    return sumHigh != (sumLow >> 63);
+  }
+
+  /**
+   * @return the sum of values recorded as a long.
+   * @throws ArithmeticException if the sum does not fit in a long. (See {@link #isSumOverflowed()})
+   */
+  public final long getLongSum() {
+    if (isSumOverflowed()) {
+      throw new ArithmeticException("The sum overflows long. Use getSum() instead. [sum: " + getSum() + "]");
+    }
+    return sumLow;
+  }
+
+  /**
+   * @return the minimum value recorded, or {@link Long#MAX_VALUE} if none
+   */
+  public final long getMin() {
+    return min;
+  }
+
+  /**
+   * @return the maximum value recorded, or {@link Long#MIN_VALUE} if none
+   */
+  public final long getMax() {
+    return max;
+  }
+
+  /**
+   * @return the average of values recorded using {@link MathContext#DECIMAL128}, or zero if none
+   */
+  public final BigDecimal getAverage() {
+    return getAverage(MathContext.DECIMAL128);
+  }
+
+  /**
+   * @param mathContext the {@link MathContext} used to divide the sum by the count
+   * @return the average of values recorded, or zero if none
+   */
+  public final BigDecimal getAverage(final MathContext mathContext) {
+    if (count == 0L) {
+      return BigDecimal.ZERO;
+    }
+    return new BigDecimal(getSum()).divide(BigDecimal.valueOf(count), mathContext);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() +
+      "{count=" + getCount() +
+      ", sum=" + getSum() +
+      ", min=" + getMin() +
+      ", average=" + getAverage() +
+      ", max=" + getMax() +
+      "}";
+  }
+}
@@ -0,0 +1,70 @@
+package j8plus.stats;
+
+import java.math.BigInteger;
+
+/**
+ * A mutable 128-bit signed integer in two's complement made of two longs. It is used to keep sums of long values which
+ * never overflow without creating a {@link BigInteger} per value.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class Int128 {
+
+  private static final BigInteger TWO_TO_THE_64 = BigInteger.ONE.shiftLeft(64);
+
+  long low;
+  long high;
+
+  void add(final long value) {
+    final long result = low + value;
+    high += (value >> 63) + (Long.compareUnsigned(result, low) < 0 ? 1L : 0L);
+    low = result;
+  }
+
+  void subtract(final long value) {
+    final long result = low - value;
+    high -= (value >> 63) + (Long.compareUnsigned(low, value) < 0 ? 1L : 0L);
+    low = result;
+  }
+
+  void add(final Int128 other) {
+    final long result = low + other.low;
+    high += other.high + (Long.compareUnsigned(result, low) < 0 ? 1L : 0L);
+    low = result;
+  }
+
+  void subtract(final Int128 other) {
+    final long result = low - other.low;
+    high -= other.high + (Long.compareUnsigned(low, other.low) < 0 ? 1L : 0L);
+    low = result;
+  }
+
+  void clear() {
+    low = 0L;
+    high = 0L;
+  }
+
+  boolean fitsInLong() {
+    return high == (low >> 63);
+  }
+
+  long longValueExact() {
+    if (!fitsInLong()) {
+      throw new ArithmeticException("The sum overflows long. [sum: " + toBigInteger() + "]");
+    }
+    return low;
+  }
+
+  BigInteger toBigInteger() {
+    if (fitsInLong()) {
+      return BigInteger.valueOf(low);
+    }
+    final BigInteger lowPart = BigInteger.valueOf(low);
+    /* @formatter:off */
+    return BigInteger.valueOf(high)
+                     .shiftLeft(64)
+                     .add(low < 0 ? lowPart.add(TWO_TO_THE_64) : lowPart);
+    /* @formatter:on */
+  }
+}
@@ -0,0 +1,143 @@
+package j8plus.stats;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A tumbling window which splits the long values into consecutive non-overlapping windows of N values
+ * ({@link #ofCount(int, Consumer)}) or of a period of time ({@link #ofDuration(Duration, Consumer)}), and passes the
+ * {@link ExactSummaryStatistics} of each window to the given listener when the window is closed. Only the statistics of
+ * the current window are kept so adding a value is O(1).
+ * <p>
+ * It is not thread safe so it should be confined to a thread. The listener is called in the thread which closes the
+ * window.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public abstract class LongTumblingWindow implements LongConsumer {
+
+  final Consumer<? super ExactSummaryStatistics> listener;
+  ExactSummaryStatistics current = new ExactSummaryStatistics();
+
+  LongTumblingWindow(final Consumer<? super ExactSummaryStatistics> listener) {
+    this.listener = Objects.requireNonNull(listener, "The listener: Consumer cannot be null.");
+  }
+
+  /**
+   * Returns a tumbling window of every given number of values.
+   *
+   * @param size     the number of values in each window
+   * @param listener the listener to receive the statistics of each window
+   * @return a thread-confined tumbling window of every given number of values
+   */
+  public static LongTumblingWindow ofCount(final int size, final Consumer<? super ExactSummaryStatistics> listener) {
+    return new CountWindow(size, listener);
+  }
+
+  /**
+   * Returns a tumbling window of every given period of time. A window is closed by the first value added or
+   * {@link #tick()} after its period ends. The windows without any values are not passed to the listener.
+   *
+   * @param length   the length of each window
+   * @param listener the listener to receive the statistics of each window
+   * @return a thread-confined tumbling window of every given period of time
+   */
+  public static LongTumblingWindow ofDuration(final Duration length, final Consumer<? super ExactSummaryStatistics> listener) {
+    return ofDuration(length, listener, System::nanoTime);
+  }
+
+  /**
+   * The same as {@link #ofDuration(Duration, Consumer)} but it uses the given clock.
+   *
+   * @param length    the length of each window
+   * @param listener  the listener to receive the statistics of each window
+   * @param nanoClock the clock which returns the current time in nanoseconds like {@link System#nanoTime()}
+   * @return a thread-confined tumbling window of every given period of time
+   */
+  public static LongTumblingWindow ofDuration(final Duration length,
+                                              final Consumer<? super ExactSummaryStatistics> listener,
+                                              final LongSupplier nanoClock) {
+    return new TimeWindow(length, listener, nanoClock);
+  }
+
+  /**
+   * Adds the given value to the current window, closing the window first if it has ended.
+   *
+   * @param value the value to add
+   */
+  @Override
+  public abstract void accept(long value);
+
+  /**
+   * Closes the current window if it has ended.
+   */
+  public abstract void tick();
+
+  /**
+   * Closes the current window even if it has not ended, as long as it has any values.
+   */
+  public void flush() {
+    if (current.getCount() != 0L) {
+      final ExactSummaryStatistics closed = current;
+      current = new ExactSummaryStatistics();
+      listener.accept(closed);
+    }
+  }
+
+  private static final class CountWindow extends LongTumblingWindow {
+    private final int size;
+
+    CountWindow(final int size, final Consumer<? super ExactSummaryStatistics> listener) {
+      super(listener);
+      if (size <= 0) {
+        throw new IllegalArgumentException("The size must be positive. [size: " + size + "]");
+      }
+      this.size = size;
+    }
+
+    @Override
+    public void accept(final long value) {
+      current.accept(value);
+      if (current.getCount() == size) {
+        flush();
+      }
+    }
+
+    @Override
+    public void tick() {
+    }
+  }
+
+  private static final class TimeWindow extends LongTumblingWindow {
+    private final long lengthNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private long currentEpoch;
+
+    TimeWindow(final Duration length, final Consumer<? super ExactSummaryStatistics> listener, final LongSupplier nanoClock) {
+      super(listener);
+      this.lengthNanos = LongSlidingWindow.bucketNanos(length, 1);
+      this.nanoClock = Objects.requireNonNull(nanoClock, "The nanoClock: LongSupplier cannot be null.");
+      this.origin = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void accept(final long value) {
+      tick();
+      current.accept(value);
+    }
+
+    @Override
+    public void tick() {
+      final long epoch = (nanoClock.getAsLong() - origin) / lengthNanos;
+      if (epoch > currentEpoch) {
+        currentEpoch = epoch;
+        flush();
+      }
+    }
+  }
+}
@@ -0,0 +1,510 @@
+package j8plus.stats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A mergeable sketch of a distribution of numbers which answers quantile queries such as the median or the 99th
+ * percentile with a relative-error guarantee (DDSketch). A value <code>x</code> is counted in the bucket
+ * <code>ceil(log<sub>&gamma;</sub>|x|)</code> where <code>&gamma; = (1 + &alpha;) / (1 - &alpha;)</code> for the
+ * relative accuracy <code>&alpha;</code>, so any quantile returned is within <code>&alpha; * |q|</code> of the exact
+ * quantile <code>q</code>. It takes a constant amount of memory no matter how many values are added, as the number of
+ * buckets only depends on the range of the values (about 1,600 buckets for the values from 1 nanosecond to 1 day with
+ * 1% accuracy).
+ * <p>
+ * Two sketches with the same relative accuracy can be merged without losing accuracy, and merging is associative and
+ * commutative, so the sketches collected by different threads or nodes can be combined in any order. It has a compact
+ * binary form ({@link #toByteArray()}) which is also used by Java serialization.
+ * <p>
+ * The number of buckets for each sign is limited to {@link #getMaxBuckets()}. When there are more, the buckets of the
+ * smallest magnitudes are collapsed into one so the quantiles of the largest values, which matter the most for
+ * latencies, keep their accuracy.
+ * <p>
+ * It is not thread safe but it can be used with parallel streams as each thread has its own instance which are combined
+ * by {@link #combine(QuantileSketch)}.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class QuantileSketch implements DoubleConsumer, LongConsumer, Consumer<BigDecimal>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final double DEFAULT_RELATIVE_ACCURACY = 0.01D;
+  public static final int DEFAULT_MAX_BUCKETS = 2048;
+  /* the smallest relative accuracy with which the bucket indices of all the doubles fit in int */
+  public static final double MIN_RELATIVE_ACCURACY = 1E-6D;
+
+  /* the version of the binary form */
+  private static final int FORMAT_VERSION = 1;
+
+  /* The values whose magnitudes are smaller than this are counted as zero. */
+  private static final double MIN_INDEXABLE_VALUE = Double.MIN_NORMAL;
+
+  private final double relativeAccuracy;
+  private final int maxBuckets;
+  private final double gamma;
+  private final double multiplier;
+
+  private final Store positives;
+  private final Store negatives;
+  private long zeroCount;
+
+  private long count;
+  private double sum;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Creates a sketch with {@link #DEFAULT_RELATIVE_ACCURACY} (1%) and {@link #DEFAULT_MAX_BUCKETS}.
+   */
+  public QuantileSketch() {
+    this(DEFAULT_RELATIVE_ACCURACY);
+  }
+
+  public QuantileSketch(final double relativeAccuracy) {
+    this(relativeAccuracy, DEFAULT_MAX_BUCKETS);
+  }
+
+  /**
+   * @param relativeAccuracy the relative accuracy of the quantiles from {@link #MIN_RELATIVE_ACCURACY} and less than 1
+   * @param maxBuckets       the maximum number of buckets for each of the positive and the negative values
+   */
+  public QuantileSketch(final double relativeAccuracy, final int maxBuckets) {
+    if (!(relativeAccuracy >= MIN_RELATIVE_ACCURACY && relativeAccuracy < 1D)) {
+      throw new IllegalArgumentException("The relativeAccuracy must be from " + MIN_RELATIVE_ACCURACY + " and less than 1. [relativeAccuracy: " + relativeAccuracy + "]");
+    }
+    if (maxBuckets < 2) {
+      throw new IllegalArgumentException("The maxBuckets must be greater than 1. [maxBuckets: " + maxBuckets + "]");
+    }
+    this.relativeAccuracy = relativeAccuracy;
+    this.maxBuckets = maxBuckets;
+    this.gamma = (1D + relativeAccuracy) / (1D - relativeAccuracy);
+    this.multiplier = 1D / Math.log(gamma);
+    this.positives = new Store(maxBuckets);
+    this.negatives = new Store(maxBuckets);
+  }
+
+  /**
+   * Adds the given value to the sketch.
+   *
+   * @param value the value to add
+   * @throws IllegalArgumentException if the value is NaN or infinite
+   */
+  @Override
+  public void accept(final double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException("The value must be finite. [value: " + value + "]");
+    }
+    if (value >= MIN_INDEXABLE_VALUE) {
+      positives.add(index(value), 1L);
+    } else if (value <= -MIN_INDEXABLE_VALUE) {
+      negatives.add(index(-value), 1L);
+    } else {
+      zeroCount++;
+    }
+    count++;
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  @Override
+  public void accept(final long value) {
+    accept((double) value);
+  }
+
+  /**
+   * Adds the given value to the sketch. As the quantiles are approximate, it is converted to a double.
+   *
+   * @param value the value to add
+   */
+  @Override
+  public void accept(final BigDecimal value) {
+    Objects.requireNonNull(value, "The value: BigDecimal cannot be null.");
+    accept(value.doubleValue());
+  }
+
+  private int index(final double magnitude) {
+    return (int) Math.ceil(Math.log(magnitude) * multiplier);
+  }
+
+  /* the value in the middle of the bucket whose relative error is at most the relative accuracy */
+  private double valueOf(final int index) {
+    return 2D * Math.pow(gamma, index) / (gamma + 1D);
+  }
+
+  /**
+   * Combines the state of another {@code QuantileSketch} into this one.
+   *
+   * @param other another {@code QuantileSketch}
+   * @throws IllegalArgumentException if the other has a different relative accuracy
+   */
+  public void combine(final QuantileSketch other) {
+    if (Double.compare(relativeAccuracy, other.relativeAccuracy) != 0) {
+      throw new IllegalArgumentException("The sketches with different relative accuracies cannot be combined. " +
+        "[relativeAccuracy: " + relativeAccuracy + ", other.relativeAccuracy: " + other.relativeAccuracy + "]");
+    }
+    positives.addAll(other.positives);
+    negatives.addAll(other.negatives);
+    zeroCount += other.zeroCount;
+    count += other.count;
+    sum += other.sum;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  /**
+   * Returns a new {@code QuantileSketch} which has the merged state of this and the given one without changing either
+   * of them. The merged sketch has the smaller of their max buckets.
+   *
+   * @param other another {@code QuantileSketch}
+   * @return the merged sketch
+   * @throws IllegalArgumentException if the other has a different relative accuracy
+   */
+  public QuantileSketch merge(final QuantileSketch other) {
+    Objects.requireNonNull(other, "The other: QuantileSketch cannot be null.");
+    final QuantileSketch merged = new QuantileSketch(relativeAccuracy, Math.min(maxBuckets, other.maxBuckets));
+    merged.combine(this);
+    merged.combine(other);
+    return merged;
+  }
+
+  /**
+   * Returns the approximate quantile of the values added. The result is within the relative accuracy of the exact value
+   * at the rank <code>floor(quantile * (count - 1))</code> in the sorted values. The quantiles 0 and 1 are the exact min
+   * and max.
+   *
+   * @param quantile the quantile from 0 to 1 (e.g. 0.99 for the 99th percentile)
+   * @return the approximate quantile, or NaN if no values were added
+   * @throws IllegalArgumentException if the quantile is not in the range from 0 to 1
+   */
+  public double getQuantile(final double quantile) {
+    if (!(quantile >= 0D && quantile <= 1D)) {
+      throw new IllegalArgumentException("The quantile must be from 0 to 1. [quantile: " + quantile + "]");
+    }
+    if (count == 0L) {
+      return Double.NaN;
+    }
+    final long rank = (long) (quantile * (count - 1));
+    if (rank == 0L) {
+      return min;
+    }
+    if (rank == count - 1) {
+      return max;
+    }
+    final double value;
+    final long negativeCount = negatives.total;
+    if (rank < negativeCount) {
+      /* the more negative, the greater the index so the negatives are visited from the last index */
+      value = -valueOf(negatives.indexOfRank(negativeCount - 1 - rank));
+    } else if (rank < negativeCount + zeroCount) {
+      value = 0D;
+    } else {
+      value = valueOf(positives.indexOfRank(rank - negativeCount - zeroCount));
+    }
+    return Math.max(min, Math.min(max, value));
+  }
+
+  /**
+   * @param quantiles the quantiles from 0 to 1
+   * @return the approximate quantiles in the same order as the given ones
+   */
+  public double[] getQuantiles(final double... quantiles) {
+    final double[] values = new double[quantiles.length];
+    for (int i = 0; i < quantiles.length; i++) {
+      values[i] = getQuantile(quantiles[i]);
+    }
+    return values;
+  }
+
+  public final double getRelativeAccuracy() {
+    return relativeAccuracy;
+  }
+
+  public final int getMaxBuckets() {
+    return maxBuckets;
+  }
+
+  public final long getCount() {
+    return count;
+  }
+
+  /**
+   * @return the sum of the values added as a double which may have a rounding error
+   */
+  public final double getSum() {
+    return sum;
+  }
+
+  /**
+   * @return the exact minimum value added, or {@link Double#POSITIVE_INFINITY} if none
+   */
+  public final double getMin() {
+    return min;
+  }
+
+  /**
+   * @return the exact maximum value added, or {@link Double#NEGATIVE_INFINITY} if none
+   */
+  public final double getMax() {
+    return max;
+  }
+
+  /**
+   * Writes the compact binary form of this sketch to the given output. It can be read by {@link #readFrom(DataInput)}.
+   *
+   * @param output the output to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeTo(final DataOutput output) throws IOException {
+    output.writeByte(FORMAT_VERSION);
+    output.writeDouble(relativeAccuracy);
+    Varints.writeUnsigned(output, maxBuckets);
+    Varints.writeUnsigned(output, count);
+    if (count != 0L) {
+      output.writeDouble(sum);
+      output.writeDouble(min);
+      output.writeDouble(max);
+      Varints.writeUnsigned(output, zeroCount);
+      positives.writeTo(output);
+      negatives.writeTo(output);
+    }
+  }
+
+  /**
+   * @return the compact binary form of this sketch which can be read by {@link #fromByteArray(byte[])}
+   */
+  public byte[] toByteArray() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+    try {
+      writeTo(new DataOutputStream(bytes));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Reads the sketch written by {@link #writeTo(DataOutput)}.
+   *
+   * @param input the input to read from
+   * @return the sketch read
+   * @throws IOException if an I/O error occurs or the input is not in the binary form of the sketch
+   */
+  public static QuantileSketch readFrom(final DataInput input) throws IOException {
+    final int version = input.readUnsignedByte();
+    if (version != FORMAT_VERSION) {
+      throw new StreamCorruptedException("Unsupported format version. [version: " + version + "]");
+    }
+    final double relativeAccuracy = input.readDouble();
+    final long maxBuckets = Varints.readUnsignedLong(input);
+    final QuantileSketch sketch;
+    try {
+      sketch = new QuantileSketch(relativeAccuracy, (int) Math.min(maxBuckets, Integer.MAX_VALUE));
+    } catch (final IllegalArgumentException e) {
+      throw (IOException) new StreamCorruptedException(e.getMessage()).initCause(e);
+    }
+    final long count = Varints.readNonNegativeLong(input, "count");
+    if (count != 0L) {
+      sketch.count = count;
+      sketch.sum = input.readDouble();
+      sketch.min = input.readDouble();
+      sketch.max = input.readDouble();
+      sketch.zeroCount = Varints.readNonNegativeLong(input, "zeroCount");
+      sketch.positives.readFrom(input);
+      sketch.negatives.readFrom(input);
+      if (sketch.zeroCount + sketch.positives.total + sketch.negatives.total != count) {
+        throw new StreamCorruptedException("The count does not match the buckets. [count: " + count + "]");
+      }
+    }
+    return sketch;
+  }
+
+  /**
+   * Reads the sketch from the bytes returned by {@link #toByteArray()}.
+   *
+   * @param bytes the binary form of the sketch
+   * @return the sketch read
+   * @throws IllegalArgumentException if the bytes are not in the binary form of the sketch
+   */
+  public static QuantileSketch fromByteArray(final byte[] bytes) {
+    Objects.requireNonNull(bytes, "The bytes: byte[] cannot be null.");
+    final ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+    try {
+      final QuantileSketch sketch = readFrom(new DataInputStream(input));
+      if (input.available() != 0) {
+        throw new StreamCorruptedException("There are " + input.available() + " bytes left after the sketch.");
+      }
+      return sketch;
+    } catch (final IOException e) {
+      throw new IllegalArgumentException("Invalid binary form of QuantileSketch.", e);
+    }
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(toByteArray());
+  }
+
+  private void readObject(final ObjectInputStream input) throws InvalidObjectException {
+    throw new InvalidObjectException("SerializedForm is required.");
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() +
+      "{relativeAccuracy=" + relativeAccuracy +
+      ", count=" + count +
+      ", min=" + min +
+      ", p50=" + (count == 0L ? Double.NaN : getQuantile(0.5D)) +
+      ", p99=" + (count == 0L ? Double.NaN : getQuantile(0.99D)) +
+      ", max=" + max +
+      "}";
+  }
+
+  private static final class SerializedForm implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] bytes;
+
+    SerializedForm(final byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    private Object readResolve() {
+      return fromByteArray(bytes);
+    }
+  }
+
+  /**
+   * The counts of the contiguous bucket indices from <code>offset</code>. When it needs more than the max buckets, the
+   * lowest buckets are collapsed into the lowest one kept.
+   */
+  private static final class Store {
+    private final int maxBuckets;
+    private long[] counts = new long[0];
+    private int offset;
+    /* the range of the buckets which are not empty */
+    private int minIndex = Integer.MAX_VALUE;
+    private int maxIndex = Integer.MIN_VALUE;
+    private long total;
+
+    Store(final int maxBuckets) {
+      this.maxBuckets = maxBuckets;
+    }
+
+    void add(final int index, final long count) {
+      final int high = Math.max(maxIndex, index);
+      final int low = (int) Math.max(Math.min(minIndex, index), (long) high - maxBuckets + 1);
+      if (low < offset || high >= (long) offset + counts.length || low > minIndex) {
+        resize(low, high);
+      }
+      final int collapsed = Math.max(index, low);
+      counts[collapsed - offset] += count;
+      total += count;
+      minIndex = Math.min(minIndex, collapsed);
+      maxIndex = high;
+    }
+
+    /* makes the store cover the indices from low to high, collapsing the buckets below low into low */
+    private void resize(final int low, final int high) {
+      final long[] newCounts;
+      final int newOffset;
+      if (low >= offset && high < (long) offset + counts.length) {
+        newCounts = counts;
+        newOffset = offset;
+      } else {
+        /* double the length to add buckets without copying every time */
+        final int length = (int) Math.min(maxBuckets, Math.max((long) high - low + 1, Math.max(2L * counts.length, 16L)));
+        newCounts = new long[length];
+        newOffset = high >= (long) offset + counts.length || counts.length == 0 ? low : (int) ((long) high - length + 1);
+      }
+      long collapsedCount = 0L;
+      for (int index = minIndex; index <= maxIndex; index++) {
+        final long count = counts[index - offset];
+        if (count != 0L) {
+          counts[index - offset] = 0L;
+          if (index < low) {
+            collapsedCount += count;
+          } else {
+            newCounts[index - newOffset] = count;
+          }
+        }
+      }
+      newCounts[low - newOffset] += collapsedCount;
+      counts = newCounts;
+      offset = newOffset;
+      if (collapsedCount != 0L) {
+        minIndex = low;
+      }
+    }
+
+    void addAll(final Store other) {
+      for (int index = other.minIndex; index <= other.maxIndex; index++) {
+        final long count = other.counts[index - other.offset];
+        if (count != 0L) {
+          add(index, count);
+        }
+      }
+    }
+
+    /* returns the index of the bucket which has the value at the given rank from the lowest index */
+    int indexOfRank(final long rank) {
+      long cumulative = 0L;
+      for (int index = minIndex; index < maxIndex; index++) {
+        cumulative += counts[index - offset];
+        if (cumulative > rank) {
+          return index;
+        }
+      }
+      return maxIndex;
+    }
+
+    void writeTo(final DataOutput output) throws IOException {
+      if (total == 0L) {
+        Varints.writeUnsigned(output, 0L);
+        return;
+      }
+      Varints.writeUnsigned(output, (long) maxIndex - minIndex + 1);
+      Varints.writeUnsigned(output, Varints.zigzag(minIndex));
+      for (int index = minIndex; index <= maxIndex; index++) {
+        Varints.writeUnsigned(output, counts[index - offset]);
+      }
+    }
+
+    void readFrom(final DataInput input) throws IOException {
+      final long length = Varints.readNonNegativeLong(input, "length");
+      if (length > maxBuckets) {
+        throw new StreamCorruptedException("There are more buckets than the max buckets. [length: " + length + ", maxBuckets: " + maxBuckets + "]");
+      }
+      if (length == 0L) {
+        return;
+      }
+      final long first = Varints.unzigzag(Varints.readUnsignedLong(input));
+      if (first < Integer.MIN_VALUE || first + length - 1 > Integer.MAX_VALUE) {
+        throw new StreamCorruptedException("The bucket index is out of the int range. [index: " + first + "]");
+      }
+      for (int j = 0; j < length; j++) {
+        final long count = Varints.readNonNegativeLong(input, "count");
+        if (count != 0L) {
+          add((int) first + j, count);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package j8plus.stats;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+
+/**
+ * Reads and writes unsigned LEB128 varints which keep 7 bits per byte with the high bit set on all but the last byte,
+ * and zigzag-encoded signed values so that small negative numbers take as few bytes as small positive ones.
+ *
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+final class Varints {
+
+  private Varints() {
+  }
+
+  static long zigzag(final long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unzigzag(final long value) {
+    return (value >>> 1) ^ -(value & 1L);
+  }
+
+  static void writeUnsigned(final DataOutput output, final long value) throws IOException {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0L) {
+      output.writeByte((int) (remaining & 0x7FL) | 0x80);
+      remaining >>>= 7;
+    }
+    output.writeByte((int) remaining);
+  }
+
+  static void writeUnsigned(final DataOutput output, final BigInteger value) throws IOException {
+    BigInteger remaining = value;
+    while (remaining.bitLength() > 7) {
+      output.writeByte((remaining.intValue() & 0x7F) | 0x80);
+      remaining = remaining.shiftRight(7);
+    }
+    output.writeByte(remaining.intValue());
+  }
+
+  /* reads the bits into a long while they fit and then into a BigInteger */
+  static BigInteger readUnsigned(final DataInput input) throws IOException {
+    long low = 0L;
+    int shift = 0;
+    int b;
+    do {
+      b = input.readUnsignedByte();
+      low |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0 && shift < 63);
+    if ((b & 0x80) == 0) {
+      return BigInteger.valueOf(low);
+    }
+    BigInteger value = BigInteger.valueOf(low);
+    do {
+      b = input.readUnsignedByte();
+      value = value.or(BigInteger.valueOf(b & 0x7F)
+                                 .shiftLeft(shift));
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  /**
+   * Reads a varint written by {@link #writeUnsigned(DataOutput, long)}.
+   *
+   * @throws StreamCorruptedException if the varint has more than 64 bits
+   */
+  static long readUnsignedLong(final DataInput input) throws IOException {
+    long value = 0L;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      final int b = input.readUnsignedByte();
+      if (shift == 63 && (b & 0x7E) != 0) {
+        break;
+      }
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new StreamCorruptedException("The varint is longer than 64 bits.");
+  }
+
+  /**
+   * Reads an unsigned varint which must be in the range from 0 to {@link Long#MAX_VALUE}.
+   */
+  static long readNonNegativeLong(final DataInput input, final String name) throws IOException {
+    final long value = readUnsignedLong(input);
+    if (value < 0L) {
+      throw new StreamCorruptedException("The " + name + " is out of the long range. [" + name + ": " + Long.toUnsignedString(value) + "]");
+    }
+    return value;
+  }
+}
@@ -18,6 +18,10 @@ package j8plus.types;
 import java.util.Objects;
 import java.util.function.Function;
 
+import j8plus.memo.MemoOptions;
+import j8plus.memo.Memoized;
+import j8plus.memo.Memoizers;
+
 /**
  * @author Lee, SeongHyun (Kevin)
  * @version 0.0.1 (2010-11-13)
@@ -81,4 +85,25 @@ public interface Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> {
                 after.apply(apply(input1, input2, input3, input4, input5, input6, input7, input8, input9, input10));
     /* @formatter:on */
   }
+
+  /**
+   * Returns a memoized function which computes the result of the same inputs once and returns the memoized one
+   * afterwards. It keeps every result forever.
+   *
+   * @return the memoized function which is also a {@link Memoized}
+   */
+  default Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> memoized() {
+    return Memoizers.memoize(this, MemoOptions.defaults());
+  }
+
+  /**
+   * Returns a memoized function with the given options such as the maximum size, the eviction policy and the
+   * statistics. See {@link Memoizers}.
+   *
+   * @param options the options of the memoization
+   * @return the memoized function which is also a {@link Memoized}
+   */
+  default Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> memoized(final MemoOptions options) {
+    return Memoizers.memoize(this, options);
+  }
 }
@@ -19,6 +19,10 @@ import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import j8plus.memo.MemoOptions;
+import j8plus.memo.Memoized;
+import j8plus.memo.Memoizers;
+
 /**
  * @author Lee, SeongHyun (Kevin)
  * @version 0.0.1 (2010-11-13)
@@ -74,4 +78,25 @@ public interface Function2<T1, T2, R> extends BiFunction<T1, T2, R> {
     Objects.requireNonNull(after);
     return (input1, input2) -> after.apply(apply(input1, input2));
   }
+
+  /**
+   * Returns a memoized function which computes the result of the same inputs once and returns the memoized one
+   * afterwards. It keeps every result forever.
+   *
+   * @return the memoized function which is also a {@link Memoized}
+   */
+  default Function2<T1, T2, R> memoized() {
+    return Memoizers.memoize(this, MemoOptions.defaults());
+  }
+
+  /**
+   * Returns a memoized function with the given options such as the maximum size, the eviction policy and the
+   * statistics. See {@link Memoizers}.
+   *
+   * @param options the options of the memoization
+   * @return the memoized function which is also a {@link Memoized}
+   */
+  default Function2<T1, T2, R> memoized(final MemoOptions options) {
+    return Memoizers.memoize(this, options);
+  }
 }
@@ -0,0 +1,284 @@
+package j8plus.types;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A range of {@link Comparable} values such as <code>[10, 20)</code> which is a {@link Predicate} testing if a value is
+ * in the range. Unlike a lambda, its bounds are known so it can be indexed (e.g. by <code>j8plus.RangeIndex</code>) or
+ * used to search sorted values. The threshold predicates from <code>j8plus.Numbers</code> such as
+ * <code>Numbers.ge("10")</code> are ranges, and {@link #and(Predicate)} of two ranges is also a range.
+ * <p>
+ * The values are compared by {@link Comparable#compareTo(Object)} so <code>1.0</code> and <code>1.00</code> are the
+ * same {@link BigDecimal} values in a range, and the ranges with such bounds are equal as well.
+ *
+ * @param <C> the type of values in the range
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public final class Range<C extends Comparable<? super C>> implements Predicate<C> {
+
+  private static final Range<?> ALL = new Range<>(null, false, null, false);
+
+  /* null means unbounded */
+  private final C lower;
+  private final boolean lowerInclusive;
+  private final C upper;
+  private final boolean upperInclusive;
+
+  private Range(final C lower, final boolean lowerInclusive, final C upper, final boolean upperInclusive) {
+    this.lower = lower;
+    this.lowerInclusive = lower != null && lowerInclusive;
+    this.upper = upper;
+    this.upperInclusive = upper != null && upperInclusive;
+  }
+
+  public static <C extends Comparable<? super C>> Range<C> all() {
+    @SuppressWarnings("unchecked")
+    final Range<C> all = (Range<C>) ALL;
+    return all;
+  }
+
+  /**
+   * @return the range of the values less than the given value, <code>(-&infin;, upper)</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> lessThan(final C upper) {
+    return new Range<>(null, false, Objects.requireNonNull(upper, "The upper: C cannot be null."), false);
+  }
+
+  /**
+   * @return the range of the values less than or equal to the given value, <code>(-&infin;, upper]</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> atMost(final C upper) {
+    return new Range<>(null, false, Objects.requireNonNull(upper, "The upper: C cannot be null."), true);
+  }
+
+  /**
+   * @return the range of the values greater than the given value, <code>(lower, +&infin;)</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> greaterThan(final C lower) {
+    return new Range<>(Objects.requireNonNull(lower, "The lower: C cannot be null."), false, null, false);
+  }
+
+  /**
+   * @return the range of the values greater than or equal to the given value, <code>[lower, +&infin;)</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> atLeast(final C lower) {
+    return new Range<>(Objects.requireNonNull(lower, "The lower: C cannot be null."), true, null, false);
+  }
+
+  /**
+   * @return the range of the values equal to the given value, <code>[value, value]</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> singleton(final C value) {
+    Objects.requireNonNull(value, "The value: C cannot be null.");
+    return new Range<>(value, true, value, true);
+  }
+
+  /**
+   * @return the range <code>[lower, upper]</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> closed(final C lower, final C upper) {
+    return of(lower, true, upper, true);
+  }
+
+  /**
+   * @return the range <code>[lower, upper)</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> closedOpen(final C lower, final C upper) {
+    return of(lower, true, upper, false);
+  }
+
+  /**
+   * @return the range <code>(lower, upper]</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> openClosed(final C lower, final C upper) {
+    return of(lower, false, upper, true);
+  }
+
+  /**
+   * @return the range <code>(lower, upper)</code>
+   */
+  public static <C extends Comparable<? super C>> Range<C> open(final C lower, final C upper) {
+    return of(lower, false, upper, false);
+  }
+
+  /**
+   * Returns the range of the given bounds where a null bound is unbounded.
+   *
+   * @param lower          the lower bound, or null if there is no lower bound
+   * @param lowerInclusive true if the lower bound is in the range
+   * @param upper          the upper bound, or null if there is no upper bound
+   * @param upperInclusive true if the upper bound is in the range
+   * @param <C>            the type of values in the range
+   * @return the range of the given bounds
+   */
+  public static <C extends Comparable<? super C>> Range<C> of(final C lower,
+                                                              final boolean lowerInclusive,
+                                                              final C upper,
+                                                              final boolean upperInclusive) {
+    return new Range<>(lower, lowerInclusive, upper, upperInclusive);
+  }
+
+  public C getLower() {
+    return lower;
+  }
+
+  public boolean hasLower() {
+    return lower != null;
+  }
+
+  public boolean isLowerInclusive() {
+    return lowerInclusive;
+  }
+
+  public C getUpper() {
+    return upper;
+  }
+
+  public boolean hasUpper() {
+    return upper != null;
+  }
+
+  public boolean isUpperInclusive() {
+    return upperInclusive;
+  }
+
+  /**
+   * @return true if no value can be in this range such as <code>[2, 1]</code> or <code>(1, 1)</code>
+   */
+  public boolean isEmpty() {
+    if (lower == null || upper == null) {
+      return false;
+    }
+    final int comparison = lower.compareTo(upper);
+    return comparison > 0 || (comparison == 0 && !(lowerInclusive && upperInclusive));
+  }
+
+  /**
+   * @param value the value to test
+   * @return true if the given value is in this range
+   */
+  @Override
+  public boolean test(final C value) {
+    return isAboveLower(value) && isBelowUpper(value);
+  }
+
+  /**
+   * @return true if the given value satisfies the lower bound of this range
+   */
+  public boolean isAboveLower(final C value) {
+    if (lower == null) {
+      return true;
+    }
+    final int comparison = value.compareTo(lower);
+    return comparison > 0 || (comparison == 0 && lowerInclusive);
+  }
+
+  /**
+   * @return true if the given value satisfies the upper bound of this range
+   */
+  public boolean isBelowUpper(final C value) {
+    if (upper == null) {
+      return true;
+    }
+    final int comparison = value.compareTo(upper);
+    return comparison < 0 || (comparison == 0 && upperInclusive);
+  }
+
+  /**
+   * @param other another range
+   * @return the range of the values in both this and the other range, which may be empty
+   */
+  public Range<C> intersection(final Range<C> other) {
+    Objects.requireNonNull(other, "The other: Range<C> cannot be null.");
+    final C newLower;
+    final boolean newLowerInclusive;
+    if (other.lower == null || (lower != null && compareLowers(lower, lowerInclusive, other.lower, other.lowerInclusive) >= 0)) {
+      newLower = lower;
+      newLowerInclusive = lowerInclusive;
+    } else {
+      newLower = other.lower;
+      newLowerInclusive = other.lowerInclusive;
+    }
+    final C newUpper;
+    final boolean newUpperInclusive;
+    if (other.upper == null || (upper != null && compareUppers(upper, upperInclusive, other.upper, other.upperInclusive) <= 0)) {
+      newUpper = upper;
+      newUpperInclusive = upperInclusive;
+    } else {
+      newUpper = other.upper;
+      newUpperInclusive = other.upperInclusive;
+    }
+    return new Range<>(newLower, newLowerInclusive, newUpper, newUpperInclusive);
+  }
+
+  /* an exclusive lower bound is greater than the inclusive one of the same value */
+  private static <C extends Comparable<? super C>> int compareLowers(final C left, final boolean leftInclusive, final C right, final boolean rightInclusive) {
+    final int comparison = left.compareTo(right);
+    return comparison != 0 ? comparison : Boolean.compare(rightInclusive, leftInclusive);
+  }
+
+  /* an exclusive upper bound is less than the inclusive one of the same value */
+  private static <C extends Comparable<? super C>> int compareUppers(final C left, final boolean leftInclusive, final C right, final boolean rightInclusive) {
+    final int comparison = left.compareTo(right);
+    return comparison != 0 ? comparison : Boolean.compare(leftInclusive, rightInclusive);
+  }
+
+  /**
+   * Returns the intersection if the other is also a {@link Range} so that the result can still be indexed, or the
+   * short-circuiting logical AND of them otherwise.
+   */
+  @Override
+  public Predicate<C> and(final Predicate<? super C> other) {
+    Objects.requireNonNull(other, "The other: Predicate<C> cannot be null.");
+    if (other instanceof Range) {
+      @SuppressWarnings("unchecked")
+      final Range<C> range = (Range<C>) other;
+      return intersection(range);
+    }
+    return value -> test(value) && other.test(value);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof Range)) {
+      return false;
+    }
+    final Range<?> that = (Range<?>) other;
+    return lowerInclusive == that.lowerInclusive &&
+      upperInclusive == that.upperInclusive &&
+      boundEquals(lower, that.lower) &&
+      boundEquals(upper, that.upper);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(boundHashKey(lower), lowerInclusive, boundHashKey(upper), upperInclusive);
+  }
+
+  /* BigDecimal.equals is sensitive to the scale unlike compareTo, which the values in a range are compared by */
+  private static boolean boundEquals(final Object bound, final Object other) {
+    if (bound instanceof BigDecimal && other instanceof BigDecimal) {
+      return ((BigDecimal) bound).compareTo((BigDecimal) other) == 0;
+    }
+    return Objects.equals(bound, other);
+  }
+
+  private static Object boundHashKey(final Object bound) {
+    return bound instanceof BigDecimal ? ((BigDecimal) bound).stripTrailingZeros() : bound;
+  }
+
+  @Override
+  public String toString() {
+    return (lowerInclusive ? "[" : "(") +
+      (lower == null ? "-∞" : String.valueOf(lower)) +
+      ", " +
+      (upper == null ? "+∞" : String.valueOf(upper)) +
+      (upperInclusive ? "]" : ")");
+  }
+}
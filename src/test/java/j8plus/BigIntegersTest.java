@@ -5,8 +5,13 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -538,4 +543,244 @@ public class BigIntegersTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  public final void testGcdCollectionOfBigInteger() {
+    /* given */
+    final List<BigInteger> numbers = Arrays.asList(new BigInteger("120"), new BigInteger("-84"), new BigInteger("36"), BigInteger.ZERO);
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.gcd(numbers);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigInteger("12"));
+  }
+
+  @Test
+  public final void testGcdCollectionOfBigIntegerStopsAtOne() {
+    /* given */
+    final List<BigInteger> numbers = Arrays.asList(new BigInteger("6"), new BigInteger("35"), null);
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.gcd(numbers);
+
+    /* then */
+    assertThat(actual).isEqualTo(BigInteger.ONE);
+  }
+
+  @Test
+  public final void testGcdCollectionOfTFunctionOfTBigInteger() {
+    /* given */
+    final List<Something> numbers = Arrays.asList(new Something("1000000000000000000000"), new Something("250000000000000000000"),
+        new Something("-750000000000000000000"));
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.gcd(numbers, Something::getNumber);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigInteger("250000000000000000000"));
+  }
+
+  @Test
+  public final void testParallelGcdCollectionOfBigInteger() {
+    /* given */
+    final BigInteger factor = new BigInteger("123456789012345678901234567890");
+    final List<BigInteger> numbers = LongStream.rangeClosed(1L, 50_000L)
+        .mapToObj(i -> factor.multiply(BigInteger.valueOf(i * 2L)))
+        .collect(Collectors.toList());
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.parallelGcd(numbers);
+
+    /* then */
+    assertThat(actual).isEqualTo(factor.multiply(BigInteger.valueOf(2L)));
+    assertThat(Numbers.BigIntegers.parallelGcd(numbers, Function.identity())).isEqualTo(Numbers.BigIntegers.gcd(numbers));
+  }
+
+  @Test
+  public final void testGcdEmpty() {
+    assertThat(Numbers.BigIntegers.gcd(Collections.emptyList())).isEqualTo(BigInteger.ZERO);
+    assertThat(Numbers.BigIntegers.parallelGcd(Collections.emptyList())).isEqualTo(BigInteger.ZERO);
+    assertThat(Numbers.BigIntegers.gcd()).isEqualTo(0L);
+    assertThat(Numbers.BigIntegers.lcm(Collections.emptyList())).isEqualTo(BigInteger.ONE);
+    assertThat(Numbers.BigIntegers.lcm()).isEqualTo(BigInteger.ONE);
+  }
+
+  @Test
+  public final void testGcdLongs() {
+    /* given */
+    final long[] numbers = { 0L, 48L, -180L, 600L, 1_000_000_000_008L };
+
+    /* when */
+    final long actual = Numbers.BigIntegers.gcd(numbers);
+
+    /* then */
+    assertThat(actual).isEqualTo(12L);
+    assertThat(Numbers.BigIntegers.gcd(Long.MIN_VALUE, 6L)).isEqualTo(2L);
+    assertThat(Numbers.BigIntegers.gcd(Long.MAX_VALUE, Long.MAX_VALUE - 1L)).isEqualTo(1L);
+  }
+
+  @Test
+  public final void testGcdLongsOverflow() {
+    assertThatThrownBy(() -> Numbers.BigIntegers.gcd(Long.MIN_VALUE, 0L)).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  public final void testParallelGcdLongs() {
+    /* given */
+    final long[] numbers = LongStream.rangeClosed(1L, 1_000_000L)
+        .map(i -> i * 3_600L)
+        .toArray();
+    final long[] withOne = numbers.clone();
+    withOne[777_777] = 7L;
+    withOne[1_234] = 5L;
+
+    /* when */
+    final long actual = Numbers.BigIntegers.parallelGcd(numbers);
+    final long actual2 = Numbers.BigIntegers.parallelGcd(withOne);
+
+    /* then */
+    assertThat(actual).isEqualTo(3_600L);
+    assertThat(actual2).isEqualTo(1L);
+  }
+
+  @Test
+  public final void testLcmCollectionOfBigInteger() {
+    /* given */
+    final List<BigInteger> numbers = Arrays.asList(new BigInteger("4"), new BigInteger("-6"), new BigInteger("10"));
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.lcm(numbers);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigInteger("60"));
+    assertThat(Numbers.BigIntegers.lcm(Arrays.asList(new BigInteger("4"), BigInteger.ZERO, null))).isEqualTo(BigInteger.ZERO);
+  }
+
+  @Test
+  public final void testParallelLcmCollectionOfTFunctionOfTBigInteger() {
+    /* given */
+    final List<Something> numbers = IntStream.rangeClosed(1, 5_000)
+        .mapToObj(i -> new Something(String.valueOf(i % 40 + 1)))
+        .collect(Collectors.toList());
+    final BigInteger expected = IntStream.rangeClosed(1, 40)
+        .mapToObj(BigInteger::valueOf)
+        .reduce(BigInteger.ONE, (a, b) -> a.multiply(b).divide(a.gcd(b)));
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.parallelLcm(numbers, Something::getNumber);
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(Numbers.BigIntegers.lcm(numbers, Something::getNumber)).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testLcmLongs() {
+    /* given */
+    final long[] numbers = LongStream.rangeClosed(1L, 60L).toArray();
+    final BigInteger expected = LongStream.rangeClosed(1L, 60L)
+        .mapToObj(BigInteger::valueOf)
+        .reduce(BigInteger.ONE, (a, b) -> a.multiply(b).divide(a.gcd(b)));
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.lcm(numbers);
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(Numbers.BigIntegers.lcm(Long.MIN_VALUE, 3L)).isEqualTo(BigInteger.valueOf(Long.MIN_VALUE).abs().multiply(BigInteger.valueOf(3L)));
+    assertThat(Numbers.BigIntegers.lcm(-4L, 6L)).isEqualTo(BigInteger.valueOf(12L));
+  }
+
+  @Test
+  public final void testParallelLcmLongs() {
+    /* given */
+    final long[] numbers = LongStream.rangeClosed(1L, 200_000L)
+        .map(i -> i % 50L + 1L)
+        .toArray();
+    final long[] withZero = numbers.clone();
+    withZero[150_000] = 0L;
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.parallelLcm(numbers);
+    final BigInteger actual2 = Numbers.BigIntegers.parallelLcm(withZero);
+
+    /* then */
+    assertThat(actual).isEqualTo(Numbers.BigIntegers.lcm(LongStream.rangeClosed(1L, 50L).toArray()));
+    assertThat(actual2).isEqualTo(BigInteger.ZERO);
+  }
+
+  @Test
+  public final void testTotalIteratorOfBigInteger() {
+    /* given */
+    final List<BigInteger> numbers = Arrays.asList(new BigInteger("1"), new BigInteger("2"), new BigInteger("3"));
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.total(numbers.iterator());
+    final BigInteger actual2 = Numbers.BigIntegers.total(numbers.iterator(), BigInteger::negate);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigInteger("6"));
+    assertThat(actual2).isEqualTo(new BigInteger("-6"));
+  }
+
+  @Test
+  public final void testTotalIterableOfBigInteger() {
+    /* given */
+    final Iterable<BigInteger> numbers = () -> LongStream.rangeClosed(1L, 100L)
+        .mapToObj(BigInteger::valueOf)
+        .iterator();
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.total(numbers);
+    final BigInteger actual2 = Numbers.BigIntegers.total(numbers, number -> number.shiftLeft(1));
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigInteger("5050"));
+    assertThat(actual2).isEqualTo(new BigInteger("10100"));
+  }
+
+  @Test
+  public final void testTotalSpliteratorAndStreamOfBigInteger() {
+    /* given */
+    final List<Something> numbers = Arrays.asList(new Something("10"), new Something("20"), new Something("30"));
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.total(numbers.spliterator(), Something::getNumber);
+    final BigInteger actual2 = Numbers.BigIntegers.total(numbers.stream(), Something::getNumber);
+    final BigInteger actual3 = Numbers.BigIntegers.total(numbers.stream().map(Something::getNumber).spliterator());
+    final BigInteger actual4 = Numbers.BigIntegers.total(numbers.stream().map(Something::getNumber));
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigInteger("60"));
+    assertThat(actual2).isEqualTo(new BigInteger("60"));
+    assertThat(actual3).isEqualTo(new BigInteger("60"));
+    assertThat(actual4).isEqualTo(new BigInteger("60"));
+  }
+
+  @Test
+  public final void testParallelTotalIterableSpliteratorAndStreamOfBigInteger() {
+    /* given */
+    final List<BigInteger> numbers = LongStream.rangeClosed(1L, 100_000L)
+        .mapToObj(i -> BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.valueOf(i)))
+        .collect(Collectors.toList());
+    final BigInteger expected = Numbers.BigIntegers.total(numbers);
+    final Iterable<BigInteger> iterable = numbers::iterator;
+
+    /* when */
+    final BigInteger actual = Numbers.BigIntegers.parallelTotal(iterable);
+    final BigInteger actual2 = Numbers.BigIntegers.parallelTotal(numbers.spliterator());
+    final BigInteger actual3 = Numbers.BigIntegers.parallelTotal(numbers.stream());
+    final BigInteger actual4 = Numbers.BigIntegers.parallelTotal(iterable, BigInteger::negate);
+    final BigInteger actual5 = Numbers.BigIntegers.parallelTotal(numbers.spliterator(), BigInteger::negate);
+    final BigInteger actual6 = Numbers.BigIntegers.parallelTotal(numbers.stream(), BigInteger::negate);
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual2).isEqualTo(expected);
+    assertThat(actual3).isEqualTo(expected);
+    assertThat(actual4).isEqualTo(expected.negate());
+    assertThat(actual5).isEqualTo(expected.negate());
+    assertThat(actual6).isEqualTo(expected.negate());
+  }
+
 }
@@ -0,0 +1,141 @@
+package j8plus;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class CompiledPredicateTest {
+
+  private static final Predicate<Integer> POSITIVE = i -> i > 0;
+  private static final Predicate<Integer> EVEN = i -> i % 2 == 0;
+  private static final Predicate<Integer> SMALL = i -> Math.abs(i) < 10;
+
+  @Test
+  public void testAllOfAndAnyOf() {
+    for (int i = -20; i <= 20; i++) {
+      assertThat(Funs.allOf(POSITIVE, EVEN, SMALL)
+                     .test(i)).as("allOf %d", i)
+                              .isEqualTo(POSITIVE.and(EVEN)
+                                                 .and(SMALL)
+                                                 .test(i));
+      assertThat(Funs.anyOf(POSITIVE, EVEN, SMALL)
+                     .test(i)).as("anyOf %d", i)
+                              .isEqualTo(POSITIVE.or(EVEN)
+                                                 .or(SMALL)
+                                                 .test(i));
+      assertThat(Funs.not(Funs.allOf(POSITIVE, EVEN))
+                     .test(i)).as("not allOf %d", i)
+                              .isEqualTo(!(POSITIVE.test(i) && EVEN.test(i)));
+      assertThat(Funs.anyOf(POSITIVE, EVEN)
+                     .negate()
+                     .negate()
+                     .test(i)).as("not not anyOf %d", i)
+                              .isEqualTo(POSITIVE.test(i) || EVEN.test(i));
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    assertThat(Funs.<Integer>allOf()
+                   .test(1)).isTrue();
+    assertThat(Funs.<Integer>anyOf()
+                   .test(1)).isFalse();
+  }
+
+  @Test
+  public void testNestedOfSameKindAreFlattened() {
+    /* given */
+    final CompiledPredicate<Integer> nested = Funs.allOf(Funs.allOf(POSITIVE, EVEN), SMALL);
+    final CompiledPredicate<Integer> chained = Funs.allOf(POSITIVE)
+                                                   .and(EVEN)
+                                                   .and(SMALL);
+    final CompiledPredicate<Integer> mixed = Funs.allOf(Funs.anyOf(POSITIVE, EVEN), SMALL);
+    final CompiledPredicate<Integer> negated = Funs.allOf(Funs.not(Funs.allOf(POSITIVE, EVEN)), SMALL);
+    final CompiledPredicate<Integer> disjunction = Funs.anyOf(POSITIVE)
+                                                       .or(Funs.anyOf(EVEN, SMALL));
+
+    /* then */
+    assertThat(nested.getPredicates()).containsExactly(POSITIVE, EVEN, SMALL);
+    assertThat(chained.getPredicates()).containsExactly(POSITIVE, EVEN, SMALL);
+    assertThat(mixed.getPredicates()).hasSize(2);
+    assertThat(negated.getPredicates()).hasSize(2);
+    assertThat(disjunction.getPredicates()).containsExactly(POSITIVE, EVEN, SMALL);
+    for (int i = -20; i <= 20; i++) {
+      assertThat(mixed.test(i)).isEqualTo((POSITIVE.test(i) || EVEN.test(i)) && SMALL.test(i));
+      assertThat(negated.test(i)).isEqualTo(!(POSITIVE.test(i) && EVEN.test(i)) && SMALL.test(i));
+    }
+  }
+
+  @Test
+  public void testConjunctionReordersMostSelectiveFirst() {
+    /* given */
+    /* the predicates test independent bits so that none of them implies another */
+    final Predicate<Integer> alwaysTrue = i -> true;
+    final Predicate<Integer> mostlyTrue = i -> (i & 15) != 0;
+    final Predicate<Integer> rarelyTrue = i -> (i >>> 8) % 100 == 0;
+    @SuppressWarnings("unchecked")
+    final CompiledPredicate<Integer> predicate = CompiledPredicate.allOf(new Predicate[] { alwaysTrue, mostlyTrue, rarelyTrue }, 1, 100);
+    final Random random = new Random(42L);
+
+    /* when */
+    for (int i = 0; i < 2_000; i++) {
+      final int value = random.nextInt() >>> 1;
+      assertThat(predicate.test(value)).isEqualTo(mostlyTrue.test(value) && rarelyTrue.test(value));
+    }
+
+    /* then */
+    /* the others are rarely reached once rarelyTrue is tested first so their order is not settled */
+    assertThat(predicate.getPredicates()
+                        .get(0)).isSameAs(rarelyTrue);
+  }
+
+  @Test
+  public void testDisjunctionReordersMostLikelyTrueFirst() {
+    /* given */
+    final Predicate<Integer> neverTrue = i -> false;
+    final Predicate<Integer> rarelyTrue = i -> (i & 15) == 0;
+    final Predicate<Integer> mostlyTrue = i -> (i >>> 8) % 10 != 0;
+    @SuppressWarnings("unchecked")
+    final CompiledPredicate<Integer> predicate = CompiledPredicate.anyOf(new Predicate[] { neverTrue, rarelyTrue, mostlyTrue }, 1, 100);
+    final Random random = new Random(42L);
+
+    /* when */
+    for (int i = 0; i < 2_000; i++) {
+      final int value = random.nextInt() >>> 1;
+      assertThat(predicate.test(value)).isEqualTo(rarelyTrue.test(value) || mostlyTrue.test(value));
+    }
+
+    /* then */
+    assertThat(predicate.getPredicates()
+                        .get(0)).isSameAs(mostlyTrue);
+  }
+
+  @Test
+  public void testResultsDoNotChangeWhileReordering() {
+    /* given */
+    final Random random = new Random(42L);
+    @SuppressWarnings("unchecked")
+    final CompiledPredicate<Integer> predicate = CompiledPredicate.allOf(new Predicate[] { POSITIVE, Funs.anyOf(EVEN, SMALL), Funs.not(Funs.anyOf(SMALL)) }, 4, 16);
+
+    /* when, then */
+    for (int i = 0; i < 10_000; i++) {
+      final int value = random.nextInt(200) - 100;
+      assertThat(predicate.test(value)).isEqualTo(POSITIVE.test(value) && (EVEN.test(value) || SMALL.test(value)) && !SMALL.test(value));
+    }
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    @SuppressWarnings("unchecked")
+    final Predicate<Integer>[] none = new Predicate[0];
+    assertThatThrownBy(() -> Funs.allOf(POSITIVE, null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> CompiledPredicate.allOf(none, 3, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
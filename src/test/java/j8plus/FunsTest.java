@@ -5,15 +5,29 @@ import static java.util.stream.Collectors.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import j8plus.data.TestBean;
+import j8plus.memo.LazyMode;
+import j8plus.memo.MemoOptions;
+import j8plus.stats.DistinctCounter;
 import org.elixirian.kommonlee.test.CommonTestHelper;
 import org.junit.jupiter.api.Test;
 
@@ -2135,4 +2149,212 @@ public class FunsTest {
     verify(testBean3, times(1)).run(param1, param2, param3, param4, param5, param6, param7, param8, param9);
   }
 
+  @Test
+  public void testDistinctCount() {
+    /* given */
+    final List<String> customerIds = IntStream.range(0, 50_000)
+        .mapToObj(i -> "customer-" + (i % 12_345))
+        .collect(toList());
+
+    /* when */
+    final DistinctCounter actual = customerIds.parallelStream()
+        .collect(Funs.distinctCount(Function.identity()));
+
+    /* then */
+    assertThat(actual.getEstimate()).isCloseTo(12_345L, withinPercentage(4D));
+  }
+
+  @Test
+  public void testDistinctLongCount() {
+    /* given */
+    final List<Long> ids = LongStream.range(0L, 100_000L)
+        .map(i -> i % 7_000L)
+        .boxed()
+        .collect(toList());
+
+    /* when */
+    final DistinctCounter actual = ids.parallelStream()
+        .collect(Funs.distinctLongCount(16, Long::longValue));
+
+    /* then */
+    assertThat(actual.getPrecision()).isEqualTo(16);
+    assertThat(actual.getEstimate()).isCloseTo(7_000L, withinPercentage(2D));
+    assertThatThrownBy(() -> Funs.distinctLongCount(3, Long::longValue)).isInstanceOf(IllegalArgumentException.class);
+  }
+  @Test
+  public void testComparatorBuilder() {
+    /* given */
+    final List<String> values = Arrays.asList("b:2:1.5", "a:1:2.5", "c:2:0.5", "d:1:2.5", "e:2:1.5");
+    final ToIntFunction<String> second = value -> Integer.parseInt(value.split(":")[1]);
+    final ToDoubleFunction<String> third = value -> Double.parseDouble(value.split(":")[2]);
+
+    /* when */
+    final Comparator<String> comparator = Funs.<String>comparatorBuilder()
+        .byInt(second).reversed()
+        .byDouble(third)
+        .byKey(value -> value.substring(0, 1)).reversed()
+        .build();
+    final List<String> actual = values.stream()
+        .sorted(comparator)
+        .collect(toList());
+
+    /* then */
+    assertThat(actual).containsExactly("c:2:0.5", "e:2:1.5", "b:2:1.5", "d:1:2.5", "a:1:2.5");
+  }
+
+  @Test
+  public void testComparatorBuilderIsTheSameAsChainedComparators() {
+    /* given */
+    final Random random = new Random(42L);
+    final List<long[]> rows = IntStream.range(0, 5_000)
+        .mapToObj(i -> new long[] { random.nextInt(5), random.nextInt(100), random.nextInt(3) })
+        .collect(toList());
+    final Comparator<long[]> expected = Comparator.<long[]>comparingLong(row -> row[0])
+        .thenComparing(Comparator.<long[]>comparingLong(row -> row[1]).reversed())
+        .thenComparing(Funs.comparing(row -> row[2]));
+
+    /* when */
+    final Comparator<long[]> comparator = Funs.<long[]>comparatorBuilder()
+        .byLong(row -> row[0])
+        .byLong(row -> row[1]).reversed()
+        .then(Funs.comparing(row -> row[2]))
+        .build();
+
+    /* then */
+    for (int i = 1; i < rows.size(); i++) {
+      assertThat(Integer.signum(comparator.compare(rows.get(i - 1), rows.get(i))))
+          .isEqualTo(Integer.signum(expected.compare(rows.get(i - 1), rows.get(i))));
+    }
+  }
+
+  @Test
+  public void testComparatorBuilderWithNullKeys() {
+    /* given */
+    final List<String[]> rows = Arrays.asList(new String[] { "1", null, "2020-01-01" },
+                                              new String[] { "2", "b", null },
+                                              new String[] { "3", "a", "2019-01-01" },
+                                              new String[] { "4", "a", null });
+
+    /* when */
+    final List<String> actual = rows.stream()
+        .sorted(Funs.<String[]>comparatorBuilder()
+                    .byKey(row -> row[1]).nullsLast().reversed()
+                    .byKey(row -> row[2] == null ? null : LocalDate.parse(row[2])).nullsFirst()
+                    .build())
+        .map(row -> row[0])
+        .collect(toList());
+
+    /* then */
+    /* the null names are still last after reversed() */
+    assertThat(actual).containsExactly("2", "4", "3", "1");
+    assertThatThrownBy(() -> Funs.<String[]>comparatorBuilder().byInt(String[]::hashCode).nullsFirst()).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> Funs.<String[]>comparatorBuilder().reversed()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void testMemoize() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Function<String, Integer> length = Funs.memoize((String s) -> {
+      calls.incrementAndGet();
+      return s.length();
+    });
+    assertThat(length.apply("abc")).isEqualTo(3);
+    assertThat(length.apply("abc")).isEqualTo(3);
+    assertThat(calls.get()).isEqualTo(1);
+
+    final BiFunction<Integer, Integer, Integer> sum = Funs.memoize((Integer a, Integer b) -> {
+      calls.incrementAndGet();
+      return a + b;
+    }, MemoOptions.builder()
+                  .maximumSize(1)
+                  .build());
+    assertThat(sum.apply(1, 2)).isEqualTo(3);
+    assertThat(sum.apply(1, 2)).isEqualTo(3);
+    assertThat(calls.get()).isEqualTo(2);
+
+    final Supplier<Integer> supplier = Funs.memoize(calls::incrementAndGet);
+    assertThat(supplier.get()).isEqualTo(3);
+    assertThat(supplier.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testLazy() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> lazy = Funs.lazy(calls::incrementAndGet);
+    assertThat(calls.get()).isZero();
+    assertThat(lazy.get()).isEqualTo(1);
+    assertThat(lazy.get()).isEqualTo(1);
+    assertThat(Funs.lazy(calls::incrementAndGet, LazyMode.PUBLICATION)
+                   .get()).isEqualTo(2);
+    assertThat(Funs.lazy(calls::incrementAndGet, Duration.ofDays(1L))
+                   .get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testIsInCollection() {
+    for (final int size : new int[] { 0, 1, 8, 9, 300, 5_000 }) {
+      final List<String> values = IntStream.range(0, size)
+                                           .mapToObj(i -> "code" + i * 3)
+                                           .collect(toList());
+      for (final boolean bloomFilter : new boolean[] { false, true }) {
+        final Predicate<String> isIn = Funs.isIn(values, bloomFilter);
+        for (int i = -5; i < size * 3 + 5; i++) {
+          assertThat(isIn.test("code" + i)).as("size %d, bloomFilter %s, code%d", size, bloomFilter, i)
+                                           .isEqualTo(i >= 0 && i % 3 == 0 && i / 3 < size);
+        }
+        assertThat(isIn.test(null)).isFalse();
+      }
+    }
+  }
+
+  @Test
+  public void testIsInCollectionWithNull() {
+    final Predicate<String> few = Funs.isIn(Arrays.asList("a", null));
+    final Predicate<Integer> many = Funs.isIn(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, null, 1));
+    assertThat(few.test(null)).isTrue();
+    assertThat(few.test("a")).isTrue();
+    assertThat(few.test("b")).isFalse();
+    assertThat(many.test(null)).isTrue();
+    assertThat(many.test(10)).isTrue();
+    assertThat(many.test(11)).isFalse();
+  }
+
+  @Test
+  public void testIsInInts() {
+    for (final int size : new int[] { 0, 1, 8, 9, 256, 257, 10_000 }) {
+      final int[] values = IntStream.range(0, size)
+                                    .map(i -> i * 7 - size)
+                                    .toArray();
+      for (final boolean bloomFilter : new boolean[] { false, true }) {
+        final IntPredicate isIn = Funs.isIn(values, bloomFilter);
+        for (int i = -size - 10; i < size * 7; i++) {
+          final int value = i;
+          assertThat(isIn.test(value)).as("size %d, bloomFilter %s, value %d", size, bloomFilter, value)
+                                      .isEqualTo((value + size) % 7 == 0 && value + size >= 0 && (value + size) / 7 < size);
+        }
+      }
+    }
+    assertThat(Funs.isIn(Integer.MIN_VALUE, Integer.MAX_VALUE)
+                   .test(Integer.MAX_VALUE)).isTrue();
+  }
+
+  @Test
+  public void testIsInLongs() {
+    for (final int size : new int[] { 0, 3, 200, 1_000 }) {
+      final long[] values = LongStream.range(0L, size)
+                                      .map(i -> i << 33)
+                                      .toArray();
+      for (final boolean bloomFilter : new boolean[] { false, true }) {
+        final LongPredicate isIn = Funs.isIn(values, bloomFilter);
+        for (long i = -3L; i < size + 3L; i++) {
+          assertThat(isIn.test(i << 33)).as("size %d, bloomFilter %s, %d", size, bloomFilter, i)
+                                        .isEqualTo(i >= 0L && i < size);
+          assertThat(isIn.test((i << 33) + 1L)).isFalse();
+        }
+      }
+    }
+    assertThat(Funs.isIn(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L)
+                   .test(0L)).isTrue();
+  }
+
 }
@@ -4,14 +4,45 @@ import static testosterone.Testosterone.test;
 import static testosterone.Testosterone.throwing;
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.elixirian.kommonlee.test.CommonTestHelper;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import j8plus.stats.DecimalSlidingWindow;
+import j8plus.stats.DecimalSummaryStatistics;
+import j8plus.stats.ExactSummaryStatistics;
+import j8plus.stats.LongSlidingWindow;
+import j8plus.stats.LongTumblingWindow;
+import j8plus.stats.QuantileSketch;
 
 /**
  * @author Lee, SeongHyun (Kevin)
@@ -2008,6 +2039,26 @@ public class NumbersTest {
     assertThat(actual).isNotEqualTo(expected);
   }
 
+  @Test
+  public final void testThresholdPredicatesWithNullNumber() {
+    /* given */
+    final BigDecimal number = null;
+    final BigInteger bigInteger = null;
+
+    /* when */
+    /* then */
+    assertThatThrownBy(() -> Numbers.lt(number)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.le(number)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.eq(number)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.gt(number)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.ge(number)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.BigIntegers.lt(bigInteger)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.BigIntegers.le(bigInteger)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.BigIntegers.eq(bigInteger)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.BigIntegers.gt(bigInteger)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Numbers.BigIntegers.ge(bigInteger)).isInstanceOf(NullPointerException.class);
+  }
+
   @Test
   public final void testLtBigDecimal() {
     /* given */
@@ -2553,4 +2604,753 @@ public class NumbersTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  public final void testIsPrimeInt() {
+    /* given */
+    final int[] numbers = { -7, -1, 0, 1, 2, 3, 4, 5, 9, 25, 49, 97, 561, 4489, 4493, 7919, 1_000_003, Integer.MAX_VALUE };
+    final boolean[] expected = new boolean[numbers.length];
+    for (int i = 0; i < numbers.length; i++) {
+      expected[i] = numbers[i] > 1 && BigInteger.valueOf(numbers[i]).isProbablePrime(100);
+    }
+
+    /* when */
+    final boolean[] actual = new boolean[numbers.length];
+    for (int i = 0; i < numbers.length; i++) {
+      actual[i] = Numbers.isPrime(numbers[i]);
+    }
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIsPrimeIntWithAllNumbersInRange() {
+    /* given */
+    final int from = 0;
+    final int to = 100_000;
+
+    /* when */
+    final long actual = IntStream.range(from, to).filter(Numbers::isPrime).count();
+
+    /* then */
+    assertThat(actual).isEqualTo(9_592L);
+  }
+
+  @Test
+  public final void testIsPrimeLong() {
+    /* given */
+    final long[] numbers = { -2L, 0L, 1L, 2L, 3_215_031_751L, 2_147_483_659L, 4_759_123_141L, 1_000_000_007L * 998_244_353L,
+        3_825_123_056_546_413_051L, 9_223_372_036_854_775_783L, 9_223_372_036_854_775_807L, 6_700_417L * 2_147_483_647L };
+    final boolean[] expected = new boolean[numbers.length];
+    for (int i = 0; i < numbers.length; i++) {
+      expected[i] = numbers[i] > 1 && BigInteger.valueOf(numbers[i]).isProbablePrime(100);
+    }
+
+    /* when */
+    final boolean[] actual = new boolean[numbers.length];
+    for (int i = 0; i < numbers.length; i++) {
+      actual[i] = Numbers.isPrime(numbers[i]);
+    }
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIsProbablePrime() {
+    /* given */
+    final BigInteger prime = new BigInteger("170141183460469231731687303715884105727");
+    final BigInteger notPrime = prime.multiply(BigInteger.valueOf(3L));
+    final BigInteger smallPrime = BigInteger.valueOf(9_223_372_036_854_775_783L);
+
+    /* when */
+    final boolean actual1 = Numbers.isProbablePrime(prime);
+    final boolean actual2 = Numbers.isProbablePrime(notPrime);
+    final boolean actual3 = Numbers.PROBABLE_PRIME_BIG_INTEGER.test(smallPrime);
+    final boolean actual4 = Numbers.isProbablePrime(BigInteger.ONE.negate());
+
+    /* then */
+    assertThat(actual1).isTrue();
+    assertThat(actual2).isFalse();
+    assertThat(actual3).isTrue();
+    assertThat(actual4).isFalse();
+  }
+
+  @Test
+  public final void testPrimeIntegerAndPrimeLong() {
+    /* given */
+    final List<Integer> integers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+    final List<Long> longs = Arrays.asList(10_000_000_019L, 10_000_000_021L);
+
+    /* when */
+    final List<Integer> actual1 = integers.stream()
+        .filter(Numbers.PRIME_INTEGER)
+        .collect(Collectors.toList());
+    final List<Long> actual2 = longs.stream()
+        .filter(Numbers.PRIME_LONG)
+        .collect(Collectors.toList());
+
+    /* then */
+    assertThat(actual1).containsExactly(2, 3, 5, 7, 11);
+    assertThat(actual2).containsExactly(10_000_000_019L);
+  }
+
+  @Test
+  public final void testPrimes() {
+    /* given */
+    final long from = 0L;
+    final long to = 60L;
+
+    /* when */
+    final long[] actual = Numbers.primes(from, to);
+
+    /* then */
+    assertThat(actual).containsExactly(2L, 3L, 5L, 7L, 11L, 13L, 17L, 19L, 23L, 29L, 31L, 37L, 41L, 43L, 47L, 53L, 59L);
+  }
+
+  @Test
+  public final void testPrimesWithEmptyRange() {
+    /* given */
+    final long from = 24L;
+    final long to = 29L;
+
+    /* when */
+    final long[] actual1 = Numbers.primes(from, to);
+    final long[] actual2 = Numbers.primes(-10L, 2L);
+    final long[] actual3 = Numbers.parallelPrimes(7L, 7L);
+
+    /* then */
+    assertThat(actual1).isEmpty();
+    assertThat(actual2).isEmpty();
+    assertThat(actual3).isEmpty();
+  }
+
+  @Test
+  public final void testPrimesWithInvalidRange() {
+    assertThatThrownBy(() -> Numbers.primes(10L, 9L)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Numbers.parallelPrimes(0L, Long.MAX_VALUE)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public final void testParallelPrimes() {
+    /* given */
+    final long from = 0L;
+    final long to = 2_000_000L;
+
+    /* when */
+    final long[] actual = Numbers.parallelPrimes(from, to);
+
+    /* then */
+    assertThat(actual).hasSize(148_933);
+    assertThat(actual).isEqualTo(Numbers.primes(from, to));
+    assertThat(LongStream.of(actual).allMatch(Numbers::isPrime)).isTrue();
+  }
+
+  @Test
+  public final void testParallelPrimesWithLargeNumbers() {
+    /* given */
+    final long from = 1_000_000_000_000L - 999L;
+    final long to = 1_000_000_000_000L + 2_000_000L;
+
+    /* when */
+    final long[] actual = Numbers.parallelPrimes(from, to);
+
+    /* then */
+    final long[] expected = LongStream.range(from, to)
+        .filter(Numbers::isPrime)
+        .toArray();
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testExactIntStatistics() {
+    /* given */
+    final List<Integer> numbers = Arrays.asList(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 1);
+    final BigInteger expected = BigInteger.valueOf(Integer.MAX_VALUE).multiply(BigInteger.valueOf(3L)).add(BigInteger.ONE);
+
+    /* when */
+    final ExactSummaryStatistics actual = numbers.stream()
+        .collect(Numbers.exactIntStatistics(Integer::intValue));
+
+    /* then */
+    assertThat(actual.getCount()).isEqualTo(4L);
+    assertThat(actual.getSum()).isEqualTo(expected);
+    assertThat(actual.getMin()).isEqualTo(1L);
+    assertThat(actual.getMax()).isEqualTo(Integer.MAX_VALUE);
+  }
+
+  @Test
+  public final void testExactLongStatisticsWithParallelStream() {
+    /* given */
+    final List<Long> numbers = LongStream.rangeClosed(1L, 100_000L)
+        .mapToObj(i -> Long.MAX_VALUE - i)
+        .collect(Collectors.toList());
+    final BigInteger expected = Numbers.BigIntegers.total(numbers, BigInteger::valueOf);
+
+    /* when */
+    final ExactSummaryStatistics actual = numbers.parallelStream()
+        .collect(Numbers.exactLongStatistics(Long::longValue));
+
+    /* then */
+    assertThat(actual.getCount()).isEqualTo(100_000L);
+    assertThat(actual.getSum()).isEqualTo(expected);
+    assertThat(actual.getAverage()).isEqualByComparingTo(new BigDecimal(expected).divide(BigDecimal.valueOf(100_000L)));
+  }
+
+  @Test
+  public final void testTotalIteratorOfBigDecimal() {
+    /* given */
+    final List<BigDecimal> numbers = Arrays.asList(new BigDecimal("1.1"), new BigDecimal("2.2"), new BigDecimal("3.3"));
+
+    /* when */
+    final BigDecimal actual = Numbers.total(numbers.iterator());
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("6.6"));
+  }
+
+  @Test
+  public final void testTotalIteratorOfTFunctionOfTBigDecimal() {
+    /* given */
+    final List<Something> numbers = Arrays.asList(new Something("1"), new Something("2.5"), new Something("-0.5"));
+
+    /* when */
+    final BigDecimal actual = Numbers.total(numbers.iterator(), Something::getNumber);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("3.0"));
+  }
+
+  @Test
+  public final void testTotalIterableOfBigDecimal() {
+    /* given */
+    final Iterable<BigDecimal> numbers = () -> IntStream.rangeClosed(1, 100)
+        .mapToObj(BigDecimal::valueOf)
+        .iterator();
+
+    /* when */
+    final BigDecimal actual = Numbers.total(numbers);
+    final BigDecimal actual2 = Numbers.total(numbers, number -> number.multiply(BigDecimal.TEN));
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("5050"));
+    assertThat(actual2).isEqualTo(new BigDecimal("50500"));
+  }
+
+  @Test
+  public final void testTotalSpliteratorOfBigDecimal() {
+    /* given */
+    final List<BigDecimal> numbers = Arrays.asList(new BigDecimal("0.1"), new BigDecimal("0.2"), new BigDecimal("0.3"));
+
+    /* when */
+    final BigDecimal actual = Numbers.total(numbers.spliterator());
+    final BigDecimal actual2 = Numbers.total(numbers.spliterator(), BigDecimal::negate);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("0.6"));
+    assertThat(actual2).isEqualTo(new BigDecimal("-0.6"));
+  }
+
+  @Test
+  public final void testTotalStreamOfBigDecimal() {
+    /* given */
+    final Stream<BigDecimal> numbers = Stream.generate(() -> new BigDecimal("0.01"))
+        .limit(1_000_000L);
+
+    /* when */
+    final BigDecimal actual = Numbers.total(numbers);
+
+    /* then */
+    assertThat(actual).isEqualByComparingTo(new BigDecimal("10000"));
+  }
+
+  @Test
+  public final void testTotalStreamOfTFunctionOfTBigDecimal() {
+    /* given */
+    final Stream<String> numbers = Stream.of("1.5", "2.5", "3");
+
+    /* when */
+    final BigDecimal actual = Numbers.total(numbers, BigDecimal::new);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("7.0"));
+  }
+
+  @Test
+  public final void testParallelTotalIterableOfBigDecimal() {
+    /* given */
+    final Iterable<BigDecimal> numbers = () -> IntStream.rangeClosed(1, 100_000)
+        .mapToObj(BigDecimal::valueOf)
+        .iterator();
+
+    /* when */
+    final BigDecimal actual = Numbers.parallelTotal(numbers);
+    final BigDecimal actual2 = Numbers.parallelTotal(numbers, number -> number.movePointLeft(2));
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("5000050000"));
+    assertThat(actual2).isEqualTo(new BigDecimal("50000500.00"));
+  }
+
+  @Test
+  public final void testParallelTotalSpliteratorOfBigDecimal() {
+    /* given */
+    final List<BigDecimal> numbers = IntStream.rangeClosed(1, 100_000)
+        .mapToObj(BigDecimal::valueOf)
+        .collect(Collectors.toList());
+
+    /* when */
+    final BigDecimal actual = Numbers.parallelTotal(numbers.spliterator());
+    final BigDecimal actual2 = Numbers.parallelTotal(numbers.spliterator(), BigDecimal::negate);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("5000050000"));
+    assertThat(actual2).isEqualTo(new BigDecimal("-5000050000"));
+  }
+
+  @Test
+  public final void testParallelTotalStreamOfBigDecimal() {
+    /* given */
+    final Supplier<Stream<BigDecimal>> numbers = () -> LongStream.rangeClosed(1L, 100_000L)
+        .mapToObj(BigDecimal::valueOf);
+
+    /* when */
+    final BigDecimal actual = Numbers.parallelTotal(numbers.get());
+    final BigDecimal actual2 = Numbers.parallelTotal(numbers.get(), BigDecimal::negate);
+
+    /* then */
+    assertThat(actual).isEqualTo(new BigDecimal("5000050000"));
+    assertThat(actual2).isEqualTo(new BigDecimal("-5000050000"));
+  }
+
+  @Test
+  public final void testTotalOfColumn(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("amounts.csv");
+    Files.write(file, (
+        "id,name,amount\r\n" +
+        "1,a,10.50\r\n" +
+        "2,b,-0.25\r\n" +
+        "3,c,\"3\"\r\n" +
+        "4,d,\r\n" +
+        "\r\n" +
+        "5,e, +.125 \r\n" +
+        "6,f,0.0001"
+      ).getBytes(StandardCharsets.US_ASCII));
+    final BigDecimal expected = Numbers.total(Arrays.asList(new BigDecimal("10.50"), new BigDecimal("-0.25"), new BigDecimal("3"),
+        new BigDecimal(".125"), new BigDecimal("0.0001")));
+
+    /* when */
+    final BigDecimal actual = Numbers.totalOfColumn(file, ',', 2, 1);
+    final BigDecimal actual2 = Numbers.parallelTotalOfColumn(file, ',', 2, 1);
+    final BigDecimal actual3 = Numbers.totalOfColumn(file, ',', 0, 1);
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual2).isEqualTo(expected);
+    assertThat(actual3).isEqualTo(new BigDecimal("21"));
+  }
+
+  @Test
+  public final void testTotalOfColumnWithSlowPath(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("amounts.tsv");
+    final List<String> numbers = Arrays.asList("1234567890123456789012345.5", "1E+3", "-2.5e-2", "0.1234567890123456789",
+        "9223372036854775807", "999999999999999999", "999999999999999999", "000000000000000000000000001");
+    final StringBuilder content = new StringBuilder();
+    for (final String number : numbers) {
+      content.append("x\t").append(number).append('\n');
+    }
+    Files.write(file, content.toString().getBytes(StandardCharsets.US_ASCII));
+    final BigDecimal expected = Numbers.total(numbers, BigDecimal::new);
+
+    /* when */
+    final BigDecimal actual = Numbers.totalOfColumn(file, '\t', 1);
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testTotalOfColumnWithInvalidNumber(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("amounts.csv");
+    Files.write(file, "1|2\n3|abc\n".getBytes(StandardCharsets.US_ASCII));
+
+    /* when / then */
+    assertThatThrownBy(() -> Numbers.totalOfColumn(file, '|', 1))
+        .isInstanceOf(NumberFormatException.class)
+        .hasMessageContaining("abc")
+        .hasMessageContaining("offset 6");
+    assertThatThrownBy(() -> Numbers.totalOfColumn(file, '1', 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public final void testParallelTotalOfColumn(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("amounts.csv");
+    final Random random = new Random(42L);
+    final List<BigDecimal> numbers = new ArrayList<>();
+    try (final BufferedWriter writer = Files.newBufferedWriter(file)) {
+      writer.write("id,amount,comment\n");
+      for (int i = 0; i < 300_000; i++) {
+        final BigDecimal number = BigDecimal.valueOf(random.nextLong() / 1000L, random.nextInt(6));
+        numbers.add(number);
+        writer.write(i + "," + number.toPlainString() + ",some comment " + i + "\n");
+      }
+    }
+    final BigDecimal expected = Numbers.total(numbers);
+
+    /* when */
+    final BigDecimal actual = Numbers.parallelTotalOfColumn(file, ',', 1, 1);
+    final BigDecimal actual2 = Numbers.totalOfColumn(file, ',', 1, 1);
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual2).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testLongColumnStatistics(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("longs.bin");
+    final long[] numbers = LongStream.range(0L, 500_000L)
+        .map(i -> (i % 3L == 0L) ? Long.MAX_VALUE - i : -i * 1_000L)
+        .toArray();
+    try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      for (final long number : numbers) {
+        out.writeLong(number);
+      }
+    }
+    final BigInteger expected = Numbers.BigIntegers.total(LongStream.of(numbers).mapToObj(BigInteger::valueOf));
+
+    /* when */
+    final ExactSummaryStatistics actual = Numbers.longColumnStatistics(file);
+    final ExactSummaryStatistics actual2 = Numbers.parallelLongColumnStatistics(file);
+
+    /* then */
+    assertThat(actual.getSum()).isEqualTo(expected);
+    assertThat(actual.getCount()).isEqualTo(numbers.length);
+    assertThat(actual.getMin()).isEqualTo(LongStream.of(numbers).min().getAsLong());
+    assertThat(actual.getMax()).isEqualTo(LongStream.of(numbers).max().getAsLong());
+    assertThat(actual2.getSum()).isEqualTo(expected);
+    assertThat(actual2.getCount()).isEqualTo(numbers.length);
+    assertThat(actual2.getMin()).isEqualTo(actual.getMin());
+    assertThat(actual2.getMax()).isEqualTo(actual.getMax());
+  }
+
+  @Test
+  public final void testLongColumnStatisticsLittleEndian(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("longs.bin");
+    final ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(1L).putLong(-5L).putLong(100L);
+    Files.write(file, buffer.array());
+
+    /* when */
+    final ExactSummaryStatistics actual = Numbers.parallelLongColumnStatistics(file, ByteOrder.LITTLE_ENDIAN);
+
+    /* then */
+    assertThat(actual.getSum()).isEqualTo(BigInteger.valueOf(96L));
+    assertThat(actual.getMin()).isEqualTo(-5L);
+    assertThat(actual.getMax()).isEqualTo(100L);
+  }
+
+  @Test
+  public final void testLongColumnStatisticsWithInvalidFile(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("invalid.bin");
+    Files.write(file, new byte[] { 1, 2, 3 });
+    final Path empty = tempDir.resolve("empty.bin");
+    Files.write(empty, new byte[0]);
+
+    /* when / then */
+    assertThatThrownBy(() -> Numbers.longColumnStatistics(file)).isInstanceOf(IOException.class);
+    assertThat(Numbers.parallelLongColumnStatistics(empty).getCount()).isZero();
+    assertThat(Numbers.doubleColumnStatistics(empty).getCount()).isZero();
+  }
+
+  @Test
+  public final void testDoubleColumnStatistics(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path file = tempDir.resolve("doubles.bin");
+    final double[] numbers = IntStream.range(0, 400_000)
+        .mapToDouble(i -> i * 0.5 - 1_000.25)
+        .toArray();
+    try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      for (final double number : numbers) {
+        out.writeDouble(number);
+      }
+    }
+    final DoubleSummaryStatistics expected = DoubleStream.of(numbers).summaryStatistics();
+
+    /* when */
+    final DoubleSummaryStatistics actual = Numbers.doubleColumnStatistics(file);
+    final DoubleSummaryStatistics actual2 = Numbers.parallelDoubleColumnStatistics(file);
+
+    /* then */
+    assertThat(actual.getCount()).isEqualTo(expected.getCount());
+    assertThat(actual.getSum()).isEqualTo(expected.getSum());
+    assertThat(actual.getMin()).isEqualTo(expected.getMin());
+    assertThat(actual.getMax()).isEqualTo(expected.getMax());
+    assertThat(actual2.getCount()).isEqualTo(expected.getCount());
+    assertThat(actual2.getSum()).isEqualTo(expected.getSum());
+    assertThat(actual2.getMin()).isEqualTo(expected.getMin());
+    assertThat(actual2.getMax()).isEqualTo(expected.getMax());
+  }
+
+  @Test
+  public final void testTotalDoublesNeumaier() {
+    /* given */
+    final double[] values = { 1.0D, 1e100D, 1.0D, -1e100D };
+
+    /* when */
+    final double actual = Numbers.total(values, Numbers.Summation.NEUMAIER);
+    final double actual2 = Numbers.parallelTotal(values, Numbers.Summation.NEUMAIER);
+
+    /* then */
+    assertThat(actual).isEqualTo(2.0D);
+    assertThat(actual2).isEqualTo(2.0D);
+  }
+
+  @Test
+  public final void testTotalDoublesAccuracy() {
+    /* given */
+    final Random random = new Random(7L);
+    final double[] values = random.doubles(1_000_003L, 0.0D, 1_000.0D)
+        .map(d -> d / 3.0D)
+        .toArray();
+    final double expected = DoubleStream.of(values)
+        .mapToObj(BigDecimal::new)
+        .reduce(BigDecimal.ZERO, BigDecimal::add)
+        .doubleValue();
+    double naive = 0.0D;
+    for (final double value : values) {
+      naive += value;
+    }
+    final double naiveError = Math.abs(naive - expected);
+
+    /* when */
+    final double neumaier = Numbers.total(values, Numbers.Summation.NEUMAIER);
+    final double pairwise = Numbers.total(values, Numbers.Summation.PAIRWISE);
+    final double parallelNeumaier = Numbers.parallelTotal(values, Numbers.Summation.NEUMAIER);
+    final double parallelPairwise = Numbers.parallelTotal(values, Numbers.Summation.PAIRWISE);
+
+    /* then */
+    assertThat(neumaier).isEqualTo(expected);
+    assertThat(parallelNeumaier).isEqualTo(expected);
+    assertThat(Math.abs(pairwise - expected)).isLessThan(naiveError);
+    assertThat(Math.abs(parallelPairwise - expected)).isLessThan(naiveError);
+  }
+
+  @Test
+  public final void testTotalDoublesCollection() {
+    /* given */
+    final List<String> values = Collections.nCopies(100_000, "0.1");
+    final double expected = 10_000.0D;
+
+    /* when */
+    final double actual = Numbers.total(values, Double::parseDouble, Numbers.Summation.NEUMAIER);
+    final double actual2 = Numbers.total(values, Double::parseDouble, Numbers.Summation.PAIRWISE);
+    final double actual3 = Numbers.parallelTotal(values, Double::parseDouble, Numbers.Summation.NEUMAIER);
+    final double actual4 = Numbers.parallelTotal(values, Double::parseDouble, Numbers.Summation.PAIRWISE);
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual2).isCloseTo(expected, within(1e-9D));
+    assertThat(actual3).isEqualTo(expected);
+    assertThat(actual4).isCloseTo(expected, within(1e-9D));
+  }
+
+  @Test
+  public final void testTotalDoubleStream() {
+    /* given */
+    final Supplier<DoubleStream> values = () -> IntStream.range(0, 1_000_000)
+        .mapToDouble(i -> 0.01D);
+
+    /* when */
+    final double actual = Numbers.total(values.get(), Numbers.Summation.NEUMAIER);
+    final double actual2 = Numbers.total(values.get(), Numbers.Summation.PAIRWISE);
+    final double actual3 = Numbers.parallelTotal(values.get(), Numbers.Summation.NEUMAIER);
+    final double actual4 = Numbers.parallelTotal(values.get(), Numbers.Summation.PAIRWISE);
+
+    /* then */
+    assertThat(actual).isEqualTo(10_000.0D);
+    assertThat(actual2).isCloseTo(10_000.0D, within(1e-9D));
+    assertThat(actual3).isEqualTo(10_000.0D);
+    assertThat(actual4).isCloseTo(10_000.0D, within(1e-9D));
+  }
+
+  @Test
+  public final void testTotalDoublesWithSpecialValues() {
+    /* given */
+    final double[] infinite = { 1.0D, Double.POSITIVE_INFINITY, 2.0D };
+    final double[] empty = {};
+
+    /* when */
+    final double actual = Numbers.total(infinite, Numbers.Summation.NEUMAIER);
+    final double actual2 = Numbers.total(infinite, Numbers.Summation.PAIRWISE);
+    final double actual3 = Numbers.total(empty, Numbers.Summation.NEUMAIER);
+    final double actual4 = Numbers.parallelTotal(empty, Numbers.Summation.PAIRWISE);
+
+    /* then */
+    assertThat(actual).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(actual2).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(actual3).isEqualTo(0.0D);
+    assertThat(actual4).isEqualTo(0.0D);
+  }
+
+  @Test
+  public final void testDecimalSlidingWindow() {
+    /* given */
+    final DecimalSlidingWindow window = Numbers.decimalSlidingWindow(3);
+
+    /* when */
+    for (int i = 1; i <= 5; i++) {
+      window.accept(new BigDecimal(i + ".5"));
+    }
+
+    /* then */
+    assertThat(window.getSum()).isEqualByComparingTo(new BigDecimal("13.5"));
+    assertThat(window.getAverage()).isEqualByComparingTo(new BigDecimal("4.5"));
+  }
+
+  @Test
+  public final void testLongSlidingWindow() {
+    /* given */
+    final LongSlidingWindow window = Numbers.longSlidingWindow(Duration.ofHours(1L), 60);
+
+    /* when */
+    LongStream.rangeClosed(1L, 10L)
+              .forEach(window);
+
+    /* then */
+    assertThat(window.getCount()).isEqualTo(10L);
+    assertThat(window.getLongSum()).isEqualTo(55L);
+  }
+
+  @Test
+  public final void testLongTumblingWindow() {
+    /* given */
+    final List<BigInteger> sums = new ArrayList<>();
+    final LongTumblingWindow window = Numbers.longTumblingWindow(4, stats -> sums.add(stats.getSum()));
+
+    /* when */
+    LongStream.rangeClosed(1L, 10L)
+              .forEach(window);
+    window.flush();
+
+    /* then */
+    assertThat(sums).containsExactly(BigInteger.valueOf(10L), BigInteger.valueOf(26L), BigInteger.valueOf(19L));
+  }
+
+  @Test
+  public final void testDecimalStatisticsWithParallelStream() {
+    /* given */
+    final List<BigDecimal> numbers = IntStream.rangeClosed(1, 10_000)
+        .mapToObj(i -> BigDecimal.valueOf(i, 2))
+        .collect(Collectors.toList());
+
+    /* when */
+    final DecimalSummaryStatistics actual = numbers.parallelStream()
+        .collect(Numbers.decimalStatistics());
+
+    /* then */
+    assertThat(actual).isEqualTo(numbers.stream()
+                                        .collect(Numbers.decimalStatistics(Function.identity())));
+    assertThat(actual.getCount()).isEqualTo(10_000L);
+    assertThat(actual.getSum()).isEqualTo(new BigDecimal("500050.00"));
+    assertThat(actual.getMin()).isEqualTo(new BigDecimal("0.01"));
+    assertThat(actual.getMax()).isEqualTo(new BigDecimal("100.00"));
+  }
+
+  @Test
+  public final void testQuantileSketchWithParallelStream() {
+    /* given */
+    final List<Long> latencies = LongStream.rangeClosed(1L, 100_000L)
+        .boxed()
+        .collect(Collectors.toList());
+
+    /* when */
+    final QuantileSketch actual = latencies.parallelStream()
+        .collect(Numbers.longQuantileSketch(0.01D, Long::longValue));
+
+    /* then */
+    assertThat(actual.getCount()).isEqualTo(100_000L);
+    assertThat(actual.getQuantile(0.5D)).isCloseTo(50_000D, withinPercentage(1D));
+    assertThat(actual.getQuantile(0.99D)).isCloseTo(99_000D, withinPercentage(1D));
+    assertThat(actual.getQuantile(0.999D)).isCloseTo(99_900D, withinPercentage(1D));
+  }
+
+  @Test
+  public final void testDecimalQuantileSketch() {
+    /* given */
+    final List<BigDecimal> amounts = Arrays.asList(new BigDecimal("10.5"), new BigDecimal("20.25"), new BigDecimal("30"));
+
+    /* when */
+    final QuantileSketch actual = amounts.stream()
+        .collect(Numbers.decimalQuantileSketch(0.001D, Function.identity()));
+
+    /* then */
+    assertThat(actual.getQuantile(0.5D)).isCloseTo(20.25D, withinPercentage(0.1D));
+    assertThatThrownBy(() -> Numbers.quantileSketch(2D, Double::doubleValue)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public final void testSelectFromSortedList() {
+    /* given */
+    final List<BigDecimal> prices = Arrays.asList(new BigDecimal("9.99"), new BigDecimal("10"), new BigDecimal("10.00"),
+                                                  new BigDecimal("15.5"), new BigDecimal("20"), new BigDecimal("25"));
+
+    /* when */
+    final List<BigDecimal> actual = Numbers.select(prices, Numbers.ge("10").and(Numbers.lt("20")));
+
+    /* then */
+    assertThat(actual).containsExactly(new BigDecimal("10"), new BigDecimal("10.00"), new BigDecimal("15.5"));
+    assertThat(Numbers.select(prices, Numbers.gt("20"))).containsExactly(new BigDecimal("25"));
+    assertThat(Numbers.select(prices, Numbers.lt("1"))).isEmpty();
+    assertThat(Numbers.select(prices, new BigDecimal("15.5"), new BigDecimal("25"))).containsExactly(new BigDecimal("15.5"), new BigDecimal("20"));
+    assertThat(Numbers.select(prices.toArray(new BigDecimal[0]), Numbers.eq("10"))).hasSize(2);
+    assertThatThrownBy(() -> Numbers.select(prices, (BigDecimal value) -> true)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public final void testSelectFromSortedLongArray() {
+    /* given */
+    final long[] values = { Long.MIN_VALUE, -5L, 1L, 3L, 3L, 7L, 10L, Long.MAX_VALUE };
+
+    /* when */
+    final LongBuffer actual = Numbers.select(values, Numbers.gt("1.5").and(Numbers.le("7.9")));
+
+    /* then */
+    assertThat(actual.remaining()).isEqualTo(3);
+    assertThat(actual.get(0)).isEqualTo(3L);
+    assertThat(actual.get(2)).isEqualTo(7L);
+    assertThat(actual.array()).isSameAs(values);
+    assertThat(Numbers.select(values, Numbers.BigIntegers.ge("10")).remaining()).isEqualTo(2);
+    assertThat(Numbers.select(values, Numbers.ge("99999999999999999999")).remaining()).isZero();
+    assertThat(Numbers.select(values, Numbers.le("-99999999999999999999")).remaining()).isZero();
+    assertThat(Numbers.select(values, Long.MIN_VALUE, -4L).remaining()).isEqualTo(2);
+    assertThat(Numbers.select(values, 3L, 3L).remaining()).isZero();
+  }
+
+  @Test
+  public final void testSelectFromSortedDoubleArray() {
+    /* given */
+    final double[] values = { Double.NEGATIVE_INFINITY, -1.5D, 0.1D, 0.2D, 0.3D, 2.5D, Double.POSITIVE_INFINITY, Double.NaN };
+
+    /* when */
+    final DoubleBuffer actual = Numbers.select(values, Numbers.ge("0.1").and(Numbers.le("0.3")));
+
+    /* then */
+    assertThat(actual.remaining()).isEqualTo(3);
+    assertThat(actual.get(0)).isEqualTo(0.1D);
+    assertThat(actual.get(2)).isEqualTo(0.3D);
+    assertThat(Numbers.select(values, Numbers.gt("0")).remaining()).isEqualTo(5);
+    assertThat(Numbers.select(values, Numbers.lt("0")).remaining()).isEqualTo(2);
+    assertThat(Numbers.select(values, 0.2D, 2.5D).remaining()).isEqualTo(2);
+    assertThatThrownBy(() -> Numbers.select(values, Double.NaN, 1D)).isInstanceOf(IllegalArgumentException.class);
+  }
+
 }
@@ -0,0 +1,157 @@
+package j8plus;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import j8plus.types.Range;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class RangeIndexTest {
+
+  @Test
+  public void testQuery() {
+    /* given */
+    final RangeIndex<BigDecimal, String> index = RangeIndex.<BigDecimal, String>builder()
+                                                           .add(Numbers.lt("100"), "small")
+                                                           .add(Numbers.ge("100")
+                                                                       .and(Numbers.lt("10000")), "medium")
+                                                           .add(Numbers.ge("10000"), "large")
+                                                           .add(Numbers.ge("5000"), "review")
+                                                           .add(Numbers.eq("100"), "exactly100")
+                                                           .build();
+
+    /* when */
+    /* then */
+    assertThat(index.hasLongFastPath()).isTrue();
+    assertThat(index.query(new BigDecimal("7500"))).containsExactly("medium", "review");
+    assertThat(index.query(new BigDecimal("100.00"))).containsExactly("medium", "exactly100");
+    assertThat(index.query(new BigDecimal("99.99"))).containsExactly("small");
+    assertThat(index.query(new BigDecimal("10000"))).containsExactly("large", "review");
+    assertThat(index.query(7500L)).containsExactly("medium", "review");
+    assertThat(index.query(100L)).containsExactly("medium", "exactly100");
+    assertThat(index.query(Long.MIN_VALUE)).containsExactly("small");
+  }
+
+  @Test
+  public void testForEachMatch() {
+    /* given */
+    final RangeIndex<BigInteger, Integer> index = RangeIndex.<BigInteger, Integer>builder()
+                                                            .add(Numbers.BigIntegers.gt("1"), 1)
+                                                            .add(Numbers.BigIntegers.gt("2"), 2)
+                                                            .add(Numbers.BigIntegers.le("2"), 3)
+                                                            .build();
+    final List<Integer> matches = new ArrayList<>();
+
+    /* when */
+    index.forEachMatch(BigInteger.valueOf(2L), matches::add);
+
+    /* then */
+    assertThat(matches).containsExactlyInAnyOrder(1, 3);
+  }
+
+  @Test
+  public void testLongFastPathWithFractionalBounds() {
+    /* given */
+    final RangeIndex<BigDecimal, String> index = RangeIndex.<BigDecimal, String>builder()
+                                                           .add(Range.closedOpen(new BigDecimal("10.5"), new BigDecimal("20")), "a")
+                                                           .add(Range.open(new BigDecimal("1.2"), new BigDecimal("1.8")), "none")
+                                                           .add(Numbers.gt("99999999999999999999999"), "huge")
+                                                           .build();
+
+    /* when */
+    /* then */
+    assertThat(index.hasLongFastPath()).isTrue();
+    assertThat(index.query(10L)).isEmpty();
+    assertThat(index.query(11L)).containsExactly("a");
+    assertThat(index.query(19L)).containsExactly("a");
+    assertThat(index.query(20L)).isEmpty();
+    assertThat(index.query(1L)).isEmpty();
+    assertThat(index.query(Long.MAX_VALUE)).isEmpty();
+    assertThat(index.query(new BigDecimal("1.5"))).containsExactly("none");
+  }
+
+  @Test
+  public void testResidualRules() {
+    /* given */
+    final Predicate<BigDecimal> isInteger = value -> value.stripTrailingZeros()
+                                                          .scale() <= 0;
+    final RangeIndex<BigDecimal, String> index = RangeIndex.<BigDecimal, String>builder()
+                                                           .add(isInteger, "integer")
+                                                           .add(Numbers.gt("0"), "positive")
+                                                           .add(Numbers.ge("10")
+                                                                       .and(isInteger), "integer>=10")
+                                                           .build();
+
+    /* when */
+    /* then */
+    assertThat(index.hasLongFastPath()).isFalse();
+    assertThat(index.query(new BigDecimal("12"))).containsExactly("integer", "positive", "integer>=10");
+    assertThat(index.query(new BigDecimal("12.5"))).containsExactly("positive");
+    assertThat(index.query(-3L)).containsExactly("integer");
+  }
+
+  @Test
+  public void testQueryLongWithoutConversion() {
+    /* given */
+    final RangeIndex<String, String> index = RangeIndex.<String, String>builder()
+                                                       .add(Range.atLeast("b"), "b")
+                                                       .add(value -> value.isEmpty(), "empty")
+                                                       .build();
+
+    /* when */
+    /* then */
+    assertThat(index.query("c")).containsExactly("b");
+    assertThat(index.query("")).containsExactly("empty");
+    assertThatThrownBy(() -> index.query(1L)).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void testMatchesLinearScan() {
+    /* given */
+    final Random random = new Random(42L);
+    final List<Range<Long>> ranges = new ArrayList<>();
+    final RangeIndex.Builder<Long, Integer> builder = RangeIndex.builder();
+    for (int i = 0; i < 500; i++) {
+      final long lower = random.nextInt(1_000);
+      final long upper = lower + random.nextInt(200) - 20;
+      final Range<Long> range = Range.of(random.nextInt(10) == 0 ? null : lower,
+                                         random.nextBoolean(),
+                                         random.nextInt(10) == 0 ? null : upper,
+                                         random.nextBoolean());
+      ranges.add(range);
+      builder.add(range, i);
+    }
+    final RangeIndex<Long, Integer> index = builder.build();
+
+    for (long value = -10L; value <= 1_300L; value++) {
+      final List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < ranges.size(); i++) {
+        if (ranges.get(i)
+                  .test(value)) {
+          expected.add(i);
+        }
+      }
+
+      /* when */
+      final List<Integer> actual = index.query(Long.valueOf(value));
+      final List<Integer> actualLong = index.query(value);
+
+      /* then */
+      assertThat(actual).as("value %s", value)
+                        .isEqualTo(expected);
+      assertThat(actualLong).as("long value %s", value)
+                            .isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package j8plus;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class RuleIndexTest {
+
+  private static final class Event {
+    private final String type;
+    private final String region;
+    private final int amount;
+
+    Event(final String type, final String region, final int amount) {
+      this.type = type;
+      this.region = region;
+      this.amount = amount;
+    }
+
+    String getType() {
+      return type;
+    }
+
+    String getRegion() {
+      return region;
+    }
+
+    int getAmount() {
+      return amount;
+    }
+  }
+
+  private static final Function<Event, String> TYPE = Event::getType;
+  private static final Function<Event, String> REGION = Event::getRegion;
+
+  @Test
+  public void testQuery() {
+    /* given */
+    final RuleIndex<Event, String> index = RuleIndex.<Event, String>builder()
+                                                    .addEquals(TYPE, "order", "orders")
+                                                    .addEquals(TYPE,
+                                                               "order",
+                                                               Funs.satisfying((Event event, Integer amount) -> event.getAmount() > amount, 1000),
+                                                               "large-orders")
+                                                    .addEquals(TYPE, "refund", "refunds")
+                                                    .addEquals(REGION, "EU", "eu")
+                                                    .add(event -> event.getAmount() < 0, "negative")
+                                                    .build();
+
+    /* when */
+    /* then */
+    assertThat(index.size()).isEqualTo(5);
+    assertThat(index.keyExtractorCount()).isEqualTo(2);
+    assertThat(index.query(new Event("order", "EU", 5000))).containsExactly("orders", "large-orders", "eu");
+    assertThat(index.query(new Event("order", "US", 10))).containsExactly("orders");
+    assertThat(index.query(new Event("refund", "EU", -10))).containsExactly("refunds", "eu", "negative");
+    assertThat(index.query(new Event("unknown", "APAC", 10))).isEmpty();
+  }
+
+  @Test
+  public void testQueryWithNullKey() {
+    /* given */
+    final RuleIndex<Event, String> index = RuleIndex.<Event, String>builder()
+                                                    .addEquals(REGION, null, "no-region")
+                                                    .addEquals(REGION, "EU", "eu")
+                                                    .build();
+
+    /* when */
+    /* then */
+    assertThat(index.query(new Event("order", null, 1))).containsExactly("no-region");
+    assertThat(index.query(new Event("order", "EU", 1))).containsExactly("eu");
+  }
+
+  @Test
+  public void testConditionIsTestedOnlyForMatchingKey() {
+    /* given */
+    final AtomicInteger tested = new AtomicInteger();
+    final Predicate<Event> condition = event -> {
+      tested.incrementAndGet();
+      return true;
+    };
+    final RuleIndex.Builder<Event, Integer> builder = RuleIndex.builder();
+    for (int i = 0; i < 1_000; i++) {
+      builder.addEquals(TYPE, "type" + i, condition, i);
+    }
+    final RuleIndex<Event, Integer> index = builder.build();
+
+    /* when */
+    final List<Integer> actual = index.query(new Event("type42", "EU", 1));
+
+    /* then */
+    assertThat(actual).containsExactly(42);
+    assertThat(tested.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testForEachMatch() {
+    /* given */
+    final RuleIndex<Event, Integer> index = RuleIndex.<Event, Integer>builder()
+                                                     .addEquals(TYPE, "order", 1)
+                                                     .addEquals(REGION, "EU", 2)
+                                                     .addEquals(TYPE, "refund", 3)
+                                                     .add(event -> true, 4)
+                                                     .build();
+    final List<Integer> matches = new ArrayList<>();
+
+    /* when */
+    index.forEachMatch(new Event("order", "EU", 1), matches::add);
+
+    /* then */
+    assertThat(matches).containsExactlyInAnyOrder(1, 2, 4);
+  }
+
+  @Test
+  public void testAddNull() {
+    /* given */
+    final RuleIndex.Builder<Event, String> builder = RuleIndex.builder();
+
+    /* when */
+    /* then */
+    assertThatThrownBy(() -> builder.addEquals(null, "order", "orders")).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> builder.addEquals(TYPE, "order", null, "orders")).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> builder.add(null, "orders")).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  public void testMatchesLinearScan() {
+    /* given */
+    final Random random = new Random(42L);
+    final String[] types = { "order", "refund", "cancel", "payment" };
+    final String[] regions = { "EU", "US", "APAC", null };
+    final List<Predicate<Event>> rules = new ArrayList<>();
+    final RuleIndex.Builder<Event, Integer> builder = RuleIndex.builder();
+    for (int i = 0; i < 500; i++) {
+      final int threshold = random.nextInt(100);
+      final Predicate<Event> condition = event -> event.getAmount() >= threshold;
+      switch (random.nextInt(5)) {
+        case 0: {
+          final String type = types[random.nextInt(types.length)];
+          rules.add(event -> type.equals(event.getType()));
+          builder.addEquals(TYPE, type, i);
+          break;
+        }
+        case 1: {
+          final String type = types[random.nextInt(types.length)];
+          rules.add(event -> type.equals(event.getType()) && condition.test(event));
+          builder.addEquals(TYPE, type, condition, i);
+          break;
+        }
+        case 2: {
+          final String region = regions[random.nextInt(regions.length)];
+          rules.add(event -> Objects.equals(region, event.getRegion()));
+          builder.addEquals(REGION, region, i);
+          break;
+        }
+        case 3: {
+          final String region = regions[random.nextInt(regions.length)];
+          final Function<Event, String> ownExtractor = Event::getRegion;
+          rules.add(event -> Objects.equals(region, event.getRegion()) && condition.test(event));
+          builder.addEquals(ownExtractor, region, condition, i);
+          break;
+        }
+        default:
+          rules.add(condition);
+          builder.add(condition, i);
+      }
+    }
+    final RuleIndex<Event, Integer> index = builder.build();
+
+    for (final String type : types) {
+      for (final String region : regions) {
+        for (int amount = 0; amount < 100; amount += 7) {
+          final Event event = new Event(type, region, amount);
+          final List<Integer> expected = new ArrayList<>();
+          for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i)
+                     .test(event)) {
+              expected.add(i);
+            }
+          }
+
+          /* when */
+          final List<Integer> actual = index.query(event);
+
+          /* then */
+          assertThat(actual).as("event %s, %s, %s", type, region, amount)
+                            .isEqualTo(expected);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package j8plus;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class SortingTest {
+
+  private static final class Item {
+    private final int id;
+    private final int key;
+
+    Item(final int id, final int key) {
+      this.id = id;
+      this.key = key;
+    }
+
+    int getKey() {
+      return key;
+    }
+
+    @Override
+    public String toString() {
+      return id + ":" + key;
+    }
+  }
+
+  private static List<Item> randomItems(final int size, final int keys) {
+    final Random random = new Random(42L);
+    final List<Item> items = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      items.add(new Item(i, random.nextInt(keys)));
+    }
+    return items;
+  }
+
+  /* the expected top-K by a stable full sort */
+  private static List<Item> sortedPrefix(final List<Item> items, final int k, final Comparator<Item> comparator) {
+    final List<Item> sorted = new ArrayList<>(items);
+    sorted.sort(comparator);
+    return sorted.subList(0, Math.min(k, sorted.size()));
+  }
+
+  @Test
+  public void testTop() {
+    /* given */
+    final List<Item> items = randomItems(10_000, 1_000);
+
+    /* when */
+    final List<Item> actual = Sorting.top(items, 100, Funs.comparing(Item::getKey));
+
+    /* then */
+    assertThat(actual).containsExactlyElementsOf(sortedPrefix(items, 100, Comparator.comparingInt(Item::getKey)
+                                                                                    .reversed()));
+  }
+
+  @Test
+  public void testBottom() {
+    /* given */
+    final List<Item> items = randomItems(10_000, 100);
+
+    /* when */
+    final List<Item> actual = Sorting.bottom(items, 250, Funs.comparing(Item::getKey));
+
+    /* then */
+    /* ties are kept in the encounter order */
+    assertThat(actual).containsExactlyElementsOf(sortedPrefix(items, 250, Comparator.comparingInt(Item::getKey)));
+  }
+
+  @Test
+  public void testTopWithSmallInputAndZeroK() {
+    /* given */
+    final List<Integer> numbers = Arrays.asList(3, 1, 2);
+
+    /* when */
+    /* then */
+    assertThat(Sorting.top(numbers, 10, Comparator.<Integer>naturalOrder())).containsExactly(3, 2, 1);
+    assertThat(Sorting.top(numbers, 0, Comparator.<Integer>naturalOrder())).isEmpty();
+    assertThat(Sorting.bottom(Collections.<Integer>emptyList(), 3, Comparator.<Integer>naturalOrder())).isEmpty();
+    assertThatThrownBy(() -> Sorting.top(numbers, -1, Comparator.<Integer>naturalOrder())).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Sorting.topKByLong(-1, Integer::longValue)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testParallelTopIsTheSameAsSequential() {
+    /* given */
+    final List<Item> items = randomItems(200_000, 5_000);
+    final Comparator<Item> comparator = Funs.comparing(Item::getKey);
+
+    /* when */
+    final List<Item> actual = Sorting.parallelTop(items, 1_000, comparator);
+    final List<Item> actualBottom = Sorting.parallelBottom(items, 1_000, comparator);
+
+    /* then */
+    assertThat(actual).containsExactlyElementsOf(Sorting.top(items, 1_000, comparator));
+    assertThat(actualBottom).containsExactlyElementsOf(Sorting.bottom(items, 1_000, comparator));
+  }
+
+  @Test
+  public void testPrimitiveKeyCollectors() {
+    /* given */
+    final List<Item> items = randomItems(100_000, 10_000);
+    final Comparator<Item> ascending = Comparator.comparingInt(Item::getKey);
+
+    /* when */
+    final List<Item> topByInt = items.parallelStream()
+                                     .collect(Sorting.topKByInt(50, Item::getKey));
+    final List<Item> bottomByLong = items.parallelStream()
+                                         .collect(Sorting.bottomKByLong(50, item -> (long) item.getKey()));
+    final List<Item> topByDouble = items.stream()
+                                        .collect(Sorting.topKByDouble(50, item -> item.getKey() / 10D));
+    final List<Item> bottomByDouble = items.parallelStream()
+                                           .collect(Sorting.bottomKByDouble(50, item -> item.getKey() / 10D));
+
+    /* then */
+    assertThat(topByInt).containsExactlyElementsOf(sortedPrefix(items, 50, ascending.reversed()));
+    assertThat(bottomByLong).containsExactlyElementsOf(sortedPrefix(items, 50, ascending));
+    assertThat(topByDouble).containsExactlyElementsOf(topByInt);
+    assertThat(bottomByDouble).containsExactlyElementsOf(bottomByLong);
+  }
+
+  @Test
+  public void testLargeKGrowsTheHeap() {
+    /* given */
+    final List<Item> items = randomItems(1_000, 10);
+
+    /* when */
+    final List<Item> actual = items.stream()
+                                   .collect(Sorting.bottomK(Integer.MAX_VALUE, Funs.comparing(Item::getKey)));
+
+    /* then */
+    assertThat(actual).containsExactlyElementsOf(sortedPrefix(items, items.size(), Comparator.comparingInt(Item::getKey)));
+    assertThat(actual.stream()
+                     .map(Item::toString)
+                     .collect(Collectors.toList())).hasSize(1_000);
+  }
+
+  @Test
+  public void testKAroundTheGrowthSteps() {
+    /* given */
+    final List<Item> items = randomItems(1_000, 100);
+    final Comparator<Item> ascending = Comparator.comparingInt(Item::getKey);
+    final Comparator<Item> descending = ascending.reversed();
+
+    for (final int k : new int[] { 15, 16, 17, 31, 32, 33, 63, 64, 65, 128 }) {
+      /* when */
+      /* then */
+      assertThat(Sorting.top(items, k, ascending)).as("top k: %s", k)
+                                                  .containsExactlyElementsOf(sortedPrefix(items, k, descending));
+      assertThat(Sorting.bottom(items, k, ascending)).as("bottom k: %s", k)
+                                                     .containsExactlyElementsOf(sortedPrefix(items, k, ascending));
+      assertThat(items.stream()
+                      .collect(Sorting.topK(k, ascending))).as("topK k: %s", k)
+                                                           .containsExactlyElementsOf(sortedPrefix(items, k, descending));
+      assertThat(items.stream()
+                      .collect(Sorting.bottomK(k, ascending))).as("bottomK k: %s", k)
+                                                              .containsExactlyElementsOf(sortedPrefix(items, k, ascending));
+      assertThat(items.stream()
+                      .collect(Sorting.topKByInt(k, Item::getKey))).as("topKByInt k: %s", k)
+                                                                   .containsExactlyElementsOf(sortedPrefix(items, k, descending));
+      assertThat(items.stream()
+                      .collect(Sorting.bottomKByInt(k, Item::getKey))).as("bottomKByInt k: %s", k)
+                                                                      .containsExactlyElementsOf(sortedPrefix(items, k, ascending));
+      assertThat(items.parallelStream()
+                      .collect(Sorting.topKByLong(k, item -> (long) item.getKey()))).as("topKByLong k: %s", k)
+                                                                                    .containsExactlyElementsOf(sortedPrefix(items, k, descending));
+      assertThat(items.parallelStream()
+                      .collect(Sorting.bottomKByLong(k, item -> (long) item.getKey()))).as("bottomKByLong k: %s", k)
+                                                                                       .containsExactlyElementsOf(sortedPrefix(items, k, ascending));
+      assertThat(items.stream()
+                      .collect(Sorting.topKByDouble(k, item -> item.getKey() / 10D))).as("topKByDouble k: %s", k)
+                                                                                     .containsExactlyElementsOf(sortedPrefix(items, k, descending));
+      assertThat(items.stream()
+                      .collect(Sorting.bottomKByDouble(k, item -> item.getKey() / 10D))).as("bottomKByDouble k: %s", k)
+                                                                                        .containsExactlyElementsOf(sortedPrefix(items, k, ascending));
+    }
+  }
+
+  @Test
+  public void testSortByKeyExtractsEachKeyOnce() {
+    /* given */
+    final List<Item> items = randomItems(5_000, 300);
+    final AtomicInteger extractions = new AtomicInteger();
+    final List<Item> expected = new ArrayList<>(items);
+    expected.sort(Comparator.comparing(item -> BigDecimal.valueOf(item.getKey(), 2)));
+
+    /* when */
+    Sorting.sortByKey(items, item -> {
+      extractions.incrementAndGet();
+      return BigDecimal.valueOf(item.getKey(), 2);
+    });
+
+    /* then */
+    assertThat(items).containsExactlyElementsOf(expected);
+    assertThat(extractions.get()).isEqualTo(5_000);
+  }
+
+  @Test
+  public void testSortByKeyWithKeyComparator() {
+    /* given */
+    final List<String> dates = new LinkedList<>(Arrays.asList("2020-03-01", "2019-12-31", "2021-01-15", "2019-12-31"));
+
+    /* when */
+    Sorting.sortByKey(dates, LocalDate::parse, Comparator.<LocalDate>reverseOrder());
+
+    /* then */
+    assertThat(dates).containsExactly("2021-01-15", "2020-03-01", "2019-12-31", "2019-12-31");
+  }
+
+  @Test
+  public void testPrimitiveKeySortsAreStable() {
+    /* given */
+    final List<Item> items = randomItems(50_000, 1_000);
+    final List<Item> expected = new ArrayList<>(items);
+    expected.sort(Comparator.comparingInt(Item::getKey));
+
+    /* when */
+    final List<Item> byInt = new ArrayList<>(items);
+    Sorting.sortByIntKey(byInt, item -> item.getKey());
+    final List<Item> byLong = new ArrayList<>(items);
+    Sorting.sortByLongKey(byLong, item -> item.getKey() - 500L);
+    final List<Item> byDouble = new ArrayList<>(items);
+    Sorting.sortByDoubleKey(byDouble, item -> (item.getKey() - 500) / 3D);
+
+    /* then */
+    assertThat(byInt).containsExactlyElementsOf(expected);
+    assertThat(byLong).containsExactlyElementsOf(expected);
+    assertThat(byDouble).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  public void testParallelSortsAreTheSameAsSequential() {
+    /* given */
+    final List<Item> items = randomItems(300_000, 20_000);
+    final List<Item> expected = new ArrayList<>(items);
+    expected.sort(Comparator.comparingInt(Item::getKey)
+                            .reversed());
+
+    /* when */
+    final List<Item> byKey = new ArrayList<>(items);
+    Sorting.parallelSortByKey(byKey, Item::getKey, Comparator.<Integer>reverseOrder());
+    final List<Item> byInt = new ArrayList<>(items);
+    Sorting.parallelSortByIntKey(byInt, item -> -item.getKey());
+    final List<Item> byLong = new ArrayList<>(items);
+    Sorting.parallelSortByLongKey(byLong, item -> -(long) item.getKey());
+    final List<Item> byDouble = new ArrayList<>(items);
+    Sorting.parallelSortByDoubleKey(byDouble, item -> -item.getKey() * 0.5D);
+
+    /* then */
+    assertThat(byKey).containsExactlyElementsOf(expected);
+    assertThat(byInt).containsExactlyElementsOf(expected);
+    assertThat(byLong).containsExactlyElementsOf(expected);
+    assertThat(byDouble).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  public void testSortByDoubleKeyOrdersLikeDoubleCompare() {
+    /* given */
+    final List<Double> values = new ArrayList<>(Arrays.asList(Double.NaN, 1.5D, -0.0D, Double.NEGATIVE_INFINITY, 0.0D, -2D, Double.POSITIVE_INFINITY));
+    final List<Double> expected = new ArrayList<>(values);
+    Collections.sort(expected);
+
+    /* when */
+    Sorting.sortByDoubleKey(values, Double::doubleValue);
+
+    /* then */
+    assertThat(values).containsExactlyElementsOf(expected);
+  }
+
+}
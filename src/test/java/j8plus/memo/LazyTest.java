@@ -0,0 +1,257 @@
+package j8plus.memo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class LazyTest {
+
+  private static final int THREADS = 8;
+
+  @Test
+  public void testComputedOnceWhenFirstGot() {
+    for (final LazyMode mode : LazyMode.values()) {
+      /* given */
+      final AtomicInteger calls = new AtomicInteger();
+      final Lazy<Integer> lazy = Lazy.of(calls::incrementAndGet, mode);
+      final boolean before = lazy.isInitialized();
+
+      /* when */
+      final int first = lazy.get();
+      final int second = lazy.get();
+
+      /* then */
+      assertThat(before).as(mode.name())
+                        .isFalse();
+      assertThat(first).as(mode.name())
+                       .isEqualTo(1);
+      assertThat(second).as(mode.name())
+                        .isEqualTo(1);
+      assertThat(lazy.isInitialized()).as(mode.name())
+                                      .isTrue();
+    }
+  }
+
+  @Test
+  public void testNullValueIsComputedOnce() {
+    for (final LazyMode mode : LazyMode.values()) {
+      /* given */
+      final AtomicInteger calls = new AtomicInteger();
+      final Lazy<String> lazy = Lazy.of(() -> {
+        calls.incrementAndGet();
+        return null;
+      }, mode);
+
+      /* when */
+      final String first = lazy.get();
+      final String second = lazy.get();
+
+      /* then */
+      assertThat(first).isNull();
+      assertThat(second).isNull();
+      assertThat(calls.get()).as(mode.name())
+                             .isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void testSynchronizedComputesOnceForConcurrentThreads() throws Exception {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of(() -> {
+      sleep(50L);
+      return calls.incrementAndGet();
+    }, LazyMode.SYNCHRONIZED);
+
+    /* when */
+    final List<Integer> actual = getConcurrently(lazy);
+
+    /* then */
+    assertThat(actual).hasSize(THREADS)
+                      .containsOnly(1);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testPublicationReturnsFirstValueSet() throws Exception {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of(() -> {
+      final int value = calls.incrementAndGet();
+      sleep(50L);
+      return value;
+    }, LazyMode.PUBLICATION);
+
+    /* when */
+    final List<Integer> actual = getConcurrently(lazy);
+
+    /* then */
+    assertThat(actual).hasSize(THREADS);
+    assertThat(actual.stream()
+                     .distinct()
+                     .count()).isEqualTo(1L);
+    assertThat(lazy.get()).isEqualTo(actual.get(0));
+  }
+
+  @Test
+  public void testFailureIsNotMemoized() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException("failed");
+      }
+      return 2;
+    });
+
+    /* when */
+    final Throwable thrown = catchThrowable(lazy::get);
+    final int actual = lazy.get();
+
+    /* then */
+    assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    assertThat(actual).isEqualTo(2);
+  }
+
+  @Test
+  public void testExpiring() {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.expiring(calls::incrementAndGet, Duration.ofSeconds(10L), now::get);
+
+    /* when */
+    final boolean before = lazy.isInitialized();
+    final int first = lazy.get();
+    now.set(TimeUnit.SECONDS.toNanos(9L));
+    final int second = lazy.get();
+    now.set(TimeUnit.SECONDS.toNanos(10L));
+    final int third = lazy.get();
+    final int fourth = lazy.get();
+
+    /* then */
+    assertThat(before).isFalse();
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(1);
+    assertThat(third).isEqualTo(2);
+    assertThat(fourth).isEqualTo(2);
+  }
+
+  @Test
+  public void testExpiringServesOldValueWhileRefreshing() throws Exception {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch refreshing = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Lazy<Integer> lazy = Lazy.expiring(() -> {
+      final int value = calls.incrementAndGet();
+      if (value == 2) {
+        refreshing.countDown();
+        await(release);
+      }
+      return value;
+    }, Duration.ofSeconds(10L), now::get);
+    lazy.get();
+    now.set(TimeUnit.SECONDS.toNanos(10L));
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      /* when */
+      final Future<Integer> refreshed = executor.submit(lazy::get);
+      assertThat(refreshing.await(5L, TimeUnit.SECONDS)).isTrue();
+      final int whileRefreshing = lazy.get();
+      release.countDown();
+
+      /* then */
+      assertThat(whileRefreshing).isEqualTo(1);
+      assertThat(refreshed.get(5L, TimeUnit.SECONDS)).isEqualTo(2);
+      assertThat(lazy.get()).isEqualTo(2);
+      assertThat(calls.get()).isEqualTo(2);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExpiringKeepsOldValueWhenRefreshFails() {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.expiring(() -> {
+      if (calls.incrementAndGet() == 2) {
+        throw new IllegalStateException("failed");
+      }
+      return calls.get();
+    }, Duration.ofSeconds(10L), now::get);
+    lazy.get();
+    now.set(TimeUnit.SECONDS.toNanos(10L));
+
+    /* when */
+    final Throwable thrown = catchThrowable(lazy::get);
+    final int actual = lazy.get();
+
+    /* then */
+    assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    assertThat(actual).isEqualTo(3);
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThatThrownBy(() -> Lazy.of(null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> Lazy.expiring(() -> 1, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static List<Integer> getConcurrently(final Lazy<Integer> lazy) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          await(start);
+          return lazy.get();
+        }));
+      }
+      start.countDown();
+      final List<Integer> values = new ArrayList<>();
+      for (final Future<Integer> future : futures) {
+        values.add(future.get(10L, TimeUnit.SECONDS));
+      }
+      return values;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5L, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package j8plus.memo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class MemoizedAsyncFunctionTest {
+
+  @Test
+  public void testConcurrentCallersShareFutureInFlight() throws Exception {
+    /* given */
+    final List<CompletableFuture<Integer>> started = new ArrayList<>();
+    final MemoizedAsyncFunction<String, Integer> function = MemoizedAsyncFunction.of(s -> {
+      final CompletableFuture<Integer> future = new CompletableFuture<>();
+      started.add(future);
+      return future;
+    }, MemoOptions.builder()
+                  .recordStats()
+                  .build());
+
+    /* when */
+    final CompletableFuture<Integer> first = function.apply("abc");
+    final CompletableFuture<Integer> second = function.apply("abc");
+    final boolean doneBefore = first.isDone();
+    started.get(0)
+           .complete(3);
+
+    /* then */
+    assertThat(started).hasSize(1);
+    assertThat(second).isSameAs(first);
+    assertThat(doneBefore).isFalse();
+    assertThat(second.get(1L, TimeUnit.SECONDS)).isEqualTo(3);
+    assertThat(function.stats()).isEqualTo(new MemoStats(1L, 1L, 0L, 0L));
+  }
+
+  @Test
+  public void testFailedFutureIsEvicted() throws Exception {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final List<CompletableFuture<Integer>> started = new ArrayList<>();
+    final MemoizedAsyncFunction<String, Integer> function = MemoizedAsyncFunction.of(s -> {
+      calls.incrementAndGet();
+      final CompletableFuture<Integer> future = new CompletableFuture<>();
+      started.add(future);
+      return future;
+    }, MemoOptions.builder()
+                  .recordStats()
+                  .build());
+    final CompletableFuture<Integer> failed = function.apply("abc");
+
+    /* when */
+    started.get(0)
+           .completeExceptionally(new IllegalStateException("failed"));
+    final long sizeAfterFailure = function.size();
+    final CompletableFuture<Integer> retried = function.apply("abc");
+    started.get(1)
+           .complete(3);
+
+    /* then */
+    assertThatThrownBy(failed::get).isInstanceOf(ExecutionException.class)
+                                   .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(sizeAfterFailure).isZero();
+    assertThat(retried.get(1L, TimeUnit.SECONDS)).isEqualTo(3);
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(function.stats()
+                       .getLoadFailureCount()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testFutureFailedAlreadyIsNotMemoized() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedAsyncFunction<String, Integer> function = MemoizedAsyncFunction.of(s -> {
+      final CompletableFuture<Integer> future = new CompletableFuture<>();
+      if (calls.incrementAndGet() == 1) {
+        future.completeExceptionally(new IllegalStateException("failed"));
+      } else {
+        future.complete(s.length());
+      }
+      return future;
+    }, MemoOptions.defaults());
+
+    /* when */
+    final CompletableFuture<Integer> first = function.apply("abc");
+    final CompletableFuture<Integer> second = function.apply("abc");
+    final CompletableFuture<Integer> third = function.apply("abc");
+
+    /* then */
+    assertThat(first.isCompletedExceptionally()).isTrue();
+    assertThat(second.join()).isEqualTo(3);
+    assertThat(third).isSameAs(second);
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testRefreshAfterWriteServesStaleValue() {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final List<CompletableFuture<Integer>> started = new ArrayList<>();
+    final MemoizedAsyncFunction<String, Integer> function = MemoizedAsyncFunction.of(s -> {
+      calls.incrementAndGet();
+      final CompletableFuture<Integer> future = new CompletableFuture<>();
+      started.add(future);
+      return future;
+    }, MemoOptions.builder()
+                  .refreshAfterWrite(Duration.ofSeconds(10L))
+                  .nanoClock(now::get)
+                  .build());
+    function.apply("abc");
+    started.get(0)
+           .complete(1);
+
+    /* when */
+    now.set(TimeUnit.SECONDS.toNanos(5L));
+    final int fresh = function.apply("abc")
+                              .join();
+    now.set(TimeUnit.SECONDS.toNanos(10L));
+    final int stale = function.apply("abc")
+                              .join();
+    final int staleWhileRefreshing = function.apply("abc")
+                                             .join();
+    final int callsWhileRefreshing = calls.get();
+    started.get(1)
+           .complete(2);
+    final int refreshed = function.apply("abc")
+                                  .join();
+
+    /* then */
+    assertThat(fresh).isEqualTo(1);
+    assertThat(stale).isEqualTo(1);
+    assertThat(staleWhileRefreshing).isEqualTo(1);
+    assertThat(callsWhileRefreshing).isEqualTo(2);
+    assertThat(refreshed).isEqualTo(2);
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testFailedRefreshKeepsStaleValue() {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final List<CompletableFuture<Integer>> started = new ArrayList<>();
+    final MemoizedAsyncFunction<String, Integer> function = MemoizedAsyncFunction.of(s -> {
+      final CompletableFuture<Integer> future = new CompletableFuture<>();
+      started.add(future);
+      return future;
+    }, MemoOptions.builder()
+                  .refreshAfterWrite(Duration.ofSeconds(10L))
+                  .nanoClock(now::get)
+                  .recordStats()
+                  .build());
+    function.apply("abc");
+    started.get(0)
+           .complete(1);
+    now.set(TimeUnit.SECONDS.toNanos(10L));
+    function.apply("abc");
+
+    /* when */
+    started.get(1)
+           .completeExceptionally(new IllegalStateException("failed"));
+    final int stale = function.apply("abc")
+                              .join();
+    started.get(2)
+           .complete(3);
+    final int refreshed = function.apply("abc")
+                                  .join();
+
+    /* then */
+    assertThat(stale).isEqualTo(1);
+    assertThat(refreshed).isEqualTo(3);
+    assertThat(started).hasSize(3);
+    assertThat(function.stats()
+                       .getLoadFailureCount()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testRefreshThrowingErrorIsRetried() {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedAsyncFunction<String, Integer> function = MemoizedAsyncFunction.of(s -> {
+      if (calls.incrementAndGet() == 2) {
+        throw new AssertionError("failed");
+      }
+      return CompletableFuture.completedFuture(calls.get());
+    }, MemoOptions.builder()
+                  .refreshAfterWrite(Duration.ofSeconds(10L))
+                  .nanoClock(now::get)
+                  .recordStats()
+                  .build());
+    function.apply("abc");
+    now.set(TimeUnit.SECONDS.toNanos(10L));
+
+    /* when */
+    final Throwable thrown = catchThrowable(() -> function.apply("abc"));
+    final int stale = function.apply("abc")
+                              .join();
+    final int refreshed = function.apply("abc")
+                                  .join();
+
+    /* then */
+    assertThat(thrown).isInstanceOf(AssertionError.class);
+    assertThat(stale).isEqualTo(1);
+    assertThat(refreshed).isEqualTo(3);
+    assertThat(calls.get()).isEqualTo(3);
+    assertThat(function.stats()
+                       .getLoadFailureCount()).isEqualTo(1L);
+  }
+}
@@ -0,0 +1,599 @@
+package j8plus.memo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import j8plus.types.Function3;
+import j8plus.types.Function4;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class MemoizedFunctionTest {
+
+  @Test
+  public void testApplyComputesEachArgumentOnce() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<String, Integer> length = MemoizedFunction.of(s -> {
+      calls.incrementAndGet();
+      return s.length();
+    }, MemoOptions.builder()
+                  .recordStats()
+                  .build());
+
+    /* when */
+    final List<Integer> actual = new ArrayList<>();
+    for (final String s : new String[] { "a", "bb", "a", "ccc", "bb", "a" }) {
+      actual.add(length.apply(s));
+    }
+
+    /* then */
+    assertThat(actual).containsExactly(1, 2, 1, 3, 2, 1);
+    assertThat(calls.get()).isEqualTo(3);
+    assertThat(length.size()).isEqualTo(3L);
+    assertThat(length.stats()).isEqualTo(new MemoStats(3L, 3L, 0L, 0L));
+    assertThat(length.stats()
+                     .getHitRate()).isEqualTo(0.5D);
+  }
+
+  @Test
+  public void testApplyMemoizesNullArgumentAndNullValue() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<String, String> function = MemoizedFunction.of(s -> {
+      calls.incrementAndGet();
+      return s == null ? "null" : null;
+    }, MemoOptions.defaults());
+
+    /* when */
+    final String first = function.apply(null);
+    final String second = function.apply(null);
+    final String third = function.apply("a");
+    final String fourth = function.apply("a");
+
+    /* then */
+    assertThat(first).isEqualTo("null");
+    assertThat(second).isEqualTo("null");
+    assertThat(third).isNull();
+    assertThat(fourth).isNull();
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testMaximumSizeWithLru() {
+    /* given */
+    final MemoizedFunction<Integer, Integer> square = MemoizedFunction.of(i -> i * i, MemoOptions.builder()
+                                                                                                 .maximumSize(10)
+                                                                                                 .recordStats()
+                                                                                                 .build());
+
+    /* when */
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(square.apply(i)).isEqualTo(i * i);
+    }
+
+    /* then */
+    assertThat(square.size()).isEqualTo(10L);
+    assertThat(square.stats()
+                     .getEvictionCount()).isEqualTo(990L);
+  }
+
+  @Test
+  public void testLruKeepsRecentlyUsedValue() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, Integer> function = MemoizedFunction.of(i -> {
+      calls.incrementAndGet();
+      return i;
+    }, MemoOptions.builder()
+                  .maximumSize(100)
+                  .build());
+
+    /* when */
+    for (int i = 1; i <= 1_000; i++) {
+      function.apply(0);
+      function.apply(i);
+    }
+    calls.set(0);
+    function.apply(0);
+
+    /* then */
+    assertThat(calls.get()).isZero();
+  }
+
+  @Test
+  public void testLfuKeepsFrequentlyUsedValue() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, Integer> function = MemoizedFunction.of(i -> {
+      calls.incrementAndGet();
+      return i;
+    }, MemoOptions.builder()
+                  .maximumSize(100)
+                  .eviction(Eviction.LFU)
+                  .build());
+    for (int i = 0; i < 100; i++) {
+      function.apply(0);
+    }
+
+    /* when */
+    for (int i = 1; i <= 500; i++) {
+      function.apply(i);
+    }
+    calls.set(0);
+    function.apply(0);
+
+    /* then */
+    assertThat(calls.get()).isZero();
+    assertThat(function.size()).isEqualTo(100L);
+  }
+
+  @Test
+  public void testExpireAfterWrite() {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<String, Integer> function = MemoizedFunction.of(s -> calls.incrementAndGet(), MemoOptions.builder()
+                                                                                                                   .expireAfterWrite(Duration.ofSeconds(10L))
+                                                                                                                   .nanoClock(now::get)
+                                                                                                                   .recordStats()
+                                                                                                                   .build());
+
+    /* when */
+    final int first = function.apply("a");
+    now.set(TimeUnit.SECONDS.toNanos(9L));
+    final int second = function.apply("a");
+    now.set(TimeUnit.SECONDS.toNanos(10L));
+    final int third = function.apply("a");
+
+    /* then */
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(1);
+    assertThat(third).isEqualTo(2);
+    assertThat(function.stats()).isEqualTo(new MemoStats(1L, 2L, 1L, 0L));
+  }
+
+  @Test
+  public void testWeakKeysComparedByEquals() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<String, Integer> function = MemoizedFunction.of(s -> calls.incrementAndGet(), MemoOptions.builder()
+                                                                                                                   .weakKeys()
+                                                                                                                   .build());
+    final String key = new String("key");
+
+    /* when */
+    final int first = function.apply(key);
+    final int second = function.apply(new String("key"));
+    final int third = function.apply(null);
+    final int fourth = function.apply(null);
+
+    /* then */
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(1);
+    assertThat(third).isEqualTo(2);
+    assertThat(fourth).isEqualTo(2);
+    assertThat(function.size()).isEqualTo(2L);
+    function.invalidate(key);
+    assertThat(function.size()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testRecursiveLoad() {
+    /* given */
+    final AtomicReference<Function<Integer, Long>> fibonacci = new AtomicReference<>();
+    final AtomicInteger calls = new AtomicInteger();
+    fibonacci.set(MemoizedFunction.of(n -> {
+      calls.incrementAndGet();
+      return n < 2 ? (long) n : fibonacci.get()
+                                         .apply(n - 1) + fibonacci.get()
+                                                                  .apply(n - 2);
+    }, MemoOptions.defaults()));
+
+    /* when */
+    final long actual = fibonacci.get()
+                                 .apply(90);
+
+    /* then */
+    assertThat(actual).isEqualTo(2880067194370816120L);
+    assertThat(calls.get()).isEqualTo(91);
+  }
+
+  @Test
+  public void testConcurrentRecursiveLoads() throws Exception {
+    /* given */
+    final AtomicReference<Function<Integer, Long>> fibonacci = new AtomicReference<>();
+    fibonacci.set(MemoizedFunction.of(n -> n < 2 ? (long) n : fibonacci.get()
+                                                                       .apply(n - 1) + fibonacci.get()
+                                                                                                .apply(n - 2), MemoOptions.builder()
+                                                                                                                          .maximumSize(16)
+                                                                                                                          .build()));
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      /* when */
+      final List<Future<Long>> futures = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        final int n = 60 + i % 30;
+        futures.add(executor.submit(() -> fibonacci.get()
+                                                   .apply(n)));
+      }
+
+      /* then */
+      final long[] expected = new long[91];
+      expected[1] = 1L;
+      for (int i = 2; i < expected.length; i++) {
+        expected[i] = expected[i - 1] + expected[i - 2];
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        assertThat(futures.get(i)
+                          .get(10L, TimeUnit.SECONDS)).isEqualTo(expected[60 + i % 30]);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testConcurrentCallsComputeOnce() throws Exception {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final MemoizedFunction<String, Integer> function = MemoizedFunction.of(s -> {
+      calls.incrementAndGet();
+      try {
+        release.await(5L, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return s.length();
+    }, MemoOptions.builder()
+                  .recordStats()
+                  .build());
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      /* when */
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> function.apply("abc")));
+      }
+      Thread.sleep(100L);
+      release.countDown();
+
+      /* then */
+      for (final Future<Integer> future : futures) {
+        assertThat(future.get(10L, TimeUnit.SECONDS)).isEqualTo(3);
+      }
+      assertThat(calls.get()).isEqualTo(1);
+      assertThat(function.stats()
+                         .getRequestCount()).isEqualTo(8L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testNestedMemoizedLoadsComputeOnce() throws Exception {
+    /* given */
+    final AtomicInteger innerCalls = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final MemoizedFunction<String, Integer> inner = MemoizedFunction.of(s -> {
+      innerCalls.incrementAndGet();
+      try {
+        release.await(5L, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return s.length();
+    }, MemoOptions.builder()
+                  .recordStats()
+                  .build());
+    final MemoizedFunction<Integer, Integer> outer = MemoizedFunction.of(i -> i + inner.apply("shared"), MemoOptions.defaults());
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      /* when */
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        final int key = i;
+        futures.add(executor.submit(() -> outer.apply(key)));
+      }
+      Thread.sleep(100L);
+      release.countDown();
+
+      /* then */
+      for (int i = 0; i < futures.size(); i++) {
+        assertThat(futures.get(i)
+                          .get(10L, TimeUnit.SECONDS)).isEqualTo(i + 6);
+      }
+      assertThat(innerCalls.get()).isEqualTo(1);
+      assertThat(inner.stats()).isEqualTo(new MemoStats(7L, 1L, 0L, 0L));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testLoadsOfEachOthersKeysDoNotDeadlock() throws Exception {
+    /* given */
+    final CountDownLatch started = new CountDownLatch(2);
+    final ThreadLocal<Boolean> nested = ThreadLocal.withInitial(() -> false);
+    final AtomicReference<Function<String, String>> function = new AtomicReference<>();
+    function.set(MemoizedFunction.of(s -> {
+      if (nested.get()) {
+        return s;
+      }
+      nested.set(true);
+      try {
+        /* both loads are in progress before either asks for the other's key */
+        started.countDown();
+        started.await(5L, TimeUnit.SECONDS);
+        return s + function.get()
+                           .apply("x".equals(s) ? "y" : "x");
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      } finally {
+        nested.set(false);
+      }
+    }, MemoOptions.defaults()));
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      /* when */
+      final Future<String> x = executor.submit(() -> function.get()
+                                                             .apply("x"));
+      final Future<String> y = executor.submit(() -> function.get()
+                                                             .apply("y"));
+
+      /* then */
+      final String actualX = x.get(10L, TimeUnit.SECONDS);
+      final String actualY = y.get(10L, TimeUnit.SECONDS);
+      /* the thread which finds the cycle computes the other's key itself and the other thread waits for its value */
+      assertThat(actualX).isIn("xy", "xyx");
+      assertThat(actualY).isIn("yx", "yxy");
+      assertThat(actualX.length() + actualY.length()).isEqualTo(5);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailureIsNotMemoized() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<String, Integer> function = MemoizedFunction.of(s -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException("failed");
+      }
+      return s.length();
+    }, MemoOptions.builder()
+                  .recordStats()
+                  .build());
+
+    /* when */
+    final Throwable thrown = catchThrowable(() -> function.apply("abc"));
+    final int actual = function.apply("abc");
+
+    /* then */
+    assertThat(thrown).isInstanceOf(IllegalStateException.class)
+                      .hasMessage("failed");
+    assertThat(actual).isEqualTo(3);
+    assertThat(function.stats()
+                       .getLoadFailureCount()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testInvalidate() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<String, Integer> function = MemoizedFunction.of(s -> calls.incrementAndGet(), MemoOptions.builder()
+                                                                                                                   .maximumSize(10)
+                                                                                                                   .build());
+    function.apply("a");
+    function.apply("b");
+
+    /* when */
+    function.invalidate("a");
+    final int a = function.apply("a");
+    final int b = function.apply("b");
+    function.invalidateAll();
+
+    /* then */
+    assertThat(a).isEqualTo(3);
+    assertThat(b).isEqualTo(2);
+    assertThat(function.size()).isZero();
+  }
+
+  @Test
+  public void testMemoizedBiFunction() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedBiFunction<String, Integer, String> repeat = MemoizedBiFunction.of((s, n) -> {
+      calls.incrementAndGet();
+      final StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < n; i++) {
+        builder.append(s);
+      }
+      return builder.toString();
+    }, MemoOptions.defaults());
+
+    /* when */
+    final String first = repeat.apply("ab", 2);
+    final String second = repeat.apply("ab", 2);
+    final String third = repeat.apply("ab", 3);
+    final String fourth = repeat.apply(null, 0);
+    repeat.invalidate("ab", 2);
+    repeat.apply("ab", 2);
+
+    /* then */
+    assertThat(first).isEqualTo("abab");
+    assertThat(second).isEqualTo("abab");
+    assertThat(third).isEqualTo("ababab");
+    assertThat(fourth).isEmpty();
+    assertThat(calls.get()).isEqualTo(4);
+    assertThat(repeat.size()).isEqualTo(3L);
+  }
+
+  @Test
+  public void testWeakKeysOfMemoizedBiFunction() throws Exception {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedBiFunction<String, String, Integer> function = MemoizedBiFunction.of((s1, s2) -> calls.incrementAndGet(), MemoOptions.builder()
+                                                                                                                                        .weakKeys()
+                                                                                                                                        .recordStats()
+                                                                                                                                        .build());
+    final AtomicReference<String> first = new AtomicReference<>(new String("first"));
+    final String second = new String("second");
+
+    /* when */
+    final int computed = function.apply(first.get(), second);
+    final int withNull = function.apply(null, second);
+    collectGarbage(() -> false);
+    final int kept = function.apply(new String("first"), new String("second"));
+    final int keptWithNull = function.apply(null, new String("second"));
+    first.set(null);
+    collectGarbage(() -> function.size() == 1L);
+
+    /* then */
+    assertThat(computed).isEqualTo(1);
+    assertThat(withNull).isEqualTo(2);
+    assertThat(kept).isEqualTo(1);
+    assertThat(keptWithNull).isEqualTo(2);
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(function.size()).isEqualTo(1L);
+    assertThat(function.stats()).isEqualTo(new MemoStats(2L, 2L, 1L, 0L));
+    assertThat(second).isEqualTo("second");
+  }
+
+  @Test
+  public void testMemoizedSupplier() {
+    /* given */
+    final AtomicLong now = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedSupplier<Integer> supplier = MemoizedSupplier.of(calls::incrementAndGet, MemoOptions.builder()
+                                                                                                      .expireAfterWrite(Duration.ofMillis(1L))
+                                                                                                      .nanoClock(now::get)
+                                                                                                      .build());
+
+    /* when */
+    final boolean before = supplier.isMemoized();
+    final int first = supplier.get();
+    final int second = supplier.get();
+    now.set(TimeUnit.MILLISECONDS.toNanos(1L));
+    final int third = supplier.get();
+    supplier.invalidate();
+    final int fourth = supplier.get();
+
+    /* then */
+    assertThat(before).isFalse();
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(1);
+    assertThat(third).isEqualTo(2);
+    assertThat(fourth).isEqualTo(3);
+    assertThat(supplier.isMemoized()).isTrue();
+  }
+
+  @Test
+  public void testInvalidOptions() {
+    assertThatThrownBy(() -> MemoOptions.builder()
+                                        .maximumSize(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MemoOptions.builder()
+                                        .expireAfterWrite(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MemoizedFunction.of(null, MemoOptions.defaults())).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  public void testMemoizersCompareArgumentsWithEqualHashCodes() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final Function3<String, String, String, String> function = Memoizers.memoize((String a, String b, String c) -> {
+      calls.incrementAndGet();
+      return a + b + c;
+    }, MemoOptions.defaults());
+
+    /* when */
+    /* "Aa" and "BB" have the same hash code */
+    final String first = function.apply("Aa", "BB", null);
+    final String second = function.apply("BB", "Aa", null);
+    final String third = function.apply("Aa", "BB", null);
+
+    /* then */
+    assertThat(first).isEqualTo("AaBBnull");
+    assertThat(second).isEqualTo("BBAanull");
+    assertThat(third).isEqualTo("AaBBnull");
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(((Memoized) function).size()).isEqualTo(2L);
+  }
+
+  @Test
+  public void testMemoizersWithWeakKeys() throws Exception {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final Function3<String, String, Integer, Integer> function = Memoizers.memoize((String a, String b, Integer c) -> calls.incrementAndGet(), MemoOptions.builder()
+                                                                                                                                                          .weakKeys()
+                                                                                                                                                          .build());
+    final AtomicReference<String> first = new AtomicReference<>(new String("first"));
+    final String second = new String("second");
+
+    /* when */
+    final int computed = function.apply(first.get(), second, null);
+    collectGarbage(() -> false);
+    final int kept = function.apply(new String("first"), new String("second"), null);
+    first.set(null);
+    collectGarbage(() -> ((Memoized) function).size() == 0L);
+
+    /* then */
+    assertThat(computed).isEqualTo(1);
+    assertThat(kept).isEqualTo(1);
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(((Memoized) function).size()).isZero();
+    assertThat(second).isEqualTo("second");
+  }
+
+  @Test
+  public void testMemoizersInvalidate() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final Function4<Integer, Integer, Integer, Integer, Integer> function = Memoizers.memoize((Integer a, Integer b, Integer c, Integer d) -> calls.incrementAndGet(),
+                                                                                             MemoOptions.defaults());
+    function.apply(1, 2, 3, 4);
+    function.apply(5, 6, 7, 8);
+
+    /* when */
+    Memoizers.invalidate(function, 1, 2, 3, 4);
+    final int recomputed = function.apply(1, 2, 3, 4);
+    final int kept = function.apply(5, 6, 7, 8);
+
+    /* then */
+    assertThat(recomputed).isEqualTo(3);
+    assertThat(kept).isEqualTo(2);
+    assertThat(((Memoized) function).size()).isEqualTo(2L);
+    assertThatThrownBy(() -> Memoizers.invalidate((Integer a, Integer b, Integer c, Integer d) -> a, 1, 2, 3, 4)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /* runs the garbage collector until the condition holds or a few times if it never holds */
+  static void collectGarbage(final BooleanSupplier condition) throws InterruptedException {
+    for (int i = 0; i < 20 && !condition.getAsBoolean(); i++) {
+      System.gc();
+      Thread.sleep(10L);
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package j8plus.memo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class PersistentMemoizedFunctionTest {
+
+  @Test
+  public void testValuesSurviveReopening(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path path = tempDir.resolve("lengths.memo");
+    final AtomicInteger calls = new AtomicInteger();
+    final Function<String, Long> length = s -> {
+      calls.incrementAndGet();
+      return s == null ? null : (long) s.length();
+    };
+    try (final PersistentMemoizedFunction<String, Long> function = open(length, path, "1")) {
+      assertThat(function.apply("a")).isEqualTo(1L);
+      assertThat(function.apply("bb")).isEqualTo(2L);
+      assertThat(function.apply(null)).isNull();
+      assertThat(function.apply("a")).isEqualTo(1L);
+    }
+    calls.set(0);
+
+    /* when */
+    try (final PersistentMemoizedFunction<String, Long> function = open(length, path, "1")) {
+      final Long a = function.apply("a");
+      final Long bb = function.apply("bb");
+      final Long nullValue = function.apply(null);
+      final Long ccc = function.apply("ccc");
+
+      /* then */
+      assertThat(a).isEqualTo(1L);
+      assertThat(bb).isEqualTo(2L);
+      assertThat(nullValue).isNull();
+      assertThat(ccc).isEqualTo(3L);
+      assertThat(calls.get()).isEqualTo(1);
+      assertThat(function.size()).isEqualTo(4L);
+    }
+  }
+
+  @Test
+  public void testDifferentVersionEmptiesFile(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path path = tempDir.resolve("lengths.memo");
+    final AtomicInteger calls = new AtomicInteger();
+    final Function<String, Long> length = s -> (long) (s.length() * 100 + calls.incrementAndGet());
+    try (final PersistentMemoizedFunction<String, Long> function = open(length, path, "1")) {
+      function.apply("a");
+    }
+
+    /* when */
+    try (final PersistentMemoizedFunction<String, Long> function = open(length, path, "2")) {
+      final Long actual = function.apply("a");
+
+      /* then */
+      assertThat(actual).isEqualTo(102L);
+      assertThat(function.size()).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void testFileGrows(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path path = tempDir.resolve("strings.memo");
+    final Function<String, String> repeat = s -> {
+      final StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < 100; i++) {
+        builder.append(s);
+      }
+      return builder.toString();
+    };
+    try (final PersistentMemoizedFunction<String, String> function = PersistentMemoizedFunction.open(repeat, path, "1", MemoCodec.utf8(), MemoCodec.utf8(), MemoOptions.builder()
+                                                                                                                                                                 .maximumSize(10)
+                                                                                                                                                                 .build())) {
+      for (int i = 0; i < 5_000; i++) {
+        function.apply("key" + i);
+      }
+    }
+
+    /* when */
+    try (final PersistentMemoizedFunction<String, String> function = PersistentMemoizedFunction.open(s -> {
+      throw new AssertionError("must be read from the file: " + s);
+    }, path, "1", MemoCodec.utf8(), MemoCodec.utf8(), MemoOptions.defaults())) {
+
+      /* then */
+      assertThat(function.size()).isEqualTo(5_000L);
+      for (int i = 0; i < 5_000; i += 499) {
+        assertThat(function.apply("key" + i)).isEqualTo(repeat.apply("key" + i));
+      }
+    }
+    assertThat(Files.size(path)).isGreaterThan(5_000L * 500L);
+  }
+
+  @Test
+  public void testTornRecordIsIgnored(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path path = tempDir.resolve("lengths.memo");
+    try (final PersistentMemoizedFunction<String, Long> function = open(s -> (long) s.length(), path, "1")) {
+      function.apply("a");
+    }
+    /* a record written after the end in the header as if it were torn by a crash */
+    final byte[] bytes = Files.readAllBytes(path);
+    final int end = (int) ByteBuffer.wrap(bytes)
+                                    .getLong(8);
+    ByteBuffer.wrap(bytes)
+              .putInt(end, 1)
+              .putInt(end + 4, 8)
+              .put(end + 8, (byte) 'b');
+    Files.write(path, bytes);
+
+    /* when */
+    try (final PersistentMemoizedFunction<String, Long> function = open(s -> (long) s.length() * 10L, path, "1")) {
+
+      /* then */
+      assertThat(function.size()).isEqualTo(1L);
+      assertThat(function.apply("a")).isEqualTo(1L);
+      assertThat(function.apply("b")).isEqualTo(10L);
+    }
+  }
+
+  @Test
+  public void testInvalidateAllEmptiesFile(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path path = tempDir.resolve("lengths.memo");
+    final AtomicInteger calls = new AtomicInteger();
+    try (final PersistentMemoizedFunction<String, Long> function = open(s -> (long) calls.incrementAndGet(), path, "1")) {
+      function.apply("a");
+
+      /* when */
+      function.invalidateAll();
+
+      /* then */
+      assertThat(function.size()).isZero();
+      assertThat(function.apply("a")).isEqualTo(2L);
+    }
+  }
+
+  @Test
+  public void testFileCannotBeOpenedTwice(@TempDir final Path tempDir) throws IOException {
+    /* given */
+    final Path path = tempDir.resolve("lengths.memo");
+    try (final PersistentMemoizedFunction<String, Long> function = open(s -> (long) s.length(), path, "1")) {
+
+      /* when */
+      final Throwable thrown = catchThrowable(() -> open(s -> (long) s.length(), path, "1"));
+
+      /* then */
+      assertThat(thrown).isInstanceOf(IOException.class);
+      assertThat(function.apply("a")).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void testClosedFunction(@TempDir final Path tempDir) throws IOException {
+    final PersistentMemoizedFunction<String, Long> function = open(s -> (long) s.length(), tempDir.resolve("lengths.memo"), "1");
+    function.close();
+    function.close();
+    assertThatThrownBy(() -> function.apply("a")).isInstanceOf(IllegalStateException.class);
+  }
+
+  private static PersistentMemoizedFunction<String, Long> open(final Function<String, Long> function, final Path path, final String version) throws IOException {
+    return PersistentMemoizedFunction.open(function, path, version, MemoCodec.utf8(), MemoCodec.longs(), MemoOptions.defaults());
+  }
+}
@@ -0,0 +1,218 @@
+package j8plus.memo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class SingleFlightFunctionTest {
+
+  private static final int THREADS = 8;
+
+  @Test
+  public void testConcurrentCallsAreCoalesced() throws Exception {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final SingleFlightFunction<String, Integer> function = SingleFlightFunction.of(s -> {
+      calls.incrementAndGet();
+      await(release);
+      return s.length();
+    });
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      /* when */
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> function.apply("abc")));
+      }
+      waitUntil(() -> function.getCoalescedCount() == THREADS - 1);
+      release.countDown();
+
+      /* then */
+      for (final Future<Integer> future : futures) {
+        assertThat(future.get(10L, TimeUnit.SECONDS)).isEqualTo(3);
+      }
+      assertThat(calls.get()).isEqualTo(1);
+      assertThat(function.getExecutionCount()).isEqualTo(1L);
+      assertThat(function.getCoalescedCount()).isEqualTo(THREADS - 1L);
+      assertThat(function.getInFlightCount()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testResultIsNotRetained() {
+    /* given */
+    final AtomicInteger calls = new AtomicInteger();
+    final SingleFlightFunction<String, Integer> function = SingleFlightFunction.of(s -> calls.incrementAndGet());
+
+    /* when */
+    final int first = function.apply("abc");
+    final int second = function.apply("abc");
+    final int third = function.apply(null);
+
+    /* then */
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(2);
+    assertThat(third).isEqualTo(3);
+    assertThat(function.getCoalescedCount()).isZero();
+  }
+
+  @Test
+  public void testExceptionIsHandedToEveryWaiter() throws Exception {
+    /* given */
+    final CountDownLatch release = new CountDownLatch(1);
+    final SingleFlightFunction<String, Integer> function = SingleFlightFunction.of(s -> {
+      await(release);
+      throw new IllegalStateException("failed " + s);
+    });
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      /* when */
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> function.apply("abc")));
+      }
+      waitUntil(() -> function.getCoalescedCount() == THREADS - 1);
+      release.countDown();
+
+      /* then */
+      for (final Future<Integer> future : futures) {
+        assertThatThrownBy(() -> future.get(10L, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                    .hasCauseInstanceOf(IllegalStateException.class)
+                                                                    .hasMessageContaining("failed abc");
+      }
+      assertThat(function.getExecutionCount()).isEqualTo(1L);
+      assertThat(function.getInFlightCount()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testRecursiveCallForSameArgumentDoesNotWaitForItself() {
+    /* given */
+    final AtomicReference<Function<Integer, Integer>> function = new AtomicReference<>();
+    final AtomicInteger depth = new AtomicInteger();
+    function.set(SingleFlightFunction.of(n -> depth.incrementAndGet() < 3 ? function.get()
+                                                                                   .apply(n) : n));
+
+    /* when */
+    final int actual = function.get()
+                               .apply(7);
+
+    /* then */
+    assertThat(actual).isEqualTo(7);
+    assertThat(depth.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testCallsForEachOthersArgumentsDoNotDeadlock() throws Exception {
+    /* given */
+    final CountDownLatch started = new CountDownLatch(2);
+    final ThreadLocal<Boolean> nested = ThreadLocal.withInitial(() -> false);
+    final AtomicReference<Function<String, String>> function = new AtomicReference<>();
+    function.set(SingleFlightFunction.of(s -> {
+      if (nested.get()) {
+        return s;
+      }
+      nested.set(true);
+      try {
+        /* both calls are in flight before either calls the function for the other's argument */
+        started.countDown();
+        await(started);
+        return s + function.get()
+                           .apply("x".equals(s) ? "y" : "x");
+      } finally {
+        nested.set(false);
+      }
+    }));
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      /* when */
+      final Future<String> x = executor.submit(() -> function.get()
+                                                             .apply("x"));
+      final Future<String> y = executor.submit(() -> function.get()
+                                                             .apply("y"));
+
+      /* then */
+      final String actualX = x.get(10L, TimeUnit.SECONDS);
+      final String actualY = y.get(10L, TimeUnit.SECONDS);
+      /* the thread which finds the cycle runs the function for the other's argument and the other thread waits for it */
+      assertThat(actualX).isIn("xy", "xyx");
+      assertThat(actualY).isIn("yx", "yxy");
+      assertThat(actualX.length() + actualY.length()).isEqualTo(5);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCallsFromMemoizedFunctionAreCoalesced() throws Exception {
+    /* given */
+    final CountDownLatch release = new CountDownLatch(1);
+    final SingleFlightFunction<String, Integer> function = SingleFlightFunction.of(s -> {
+      await(release);
+      return s.length();
+    });
+    final MemoizedFunction<Integer, Integer> memoized = MemoizedFunction.of(i -> i + function.apply("region"), MemoOptions.defaults());
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      /* when */
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        final int key = i;
+        futures.add(executor.submit(() -> memoized.apply(key)));
+      }
+      waitUntil(() -> function.getCoalescedCount() == THREADS - 1);
+      release.countDown();
+
+      /* then */
+      for (int i = 0; i < futures.size(); i++) {
+        assertThat(futures.get(i)
+                          .get(10L, TimeUnit.SECONDS)).isEqualTo(i + 6);
+      }
+      assertThat(function.getExecutionCount()).isEqualTo(1L);
+      assertThat(function.getCoalescedCount()).isEqualTo(THREADS - 1L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5L, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(1L);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class DecimalSlidingWindowTest {
+
+  @Test
+  public void testOfCount() {
+    /* given */
+    final DecimalSlidingWindow window = DecimalSlidingWindow.ofCount(2);
+
+    /* when */
+    window.accept(new BigDecimal("1.10"));
+    window.accept(new BigDecimal("2.25"));
+    window.accept(new BigDecimal("3.5"));
+
+    /* then */
+    assertThat(window.getCount()).isEqualTo(2L);
+    assertThat(window.getSum()).isEqualByComparingTo(new BigDecimal("5.75"));
+    assertThat(window.getAverage()).isEqualByComparingTo(new BigDecimal("2.875"));
+  }
+
+  @Test
+  public void testEmpty() {
+    /* given */
+    final DecimalSlidingWindow window = DecimalSlidingWindow.ofCount(3);
+
+    /* when */
+    final BigDecimal actual = window.getSum();
+
+    /* then */
+    assertThat(actual).isEqualTo(BigDecimal.ZERO);
+    assertThat(window.getAverage()).isEqualTo(BigDecimal.ZERO);
+  }
+
+  @Test
+  public void testAcceptNull() {
+    assertThatThrownBy(() -> DecimalSlidingWindow.ofCount(3)
+                                                 .accept(null)).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  public void testOfDuration() {
+    /* given */
+    final AtomicLong clock = new AtomicLong();
+    final DecimalSlidingWindow window = DecimalSlidingWindow.ofDuration(Duration.ofSeconds(10L), 10, clock::get);
+
+    /* when */
+    window.accept(new BigDecimal("10.5"));
+    clock.set(Duration.ofSeconds(5L)
+                      .toNanos());
+    window.accept(new BigDecimal("0.5"));
+    clock.set(Duration.ofSeconds(12L)
+                      .toNanos());
+
+    /* then */
+    assertThat(window.getCount()).isEqualTo(1L);
+    assertThat(window.getSum()).isEqualByComparingTo(new BigDecimal("0.5"));
+  }
+
+  @Test
+  public void testStripedOfDuration() {
+    /* given */
+    final AtomicLong clock = new AtomicLong();
+    final DecimalSlidingWindow window = DecimalSlidingWindow.stripedOfDuration(Duration.ofSeconds(1L), 4, 3, clock::get);
+
+    /* when */
+    IntStream.rangeClosed(1, 100)
+             .parallel()
+             .forEach(i -> window.accept(BigDecimal.valueOf(i, 2)));
+
+    /* then */
+    assertThat(window.getCount()).isEqualTo(100L);
+    assertThat(window.getSum()).isEqualByComparingTo(new BigDecimal("50.50"));
+  }
+}
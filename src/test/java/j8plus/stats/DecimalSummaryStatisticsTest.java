@@ -0,0 +1,160 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class DecimalSummaryStatisticsTest {
+
+  private static DecimalSummaryStatistics statisticsOf(final String... values) {
+    final DecimalSummaryStatistics stats = new DecimalSummaryStatistics();
+    for (final String value : values) {
+      stats.accept(new BigDecimal(value));
+    }
+    return stats;
+  }
+
+  @Test
+  public void testEmpty() {
+    /* given */
+    final DecimalSummaryStatistics stats = new DecimalSummaryStatistics();
+
+    /* when */
+    final BigDecimal actual = stats.getSum();
+
+    /* then */
+    assertThat(actual).isEqualTo(BigDecimal.ZERO);
+    assertThat(stats.getCount()).isZero();
+    assertThat(stats.getMin()).isNull();
+    assertThat(stats.getMax()).isNull();
+    assertThat(stats.getAverage()).isEqualTo(BigDecimal.ZERO);
+  }
+
+  @Test
+  public void testAccept() {
+    /* given */
+    final String[] values = { "1.5", "-2.25", "10", "0.125" };
+
+    /* when */
+    final DecimalSummaryStatistics actual = statisticsOf(values);
+
+    /* then */
+    assertThat(actual.getCount()).isEqualTo(4L);
+    assertThat(actual.getSum()).isEqualTo(new BigDecimal("9.375"));
+    assertThat(actual.getMin()).isEqualTo(new BigDecimal("-2.25"));
+    assertThat(actual.getMax()).isEqualTo(new BigDecimal("10"));
+    assertThat(actual.getAverage()).isEqualByComparingTo(new BigDecimal("2.34375"));
+  }
+
+  @Test
+  public void testMergeIsAssociativeAndCommutative() {
+    /* given */
+    final DecimalSummaryStatistics a = statisticsOf("1.0", "3");
+    final DecimalSummaryStatistics b = statisticsOf("1.00", "3.000", "-7.5");
+    final DecimalSummaryStatistics c = statisticsOf("1", "2.5");
+
+    /* when */
+    final DecimalSummaryStatistics leftFirst = a.merge(b)
+                                                .merge(c);
+    final DecimalSummaryStatistics rightFirst = a.merge(b.merge(c));
+    final DecimalSummaryStatistics reversed = c.merge(b)
+                                               .merge(a);
+
+    /* then */
+    assertThat(leftFirst).isEqualTo(rightFirst);
+    assertThat(leftFirst).isEqualTo(reversed);
+    assertThat(leftFirst.getCount()).isEqualTo(7L);
+    assertThat(leftFirst.getSum()).isEqualTo(new BigDecimal("4.000"));
+    assertThat(leftFirst.getMin()).isEqualTo(new BigDecimal("-7.5"));
+    assertThat(leftFirst.getMax()).isEqualTo(new BigDecimal("3"));
+    assertThat(a.getCount()).isEqualTo(2L);
+  }
+
+  @Test
+  public void testMergeWithEmpty() {
+    /* given */
+    final DecimalSummaryStatistics stats = statisticsOf("4.2");
+
+    /* when */
+    final DecimalSummaryStatistics actual = new DecimalSummaryStatistics().merge(stats);
+
+    /* then */
+    assertThat(actual).isEqualTo(stats);
+  }
+
+  @Test
+  public void testToByteArrayAndFromByteArray() {
+    /* given */
+    final List<DecimalSummaryStatistics> expected = Arrays.asList(new DecimalSummaryStatistics(),
+                                                                   statisticsOf("12.34"),
+                                                                   statisticsOf("-0.000001", "1E+10", "123456789.987654321"),
+                                                                   statisticsOf(new BigDecimal(BigInteger.ONE.shiftLeft(200)
+                                                                                                             .negate(), -5).toString(),
+                                                                                "9223372036854775807",
+                                                                                "-9223372036854775808"));
+
+    for (final DecimalSummaryStatistics stats : expected) {
+      /* when */
+      final DecimalSummaryStatistics actual = DecimalSummaryStatistics.fromByteArray(stats.toByteArray());
+
+      /* then */
+      assertThat(actual).isEqualTo(stats);
+      assertThat(actual.getSum()
+                       .scale()).isEqualTo(stats.getSum()
+                                                .scale());
+    }
+  }
+
+  @Test
+  public void testToByteArrayIsCompact() {
+    /* given */
+    final DecimalSummaryStatistics stats = statisticsOf("12.34");
+
+    /* when */
+    final byte[] actual = stats.toByteArray();
+
+    /* then */
+    /* version, count and 3 decimals of a 1-byte scale and a 2-byte unscaled value */
+    assertThat(actual).hasSize(1 + 1 + 3 * 3);
+  }
+
+  @Test
+  public void testFromByteArrayWithInvalidBytes() {
+    assertThatThrownBy(() -> DecimalSummaryStatistics.fromByteArray(new byte[] { 2, 0 })).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> DecimalSummaryStatistics.fromByteArray(new byte[] { 1, 1, 0 })).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> DecimalSummaryStatistics.fromByteArray(new byte[] { 1, 0, 0 })).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    /* given */
+    final DecimalSummaryStatistics expected = statisticsOf("3.14", "-2.71", "100");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(expected);
+    }
+
+    /* when */
+    final Object actual;
+    try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      actual = input.readObject();
+    }
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
+}
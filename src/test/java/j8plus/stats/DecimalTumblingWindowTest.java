@@ -0,0 +1,58 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class DecimalTumblingWindowTest {
+
+  @Test
+  public void testOfCount() {
+    /* given */
+    final List<BigDecimal> sums = new ArrayList<>();
+    final List<Long> counts = new ArrayList<>();
+    final DecimalTumblingWindow window = DecimalTumblingWindow.ofCount(2, (sum, count) -> {
+      sums.add(sum);
+      counts.add(count);
+    });
+
+    /* when */
+    window.accept(new BigDecimal("1.5"));
+    window.accept(new BigDecimal("2.5"));
+    window.accept(new BigDecimal("0.25"));
+    window.flush();
+
+    /* then */
+    assertThat(sums).containsExactly(new BigDecimal("4.0"), new BigDecimal("0.25"));
+    assertThat(counts).containsExactly(2L, 1L);
+  }
+
+  @Test
+  public void testOfDuration() {
+    /* given */
+    final AtomicLong clock = new AtomicLong();
+    final List<BigDecimal> sums = new ArrayList<>();
+    final DecimalTumblingWindow window = DecimalTumblingWindow.ofDuration(Duration.ofMillis(1L), (sum, count) -> sums.add(sum), clock::get);
+
+    /* when */
+    window.accept(BigDecimal.ONE);
+    window.accept(BigDecimal.TEN);
+    clock.set(Duration.ofMillis(1L)
+                      .toNanos());
+    window.tick();
+    window.tick();
+
+    /* then */
+    assertThat(sums).containsExactly(new BigDecimal("11"));
+  }
+}
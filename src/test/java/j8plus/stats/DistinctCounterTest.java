@@ -0,0 +1,155 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class DistinctCounterTest {
+
+  @Test
+  public void testEmpty() {
+    /* given */
+    final DistinctCounter counter = new DistinctCounter();
+
+    /* when */
+    final long actual = counter.getEstimate();
+
+    /* then */
+    assertThat(actual).isZero();
+  }
+
+  @Test
+  public void testSmallCardinalities() {
+    for (final int expected : new int[] { 1, 2, 10, 100, 1_000 }) {
+      /* given */
+      final DistinctCounter counter = new DistinctCounter();
+
+      /* when */
+      for (int repeat = 0; repeat < 3; repeat++) {
+        for (long key = 0L; key < expected; key++) {
+          counter.accept(key);
+        }
+      }
+
+      /* then */
+      assertThat(counter.getEstimate()).as("cardinality %s", expected)
+                                       .isCloseTo((long) expected, withinPercentage(2D));
+    }
+  }
+
+  @Test
+  public void testLargeCardinality() {
+    /* given */
+    final DistinctCounter counter = new DistinctCounter();
+    final long expected = 2_000_000L;
+
+    /* when */
+    for (long key = 0L; key < expected; key++) {
+      counter.accept(key * 31L + 7L);
+    }
+
+    /* then */
+    /* within 4 standard errors */
+    assertThat(counter.getEstimate()).isCloseTo(expected, withinPercentage(4D * counter.getRelativeStandardError() * 100D));
+  }
+
+  @Test
+  public void testAcceptObjects() {
+    /* given */
+    final DistinctCounter counter = new DistinctCounter(12);
+
+    /* when */
+    for (int i = 0; i < 5_000; i++) {
+      counter.accept("customer-" + (i % 1_000));
+      counter.accept(Long.valueOf(i % 500));
+      counter.accept(i % 500);
+    }
+
+    /* then */
+    assertThat(counter.getEstimate()).isCloseTo(1_500L, withinPercentage(5D));
+  }
+
+  @Test
+  public void testInvalidPrecision() {
+    assertThatThrownBy(() -> new DistinctCounter(DistinctCounter.MIN_PRECISION - 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new DistinctCounter(DistinctCounter.MAX_PRECISION + 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testMerge() {
+    /* given */
+    final DistinctCounter left = new DistinctCounter();
+    final DistinctCounter right = new DistinctCounter();
+    final DistinctCounter all = new DistinctCounter();
+    for (long key = 0L; key < 100_000L; key++) {
+      (key % 2 == 0 ? left : right).accept(key % 60_000L);
+      all.accept(key % 60_000L);
+    }
+
+    /* when */
+    final DistinctCounter actual = left.merge(right);
+
+    /* then */
+    assertThat(actual.toByteArray()).isEqualTo(all.toByteArray());
+    assertThat(actual.merge(actual)
+                     .getEstimate()).isEqualTo(actual.getEstimate());
+    assertThat(actual.getEstimate()).isCloseTo(60_000L, withinPercentage(4D));
+  }
+
+  @Test
+  public void testMergeWithDifferentPrecision() {
+    assertThatThrownBy(() -> new DistinctCounter(10).merge(new DistinctCounter(11))).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testToByteArrayAndFromByteArray() {
+    /* given */
+    final DistinctCounter counter = new DistinctCounter(10);
+    for (long key = 0L; key < 10_000L; key++) {
+      counter.accept(key);
+    }
+
+    /* when */
+    final byte[] bytes = counter.toByteArray();
+    final DistinctCounter actual = DistinctCounter.fromByteArray(bytes);
+
+    /* then */
+    assertThat(bytes).hasSize(2 + 1_024);
+    assertThat(actual.getPrecision()).isEqualTo(10);
+    assertThat(actual.getEstimate()).isEqualTo(counter.getEstimate());
+    assertThatThrownBy(() -> DistinctCounter.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1))).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    /* given */
+    final DistinctCounter expected = new DistinctCounter();
+    for (long key = 0L; key < 1_000L; key++) {
+      expected.accept(key);
+    }
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(expected);
+    }
+
+    /* when */
+    final DistinctCounter actual;
+    try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      actual = (DistinctCounter) input.readObject();
+    }
+
+    /* then */
+    assertThat(actual.toByteArray()).isEqualTo(expected.toByteArray());
+  }
+}
@@ -0,0 +1,123 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class ExactSummaryStatisticsTest {
+
+  @Test
+  public void testEmpty() {
+    /* given */
+    final ExactSummaryStatistics stats = new ExactSummaryStatistics();
+
+    /* when */
+    final BigInteger actual = stats.getSum();
+
+    /* then */
+    assertThat(actual).isEqualTo(BigInteger.ZERO);
+    assertThat(stats.getCount()).isZero();
+    assertThat(stats.getMin()).isEqualTo(Long.MAX_VALUE);
+    assertThat(stats.getMax()).isEqualTo(Long.MIN_VALUE);
+    assertThat(stats.getAverage()).isEqualTo(BigDecimal.ZERO);
+  }
+
+  @Test
+  public void testAcceptInt() {
+    /* given */
+    final int[] values = { 3, -7, 10, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+    /* when */
+    final ExactSummaryStatistics actual = IntStream.of(values)
+        .collect(ExactSummaryStatistics::new, ExactSummaryStatistics::accept, ExactSummaryStatistics::combine);
+
+    /* then */
+    assertThat(actual.getCount()).isEqualTo(5L);
+    assertThat(actual.getSum()).isEqualTo(BigInteger.valueOf(5L));
+    assertThat(actual.getLongSum()).isEqualTo(5L);
+    assertThat(actual.getMin()).isEqualTo(Integer.MIN_VALUE);
+    assertThat(actual.getMax()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(actual.getAverage()).isEqualByComparingTo(BigDecimal.ONE);
+  }
+
+  @Test
+  public void testAcceptLongOverflow() {
+    /* given */
+    final long[] values = { Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, 5L };
+    final BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(3L)).add(BigInteger.valueOf(5L));
+
+    /* when */
+    final ExactSummaryStatistics actual = new ExactSummaryStatistics();
+    LongStream.of(values).forEach(actual);
+
+    /* then */
+    assertThat(actual.getSum()).isEqualTo(expected);
+    assertThat(actual.isSumOverflowed()).isTrue();
+    assertThatThrownBy(actual::getLongSum).isInstanceOf(ArithmeticException.class);
+    assertThat(actual.getAverage()).isEqualByComparingTo(new BigDecimal(expected).divide(BigDecimal.valueOf(4L)));
+  }
+
+  @Test
+  public void testAcceptLongNegativeOverflow() {
+    /* given */
+    final long[] values = { Long.MIN_VALUE, Long.MIN_VALUE, -1L, Long.MAX_VALUE };
+    final BigInteger expected = LongStream.of(values)
+        .mapToObj(BigInteger::valueOf)
+        .reduce(BigInteger.ZERO, BigInteger::add);
+
+    /* when */
+    final ExactSummaryStatistics actual = new ExactSummaryStatistics();
+    LongStream.of(values).forEach(actual);
+
+    /* then */
+    assertThat(actual.getSum()).isEqualTo(expected);
+    assertThat(actual.getMin()).isEqualTo(Long.MIN_VALUE);
+    assertThat(actual.getMax()).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void testBackToLongAfterOverflow() {
+    /* given */
+    final long[] values = { Long.MAX_VALUE, 10L, -Long.MAX_VALUE };
+
+    /* when */
+    final ExactSummaryStatistics actual = new ExactSummaryStatistics();
+    LongStream.of(values).forEach(actual);
+
+    /* then */
+    assertThat(actual.isSumOverflowed()).isFalse();
+    assertThat(actual.getLongSum()).isEqualTo(10L);
+  }
+
+  @Test
+  public void testCombineWithParallelStream() {
+    /* given */
+    final long[] values = LongStream.range(0L, 1_000_000L)
+        .map(i -> (i & 1) == 0 ? Long.MAX_VALUE - i : Long.MIN_VALUE + i * 3L)
+        .toArray();
+    final BigInteger expected = LongStream.of(values)
+        .mapToObj(BigInteger::valueOf)
+        .reduce(BigInteger.ZERO, BigInteger::add);
+
+    /* when */
+    final ExactSummaryStatistics actual = LongStream.of(values)
+        .parallel()
+        .collect(ExactSummaryStatistics::new, ExactSummaryStatistics::accept, ExactSummaryStatistics::combine);
+
+    /* then */
+    assertThat(actual.getCount()).isEqualTo(values.length);
+    assertThat(actual.getSum()).isEqualTo(expected);
+    assertThat(actual.getMin()).isEqualTo(LongStream.of(values).min().getAsLong());
+    assertThat(actual.getMax()).isEqualTo(LongStream.of(values).max().getAsLong());
+  }
+
+}
@@ -0,0 +1,139 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class LongSlidingWindowTest {
+
+  @Test
+  public void testOfCount() {
+    /* given */
+    final LongSlidingWindow window = LongSlidingWindow.ofCount(3);
+
+    /* when */
+    for (long i = 1L; i <= 10L; i++) {
+      window.accept(i);
+    }
+
+    /* then */
+    assertThat(window.getCount()).isEqualTo(3L);
+    assertThat(window.getLongSum()).isEqualTo(8L + 9L + 10L);
+    assertThat(window.getAverage()).isEqualTo(new BigDecimal("9"));
+  }
+
+  @Test
+  public void testOfCountNotFull() {
+    /* given */
+    final LongSlidingWindow window = LongSlidingWindow.ofCount(5);
+
+    /* when */
+    window.accept(4L);
+    window.accept(-1L);
+
+    /* then */
+    assertThat(window.getCount()).isEqualTo(2L);
+    assertThat(window.getSum()).isEqualTo(BigInteger.valueOf(3L));
+  }
+
+  @Test
+  public void testEmpty() {
+    /* given */
+    final LongSlidingWindow window = LongSlidingWindow.ofCount(5);
+
+    /* when */
+    final BigInteger actual = window.getSum();
+
+    /* then */
+    assertThat(actual).isEqualTo(BigInteger.ZERO);
+    assertThat(window.getCount()).isZero();
+    assertThat(window.getAverage()).isEqualTo(BigDecimal.ZERO);
+  }
+
+  @Test
+  public void testOfCountSumOverflowingLong() {
+    /* given */
+    final LongSlidingWindow window = LongSlidingWindow.ofCount(2);
+    final BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE)
+                                          .multiply(BigInteger.valueOf(2L));
+
+    /* when */
+    window.accept(Long.MIN_VALUE);
+    window.accept(Long.MAX_VALUE);
+    window.accept(Long.MAX_VALUE);
+
+    /* then */
+    assertThat(window.getSum()).isEqualTo(expected);
+    assertThatThrownBy(window::getLongSum).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  public void testOfCountWithInvalidSize() {
+    assertThatThrownBy(() -> LongSlidingWindow.ofCount(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testOfDuration() {
+    /* given */
+    final AtomicLong clock = new AtomicLong(1_000L);
+    final LongSlidingWindow window = LongSlidingWindow.ofDuration(Duration.ofNanos(100L), 4, clock::get);
+
+    /* when */
+    window.accept(1L);
+    clock.addAndGet(30L);
+    window.accept(2L);
+    clock.addAndGet(30L);
+    window.accept(3L);
+    final long sumBeforeEviction = window.getLongSum();
+    clock.addAndGet(50L);
+    window.accept(4L);
+
+    /* then */
+    assertThat(sumBeforeEviction).isEqualTo(6L);
+    assertThat(window.getLongSum()).isEqualTo(2L + 3L + 4L);
+    assertThat(window.getCount()).isEqualTo(3L);
+
+    clock.addAndGet(1_000L);
+    assertThat(window.getLongSum()).isZero();
+    assertThat(window.getCount()).isZero();
+  }
+
+  @Test
+  public void testStripedOfDuration() throws InterruptedException {
+    /* given */
+    final AtomicLong clock = new AtomicLong();
+    final LongSlidingWindow window = LongSlidingWindow.stripedOfDuration(Duration.ofSeconds(1L), 10, 4, clock::get);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    /* when */
+    for (int i = 0; i < 4; i++) {
+      executor.execute(() -> {
+        for (long value = 1L; value <= 1_000L; value++) {
+          window.accept(value);
+        }
+      });
+    }
+    executor.shutdown();
+    executor.awaitTermination(10L, TimeUnit.SECONDS);
+
+    /* then */
+    assertThat(window.getCount()).isEqualTo(4_000L);
+    assertThat(window.getLongSum()).isEqualTo(4L * 500_500L);
+
+    clock.set(Duration.ofSeconds(2L)
+                      .toNanos());
+    assertThat(window.getCount()).isZero();
+  }
+}
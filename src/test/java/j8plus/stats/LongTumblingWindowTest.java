@@ -0,0 +1,72 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class LongTumblingWindowTest {
+
+  @Test
+  public void testOfCount() {
+    /* given */
+    final List<ExactSummaryStatistics> closed = new ArrayList<>();
+    final LongTumblingWindow window = LongTumblingWindow.ofCount(3, closed::add);
+
+    /* when */
+    for (long i = 1L; i <= 7L; i++) {
+      window.accept(i);
+    }
+
+    /* then */
+    assertThat(closed).hasSize(2);
+    assertThat(closed.get(0)
+                     .getSum()).isEqualTo(BigInteger.valueOf(6L));
+    assertThat(closed.get(1)
+                     .getSum()).isEqualTo(BigInteger.valueOf(15L));
+
+    window.flush();
+    assertThat(closed).hasSize(3);
+    assertThat(closed.get(2)
+                     .getCount()).isEqualTo(1L);
+    assertThat(closed.get(2)
+                     .getMax()).isEqualTo(7L);
+
+    window.flush();
+    assertThat(closed).hasSize(3);
+  }
+
+  @Test
+  public void testOfDuration() {
+    /* given */
+    final AtomicLong clock = new AtomicLong();
+    final List<ExactSummaryStatistics> closed = new ArrayList<>();
+    final LongTumblingWindow window = LongTumblingWindow.ofDuration(Duration.ofNanos(10L), closed::add, clock::get);
+
+    /* when */
+    window.accept(1L);
+    window.accept(2L);
+    clock.set(15L);
+    window.accept(3L);
+    clock.set(45L);
+    window.tick();
+
+    /* then */
+    assertThat(closed).hasSize(2);
+    assertThat(closed.get(0)
+                     .getLongSum()).isEqualTo(3L);
+    assertThat(closed.get(1)
+                     .getLongSum()).isEqualTo(3L);
+    assertThat(closed.get(1)
+                     .getCount()).isEqualTo(1L);
+  }
+}
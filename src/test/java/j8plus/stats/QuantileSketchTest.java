@@ -0,0 +1,216 @@
+package j8plus.stats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class QuantileSketchTest {
+
+  private static final double[] QUANTILES = { 0D, 0.1D, 0.25D, 0.5D, 0.75D, 0.9D, 0.99D, 0.999D, 1D };
+
+  private static void assertRelativeAccuracy(final QuantileSketch sketch, final double[] values, final double relativeAccuracy) {
+    final double[] sorted = values.clone();
+    Arrays.sort(sorted);
+    for (final double quantile : QUANTILES) {
+      final double expected = sorted[(int) (quantile * (sorted.length - 1))];
+      final double actual = sketch.getQuantile(quantile);
+      assertThat(Math.abs(actual - expected)).as("quantile %s", quantile)
+                                             .isLessThanOrEqualTo(relativeAccuracy * Math.abs(expected) + 1E-12D);
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    /* given */
+    final QuantileSketch sketch = new QuantileSketch();
+
+    /* when */
+    final double actual = sketch.getQuantile(0.5D);
+
+    /* then */
+    assertThat(actual).isNaN();
+    assertThat(sketch.getCount()).isZero();
+  }
+
+  @Test
+  public void testQuantilesOfLogNormalValues() {
+    /* given */
+    final Random random = new Random(42L);
+    final double[] values = new double[100_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Math.exp(random.nextGaussian() * 3D);
+    }
+
+    /* when */
+    final QuantileSketch sketch = new QuantileSketch(0.01D);
+    for (final double value : values) {
+      sketch.accept(value);
+    }
+
+    /* then */
+    assertRelativeAccuracy(sketch, values, 0.01D);
+    assertThat(sketch.getCount()).isEqualTo(values.length);
+    assertThat(sketch.getMin()).isEqualTo(Arrays.stream(values)
+                                                .min()
+                                                .getAsDouble());
+  }
+
+  @Test
+  public void testQuantilesOfNegativeAndZeroValues() {
+    /* given */
+    final Random random = new Random(7L);
+    final double[] values = new double[10_001];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i % 5 == 0 ? 0D : (random.nextDouble() - 0.7D) * 1_000D;
+    }
+
+    /* when */
+    final QuantileSketch sketch = new QuantileSketch(0.02D);
+    for (final double value : values) {
+      sketch.accept(value);
+    }
+
+    /* then */
+    assertRelativeAccuracy(sketch, values, 0.02D);
+  }
+
+  @Test
+  public void testAcceptLongAndBigDecimal() {
+    /* given */
+    final QuantileSketch sketch = new QuantileSketch(0.001D);
+
+    /* when */
+    for (long i = 1L; i <= 1_000L; i++) {
+      sketch.accept(i);
+      sketch.accept(BigDecimal.valueOf(i));
+    }
+
+    /* then */
+    assertThat(sketch.getCount()).isEqualTo(2_000L);
+    assertThat(sketch.getQuantile(0.5D)).isCloseTo(500D, within(0.5D));
+    assertThat(sketch.getQuantile(1D)).isEqualTo(1_000D);
+  }
+
+  @Test
+  public void testAcceptInvalidValue() {
+    assertThatThrownBy(() -> new QuantileSketch().accept(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new QuantileSketch().accept(Double.POSITIVE_INFINITY)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new QuantileSketch(0D)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testMerge() {
+    /* given */
+    final Random random = new Random(1L);
+    final double[] values = new double[30_000];
+    final QuantileSketch[] sketches = { new QuantileSketch(), new QuantileSketch(), new QuantileSketch() };
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextDouble() * 1E6D - 1E5D;
+      sketches[i % 3].accept(values[i]);
+    }
+
+    /* when */
+    final QuantileSketch leftFirst = sketches[0].merge(sketches[1])
+                                                .merge(sketches[2]);
+    final QuantileSketch rightFirst = sketches[0].merge(sketches[1].merge(sketches[2]));
+
+    /* then */
+    assertThat(leftFirst.toByteArray()).isEqualTo(rightFirst.toByteArray());
+    assertThat(leftFirst.getCount()).isEqualTo(values.length);
+    assertRelativeAccuracy(leftFirst, values, QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+    assertThat(sketches[0].getCount()).isEqualTo(10_000L);
+  }
+
+  @Test
+  public void testMergeWithDifferentRelativeAccuracy() {
+    assertThatThrownBy(() -> new QuantileSketch(0.01D).merge(new QuantileSketch(0.02D))).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testCollapsingKeepsTheHighestQuantiles() {
+    /* given */
+    final QuantileSketch sketch = new QuantileSketch(0.01D, 1_000);
+
+    /* when */
+    for (int i = -100; i <= 100; i++) {
+      sketch.accept(Math.pow(10D, i));
+    }
+
+    /* then */
+    /* 1,000 buckets cover about 8 decades */
+    assertThat(sketch.getQuantile(0.99D)).isCloseTo(1E98D, withinPercentage(1D));
+    assertThat(sketch.getQuantile(0.97D)).isCloseTo(1E94D, withinPercentage(1D));
+    assertThat(sketch.getQuantile(0.5D)).isLessThan(1E92D);
+    assertThat(sketch.getQuantile(0D)).isEqualTo(1E-100D);
+    assertThat(sketch.getQuantile(1D)).isEqualTo(1E100D);
+  }
+
+  @Test
+  public void testToByteArrayAndFromByteArray() {
+    /* given */
+    final QuantileSketch sketch = new QuantileSketch(0.005D);
+    for (int i = -500; i < 1_000; i++) {
+      sketch.accept(i * 1.5D);
+    }
+
+    /* when */
+    final QuantileSketch actual = QuantileSketch.fromByteArray(sketch.toByteArray());
+
+    /* then */
+    assertThat(actual.getRelativeAccuracy()).isEqualTo(0.005D);
+    assertThat(actual.getCount()).isEqualTo(sketch.getCount());
+    assertThat(actual.getSum()).isEqualTo(sketch.getSum());
+    assertThat(actual.getQuantiles(QUANTILES)).isEqualTo(sketch.getQuantiles(QUANTILES));
+    assertThat(QuantileSketch.fromByteArray(new QuantileSketch().toByteArray())
+                             .getCount()).isZero();
+  }
+
+  @Test
+  public void testFromByteArrayWithInvalidBytes() {
+    /* given */
+    final QuantileSketch sketch = new QuantileSketch();
+    sketch.accept(1D);
+    final byte[] bytes = sketch.toByteArray();
+
+    /* when */
+    final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+    /* then */
+    assertThatThrownBy(() -> QuantileSketch.fromByteArray(truncated)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    /* given */
+    final QuantileSketch expected = new QuantileSketch();
+    for (int i = 1; i <= 100; i++) {
+      expected.accept(i);
+    }
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(expected);
+    }
+
+    /* when */
+    final QuantileSketch actual;
+    try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      actual = (QuantileSketch) input.readObject();
+    }
+
+    /* then */
+    assertThat(actual.toByteArray()).isEqualTo(expected.toByteArray());
+  }
+}
@@ -2,8 +2,13 @@ package j8plus.types;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
+import j8plus.memo.MemoOptions;
+import j8plus.memo.MemoStats;
+import j8plus.memo.Memoized;
+
 import static testosterone.Testosterone.*;
 import static org.assertj.core.api.Assertions.*;
 
@@ -55,4 +60,26 @@ public class Function10Test {
       );
     /* @formatter:on */
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testMemoized() {
+    /* given */
+    final int[] calls = { 0 };
+    final Function10<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function = (i1, i2, i3, i4, i5, i6, i7, i8, i9, i10) -> {
+      calls[0]++;
+      return i1 + i2 + i3 + i4 + i5 + i6 + i7 + i8 + i9 + i10;
+    };
+    final Function10<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function.memoized(MemoOptions.builder()
+                                                                   .recordStats()
+                                                                   .build());
+    test("Function10.memoized(MemoOptions)", "memoized should apply the function once for the same inputs")
+        .when(() ->
+          Arrays.asList(memoized.apply(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), memoized.apply(10, 20, 30, 40, 50, 60, 70, 80, 90, 100), memoized.apply(1, 2, 3, 4, 5, 6, 7, 8, 9, 10))
+        )
+        .then(actual -> {
+          assertThat(actual).containsExactly(55, 550, 55);
+          assertThat(calls[0]).isEqualTo(2);
+          assertThat(((Memoized) memoized).stats()).isEqualTo(new MemoStats(1L, 2L, 0L, 0L));
+        });
+  }
+}
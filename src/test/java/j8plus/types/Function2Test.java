@@ -2,8 +2,13 @@ package j8plus.types;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
+import j8plus.memo.MemoOptions;
+import j8plus.memo.MemoStats;
+import j8plus.memo.Memoized;
+
 import static testosterone.Testosterone.*;
 import static org.assertj.core.api.Assertions.*;
 
@@ -44,4 +49,26 @@ public class Function2Test {
                 assertThat(actual).isEqualTo(second.apply(first.apply(input1, input2)))
         );
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testMemoized() {
+    /* given */
+    final int[] calls = { 0 };
+    final Function2<Integer, Integer, Integer> function = (i1, i2) -> {
+      calls[0]++;
+      return i1 + i2;
+    };
+    final Function2<Integer, Integer, Integer> memoized = function.memoized(MemoOptions.builder()
+                                                                   .recordStats()
+                                                                   .build());
+    test("Function2.memoized(MemoOptions)", "memoized should apply the function once for the same inputs")
+        .when(() ->
+          Arrays.asList(memoized.apply(1, 2), memoized.apply(10, 20), memoized.apply(1, 2))
+        )
+        .then(actual -> {
+          assertThat(actual).containsExactly(3, 30, 3);
+          assertThat(calls[0]).isEqualTo(2);
+          assertThat(((Memoized) memoized).stats()).isEqualTo(new MemoStats(1L, 2L, 0L, 0L));
+        });
+  }
+}
@@ -2,8 +2,13 @@ package j8plus.types;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
+import j8plus.memo.MemoOptions;
+import j8plus.memo.MemoStats;
+import j8plus.memo.Memoized;
+
 import static testosterone.Testosterone.*;
 import static org.assertj.core.api.Assertions.*;
 
@@ -45,4 +50,26 @@ public class Function3Test {
           assertThat(actual).isEqualTo(second.apply(first.apply(input1, input2, input3)))
         );
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testMemoized() {
+    /* given */
+    final int[] calls = { 0 };
+    final Function3<Integer, Integer, Integer, Integer> function = (i1, i2, i3) -> {
+      calls[0]++;
+      return i1 + i2 + i3;
+    };
+    final Function3<Integer, Integer, Integer, Integer> memoized = function.memoized(MemoOptions.builder()
+                                                                   .recordStats()
+                                                                   .build());
+    test("Function3.memoized(MemoOptions)", "memoized should apply the function once for the same inputs")
+        .when(() ->
+          Arrays.asList(memoized.apply(1, 2, 3), memoized.apply(10, 20, 30), memoized.apply(1, 2, 3))
+        )
+        .then(actual -> {
+          assertThat(actual).containsExactly(6, 60, 6);
+          assertThat(calls[0]).isEqualTo(2);
+          assertThat(((Memoized) memoized).stats()).isEqualTo(new MemoStats(1L, 2L, 0L, 0L));
+        });
+  }
+}
@@ -0,0 +1,101 @@
+package j8plus.types;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Kevin Lee
+ * @since 2026-10-18
+ */
+public class RangeTest {
+
+  @Test
+  public void testTest() {
+    /* given */
+    final Range<Integer> range = Range.closedOpen(10, 20);
+
+    /* when */
+    /* then */
+    assertThat(range.test(9)).isFalse();
+    assertThat(range.test(10)).isTrue();
+    assertThat(range.test(19)).isTrue();
+    assertThat(range.test(20)).isFalse();
+    assertThat(Range.<Integer>all()
+                    .test(Integer.MIN_VALUE)).isTrue();
+    assertThat(Range.singleton(new BigDecimal("1.0"))
+                    .test(new BigDecimal("1.00"))).isTrue();
+  }
+
+  @Test
+  public void testIsEmpty() {
+    assertThat(Range.closed(2, 1)
+                    .isEmpty()).isTrue();
+    assertThat(Range.open(1, 1)
+                    .isEmpty()).isTrue();
+    assertThat(Range.closedOpen(1, 1)
+                    .isEmpty()).isTrue();
+    assertThat(Range.closed(1, 1)
+                    .isEmpty()).isFalse();
+    assertThat(Range.atMost(1)
+                    .isEmpty()).isFalse();
+  }
+
+  @Test
+  public void testIntersection() {
+    /* given */
+    final Range<Integer> atLeast = Range.atLeast(10);
+    final Range<Integer> lessThan = Range.lessThan(20);
+
+    /* when */
+    final Range<Integer> actual = atLeast.intersection(lessThan)
+                                         .intersection(Range.greaterThan(10));
+
+    /* then */
+    assertThat(actual).isEqualTo(Range.open(10, 20));
+    assertThat(actual.toString()).isEqualTo("(10, 20)");
+    assertThat(Range.atMost(5)
+                    .intersection(Range.atLeast(6))
+                    .isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testAnd() {
+    /* given */
+    final Predicate<Integer> even = value -> value % 2 == 0;
+
+    /* when */
+    final Predicate<Integer> ranges = Range.atLeast(10)
+                                           .and(Range.atMost(20));
+    final Predicate<Integer> mixed = Range.atLeast(10)
+                                          .and(even);
+
+    /* then */
+    assertThat(ranges).isEqualTo(Range.closed(10, 20));
+    assertThat(mixed).isNotInstanceOf(Range.class);
+    assertThat(mixed.test(12)).isTrue();
+    assertThat(mixed.test(13)).isFalse();
+    assertThat(mixed.test(8)).isFalse();
+  }
+
+  @Test
+  public void testEqualsIgnoresScaleOfBigDecimal() {
+    /* given */
+    final Range<BigDecimal> range = Range.closedOpen(new BigDecimal("1.0"), new BigDecimal("20"));
+
+    /* when */
+    final Range<BigDecimal> other = Range.closedOpen(new BigDecimal("1.00"), new BigDecimal("2E+1"));
+
+    /* then */
+    assertThat(range).isEqualTo(other);
+    assertThat(range.hashCode()).isEqualTo(other.hashCode());
+    assertThat(range).isNotEqualTo(Range.closedOpen(new BigDecimal("1.01"), new BigDecimal("20")));
+    assertThat(Range.lessThan(BigDecimal.ZERO)).isEqualTo(Range.lessThan(new BigDecimal("0.000")));
+    assertThat(Range.lessThan(BigDecimal.ZERO)
+                    .hashCode()).isEqualTo(Range.lessThan(new BigDecimal("0.000"))
+                                                .hashCode());
+  }
+}